@@ -0,0 +1,156 @@
+package com.lucr.messaging;
+
+import com.lucr.config.CrawlRegistryProperties;
+import com.lucr.config.CrawlResultProperties;
+import com.lucr.config.CrawlShardProperties;
+import com.lucr.dto.request.NewsCreateRequest;
+import com.lucr.entity.News;
+import com.lucr.mapper.NewsMapper;
+import com.lucr.repository.CrawlJobRepository;
+import com.lucr.repository.NewsRepository;
+import com.lucr.service.CrawlJobRegistry;
+import com.lucr.service.CrawlJobService;
+import com.lucr.service.NewsIngestService;
+import com.rabbitmq.client.Channel;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 크롤링 결과 소비 처리량 벤치마크 (articles/sec)
+ *
+ * 실행: ./gradlew jmh
+ *
+ * 브로커/DB 대신 로컬 stand-in 사용:
+ * - 브로커: 컨테이너가 모아서 전달하는 것처럼 batchSize개 메시지(기사 1건씩)를 리스너에 직접 전달 (ack는 무시하는 채널)
+ * - DB: 저장소 호출마다 roundTripMicros만큼 대기하는 메모리 구현 (URL 중복 없음)
+ *
+ * batchSize=1은 기사마다 조회/저장/작업 갱신을 하는 기존 방식과 같은 호출 수,
+ * batchSize=100은 배치 리스너 경로입니다.
+ * 결과: articles 카운터의 ops/s = 초당 처리 기사 수
+ *
+ * @author kimdongjoo
+ * @since 2026-02-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CrawlResultIngestBenchmark {
+
+    @Param({"1", "100"})
+    private int batchSize;
+
+    /** 저장소 호출 1회당 DB 왕복 시간 (μs) */
+    @Param({"0", "200"})
+    private int roundTripMicros;
+
+    private CrawlResultListener listener;
+    private List<Message<CrawlResultMessage>> batch;
+    private Channel channel;
+
+    /**
+     * 처리 기사 수 카운터 (JMH가 ops/s로 환산하여 보고)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ArticleCounter {
+
+        public long articles;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            articles = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        NewsRepository newsRepository = stub(NewsRepository.class);
+        CrawlJobRepository crawlJobRepository = stub(CrawlJobRepository.class);
+        NewsIngestService ingestService = new NewsIngestService(newsRepository, new NewsMapper(), event -> { },
+                Validation.buildDefaultValidatorFactory().getValidator());
+        CrawlJobService crawlJobService = new CrawlJobService(crawlJobRepository,
+                new CrawlJobRegistry(crawlJobRepository, new CrawlRegistryProperties()),
+                new CrawlShardProperties(), JsonMapper.builder().build(), event -> { });
+        // 처리 실패가 없으므로 데드 레터 발행용 RabbitTemplate은 연결 없이 사용
+        listener = new CrawlResultListener(ingestService, crawlJobService, new RabbitTemplate(),
+                new CrawlResultProperties());
+
+        String jobId = UUID.randomUUID().toString();
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            NewsCreateRequest article = NewsCreateRequest.builder()
+                    .title("삼성전자 3분기 영업이익 9조1천억원 기록")
+                    .content("삼성전자가 3분기 연결 기준 영업이익 9조1천억원을 기록했다고 31일 공시했다.")
+                    .source("hankyung")
+                    .url("https://example.com/news/" + i)
+                    .build();
+            batch.add(MessageBuilder.withPayload(new CrawlResultMessage(jobId, CrawlResultMessage.Type.ARTICLES,
+                            List.of(article), null, null, null))
+                    .setHeader(AmqpHeaders.DELIVERY_TAG, (long) i + 1)
+                    .build());
+        }
+        channel = (Channel) Proxy.newProxyInstance(Channel.class.getClassLoader(), new Class<?>[]{Channel.class},
+                (proxy, method, args) -> null);
+    }
+
+    @Benchmark
+    public void consume(ArticleCounter counter) throws IOException {
+        listener.onResults(batch, channel);
+        counter.articles += batchSize;
+    }
+
+    // ========== DB stand-in ==========
+
+    @SuppressWarnings("unchecked")
+    private <T> T stub(Class<T> repositoryType) {
+        return (T) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "insertIgnoringDuplicates" -> roundTrip(insertAll((List<News>) args[0]));
+                    case "addIngestedArticles", "addIngestedArticlesToParent" -> roundTrip(1);
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> repositoryType.getSimpleName() + "Stub";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static Set<UUID> insertAll(List<News> news) {
+        Set<UUID> ids = new HashSet<>(news.size() * 2);
+        for (News item : news) {
+            item.prepareForInsert();
+            ids.add(item.getId());
+        }
+        return ids;
+    }
+
+    private Object roundTrip(Object result) {
+        if (roundTripMicros > 0) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,93 @@
+package com.lucr.search.analysis;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분석기 처리량 벤치마크 (tokens/sec)
+ *
+ * 실행: ./gradlew jmh
+ *
+ * 입력: 금융 기사 문장을 섞어 만든 기사 크기(약 2,000 / 8,000자) 본문
+ * 결과: tokens 카운터의 ops/s = 초당 생성 토큰 수
+ *
+ * @author kimdongjoo
+ * @since 2026-02-12
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AnalyzerBenchmark {
+
+    private static final String[] SENTENCES = {
+            "삼성전자가 3분기 연결 기준 영업이익 9조1천억원을 기록했다고 31일 공시했다.",
+            "SK하이닉스는 HBM3E 12단 제품의 엔비디아 공급을 본격화하며 실적 개선세를 이어갔다.",
+            "코스피 지수는 외국인과 기관의 동반 순매수에 힘입어 전 거래일 대비 1.2% 오른 2,650.31에 마감했다.",
+            "원·달러 환율은 미국 연방준비제도(Fed)의 금리 인하 기대감에 ５원 내린 1,３２０원에 거래를 마쳤다.",
+            "증권가에서는 반도체 업황 회복과 AI 서버 투자 확대가 내년 상반기까지 이어질 것으로 전망했다.",
+            "Apple reported quarterly revenue of $94.9 billion, up 6 percent year over year.",
+            "한국은행 금융통화위원회는 기준금리를 연 3.25%로 동결하고 가계부채 추이를 지켜보기로 했다.",
+            "현대차그룹은 미국 조지아주 메타플랜트 가동으로 IRA 보조금 수혜가 본격화될 것이라고 밝혔다.",
+            "NAVER는 검색 광고 매출 회복과 커머스 부문 성장으로 시장 예상치를 웃도는 실적을 발표했다.",
+            "2차전지 관련주는 리튬 가격 하락과 전기차 수요 둔화 우려로 일제히 약세를 보였다."
+    };
+
+    @Param({"2000", "8000"})
+    private int articleLength;
+
+    private String article;
+
+    private final Analyzer simple = new SimpleAnalyzer();
+    private final Analyzer ngram = new KoreanNgramAnalyzer();
+
+    /**
+     * 생성 토큰 수 카운터 (JMH가 ops/s로 환산하여 보고)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class TokenCounter implements TokenConsumer {
+
+        public long tokens;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            tokens = 0;
+        }
+
+        @Override
+        public void accept(char[] buffer, int offset, int length) {
+            tokens++;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(articleLength + 200);
+        while (builder.length() < articleLength) {
+            builder.append(SENTENCES[random.nextInt(SENTENCES.length)]).append(' ');
+        }
+        article = builder.toString();
+    }
+
+    @Benchmark
+    public void koreanNgram(TokenCounter counter) {
+        ngram.analyze(article, counter);
+    }
+
+    @Benchmark
+    public void simple(TokenCounter counter) {
+        simple.analyze(article, counter);
+    }
+}
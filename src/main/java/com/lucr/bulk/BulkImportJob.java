@@ -0,0 +1,144 @@
+package com.lucr.bulk;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 뉴스 가져오기 작업 진행 상황
+ *
+ * 가져오기 스레드가 갱신하고 조회 API가 동시에 읽으므로 카운터는 Atomic, 상태는 volatile입니다.
+ *
+ * 카운터:
+ * - read       : 파일에서 읽은 레코드 수
+ * - invalid    : 형식 오류 / 검증 실패로 건너뛴 레코드 수
+ * - copied     : 스테이징 테이블로 COPY한 행 수
+ * - inserted   : news에 실제로 저장된 행 수
+ * - duplicates : copied - inserted (파일 안의 중복 + 이미 저장된 URL)
+ *
+ * @author kimdongjoo
+ * @since 2026-02-21
+ */
+public class BulkImportJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    @Getter
+    private final UUID id;
+    @Getter
+    private final String fileName;
+    @Getter
+    private final NewsImportFormat format;
+    @Getter
+    private final LocalDateTime createdAt;
+
+    @Getter
+    private volatile Status status = Status.QUEUED;
+    @Getter
+    private volatile LocalDateTime startedAt;
+    @Getter
+    private volatile LocalDateTime finishedAt;
+    @Getter
+    private volatile String errorMessage;
+
+    private final AtomicLong read = new AtomicLong();
+    private final AtomicLong invalid = new AtomicLong();
+    private final AtomicLong copied = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+
+    /** rows/sec 계산용 (System.nanoTime) */
+    private volatile long startNanos;
+    private volatile long finishNanos;
+
+    public BulkImportJob(String fileName, NewsImportFormat format) {
+        this.id = UUID.randomUUID();
+        this.fileName = fileName;
+        this.format = format;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // ========== 상태 변경 ==========
+
+    public void start() {
+        this.startNanos = System.nanoTime();
+        this.startedAt = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    public void complete() {
+        finish(Status.COMPLETED, null);
+    }
+
+    public void fail(String errorMessage) {
+        finish(Status.FAILED, errorMessage);
+    }
+
+    // ========== 진행 기록 ==========
+
+    public void recordRead() {
+        read.incrementAndGet();
+    }
+
+    public void recordInvalid() {
+        invalid.incrementAndGet();
+    }
+
+    /**
+     * 청크 하나 병합 완료
+     *
+     * @param copiedRows   스테이징 테이블로 COPY한 행 수
+     * @param insertedRows news에 저장된 행 수
+     */
+    public void recordChunk(long copiedRows, long insertedRows) {
+        copied.addAndGet(copiedRows);
+        inserted.addAndGet(insertedRows);
+    }
+
+    // ========== 조회 ==========
+
+    public long getReadCount() {
+        return read.get();
+    }
+
+    public long getInvalidCount() {
+        return invalid.get();
+    }
+
+    public long getInsertedCount() {
+        return inserted.get();
+    }
+
+    public long getDuplicateCount() {
+        return copied.get() - inserted.get();
+    }
+
+    /**
+     * 초당 읽은 레코드 수 (진행 중이면 현재까지, 끝났으면 전체 평균)
+     */
+    public double getRowsPerSecond() {
+        long start = startNanos;
+        if (start == 0) {
+            return 0;
+        }
+        long end = finishNanos != 0 ? finishNanos : System.nanoTime();
+        double seconds = (end - start) / 1_000_000_000.0;
+        return seconds > 0 ? read.get() / seconds : 0;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private void finish(Status finalStatus, String message) {
+        this.finishNanos = System.nanoTime();
+        this.finishedAt = LocalDateTime.now();
+        this.errorMessage = message;
+        this.status = finalStatus;
+    }
+}
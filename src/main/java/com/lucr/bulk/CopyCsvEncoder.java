@@ -0,0 +1,57 @@
+package com.lucr.bulk;
+
+/**
+ * PostgreSQL COPY ... WITH (FORMAT csv) 행 인코더
+ *
+ * COPY csv 형식 규칙:
+ * - 인용하지 않은 빈 값 = NULL, 인용한 빈 값("") = 빈 문자열
+ * - 문자열은 항상 큰따옴표로 감싸고 내부 큰따옴표는 ""로 이스케이프
+ *   (쉼표 / 줄바꿈이 있어도 그대로 전달)
+ * - PostgreSQL text에는 NUL(0x00)을 저장할 수 없으므로 제거
+ * - 숫자 / UUID / LocalDateTime은 toString() (ISO-8601은 timestamp 입력으로 해석됨)
+ *
+ * @author kimdongjoo
+ * @since 2026-02-21
+ */
+public final class CopyCsvEncoder {
+
+    private CopyCsvEncoder() {
+    }
+
+    /**
+     * 값 목록을 한 행으로 추가 (끝에 줄바꿈 포함)
+     *
+     * @param out    출력 버퍼
+     * @param values 컬럼 순서대로의 값 (null = NULL)
+     * @return out
+     */
+    public static StringBuilder appendRow(StringBuilder out, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            Object value = values[i];
+            if (value instanceof CharSequence text) {
+                appendQuoted(out, text);
+            } else if (value != null) {
+                out.append(value);
+            }
+        }
+        return out.append('\n');
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private static void appendQuoted(StringBuilder out, CharSequence text) {
+        out.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                out.append("\"\"");
+            } else if (c != '\0') {
+                out.append(c);
+            }
+        }
+        out.append('"');
+    }
+}
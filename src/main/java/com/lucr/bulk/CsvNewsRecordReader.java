@@ -0,0 +1,195 @@
+package com.lucr.bulk;
+
+import com.lucr.dto.request.NewsCreateRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * CSV 레코드 리더 (RFC 4180)
+ *
+ * 첫 레코드는 헤더이며 컬럼 순서는 자유롭습니다.
+ * - 필수: title, content, source, url
+ * - 선택: published_at (ISO-8601, 예: 2026-02-01T09:00:00)
+ * - 헤더 이름은 대소문자 / "_" 구분 없음 (published_at = publishedAt), 알 수 없는 컬럼은 무시
+ *
+ * 인용:
+ * - 쉼표 / 줄바꿈 / 큰따옴표를 포함한 값은 큰따옴표로 감쌈, 값 안의 큰따옴표는 ""로 표기
+ * - 따옴표 안의 줄바꿈은 값의 일부 (본문에 여러 줄이 있어도 레코드 하나)
+ * - 빈 값은 null
+ *
+ * 문자 단위로 읽으므로 레코드 하나 크기만큼만 메모리를 사용합니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-21
+ */
+public class CsvNewsRecordReader implements NewsRecordReader {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("title", "content", "source", "url");
+
+    private static final char BOM = '\uFEFF';
+
+    private final BufferedReader reader;
+
+    /** 지금까지 읽은 줄 수 */
+    private long lineNumber;
+
+    /** 마지막으로 읽은 레코드가 닫히지 않은 따옴표로 끝났는지 */
+    private boolean unterminatedQuote;
+
+    private int columnCount = -1;
+    private int titleIndex;
+    private int contentIndex;
+    private int sourceIndex;
+    private int urlIndex;
+    private int publishedAtIndex = -1;
+
+    public CsvNewsRecordReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public NewsRecord next() throws IOException {
+        if (columnCount < 0) {
+            readHeader();
+        }
+
+        List<String> fields;
+        long startLine;
+        do {
+            startLine = lineNumber + 1;
+            fields = readFields();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty());
+
+        if (unterminatedQuote) {
+            return NewsRecord.malformed(startLine, "닫히지 않은 따옴표가 있습니다.");
+        }
+        if (fields.size() != columnCount) {
+            return NewsRecord.malformed(startLine,
+                    "컬럼 수가 헤더와 다릅니다: expected=" + columnCount + ", actual=" + fields.size());
+        }
+
+        LocalDateTime publishedAt;
+        try {
+            String value = publishedAtIndex >= 0 ? emptyToNull(fields.get(publishedAtIndex)) : null;
+            publishedAt = value != null ? LocalDateTime.parse(value.strip()) : null;
+        } catch (DateTimeParseException e) {
+            return NewsRecord.malformed(startLine, "published_at 형식이 올바르지 않습니다: " + e.getParsedString());
+        }
+
+        return NewsRecord.of(startLine, NewsCreateRequest.builder()
+                .title(emptyToNull(fields.get(titleIndex)))
+                .content(emptyToNull(fields.get(contentIndex)))
+                .source(emptyToNull(fields.get(sourceIndex)))
+                .url(emptyToNull(fields.get(urlIndex)))
+                .publishedAt(publishedAt)
+                .build());
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private void readHeader() throws IOException {
+        List<String> header = readFields();
+        if (header == null) {
+            throw new IOException("CSV 헤더가 없습니다.");
+        }
+        if (!header.isEmpty() && !header.get(0).isEmpty() && header.get(0).charAt(0) == BOM) {
+            header.set(0, header.get(0).substring(1));
+        }
+
+        List<String> names = header.stream().map(CsvNewsRecordReader::normalizeColumn).toList();
+        for (String required : REQUIRED_COLUMNS) {
+            if (!names.contains(required)) {
+                throw new IOException("CSV 헤더에 필수 컬럼이 없습니다: " + required);
+            }
+        }
+        titleIndex = names.indexOf("title");
+        contentIndex = names.indexOf("content");
+        sourceIndex = names.indexOf("source");
+        urlIndex = names.indexOf("url");
+        publishedAtIndex = names.indexOf("publishedat");
+        columnCount = names.size();
+    }
+
+    /**
+     * 레코드 하나의 필드 목록 (파일 끝이면 null)
+     */
+    private List<String> readFields() throws IOException {
+        List<String> fields = new ArrayList<>(columnCount > 0 ? columnCount : 8);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+        unterminatedQuote = false;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> quoted = true;
+                case ',' -> {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                }
+                case '\r' -> {
+                    // CRLF의 CR은 무시 (LF에서 레코드 종료)
+                }
+                case '\n' -> {
+                    lineNumber++;
+                    fields.add(field.toString());
+                    return fields;
+                }
+                default -> field.append((char) c);
+            }
+        }
+
+        if (!read) {
+            return null;
+        }
+        unterminatedQuote = quoted;
+        lineNumber++;
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String normalizeColumn(String name) {
+        return name.strip().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
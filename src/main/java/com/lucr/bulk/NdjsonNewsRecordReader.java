@@ -0,0 +1,55 @@
+package com.lucr.bulk;
+
+import com.lucr.dto.request.NewsCreateRequest;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * NDJSON 레코드 리더
+ *
+ * 한 줄씩 읽어 NewsCreateRequest로 변환합니다.
+ * - 빈 줄은 건너뜀
+ * - 줄 단위로 파싱하므로 잘못된 줄이 있어도 다음 줄부터 계속 읽을 수 있음
+ *
+ * 입력 예시:
+ *   {"title":"...","content":"...","source":"NAVER_FINANCE","url":"https://...","publishedAt":"2026-02-01T09:00:00"}
+ *
+ * @author kimdongjoo
+ * @since 2026-02-21
+ */
+public class NdjsonNewsRecordReader implements NewsRecordReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+
+    public NdjsonNewsRecordReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public NewsRecord next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                return NewsRecord.of(lineNumber, objectMapper.readValue(line, NewsCreateRequest.class));
+            } catch (JacksonException e) {
+                return NewsRecord.malformed(lineNumber, e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
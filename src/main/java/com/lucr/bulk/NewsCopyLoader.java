@@ -0,0 +1,191 @@
+package com.lucr.bulk;
+
+import com.lucr.common.UrlCanonicalizer;
+import com.lucr.config.BulkImportProperties;
+import com.lucr.dto.request.NewsCreateRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL COPY 기반 뉴스 적재기
+ *
+ * 레코드를 chunk-rows 단위로 나누어 다음을 반복합니다.
+ * 1. COPY news_import_staging FROM STDIN (FORMAT csv) : 레코드를 하나씩 인코딩해 바로 전송
+ * 2. INSERT INTO news SELECT DISTINCT ON (url_hash) ... FROM news_import_staging
+ *    ON CONFLICT (url_hash) DO NOTHING               : 파일 안의 중복과 기존 URL을 함께 제외
+ * 3. COMMIT                                          : ON COMMIT DELETE ROWS로 스테이징 비움
+ *
+ * - 스테이징은 세션 전용 TEMP 테이블 (WAL 미기록, 인덱스 없음)
+ * - 청크마다 커밋하므로 실패해도 앞 청크까지는 저장되고, 다시 실행하면 중복으로 건너뜀
+ * - 파일 안에서 같은 URL이 여러 번 나오면 먼저 나온 행(seq가 작은 행)을 저장
+ * - id / url_hash는 애플리케이션에서 계산 (News.prepareForInsert와 같은 규칙)
+ *
+ * 주의: JPA 이벤트(NewsChangedEvent)를 거치지 않으므로
+ *      검색 색인 / URL 필터는 호출 측에서 가져오기 완료 후 재구축해야 합니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-21
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsCopyLoader {
+
+    private static final String CREATE_STAGING_SQL = """
+            CREATE TEMP TABLE IF NOT EXISTS news_import_staging (
+                seq          BIGINT       NOT NULL,
+                id           UUID         NOT NULL,
+                title        VARCHAR(500) NOT NULL,
+                content      TEXT,
+                source       VARCHAR(100) NOT NULL,
+                url          TEXT         NOT NULL,
+                url_hash     BIGINT       NOT NULL,
+                published_at TIMESTAMP
+            ) ON COMMIT DELETE ROWS
+            """;
+
+    private static final String COPY_SQL = """
+            COPY news_import_staging (seq, id, title, content, source, url, url_hash, published_at)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String MERGE_SQL = """
+            INSERT INTO news (id, title, content, source, url, url_hash, view_count, is_high_view,
+                              sentiment_score, published_at, crawled_at, created_at, updated_at)
+            SELECT DISTINCT ON (url_hash)
+                   id, title, content, source, url, url_hash, 0, false,
+                   NULL, COALESCE(published_at, LOCALTIMESTAMP), LOCALTIMESTAMP, LOCALTIMESTAMP, LOCALTIMESTAMP
+            FROM news_import_staging
+            ORDER BY url_hash, seq
+            ON CONFLICT (url_hash) DO NOTHING
+            """;
+
+    private static final String DROP_STAGING_SQL = "DROP TABLE IF EXISTS news_import_staging";
+
+    /** 건너뛴 레코드를 로그로 남기는 최대 건수 (이후는 건수만 집계) */
+    private static final int MAX_LOGGED_INVALID = 20;
+
+    private final DataSource dataSource;
+    private final Validator validator;
+    private final BulkImportProperties properties;
+
+    /**
+     * 리더의 모든 레코드를 news에 적재
+     *
+     * @param reader 레코드 리더 (닫는 것은 호출 측 책임)
+     * @param job    진행 상황을 기록할 작업
+     */
+    public void load(NewsRecordReader reader, BulkImportJob job) throws IOException, SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+                statement.execute(CREATE_STAGING_SQL);
+                connection.commit();
+
+                long seq = 0;
+                NewsRecord record = reader.next();
+                while (record != null) {
+                    CopyIn copyIn = copyManager.copyIn(COPY_SQL);
+                    long copied;
+                    try {
+                        int rows = 0;
+                        StringBuilder row = new StringBuilder(1024);
+                        while (record != null && rows < properties.getChunkRows()) {
+                            job.recordRead();
+                            if (isValid(record, job)) {
+                                NewsCreateRequest request = record.request();
+                                row.setLength(0);
+                                CopyCsvEncoder.appendRow(row, seq++, UUID.randomUUID(),
+                                        request.getTitle(), request.getContent(), request.getSource(),
+                                        request.getUrl(), UrlCanonicalizer.hash(request.getUrl()),
+                                        request.getPublishedAt());
+                                byte[] bytes = row.toString().getBytes(StandardCharsets.UTF_8);
+                                copyIn.writeToCopy(bytes, 0, bytes.length);
+                                rows++;
+                            }
+                            record = reader.next();
+                        }
+                        copied = copyIn.endCopy();
+                    } finally {
+                        if (copyIn.isActive()) {
+                            copyIn.cancelCopy();
+                        }
+                    }
+
+                    int inserted = copied > 0 ? statement.executeUpdate(MERGE_SQL) : 0;
+                    connection.commit();
+                    job.recordChunk(copied, inserted);
+                    logProgress(job);
+                }
+            } catch (IOException | SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                dropStaging(connection);
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    // ========== Helper 메서드 ==========
+
+    /**
+     * 형식 오류 / Bean Validation 실패 레코드는 건너뜀
+     */
+    private boolean isValid(NewsRecord record, BulkImportJob job) {
+        String reason = record.isMalformed() ? record.error() : violationMessage(record.request());
+        if (reason == null) {
+            return true;
+        }
+
+        job.recordInvalid();
+        if (job.getInvalidCount() <= MAX_LOGGED_INVALID) {
+            log.warn("가져오기 레코드 건너뜀: importId={}, line={}, reason={}", job.getId(), record.line(), reason);
+        }
+        return false;
+    }
+
+    private String violationMessage(NewsCreateRequest request) {
+        Set<ConstraintViolation<NewsCreateRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private void dropStaging(Connection connection) {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(DROP_STAGING_SQL);
+            connection.commit();
+        } catch (SQLException e) {
+            log.warn("가져오기 스테이징 테이블 삭제 실패 (세션 종료 시 자동 삭제)", e);
+        }
+    }
+
+    private static void logProgress(BulkImportJob job) {
+        log.info("뉴스 가져오기 진행: importId={}, read={}, inserted={}, duplicates={}, invalid={}, rowsPerSec={}",
+                job.getId(), job.getReadCount(), job.getInsertedCount(), job.getDuplicateCount(),
+                job.getInvalidCount(), String.format("%.0f", job.getRowsPerSecond()));
+    }
+}
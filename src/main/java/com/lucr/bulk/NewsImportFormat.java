@@ -0,0 +1,47 @@
+package com.lucr.bulk;
+
+import java.util.Locale;
+
+/**
+ * 뉴스 가져오기 파일 형식
+ *
+ * - NDJSON: 한 줄에 JSON 객체 하나 (NewsCreateRequest 필드)
+ * - CSV   : 첫 줄은 헤더 (title, content, source, url, published_at), RFC 4180 인용 규칙
+ *
+ * @author kimdongjoo
+ * @since 2026-02-21
+ */
+public enum NewsImportFormat {
+
+    NDJSON,
+    CSV;
+
+    /**
+     * 형식 이름 또는 파일 확장자로 형식 결정
+     *
+     * @param format   형식 이름 (ndjson / csv, null이면 확장자로 판단)
+     * @param fileName 파일 이름 (.gz 압축 허용)
+     * @return 형식 (판단할 수 없으면 null)
+     */
+    public static NewsImportFormat resolve(String format, String fileName) {
+        if (format != null && !format.isBlank()) {
+            return switch (format.strip().toLowerCase(Locale.ROOT)) {
+                case "ndjson", "jsonl" -> NDJSON;
+                case "csv" -> CSV;
+                default -> null;
+            };
+        }
+
+        String name = fileName.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".gz")) {
+            name = name.substring(0, name.length() - 3);
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        return null;
+    }
+}
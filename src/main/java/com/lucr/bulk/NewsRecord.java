@@ -0,0 +1,28 @@
+package com.lucr.bulk;
+
+import com.lucr.dto.request.NewsCreateRequest;
+
+/**
+ * 가져오기 파일에서 읽은 레코드 하나
+ *
+ * @param line    레코드가 시작된 줄 번호 (1부터, 오류 로그용)
+ * @param request 변환된 요청 (형식 오류면 null)
+ * @param error   형식 오류 내용 (정상이면 null)
+ *
+ * @author kimdongjoo
+ * @since 2026-02-21
+ */
+public record NewsRecord(long line, NewsCreateRequest request, String error) {
+
+    public static NewsRecord of(long line, NewsCreateRequest request) {
+        return new NewsRecord(line, request, null);
+    }
+
+    public static NewsRecord malformed(long line, String error) {
+        return new NewsRecord(line, null, error);
+    }
+
+    public boolean isMalformed() {
+        return error != null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.lucr.bulk;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 가져오기 파일을 레코드 단위로 읽는 스트리밍 리더
+ *
+ * 한 번에 레코드 하나만 메모리에 두므로 파일 크기와 무관하게 일정한 메모리를 사용합니다.
+ * 형식이 잘못된 레코드는 예외 대신 NewsRecord.malformed로 반환하여 나머지를 계속 읽습니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-21
+ */
+public interface NewsRecordReader extends Closeable {
+
+    /**
+     * 다음 레코드
+     *
+     * @return 다음 레코드 (파일 끝이면 null)
+     */
+    NewsRecord next() throws IOException;
+}
@@ -0,0 +1,28 @@
+package com.lucr.common;
+
+/**
+ * 페이징 응답의 전체 개수(totalElements / totalPages) 계산 방식
+ *
+ * 요청 파라미터(count)와 응답 필드(countMode)에 함께 사용합니다.
+ * - 요청: 어떤 방식으로 계산할지 선택
+ * - 응답: 실제로 적용된 방식 (지원하지 않는 목록에서는 다른 방식으로 대체될 수 있음)
+ *
+ * @author kimdongjoo
+ * @since 2026-02-14
+ */
+public enum CountMode {
+
+    /** SELECT COUNT(*) 로 정확한 개수 계산 (기본값) */
+    EXACT,
+
+    /**
+     * 통계 기반 추정 개수 (COUNT 쿼리 없음)
+     *
+     * 조건 없는 전체 목록에서만 지원 - PostgreSQL 플래너 통계(pg_class.reltuples) 사용
+     * 조건이 있는 목록에서는 NONE으로 대체
+     */
+    ESTIMATED,
+
+    /** 개수 계산 생략 - size + 1건 조회로 다음 페이지 여부만 판단 (Slice) */
+    NONE
+}
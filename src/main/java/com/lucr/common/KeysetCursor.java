@@ -0,0 +1,86 @@
+package com.lucr.common;
+
+import com.lucr.exception.BusinessException;
+import com.lucr.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset 페이징 커서 - 마지막으로 조회한 행의 (정렬 키, id)
+ *
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 노출되며 내부 형식에 의존하지 않아야 합니다.
+ *   내부 형식: "{정렬 종류}|{정렬 키}|{id}"
+ *   예시: "recent|2026-02-13T09:30:00.123456|550e8400-e29b-41d4-a716-446655440000"
+ *
+ * 정렬 종류를 함께 담아 다른 목록의 커서를 재사용하는 실수를 막습니다.
+ * 정렬 키가 없는 행(발행일 없음 등)은 NULL_KEY로 표시합니다.
+ *
+ * @param order 정렬 종류 (recent, popular, published)
+ * @param key   정렬 키 값 (문자열 표현)
+ * @param id    마지막 행 id (정렬 키가 같은 행 사이의 순서)
+ * @author kimdongjoo
+ * @since 2026-02-13
+ */
+public record KeysetCursor(String order, String key, UUID id) {
+
+    private static final String DELIMITER = "|";
+
+    /** 정렬 키가 null인 행의 커서 키 */
+    public static final String NULL_KEY = "null";
+
+    public static KeysetCursor of(String order, Object key, UUID id) {
+        return new KeysetCursor(order, key != null ? String.valueOf(key) : NULL_KEY, id);
+    }
+
+    public boolean isNullKey() {
+        return NULL_KEY.equals(key);
+    }
+
+    /**
+     * 클라이언트 전달용 문자열로 변환
+     */
+    public String encode() {
+        String raw = order + DELIMITER + key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 해석
+     *
+     * @param token         encode()로 만든 문자열
+     * @param expectedOrder 현재 목록의 정렬 종류
+     * @throws BusinessException 형식이 잘못되었거나 다른 목록의 커서인 경우 (INVALID_INPUT_VALUE)
+     */
+    public static KeysetCursor decode(String token, String expectedOrder) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length == 3 && parts[0].equals(expectedOrder) && !parts[1].isEmpty()) {
+                return new KeysetCursor(parts[0], parts[1], UUID.fromString(parts[2]));
+            }
+        } catch (IllegalArgumentException e) {
+            // 아래에서 공통 처리
+        }
+        throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다.");
+    }
+
+    public LocalDateTime keyAsDateTime() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다.", e);
+        }
+    }
+
+    public int keyAsInt() {
+        try {
+            return Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다.", e);
+        }
+    }
+}
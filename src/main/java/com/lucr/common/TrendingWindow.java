@@ -0,0 +1,49 @@
+package com.lucr.common;
+
+import com.lucr.exception.BusinessException;
+import com.lucr.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * 급상승 뉴스 집계 구간 (GET /api/v1/news/trending?window=)
+ *
+ * 구간 길이를 감쇠 시간 상수로 사용합니다.
+ * 조회 한 건의 가중치는 구간 길이만큼 지나면 1/e(약 37%)로 줄어듭니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-26
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TrendingWindow {
+
+    HOUR("1h", Duration.ofHours(1)),
+    DAY("24h", Duration.ofHours(24));
+
+    /** 요청 파라미터 / 응답에 쓰는 이름 */
+    private final String label;
+
+    /** 감쇠 시간 상수 */
+    private final Duration timeConstant;
+
+    /**
+     * 이름으로 찾기 ("1h", "24h")
+     *
+     * @throws BusinessException 지원하지 않는 구간
+     */
+    public static TrendingWindow from(String label) {
+        for (TrendingWindow window : values()) {
+            if (window.label.equalsIgnoreCase(label)) {
+                return window;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "지원하지 않는 구간입니다: " + label + " (" + Arrays.stream(values())
+                        .map(TrendingWindow::getLabel).collect(Collectors.joining(", ")) + ")");
+    }
+}
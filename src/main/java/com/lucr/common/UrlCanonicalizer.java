@@ -0,0 +1,168 @@
+package com.lucr.common;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 뉴스 URL 정규화 + 해시
+ *
+ * 같은 기사를 가리키는 URL 변형을 하나로 모아 중복 판정에 사용합니다.
+ * 정규화 규칙:
+ * - scheme: 소문자, http → https
+ * - host: 소문자, 앞의 "www." / 끝의 "." 제거, 기본 포트(80, 443) 제거
+ * - path: dot segment 제거, 빈 경로는 "/", 끝의 "/" 제거 (루트 제외)
+ * - query: 추적 파라미터(utm_*, fbclid, gclid 등) 제거 후 정렬
+ * - fragment: 제거
+ * URI로 해석할 수 없는 값은 앞뒤 공백만 제거합니다.
+ *
+ * 해시: 정규화된 URL의 SHA-256 앞 8바이트 (news.url_hash, 유니크 인덱스)
+ * - TEXT URL 대신 고정 길이 BIGINT로 인덱싱하여 B-tree 크기 축소
+ * - DB에 저장되는 값이므로 규칙을 바꾸면 url_hash 전체를 다시 계산해야 함
+ *
+ * 사용 예시:
+ *   canonicalize("HTTP://www.Example.com/a/?utm_source=x&b=2&a=1#top")
+ *   → "https://example.com/a?a=1&b=2"
+ *
+ * @author kimdongjoo
+ * @since 2026-02-19
+ */
+public final class UrlCanonicalizer {
+
+    /** 추적용 쿼리 파라미터 (접두사 utm_ 포함) */
+    private static final Set<String> TRACKING_PARAMS = Set.of(
+            "fbclid", "gclid", "dclid", "gbraid", "wbraid", "msclkid", "yclid", "igshid",
+            "mc_cid", "mc_eid", "_ga", "_gl", "ref_src", "spm"
+    );
+
+    private static final String TRACKING_PREFIX = "utm_";
+
+    private UrlCanonicalizer() {
+    }
+
+    /**
+     * URL 정규화
+     *
+     * @param url 원본 URL
+     * @return 정규화된 URL (null이면 null)
+     */
+    public static String canonicalize(String url) {
+        if (url == null) {
+            return null;
+        }
+        String trimmed = url.strip();
+
+        URI uri;
+        try {
+            uri = new URI(trimmed).normalize();
+        } catch (URISyntaxException e) {
+            return trimmed;
+        }
+        if (uri.getScheme() == null || uri.getHost() == null) {
+            return trimmed;
+        }
+
+        String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        if (scheme.equals("http")) {
+            scheme = "https";
+        }
+
+        StringBuilder canonical = new StringBuilder(trimmed.length());
+        canonical.append(scheme).append("://").append(normalizeHost(uri.getHost()));
+
+        int port = uri.getPort();
+        if (port != -1 && port != 80 && port != 443) {
+            canonical.append(':').append(port);
+        }
+
+        canonical.append(normalizePath(uri.getRawPath()));
+
+        String query = normalizeQuery(uri.getRawQuery());
+        if (!query.isEmpty()) {
+            canonical.append('?').append(query);
+        }
+        return canonical.toString();
+    }
+
+    /**
+     * URL 해시 (정규화 후 SHA-256 앞 8바이트)
+     *
+     * @param url 원본 URL (내부에서 정규화)
+     * @return 64비트 해시
+     */
+    public static long hash(String url) {
+        return hashCanonical(canonicalize(url));
+    }
+
+    /**
+     * 이미 정규화된 URL의 해시
+     */
+    public static long hashCanonical(String canonicalUrl) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(canonicalUrl.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 제공해야 함 (MessageDigest 명세)
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 두 URL이 같은 기사를 가리키는지 (정규화 결과 비교)
+     */
+    public static boolean isSame(String url, String other) {
+        return url != null && other != null && canonicalize(url).equals(canonicalize(other));
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private static String normalizeHost(String host) {
+        String normalized = host.toLowerCase(Locale.ROOT);
+        if (normalized.endsWith(".")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        if (normalized.startsWith("www.")) {
+            normalized = normalized.substring(4);
+        }
+        return normalized;
+    }
+
+    private static String normalizePath(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        if (path.length() > 1 && path.endsWith("/")) {
+            return path.substring(0, path.length() - 1);
+        }
+        return path;
+    }
+
+    private static String normalizeQuery(String query) {
+        if (query == null || query.isEmpty()) {
+            return "";
+        }
+
+        List<String> params = new ArrayList<>();
+        for (String param : query.split("&")) {
+            if (param.isEmpty()) {
+                continue;
+            }
+            int eq = param.indexOf('=');
+            String name = (eq < 0 ? param : param.substring(0, eq)).toLowerCase(Locale.ROOT);
+            if (name.startsWith(TRACKING_PREFIX) || TRACKING_PARAMS.contains(name)) {
+                continue;
+            }
+            params.add(param);
+        }
+        params.sort(null);
+        return String.join("&", params);
+    }
+}
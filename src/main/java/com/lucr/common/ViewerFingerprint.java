@@ -0,0 +1,51 @@
+package com.lucr.common;
+
+/**
+ * 순 방문자 집계용 방문자 식별 키
+ *
+ * 우선순위:
+ * 1. X-Viewer-Id 헤더 (클라이언트가 발급해 보관하는 익명 ID, 쿠키 / 로컬 스토리지)
+ * 2. 클라이언트 IP + User-Agent (프록시 뒤라면 server.forward-headers-strategy 설정 필요)
+ *
+ * 키는 HyperLogLog 해시 입력으로만 쓰이고 저장되지 않습니다.
+ * 같은 방문자가 새로고침해도 같은 키가 되므로 순 방문자 수는 늘지 않습니다.
+ *
+ * 사용 예시:
+ *   of(null, "203.0.113.7", "Mozilla/5.0 ...") → "ip:203.0.113.7|Mozilla/5.0 ..."
+ *
+ * @author kimdongjoo
+ * @since 2026-02-27
+ */
+public final class ViewerFingerprint {
+
+    /** 클라이언트가 보내는 익명 방문자 ID 헤더 */
+    public static final String VIEWER_ID_HEADER = "X-Viewer-Id";
+
+    /** 헤더 값 최대 길이 (이보다 길면 잘라서 사용) */
+    private static final int MAX_LENGTH = 256;
+
+    private ViewerFingerprint() {
+    }
+
+    /**
+     * 방문자 식별 키 생성
+     *
+     * @param viewerId   X-Viewer-Id 헤더 (없으면 null)
+     * @param remoteAddr 클라이언트 IP
+     * @param userAgent  User-Agent 헤더 (없으면 null)
+     * @return 식별 키 (식별할 정보가 없으면 null)
+     */
+    public static String of(String viewerId, String remoteAddr, String userAgent) {
+        if (viewerId != null && !viewerId.isBlank()) {
+            return "id:" + truncate(viewerId.strip());
+        }
+        if (remoteAddr == null || remoteAddr.isBlank()) {
+            return null;
+        }
+        return "ip:" + remoteAddr.strip() + "|" + (userAgent != null ? truncate(userAgent.strip()) : "");
+    }
+
+    private static String truncate(String value) {
+        return value.length() > MAX_LENGTH ? value.substring(0, MAX_LENGTH) : value;
+    }
+}
@@ -0,0 +1,29 @@
+package com.lucr.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 뉴스 일괄 가져오기 설정 (lucr.bulk-import.*)
+ *
+ * application.yml 예시:
+ *   lucr:
+ *     bulk-import:
+ *       directory: ./import
+ *       chunk-rows: 50000
+ *
+ * @author kimdongjoo
+ * @since 2026-02-21
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lucr.bulk-import")
+public class BulkImportProperties {
+
+    /** 가져올 파일을 두는 디렉터리 (이 디렉터리 밖의 파일은 지정할 수 없음) */
+    private String directory = "./import";
+
+    /** COPY → 병합 → 커밋 단위 행 수 (진행 상황도 이 단위로 갱신) */
+    private int chunkRows = 50_000;
+}
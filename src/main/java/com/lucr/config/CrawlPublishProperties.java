@@ -0,0 +1,32 @@
+package com.lucr.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 크롤링 요청 발행 설정 (lucr.crawl.publish.*)
+ *
+ * application.yml 예시:
+ *   lucr:
+ *     crawl:
+ *       publish:
+ *         confirm-timeout-ms: 5000
+ *         batch-size: 100
+ *
+ * 발행 확인(publisher confirm)은 spring.rabbitmq.publisher-confirm-type=correlated일 때만 동작합니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-22
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lucr.crawl.publish")
+public class CrawlPublishProperties {
+
+    /** 브로커 확인(ack)을 기다리는 최대 시간 (ms) - 초과하면 작업을 FAILED로 변경 */
+    private long confirmTimeoutMs = 5_000;
+
+    /** 한 채널에서 연속으로 보낼 최대 메시지 수 (여러 작업이 한꺼번에 등록될 때) */
+    private int batchSize = 100;
+}
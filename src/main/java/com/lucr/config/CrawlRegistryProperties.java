@@ -0,0 +1,38 @@
+package com.lucr.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 크롤링 작업 메모리 레지스트리 설정 (lucr.crawl.registry.*)
+ *
+ * application.yml 예시:
+ *   lucr:
+ *     crawl:
+ *       registry:
+ *         enabled: false
+ *         terminal-ttl-ms: 600000
+ *         sweep-interval-ms: 60000
+ *
+ * 레지스트리는 이 인스턴스에서 커밋된 변경만 반영합니다.
+ * 결과 큐를 여러 인스턴스가 나눠 소비하면 다른 인스턴스의 기사 수 / 상태 전이가 보이지 않으므로
+ * 기본값은 false(항상 DB 조회)이고, 결과 큐 소비자가 한 인스턴스뿐인 배포에서만 true로 켭니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-25
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lucr.crawl.registry")
+public class CrawlRegistryProperties {
+
+    /** 활성 작업 상태를 메모리에서 제공할지 여부 (false면 항상 DB 조회, 단일 소비자 배포에서만 true) */
+    private boolean enabled = false;
+
+    /** 종료(COMPLETED / FAILED)된 작업을 메모리에 남겨 두는 시간 (ms) */
+    private long terminalTtlMs = 10 * 60 * 1000;
+
+    /** 만료된 작업을 정리하는 주기 (ms) */
+    private long sweepIntervalMs = 60_000;
+}
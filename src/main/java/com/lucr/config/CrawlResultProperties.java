@@ -0,0 +1,50 @@
+package com.lucr.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 크롤링 결과 소비 설정 (lucr.crawl.result.*)
+ *
+ * application.yml 예시:
+ *   lucr:
+ *     crawl:
+ *       result:
+ *         prefetch: 250
+ *         concurrency: 2
+ *         max-concurrency: 4
+ *         batch-size: 100
+ *         receive-timeout-ms: 500
+ *         retry-attempts: 3
+ *         retry-backoff-ms: 200
+ *
+ * @author kimdongjoo
+ * @since 2026-02-17
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lucr.crawl.result")
+public class CrawlResultProperties {
+
+    /** 컨슈머당 미확인(unacked) 메시지 최대 수 - 배치 크기 이상이어야 배치가 채워짐 */
+    private int prefetch = 250;
+
+    /** 시작 컨슈머 수 */
+    private int concurrency = 2;
+
+    /** 부하 시 늘어날 수 있는 최대 컨슈머 수 */
+    private int maxConcurrency = 4;
+
+    /** 리스너 한 번에 전달할 메시지 수 */
+    private int batchSize = 100;
+
+    /** 배치가 다 차지 않았을 때 기다리는 최대 시간 (ms) */
+    private long receiveTimeoutMs = 500;
+
+    /** 일시적 실패(DB 연결 / 락 등) 시 작업당 최대 시도 횟수 - 소진되면 데드 레터 */
+    private int retryAttempts = 3;
+
+    /** 재시도 간격 (ms, 시도마다 배수로 증가) */
+    private long retryBackoffMs = 200;
+}
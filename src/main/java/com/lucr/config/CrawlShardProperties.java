@@ -0,0 +1,36 @@
+package com.lucr.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 크롤링 작업 샤딩 설정 (lucr.crawl.shard.*)
+ *
+ * application.yml 예시:
+ *   lucr:
+ *     crawl:
+ *       shard:
+ *         media: [hankyung, maekyung, edaily]   # 언론사별 자식 작업
+ *         partitions: 1                          # media가 비어 있을 때 파티션별 자식 작업 수
+ *
+ * media가 있으면 언론사마다, 없고 partitions > 1이면 파티션마다 자식 작업을 만듭니다.
+ * 둘 다 없으면 작업 하나로 전체를 크롤링합니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-23
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lucr.crawl.shard")
+public class CrawlShardProperties {
+
+    /** 언론사 목록 (자식 작업 하나 = 언론사 하나) */
+    private List<String> media = new ArrayList<>();
+
+    /** 파티션 수 (media가 비어 있을 때만 사용, 워커는 partitionIndex / partitionCount로 대상을 나눔) */
+    private int partitions = 1;
+}
@@ -0,0 +1,49 @@
+package com.lucr.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 크롤링 작업 진행 스트림 설정 (lucr.crawl.stream.*)
+ *
+ * application.yml 예시:
+ *   lucr:
+ *     crawl:
+ *       stream:
+ *         timeout-ms: 1800000
+ *         heartbeat-interval-ms: 15000
+ *         max-subscribers: 10000
+ *         send-threads: 4
+ *         send-queue-capacity: 100
+ *         send-timeout-ms: 10000
+ *
+ * 구독 연결은 서블릿 비동기 요청(SseEmitter)이라 요청 스레드를 점유하지 않지만,
+ * 동시 연결 수는 컨테이너 설정(server.tomcat.max-connections)의 제한도 받습니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-24
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lucr.crawl.stream")
+public class CrawlStreamProperties {
+
+    /** 구독 연결 최대 유지 시간 (ms) - 초과하면 서버가 연결을 닫고 클라이언트가 재연결 */
+    private long timeoutMs = 30 * 60 * 1000;
+
+    /** 하트비트(주석 이벤트) 전송 주기 (ms) - 프록시 유휴 타임아웃 방지 / 끊긴 연결 정리 */
+    private long heartbeatIntervalMs = 15_000;
+
+    /** 동시 구독 연결 최대 수 (초과하면 503) */
+    private int maxSubscribers = 10_000;
+
+    /** 전송 스레드 수 - 느린 구독자의 전송이 막혀도 나머지 구독자에게 계속 전송 */
+    private int sendThreads = 4;
+
+    /** 구독자별 전송 대기 이벤트 최대 수 (초과하면 느린 구독자로 보고 해제) */
+    private int sendQueueCapacity = 100;
+
+    /** 이벤트 하나의 전송 최대 시간 (ms, 초과하면 느린 구독자로 보고 해제) */
+    private long sendTimeoutMs = 10_000;
+}
@@ -0,0 +1,39 @@
+package com.lucr.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 뉴스 상세 로컬 캐시 설정 (lucr.news-cache.*)
+ *
+ * application.yml 예시:
+ *   lucr:
+ *     news-cache:
+ *       enabled: true
+ *       max-megabytes: 64
+ *       expire-after-write-ms: 60000
+ *
+ * 항목 수가 아니라 응답 크기(본문 길이 등)로 상한을 두므로
+ * 본문이 긴 기사가 몰려도 힙 사용량이 max-megabytes 근처로 제한됩니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-03-02
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lucr.news-cache")
+public class NewsCacheProperties {
+
+    /** false면 항상 DB로 조회 */
+    private boolean enabled = true;
+
+    /** 캐시 응답 크기 합계 상한 (MB, 추정치) */
+    private long maxMegabytes = 64;
+
+    /**
+     * 저장 후 만료 시간 (ms)
+     * 이 인스턴스의 변경은 커밋 후 바로 무효화되므로, 다른 인스턴스의 변경이 보이기까지의 최대 지연
+     */
+    private long expireAfterWriteMs = 60_000;
+}
@@ -0,0 +1,36 @@
+package com.lucr.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 인기 뉴스 메모리 순위표 설정 (lucr.popular-leaderboard.*)
+ *
+ * application.yml 예시:
+ *   lucr:
+ *     popular-leaderboard:
+ *       enabled: true
+ *       capacity: 2000
+ *       resync-interval-ms: 300000
+ *
+ * 상위 capacity개 뉴스의 목록용 Projection만 보관합니다 (기본값 기준 약 2MB).
+ * 순위표 범위를 넘는 페이지는 DB(idx_news_view_count)로 조회합니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-28
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lucr.popular-leaderboard")
+public class PopularLeaderboardProperties {
+
+    /** false면 항상 DB로 조회 */
+    private boolean enabled = true;
+
+    /** 보관할 상위 뉴스 수 (이 범위 안의 페이지만 메모리에서 응답) */
+    private int capacity = 2000;
+
+    /** DB 기준으로 다시 구축하는 주기 (ms) - 다른 인스턴스의 조회수 / 삭제 / 일괄 저장 반영 */
+    private long resyncIntervalMs = 300_000;
+}
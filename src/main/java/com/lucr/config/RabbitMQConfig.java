@@ -1,6 +1,8 @@
 package com.lucr.config;
 
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.support.converter.JacksonJsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.context.annotation.Bean;
@@ -12,6 +14,12 @@ import org.springframework.context.annotation.Configuration;
  * 메시지 흐름:
  *   [Spring Boot] ---(crawl.request)---> [Exchange] ---> [Request Queue] ---> [Python Crawler]
  *   [Python Crawler] ---(crawl.result)---> [Exchange] ---> [Result Queue] ---> [Spring Boot]
+ *   [Spring Boot] ---(view.event)---> [View Exchange] ---> [View Event Queue] ---> [Spring Boot]
+ *
+ * 처리할 수 없는 결과 메시지는 데드 레터 교환기를 거쳐 DLQ에 보관합니다 (무한 재전달 방지):
+ *   [Result Queue] ---(거부 / CrawlResultListener 발행)---> [Crawl DLX] ---> [Result DLQ]
+ *   [View Event Queue] ---(거부)---> [View DLX] ---> [View Event DLQ]
+ * 이미 만들어진 결과 / 조회 이벤트 큐에는 x-dead-letter-* 인자를 추가할 수 없으므로 배포 시 큐를 삭제 후 다시 선언해야 합니다.
  *
  * @author kimdongjoo
  * @since 2026-02-06
@@ -23,16 +31,37 @@ public class RabbitMQConfig {
     // 모든 크롤링 메시지를 Routing Key 기반으로 적절한 Queue에 전달하는 교환기
     public static final String CRAWL_EXCHANGE = "lucr.crawl.exchange";
 
+    // 조회 이벤트 전용 교환기 (크롤링 메시지와 트래픽 / 장애 범위 분리)
+    public static final String VIEW_EXCHANGE = "lucr.view.exchange";
+
+    // 처리할 수 없는 크롤링 결과를 DLQ로 보내는 데드 레터 교환기
+    public static final String CRAWL_DEAD_LETTER_EXCHANGE = "lucr.crawl.dlx";
+    // 반영할 수 없는 조회 이벤트를 DLQ로 보내는 데드 레터 교환기
+    public static final String VIEW_DEAD_LETTER_EXCHANGE = "lucr.view.dlx";
+
     // ── Queue (메시지 저장소) ──
     // Spring → Python: 크롤링 요청 메시지가 대기하는 큐
     public static final String CRAWL_REQUEST_QUEUE = "lucr.crawl.request";
     // Python → Spring: 크롤링 완료 결과가 대기하는 큐
     public static final String CRAWL_RESULT_QUEUE = "lucr.crawl.result";
+    // 처리할 수 없는 크롤링 결과 보관 큐 (운영자가 확인 후 재발행 / 폐기)
+    public static final String CRAWL_RESULT_DLQ = "lucr.crawl.result.dlq";
+    // 조회 API → ViewEventListener: 반영 대기 중인 조회 이벤트
+    public static final String VIEW_EVENT_QUEUE = "lucr.view.event";
+    // 반영할 수 없는 조회 이벤트 보관 큐
+    public static final String VIEW_EVENT_DLQ = "lucr.view.event.dlq";
 
     // ── Routing Key (메시지 라우팅 규칙) ──
     // Exchange가 메시지를 어떤 Queue로 보낼지 결정하는 키
     public static final String CRAWL_REQUEST_KEY = "crawl.request";
     public static final String CRAWL_RESULT_KEY = "crawl.result";
+    public static final String VIEW_EVENT_KEY = "view.event";
+
+    // ── Listener Container Factory ──
+    // 크롤링 결과 큐 전용 (배치 리스너 + prefetch/동시성 설정)
+    public static final String CRAWL_RESULT_CONTAINER_FACTORY = "crawlResultContainerFactory";
+    // 조회 이벤트 큐 전용 (배치 리스너)
+    public static final String VIEW_EVENT_CONTAINER_FACTORY = "viewEventContainerFactory";
 
     /**
      * 메시지 변환기 - Java 객체 ↔ JSON 자동 직렬화/역직렬화
@@ -64,10 +93,38 @@ public class RabbitMQConfig {
     /**
      * 크롤링 결과 큐 (durable: RabbitMQ 재시작 시에도 큐 유지)
      * Python Worker가 발행한 완료 이벤트를 Spring이 소비
+     * 거부된 메시지는 Crawl DLX → Result DLQ로 이동
      */
     @Bean
     public Queue crawlResultQueue() {
-        return QueueBuilder.durable(CRAWL_RESULT_QUEUE).build();
+        return QueueBuilder.durable(CRAWL_RESULT_QUEUE)
+                .deadLetterExchange(CRAWL_DEAD_LETTER_EXCHANGE)
+                .deadLetterRoutingKey(CRAWL_RESULT_KEY)
+                .build();
+    }
+
+    /**
+     * 크롤링 데드 레터 교환기
+     */
+    @Bean
+    public DirectExchange crawlDeadLetterExchange() {
+        return new DirectExchange(CRAWL_DEAD_LETTER_EXCHANGE);
+    }
+
+    /**
+     * 크롤링 결과 DLQ (durable, 소비자 없음 - 운영자가 확인)
+     */
+    @Bean
+    public Queue crawlResultDeadLetterQueue() {
+        return QueueBuilder.durable(CRAWL_RESULT_DLQ).build();
+    }
+
+    /**
+     * DLQ 바인딩: Crawl DLX → Result DLQ
+     */
+    @Bean
+    public Binding crawlResultDeadLetterBinding(Queue crawlResultDeadLetterQueue, DirectExchange crawlDeadLetterExchange) {
+        return BindingBuilder.bind(crawlResultDeadLetterQueue).to(crawlDeadLetterExchange).with(CRAWL_RESULT_KEY);
     }
 
     /**
@@ -87,4 +144,111 @@ public class RabbitMQConfig {
     public Binding crawlResultBinding(Queue crawlResultQueue, TopicExchange crawlExchange) {
         return BindingBuilder.bind(crawlResultQueue).to(crawlExchange).with(CRAWL_RESULT_KEY);
     }
+
+    /**
+     * 결과 큐 리스너 컨테이너 (CrawlResultListener 전용)
+     * - prefetch: 컨슈머가 확인(ack) 전에 미리 받아두는 메시지 수 → 브로커 왕복 대기 감소
+     * - consumerBatchEnabled: batch-size개(또는 receive-timeout까지)를 모아 List로 한 번에 전달
+     * - concurrency ~ maxConcurrency: 큐가 쌓이면 컨슈머 수를 늘림
+     * - acknowledgeMode(MANUAL): 리스너가 작업 단위로 ack / 거부 (한 작업의 실패가 배치 전체를 DLQ로 보내지 않음)
+     * - defaultRequeueRejected(false): 거부된 메시지는 다시 큐에 넣지 않고 DLQ로 (무한 재전달 방지)
+     */
+    @Bean(name = CRAWL_RESULT_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory crawlResultContainerFactory(
+            ConnectionFactory connectionFactory,
+            MessageConverter messageConverter,
+            CrawlResultProperties properties
+    ) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter);
+        factory.setPrefetchCount(Math.max(properties.getPrefetch(), properties.getBatchSize()));
+        factory.setConcurrentConsumers(properties.getConcurrency());
+        factory.setMaxConcurrentConsumers(Math.max(properties.getConcurrency(), properties.getMaxConcurrency()));
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(properties.getBatchSize());
+        factory.setReceiveTimeout(properties.getReceiveTimeoutMs());
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
+
+    /**
+     * 조회 이벤트 Exchange 등록
+     */
+    @Bean
+    public TopicExchange viewExchange() {
+        return new TopicExchange(VIEW_EXCHANGE);
+    }
+
+    /**
+     * 조회 이벤트 큐 (durable: RabbitMQ 재시작 시에도 큐 유지)
+     * 조회 API가 발행한 이벤트를 ViewEventListener가 모아서 반영
+     * 거부된 메시지는 View DLX → View Event DLQ로 이동
+     */
+    @Bean
+    public Queue viewEventQueue() {
+        return QueueBuilder.durable(VIEW_EVENT_QUEUE)
+                .deadLetterExchange(VIEW_DEAD_LETTER_EXCHANGE)
+                .deadLetterRoutingKey(VIEW_EVENT_KEY)
+                .build();
+    }
+
+    /**
+     * 조회 이벤트 데드 레터 교환기
+     */
+    @Bean
+    public DirectExchange viewDeadLetterExchange() {
+        return new DirectExchange(VIEW_DEAD_LETTER_EXCHANGE);
+    }
+
+    /**
+     * 조회 이벤트 DLQ (durable, 소비자 없음 - 운영자가 확인)
+     */
+    @Bean
+    public Queue viewEventDeadLetterQueue() {
+        return QueueBuilder.durable(VIEW_EVENT_DLQ).build();
+    }
+
+    /**
+     * DLQ 바인딩: View DLX → View Event DLQ
+     */
+    @Bean
+    public Binding viewEventDeadLetterBinding(Queue viewEventDeadLetterQueue, DirectExchange viewDeadLetterExchange) {
+        return BindingBuilder.bind(viewEventDeadLetterQueue).to(viewDeadLetterExchange).with(VIEW_EVENT_KEY);
+    }
+
+    /**
+     * 조회 이벤트 큐 바인딩: View Exchange → View Event Queue
+     */
+    @Bean
+    public Binding viewEventBinding(Queue viewEventQueue, TopicExchange viewExchange) {
+        return BindingBuilder.bind(viewEventQueue).to(viewExchange).with(VIEW_EVENT_KEY);
+    }
+
+    /**
+     * 조회 이벤트 리스너 컨테이너 (ViewEventListener 전용)
+     * - batch-size개(또는 receive-timeout까지)를 모아 List로 한 번에 전달 → 뉴스별 합산 후 UPDATE 1회
+     * - defaultRequeueRejected(false): 거부된 배치는 DLQ로 (일시적 실패는 리스너가 ImmediateRequeue로 요청)
+     */
+    @Bean(name = VIEW_EVENT_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory viewEventContainerFactory(
+            ConnectionFactory connectionFactory,
+            MessageConverter messageConverter,
+            ViewEventProperties properties
+    ) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter);
+        factory.setPrefetchCount(Math.max(properties.getPrefetch(), properties.getBatchSize()));
+        factory.setConcurrentConsumers(properties.getConcurrency());
+        factory.setMaxConcurrentConsumers(Math.max(properties.getConcurrency(), properties.getMaxConcurrency()));
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(properties.getBatchSize());
+        factory.setReceiveTimeout(properties.getReceiveTimeoutMs());
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
 }
@@ -0,0 +1,58 @@
+package com.lucr.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 키워드 검색 설정 (lucr.search.*)
+ *
+ * application.yml 예시:
+ *   lucr:
+ *     search:
+ *       engine: memory      # like | memory | postgres
+ *       analyzer: ngram     # ngram | simple
+ *       title-boost: 2
+ *
+ * @author kimdongjoo
+ * @since 2026-02-10
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lucr.search")
+public class SearchProperties {
+
+    /**
+     * 검색 엔진 선택
+     * - like   : DB LIKE '%keyword%' 검색 (기존 방식)
+     * - memory : JVM 내 역색인 + BM25 랭킹
+     * - postgres : PostgreSQL tsvector + GIN 인덱스 + ts_rank
+     */
+    private String engine = "like";
+
+    /**
+     * PostgreSQL 전문 검색 설정 (regconfig)
+     *
+     * 한국어 사전이 기본 제공되지 않으므로 공백 단위 토큰화만 하는 simple 사용
+     */
+    private String postgresConfig = "simple";
+
+    /**
+     * 역색인(memory) 분석기 선택
+     * - ngram  : 한글 bigram/trigram + 전각/소문자 정규화 + 불용어 제거
+     * - simple : 문자/숫자 연속 구간 단위 토큰화
+     */
+    private String analyzer = "ngram";
+
+    /** BM25 tf 포화 계수 */
+    private float bm25K1 = 1.2f;
+
+    /** BM25 문서 길이 정규화 강도 (0 ~ 1) */
+    private float bm25B = 0.75f;
+
+    /** 제목 토큰 가중치 (제목 1회 등장 = 본문 N회 등장) */
+    private int titleBoost = 2;
+
+    /** 기동 시 색인 구축용 배치 크기 */
+    private int bootstrapBatchSize = 500;
+}
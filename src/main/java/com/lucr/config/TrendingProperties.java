@@ -0,0 +1,40 @@
+package com.lucr.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 급상승 뉴스 집계 설정 (lucr.trending.*)
+ *
+ * application.yml 예시:
+ *   lucr:
+ *     trending:
+ *       enabled: true
+ *       top-k: 200
+ *       sketch-width: 8192
+ *       sketch-depth: 4
+ *
+ * 구간(1h / 24h)마다 sketch-width * sketch-depth * 8바이트 + 상위 top-k개만 보관하므로
+ * 뉴스 수와 무관하게 메모리 사용량이 고정됩니다 (기본값 기준 구간당 약 256KB).
+ *
+ * @author kimdongjoo
+ * @since 2026-02-26
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lucr.trending")
+public class TrendingProperties {
+
+    /** false면 조회 이벤트를 집계하지 않음 (빈 목록 반환) */
+    private boolean enabled = true;
+
+    /** 구간별로 추적하는 상위 뉴스 수 (조회 가능한 최대 size) */
+    private int topK = 200;
+
+    /** Count-Min Sketch 행당 카운터 수 (과대 추정 한도 = e / width * 전체 조회수) */
+    private int sketchWidth = 8192;
+
+    /** Count-Min Sketch 행 수 (한도를 넘을 확률 = e^-depth) */
+    private int sketchDepth = 4;
+}
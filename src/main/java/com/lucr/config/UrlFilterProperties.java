@@ -0,0 +1,37 @@
+package com.lucr.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * URL 존재 여부 필터 설정 (lucr.url-filter.*)
+ *
+ * application.yml 예시:
+ *   lucr:
+ *     url-filter:
+ *       enabled: true
+ *       expected-insertions: 1000000
+ *       false-positive-rate: 0.01
+ *       rebuild-interval-ms: 3600000
+ *
+ * @author kimdongjoo
+ * @since 2026-02-18
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lucr.url-filter")
+public class UrlFilterProperties {
+
+    /** false면 필터 없이 항상 DB 조회 */
+    private boolean enabled = true;
+
+    /** 첫 슬라이스 용량 (초과하면 슬라이스를 추가해 확장) */
+    private long expectedInsertions = 1_000_000;
+
+    /** 목표 오탐률 (필터가 "있을 수 있음"이라고 했지만 DB에 없는 비율) */
+    private double falsePositiveRate = 0.01;
+
+    /** 전체 재구축 주기 (ms) - 삭제된 URL / 다른 인스턴스에서 저장된 URL 반영 */
+    private long rebuildIntervalMs = 3_600_000;
+}
@@ -0,0 +1,55 @@
+package com.lucr.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 조회수 증가 설정 (lucr.view-count.*)
+ *
+ * application.yml 예시:
+ *   lucr:
+ *     view-count:
+ *       mode: buffered          # buffered | direct | queued
+ *       flush-interval-ms: 1000
+ *       high-view-basis: view-count   # view-count | unique-viewers
+ *
+ * @author kimdongjoo
+ * @since 2026-02-16
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lucr.view-count")
+public class ViewCountProperties {
+
+    /**
+     * 조회수 증가 방식
+     * - buffered : 메모리에 누적 후 주기적으로 일괄 UPDATE (write-behind)
+     * - direct   : 요청마다 UPDATE ... RETURNING 한 번으로 증가 후 행 반환 (PostgreSQL)
+     * - queued   : 조회 이벤트를 RabbitMQ(lucr.view.event)에 발행, ViewEventListener가 모아서 일괄 UPDATE
+     *              (발행 실패 시 buffered와 같이 메모리에 누적)
+     */
+    private String mode = "buffered";
+
+    /** 누적된 조회수를 DB에 반영하는 주기 (ms) */
+    private long flushIntervalMs = 1000;
+
+    /**
+     * 고조회수(isHighView) 판단 기준 (기준값은 News.HIGH_VIEW_THRESHOLD)
+     * - view-count     : 조회수 (새로고침도 모두 포함)
+     * - unique-viewers : 순 방문자 수 추정값 (UniqueViewerFlusher가 병합할 때 갱신)
+     */
+    private String highViewBasis = "view-count";
+
+    public boolean isBuffered() {
+        return "buffered".equalsIgnoreCase(mode);
+    }
+
+    public boolean isQueued() {
+        return "queued".equalsIgnoreCase(mode);
+    }
+
+    public boolean isUniqueViewerBasis() {
+        return "unique-viewers".equalsIgnoreCase(highViewBasis);
+    }
+}
@@ -0,0 +1,52 @@
+package com.lucr.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 조회 이벤트 소비 설정 (lucr.view-event.*)
+ *
+ * application.yml 예시:
+ *   lucr:
+ *     view-event:
+ *       prefetch: 1000
+ *       concurrency: 1
+ *       max-concurrency: 2
+ *       batch-size: 500
+ *       receive-timeout-ms: 200
+ *       retry-attempts: 3
+ *       retry-backoff-ms: 200
+ *
+ * 배치가 클수록 UPDATE 한 번에 합산되는 조회가 많아지고,
+ * receive-timeout-ms는 조회가 적을 때 DB 반영이 늦어지는 최대 시간입니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-03-01
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lucr.view-event")
+public class ViewEventProperties {
+
+    /** 컨슈머당 미확인(unacked) 메시지 최대 수 - 배치 크기 이상이어야 배치가 채워짐 */
+    private int prefetch = 1000;
+
+    /** 시작 컨슈머 수 */
+    private int concurrency = 1;
+
+    /** 부하 시 늘어날 수 있는 최대 컨슈머 수 */
+    private int maxConcurrency = 2;
+
+    /** 리스너 한 번에 전달할 메시지 수 */
+    private int batchSize = 500;
+
+    /** 배치가 다 차지 않았을 때 기다리는 최대 시간 (ms) */
+    private long receiveTimeoutMs = 200;
+
+    /** 일시적 실패(DB 연결 / 락 등) 시 배치당 최대 시도 횟수 - 소진되면 배치를 다시 큐에 넣음 */
+    private int retryAttempts = 3;
+
+    /** 재시도 간격 (ms, 시도마다 배수로 증가) */
+    private long retryBackoffMs = 200;
+}
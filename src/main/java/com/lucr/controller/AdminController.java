@@ -1,29 +1,38 @@
 package com.lucr.controller;
 
 import com.lucr.common.ApiResponse;
+import com.lucr.bulk.BulkImportJob;
+import com.lucr.dto.response.BulkImportResponse;
 import com.lucr.dto.response.CrawlJobResponse;
 import com.lucr.entity.CrawlJob;
 import com.lucr.messaging.CrawlJobPublisher;
+import com.lucr.service.CrawlJobProgressBroadcaster;
 import com.lucr.service.CrawlJobService;
+import com.lucr.service.NewsBulkImportService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
 /**
- * 관리자 API 컨트롤러 - 크롤링 작업 관리
+ * 관리자 API 컨트롤러 - 크롤링 작업 / 뉴스 일괄 가져오기 관리
  *
  * 역할:
  *   관리자가 크롤링을 트리거하고, 작업 상태를 조회하는 엔드포인트 제공
+ *   서버에 둔 백필 파일(NDJSON / CSV)을 COPY로 가져오고 진행 상황을 조회하는 엔드포인트 제공
  *
  * 흐름:
  *   POST /admin/crawl/trigger 호출
- *     → CrawlJobService.createJob()     : DB에 PENDING 작업 생성
- *     → CrawlJobPublisher.publish()     : RabbitMQ에 요청 메시지 발행
+ *     → CrawlJobService.createJob()     : DB에 PENDING 작업 생성 (언론사별 / 파티션별 자식 작업 포함)
+ *     → CrawlJobPublisher.publish()     : 발행 대기열에 추가 (브로커 확인은 비동기, 실패 시 작업 FAILED)
  *     → 클라이언트에 jobId 즉시 반환     : 비동기 처리이므로 바로 응답
+ *   GET /admin/crawl/jobs/{jobId}/events 구독
+ *     → 상태 전이 / 기사 수 증가를 SSE로 수신 (폴링 대체)
  *
  * @author Ekko0701
  * @since 2026-02-06
@@ -36,15 +45,17 @@ public class AdminController {
 
     private final CrawlJobService crawlJobService;
     private final CrawlJobPublisher crawlJobPublisher;
+    private final CrawlJobProgressBroadcaster crawlJobProgressBroadcaster;
+    private final NewsBulkImportService newsBulkImportService;
 
     // ========== 크롤링 트리거 ==========
 
     /**
      * 크롤링 작업 트리거
      *
-     * 1. DB에 CrawlJob 생성 (PENDING)
-     * 2. RabbitMQ에 크롤링 요청 메시지 발행
-     * 3. jobId를 즉시 반환 (비동기 처리)
+     * 1. DB에 CrawlJob 생성 (PENDING, 샤딩 설정이 있으면 부모 + 자식 작업)
+     * 2. RabbitMQ에 크롤링 요청 메시지 발행 (브로커 확인을 기다리지 않음)
+     * 3. jobId를 즉시 반환 (비동기 처리, 발행 확인 실패는 작업 상태 FAILED로 확인)
      *
      * @param maxArticles 언론사당 최대 수집 기사 수 (기본값: 50)
      * @return 201 Created + 생성된 작업 정보
@@ -55,16 +66,17 @@ public class AdminController {
     ) {
         log.info("크롤링 트리거 요청: maxArticles={}", maxArticles);
 
-        // 1. DB에 크롤링 작업 생성 (PENDING 상태)
-        CrawlJob job = crawlJobService.createJob();
+        // 1. DB에 크롤링 작업 생성 (PENDING 상태, 샤딩 설정이 있으면 자식 작업 포함)
+        CrawlJobService.ShardedJob job = crawlJobService.createJob();
 
-        // 2. RabbitMQ에 크롤링 요청 메시지 발행
-        crawlJobPublisher.publish(job.getId(), maxArticles);
+        // 2. RabbitMQ에 크롤링 요청 메시지 발행 (자식 작업은 워커 여러 개가 병렬로 소비)
+        crawlJobPublisher.publishAll(job.publishTargets(), maxArticles);
 
         // 3. Entity → DTO 변환 후 응답
-        CrawlJobResponse response = CrawlJobResponse.from(job);
+        CrawlJobResponse response = CrawlJobResponse.from(job.parent(), job.shards());
 
-        log.info("크롤링 트리거 완료: jobId={}, status={}", job.getId(), job.getStatus());
+        log.info("크롤링 트리거 완료: jobId={}, status={}, shards={}",
+                job.parent().getId(), job.parent().getStatus(), job.shards().size());
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(ApiResponse.success("크롤링 작업이 시작되었습니다.", response));
@@ -76,6 +88,7 @@ public class AdminController {
      * 크롤링 작업 상태 조회
      *
      * 클라이언트가 트리거 후 반환받은 jobId로 진행 상태를 폴링
+     * 부모 작업이면 자식 작업별 상태를 children으로 함께 반환
      *
      * @param jobId 작업 UUID
      * @return 200 OK + 작업 상태 정보
@@ -85,9 +98,64 @@ public class AdminController {
         log.info("크롤링 작업 상태 조회: jobId={}", jobId);
 
         CrawlJob job = crawlJobService.getJobById(jobId);
-        CrawlJobResponse response = CrawlJobResponse.from(job);
+        CrawlJobResponse response = CrawlJobResponse.from(job, crawlJobService.getChildJobs(jobId));
 
         log.info("크롤링 작업 상태 조회 완료: jobId={}, status={}", jobId, job.getStatus());
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    /**
+     * 크롤링 작업 진행 상황 구독 (Server-Sent Events)
+     *
+     * 연결 직후 현재 상태(snapshot)를 보내고, 이후 변경이 있을 때만 이벤트를 전송
+     * - status   : 상태 전이 (PENDING → RUNNING → COMPLETED / FAILED), 누적 기사 수 포함
+     * - articles : 결과 배치마다 새로 저장된 기사 수 (ingested)
+     * 부모 작업을 구독하면 자식 작업 이벤트도 함께 전송하고, 작업이 끝나면 서버가 연결을 닫음
+     *
+     * @param jobId 작업 UUID
+     * @return text/event-stream 연결
+     */
+    @GetMapping(value = "/crawl/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamJobProgress(@PathVariable UUID jobId) {
+        log.info("크롤링 작업 진행 구독: jobId={}", jobId);
+        return crawlJobProgressBroadcaster.subscribe(jobId);
+    }
+
+    // ========== 뉴스 일괄 가져오기 ==========
+
+    /**
+     * 뉴스 일괄 가져오기 시작
+     *
+     * 가져오기 디렉터리(lucr.bulk-import.directory)에 둔 파일을 비동기로 COPY 적재
+     * 요청 예시: POST /api/v1/admin/news/import?file=2026-01.ndjson.gz
+     *
+     * @param file   가져오기 디렉터리 기준 파일 경로
+     * @param format 파일 형식 (ndjson / csv, 생략하면 확장자로 판단)
+     * @return 202 Accepted + 등록된 작업 정보
+     */
+    @PostMapping("/news/import")
+    public ResponseEntity<ApiResponse<BulkImportResponse>> startNewsImport(
+            @RequestParam String file,
+            @RequestParam(required = false) String format
+    ) {
+        log.info("뉴스 가져오기 요청: file={}, format={}", file, format);
+
+        BulkImportJob job = newsBulkImportService.startImport(file, format);
+
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("뉴스 가져오기 작업이 시작되었습니다.", BulkImportResponse.from(job)));
+    }
+
+    /**
+     * 뉴스 일괄 가져오기 진행 상황 조회
+     *
+     * @param importId 가져오기 작업 UUID
+     * @return 200 OK + 진행 상황 (읽은 수, 저장 수, 중복 수, rows/sec)
+     */
+    @GetMapping("/news/import/{importId}")
+    public ResponseEntity<ApiResponse<BulkImportResponse>> getNewsImport(@PathVariable UUID importId) {
+        BulkImportJob job = newsBulkImportService.getImport(importId);
+        return ResponseEntity.ok(ApiResponse.success(BulkImportResponse.from(job)));
+    }
 }
@@ -1,14 +1,20 @@
 package com.lucr.controller;
 
 import com.lucr.common.ApiResponse;
+import com.lucr.common.CountMode;
+import com.lucr.common.TrendingWindow;
+import com.lucr.common.ViewerFingerprint;
 import com.lucr.dto.request.NewsCreateRequest;
 import com.lucr.dto.request.NewsSearchRequest;
 import com.lucr.dto.request.NewsUpdateRequest;
+import com.lucr.dto.response.NewsBatchCreateResponse;
 import com.lucr.dto.response.NewsDetailResponse;
 import com.lucr.dto.response.NewsResponse;
 import com.lucr.dto.response.PageResponse;
+import com.lucr.dto.response.TrendingNewsResponse;
 import com.lucr.service.NewsService;
 import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,10 +22,12 @@ import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -59,6 +67,27 @@ public class NewsController {
                 .body(ApiResponse.success("뉴스가 성공적으로 생성되었습니다.", data));
     }
 
+    /**
+     * 뉴스 일괄 생성 (크롤러가 여러 기사를 한 번에 전송)
+     *
+     * 이미 있는 URL은 건너뛰고, 기사별 결과(CREATED / DUPLICATE / INVALID)를 요청 순서대로 반환
+     *
+     * @param requests 뉴스 생성 요청 목록 (1 ~ 500건)
+     * @return 200 OK + 기사별 처리 결과
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<NewsBatchCreateResponse>> createNewsBatch(
+            @RequestBody List<NewsCreateRequest> requests
+    ) {
+        log.info("뉴스 일괄 생성 요청: size={}", requests.size());
+
+        NewsBatchCreateResponse data = newsService.createNewsBatch(requests);
+
+        log.info("뉴스 일괄 생성 완료: created={}, duplicates={}, invalid={}",
+                data.getCreated(), data.getDuplicates(), data.getInvalid());
+        return ResponseEntity.ok(ApiResponse.success(data));
+    }
+
     /**
      * 뉴스 단건 조회 (상세 정보)
      *
@@ -78,18 +107,29 @@ public class NewsController {
     /**
      * 뉴스 목록 조회 (페이징)
      *
+     * cursor 파라미터가 있으면 커서 페이징 (발행일 최신순, 발행일 없는 뉴스는 맨 뒤, page/sort 무시)
+     * - 첫 페이지: ?cursor= (빈 값)
+     * - 다음 페이지: ?cursor={이전 응답의 nextCursor}
+     *
+     * @param cursor 커서 (선택, 없으면 오프셋 페이징)
+     * @param count 전체 개수 계산 방식 (EXACT | ESTIMATED | NONE, 오프셋 페이징에만 적용)
      * @param pageable 페이징 정보 (page, size, sort)
      * @return 200 OK + 뉴스 목록 (페이징)
      */
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponse<NewsResponse>>> getAllNews(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
             @ParameterObject
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC)
             Pageable pageable
     ) {
-        log.info("뉴스 목록 조회 요청: page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
+        log.info("뉴스 목록 조회 요청: page={}, size={}, cursor={}",
+                pageable.getPageNumber(), pageable.getPageSize(), cursor);
 
-        PageResponse<NewsResponse> data = newsService.getAllNews(pageable);
+        PageResponse<NewsResponse> data = cursor != null
+                ? newsService.getAllNews(cursor, pageable.getPageSize())
+                : newsService.getAllNews(pageable, count);
 
         log.info("뉴스 목록 조회 완료: totalElements={}, totalPages={}",
                 data.getTotalElements(), data.getTotalPages());
@@ -137,36 +177,77 @@ public class NewsController {
     /**
      * 인기 뉴스 목록 조회 (조회수 높은 순)
      *
+     * cursor 파라미터가 있으면 커서 페이징 (첫 페이지: ?cursor=)
+     *
+     * @param cursor 커서 (선택, 없으면 오프셋 페이징)
+     * @param count 전체 개수 계산 방식 (EXACT | ESTIMATED | NONE, 오프셋 페이징에만 적용)
      * @param pageable 페이징 정보
      * @return 200 OK + 인기 뉴스 목록 (페이징)
      */
     @GetMapping("/popular")
     public ResponseEntity<ApiResponse<PageResponse<NewsResponse>>> getPopularNews(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
             @ParameterObject
             @PageableDefault(size = 20) Pageable pageable
     ) {
-        log.info("인기 뉴스 조회 요청: page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
+        log.info("인기 뉴스 조회 요청: page={}, size={}, cursor={}",
+                pageable.getPageNumber(), pageable.getPageSize(), cursor);
 
-        PageResponse<NewsResponse> data = newsService.getHighViewNews(pageable);
+        PageResponse<NewsResponse> data = cursor != null
+                ? newsService.getHighViewNews(cursor, pageable.getPageSize())
+                : newsService.getHighViewNews(pageable, count);
 
         log.info("인기 뉴스 조회 완료: totalElements={}", data.getTotalElements());
         return ResponseEntity.ok(ApiResponse.success(data));
     }
 
+    /**
+     * 급상승 뉴스 목록 조회 (구간 내 시간 감쇠 조회수 높은 순)
+     *
+     * 누적 조회수 기준인 /popular와 달리 최근 조회에 가중치를 둡니다.
+     * 메모리 집계 결과라 뉴스 ID와 점수만 반환합니다 (상세는 GET /{id}).
+     *
+     * @param window 집계 구간 (1h | 24h)
+     * @param size 최대 개수 (lucr.trending.top-k 이하)
+     * @return 200 OK + 급상승 뉴스 목록
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<TrendingNewsResponse>>> getTrendingNews(
+            @RequestParam(defaultValue = "1h") String window,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        log.info("급상승 뉴스 조회 요청: window={}, size={}", window, size);
+
+        List<TrendingNewsResponse> data = newsService.getTrendingNews(TrendingWindow.from(window), size);
+
+        log.info("급상승 뉴스 조회 완료: count={}", data.size());
+        return ResponseEntity.ok(ApiResponse.success(data));
+    }
+
     /**
      * 최신 뉴스 목록 조회 (생성일 최신순)
      *
+     * cursor 파라미터가 있으면 커서 페이징 (첫 페이지: ?cursor=)
+     *
+     * @param cursor 커서 (선택, 없으면 오프셋 페이징)
+     * @param count 전체 개수 계산 방식 (EXACT | ESTIMATED | NONE, 오프셋 페이징에만 적용)
      * @param pageable 페이징 정보
      * @return 200 OK + 최신 뉴스 목록 (페이징)
      */
     @GetMapping("/recent")
     public ResponseEntity<ApiResponse<PageResponse<NewsResponse>>> getRecentNews(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
             @ParameterObject
             @PageableDefault(size = 20) Pageable pageable
     ) {
-        log.info("최신 뉴스 조회 요청: page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
+        log.info("최신 뉴스 조회 요청: page={}, size={}, cursor={}",
+                pageable.getPageNumber(), pageable.getPageSize(), cursor);
 
-        PageResponse<NewsResponse> data = newsService.getRecentNews(pageable);
+        PageResponse<NewsResponse> data = cursor != null
+                ? newsService.getRecentNews(cursor, pageable.getPageSize())
+                : newsService.getRecentNews(pageable, count);
 
         log.info("최신 뉴스 조회 완료: totalElements={}", data.getTotalElements());
         return ResponseEntity.ok(ApiResponse.success(data));
@@ -177,6 +258,8 @@ public class NewsController {
     /**
      * 키워드 검색 (간단)
      *
+     * lucr.search.engine=memory 인 경우 BM25 관련도 순으로 정렬되며 sort 파라미터는 무시됨
+     *
      * @param keyword 검색 키워드
      * @param pageable 페이징 정보
      * @return 200 OK + 검색 결과 (페이징)
@@ -219,19 +302,21 @@ public class NewsController {
      * 출처별 뉴스 목록 조회
      *
      * @param source 뉴스 출처 (예: NAVER_FINANCE, DAUM_FINANCE)
+     * @param count 전체 개수 계산 방식 (EXACT | NONE, ESTIMATED는 NONE으로 처리)
      * @param pageable 페이징 정보
      * @return 200 OK + 해당 출처의 뉴스 목록 (페이징)
      */
     @GetMapping("/source/{source}")
     public ResponseEntity<ApiResponse<PageResponse<NewsResponse>>> getNewsBySource(
             @PathVariable String source,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
             @ParameterObject
             @PageableDefault(size = 20, sort = "publishedAt", direction = Sort.Direction.DESC)
             Pageable pageable
     ) {
         log.info("출처별 뉴스 조회 요청: source={}", source);
 
-        PageResponse<NewsResponse> data = newsService.getNewsBySource(source, pageable);
+        PageResponse<NewsResponse> data = newsService.getNewsBySource(source, pageable, count);
 
         log.info("출처별 뉴스 조회 완료: source={}, totalElements={}", source, data.getTotalElements());
         return ResponseEntity.ok(ApiResponse.success(data));
@@ -244,15 +329,25 @@ public class NewsController {
      *
      * 클라이언트가 뉴스 클릭 시 호출
      * - 조회수 증가 + 상세 정보 반환 (1번의 요청으로 처리)
+     * - 순 방문자 수는 X-Viewer-Id 헤더(없으면 IP + User-Agent)로 방문자를 구분해 집계
      *
      * @param id 뉴스 ID
+     * @param viewerId 익명 방문자 ID (선택)
+     * @param userAgent User-Agent (선택)
+     * @param request 클라이언트 IP 확인용
      * @return 200 OK + 조회수가 증가된 뉴스 상세 정보
      */
     @PostMapping("/{id}/view")
-    public ResponseEntity<ApiResponse<NewsDetailResponse>> incrementViewCount(@PathVariable UUID id) {
+    public ResponseEntity<ApiResponse<NewsDetailResponse>> incrementViewCount(
+            @PathVariable UUID id,
+            @RequestHeader(value = ViewerFingerprint.VIEWER_ID_HEADER, required = false) String viewerId,
+            @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent,
+            HttpServletRequest request
+    ) {
         log.info("조회수 증가 요청: id={}", id);
 
-        NewsDetailResponse data = newsService.incrementViewCount(id);
+        String viewerKey = ViewerFingerprint.of(viewerId, request.getRemoteAddr(), userAgent);
+        NewsDetailResponse data = newsService.incrementViewCount(id, viewerKey);
 
         log.info("조회수 증가 완료: id={}, newCount={}", data.getId(), data.getViewCount());
         return ResponseEntity.ok(ApiResponse.success(data));
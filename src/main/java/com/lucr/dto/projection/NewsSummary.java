@@ -0,0 +1,39 @@
+package com.lucr.dto.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 뉴스 목록용 조회 전용 Projection
+ *
+ * 목록 화면에는 본문 전체가 필요 없으므로 content 대신
+ * DB에서 잘라낸 앞부분(contentHead)만 조회합니다.
+ *   SELECT ..., SUBSTRING(content, 1, 101), ... FROM news
+ * - 기사 본문(TEXT, 수 KB ~ 수십 KB)을 전송/할당하지 않음
+ * - 영속성 컨텍스트에 엔티티를 올리지 않음 (스냅샷, dirty checking 비용 없음)
+ *
+ * contentHead는 요약 길이(100자)보다 1자 더 조회하여
+ * NewsMapper가 "..." 표시 여부를 판단할 수 있게 합니다.
+ *
+ * @param contentHead 본문 앞 101자 (본문이 더 짧으면 전체)
+ * @author kimdongjoo
+ * @since 2026-02-15
+ */
+public record NewsSummary(
+        UUID id,
+        String title,
+        String contentHead,
+        String source,
+        String url,
+        Integer viewCount,
+        Long uniqueViewers,
+        Boolean isHighView,
+        BigDecimal sentimentScore,
+        LocalDateTime publishedAt,
+        LocalDateTime createdAt
+) {
+
+    /** 조회할 본문 앞부분 길이 (요약 100자 + 잘림 판단용 1자) */
+    public static final int CONTENT_HEAD_LENGTH = 101;
+}
@@ -0,0 +1,90 @@
+package com.lucr.dto.response;
+
+import com.lucr.bulk.BulkImportJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 뉴스 일괄 가져오기 작업 응답 DTO
+ *
+ * 시작 응답과 진행 상황 조회(폴링)에서 공통으로 사용
+ *
+ * @author kimdongjoo
+ * @since 2026-02-21
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkImportResponse {
+
+    /** 가져오기 작업 ID */
+    private UUID id;
+
+    /** 가져오기 디렉터리 기준 파일 경로 */
+    private String fileName;
+
+    /** 파일 형식 (NDJSON / CSV) */
+    private String format;
+
+    /** 작업 상태 (QUEUED / RUNNING / COMPLETED / FAILED) */
+    private String status;
+
+    /** 파일에서 읽은 레코드 수 */
+    private Long read;
+
+    /** 저장된 뉴스 수 */
+    private Long inserted;
+
+    /** 중복으로 건너뛴 수 (파일 안의 중복 + 이미 저장된 URL) */
+    private Long duplicates;
+
+    /** 형식 오류 / 검증 실패로 건너뛴 수 */
+    private Long invalid;
+
+    /** 초당 처리 레코드 수 */
+    private Long rowsPerSecond;
+
+    /** 에러 메시지 (실패 시) */
+    private String errorMessage;
+
+    /** 작업 등록 시간 */
+    private LocalDateTime createdAt;
+
+    /** 작업 시작 시간 */
+    private LocalDateTime startedAt;
+
+    /** 작업 종료 시간 */
+    private LocalDateTime finishedAt;
+
+    // ========== 변환 메서드 ==========
+
+    /**
+     * BulkImportJob → BulkImportResponse DTO 변환
+     *
+     * @param job 가져오기 작업
+     * @return 변환된 응답 DTO
+     */
+    public static BulkImportResponse from(BulkImportJob job) {
+        return BulkImportResponse.builder()
+                .id(job.getId())
+                .fileName(job.getFileName())
+                .format(job.getFormat().name())
+                .status(job.getStatus().name())
+                .read(job.getReadCount())
+                .inserted(job.getInsertedCount())
+                .duplicates(job.getDuplicateCount())
+                .invalid(job.getInvalidCount())
+                .rowsPerSecond(Math.round(job.getRowsPerSecond()))
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -28,6 +29,16 @@ public class CrawlJobResponse {
     /** 작업 고유 ID */
     private UUID id;
 
+    /** 부모 작업 ID (자식 작업만) */
+    private UUID parentId;
+
+    /** 담당 언론사 (언론사별 자식 작업만) */
+    private String media;
+
+    /** 담당 파티션 번호 / 전체 파티션 수 (파티션별 자식 작업만) */
+    private Integer partitionIndex;
+    private Integer partitionCount;
+
     /** 작업 상태 (PENDING / RUNNING / COMPLETED / FAILED) */
     private String status;
 
@@ -49,6 +60,9 @@ public class CrawlJobResponse {
     /** 작업 완료 시간 */
     private LocalDateTime completedAt;
 
+    /** 자식 작업 목록 (부모 작업 조회 시, 샤딩하지 않았으면 null) */
+    private List<CrawlJobResponse> children;
+
     // ========== 변환 메서드 ==========
 
     /**
@@ -60,6 +74,10 @@ public class CrawlJobResponse {
     public static CrawlJobResponse from(CrawlJob entity) {
         return CrawlJobResponse.builder()
                 .id(entity.getId())
+                .parentId(entity.getParentId())
+                .media(entity.getMedia())
+                .partitionIndex(entity.getPartitionIndex())
+                .partitionCount(entity.getPartitionCount())
                 .status(entity.getStatus().name())
                 .totalArticles(entity.getTotalArticles())
                 .mediaResults(entity.getMediaResults())
@@ -69,4 +87,19 @@ public class CrawlJobResponse {
                 .completedAt(entity.getCompletedAt())
                 .build();
     }
+
+    /**
+     * 부모 작업 + 자식 작업 목록 → CrawlJobResponse DTO 변환
+     *
+     * @param entity   CrawlJob 엔티티 (부모)
+     * @param children 자식 작업 목록 (비어 있으면 children = null)
+     * @return 변환된 응답 DTO
+     */
+    public static CrawlJobResponse from(CrawlJob entity, List<CrawlJob> children) {
+        CrawlJobResponse response = from(entity);
+        if (!children.isEmpty()) {
+            response.children = children.stream().map(CrawlJobResponse::from).toList();
+        }
+        return response;
+    }
 }
@@ -0,0 +1,71 @@
+package com.lucr.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 뉴스 일괄 생성 응답 DTO (POST /api/v1/news/batch)
+ *
+ * 요청 순서대로 기사별 결과를 담습니다.
+ *
+ * JSON 예시:
+ * {
+ *   "requested": 3, "created": 1, "duplicates": 1, "invalid": 1,
+ *   "items": [
+ *     { "index": 0, "url": "https://...", "status": "CREATED", "id": "550e8400-...", "reason": null },
+ *     { "index": 1, "url": "https://...", "status": "DUPLICATE", "id": null, "reason": null },
+ *     { "index": 2, "url": null, "status": "INVALID", "id": null, "reason": "뉴스 URL은 필수입니다." }
+ *   ]
+ * }
+ *
+ * @author kimdongjoo
+ * @since 2026-02-17
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NewsBatchCreateResponse {
+
+    /**
+     * 요청한 기사 수
+     */
+    private Integer requested;
+
+    /**
+     * 새로 저장된 기사 수
+     */
+    private Integer created;
+
+    /**
+     * 중복으로 건너뛴 기사 수 (이미 저장됨 또는 요청 안에서 중복)
+     */
+    private Integer duplicates;
+
+    /**
+     * 검증 실패로 건너뛴 기사 수
+     */
+    private Integer invalid;
+
+    /**
+     * 기사별 결과 (요청 순서)
+     */
+    private List<Item> items;
+
+    /**
+     * 기사별 결과
+     *
+     * @param index  요청 목록에서의 위치 (0부터)
+     * @param url    기사 URL
+     * @param status CREATED | DUPLICATE | INVALID
+     * @param id     저장된 뉴스 ID (CREATED일 때만)
+     * @param reason 건너뛴 이유 (INVALID일 때만)
+     */
+    public record Item(int index, String url, String status, UUID id, String reason) {
+    }
+}
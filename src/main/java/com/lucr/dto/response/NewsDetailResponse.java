@@ -23,7 +23,7 @@ import java.util.UUID;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class NewsDetailResponse {
     
     /**
@@ -58,6 +58,11 @@ public class NewsDetailResponse {
      */
     private Integer viewCount;
     
+    /**
+     * 순 방문자 수 (HyperLogLog 추정값, 반복 조회 제외)
+     */
+    private Long uniqueViewers;
+    
     /**
      * 인기 뉴스 여부
      */
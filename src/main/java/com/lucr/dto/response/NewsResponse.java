@@ -58,10 +58,15 @@ public class NewsResponse {
      */
     private Integer viewCount;
     
+    /**
+     * 순 방문자 수 (HyperLogLog 추정값, 반복 조회 제외)
+     */
+    private Long uniqueViewers;
+    
     /**
      * 인기 뉴스 여부
      * 
-     * true: 조회수 1000 이상
+     * true: 조회수 1000 이상 (high-view-basis=unique-viewers면 순 방문자 수 1000 이상)
      */
     private Boolean isHighView;
     
@@ -4,7 +4,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import com.lucr.common.CountMode;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -45,14 +47,23 @@ public class PageResponse<T> {
     
     /**
      * 전체 항목 수
+     * 
+     * countMode가 NONE이면 null, ESTIMATED이면 근사값
      */
     private Long totalElements;
     
     /**
      * 전체 페이지 수
+     * 
+     * countMode가 NONE이면 null, ESTIMATED이면 근사값
      */
     private Integer totalPages;
     
+    /**
+     * 전체 개수 계산 방식 (EXACT: 정확, ESTIMATED: 추정, NONE: 미계산)
+     */
+    private CountMode countMode;
+    
     /**
      * 첫 페이지 여부
      */
@@ -73,6 +84,14 @@ public class PageResponse<T> {
      */
     private Boolean hasPrevious;
     
+    /**
+     * 다음 페이지 커서 (커서 페이징 모드에서만 사용)
+     * 
+     * 다음 요청의 cursor 파라미터로 그대로 전달
+     * null이면 마지막 페이지 (오프셋 페이징 모드에서는 항상 null)
+     */
+    private String nextCursor;
+    
     /**
      * Spring Data JPA의 Page 객체로부터 PageResponse 생성
      * 
@@ -94,6 +113,85 @@ public class PageResponse<T> {
                 .isLast(page.isLast())
                 .hasNext(page.hasNext())
                 .hasPrevious(page.hasPrevious())
+                .countMode(CountMode.EXACT)
+                .build();
+    }
+    
+    /**
+     * Slice 객체로부터 PageResponse 생성 (전체 개수 없음)
+     * 
+     * COUNT 쿼리 없이 size + 1건 조회 결과로 다음 페이지 여부만 판단한 경우 사용
+     * 
+     * @param slice Spring Data Slice 객체
+     * @param content 변환된 DTO 리스트
+     * @param <T> DTO 타입
+     * @return PageResponse 객체 (totalElements, totalPages = null)
+     */
+    public static <T> PageResponse<T> ofSlice(Slice<?> slice, List<T> content) {
+        return PageResponse.<T>builder()
+                .content(content)
+                .currentPage(slice.getNumber())
+                .pageSize(slice.getSize())
+                .isFirst(slice.isFirst())
+                .isLast(slice.isLast())
+                .hasNext(slice.hasNext())
+                .hasPrevious(slice.hasPrevious())
+                .countMode(CountMode.NONE)
+                .build();
+    }
+    
+    /**
+     * Slice 객체 + 추정 전체 개수로 PageResponse 생성
+     * 
+     * 다음 페이지 여부는 실제 조회 결과(Slice)를 따르고, 전체 개수만 추정값을 사용
+     * 
+     * @param slice Spring Data Slice 객체
+     * @param content 변환된 DTO 리스트
+     * @param estimatedTotal 추정 전체 개수
+     * @param <T> DTO 타입
+     * @return PageResponse 객체 (countMode = ESTIMATED)
+     */
+    public static <T> PageResponse<T> ofEstimated(Slice<?> slice, List<T> content, long estimatedTotal) {
+        int size = slice.getSize();
+        // 통계가 오래되어 실제로 본 개수보다 작게 추정된 경우 보정
+        long seen = (long) slice.getNumber() * size + content.size() + (slice.hasNext() ? 1 : 0);
+        long total = Math.max(estimatedTotal, seen);
+        return PageResponse.<T>builder()
+                .content(content)
+                .currentPage(slice.getNumber())
+                .pageSize(size)
+                .totalElements(total)
+                .totalPages(size == 0 ? 1 : (int) Math.ceil((double) total / size))
+                .isFirst(slice.isFirst())
+                .isLast(slice.isLast())
+                .hasNext(slice.hasNext())
+                .hasPrevious(slice.hasPrevious())
+                .countMode(CountMode.ESTIMATED)
+                .build();
+    }
+    
+    /**
+     * 커서(keyset) 페이징 결과로부터 PageResponse 생성
+     * 
+     * 커서 모드는 전체 개수를 세지 않으므로 totalElements, totalPages, currentPage는 null
+     * 
+     * @param content 변환된 DTO 리스트
+     * @param pageSize 요청한 페이지 크기
+     * @param first 첫 페이지 여부 (요청에 커서가 없었는지)
+     * @param nextCursor 다음 페이지 커서 (없으면 null)
+     * @param <T> DTO 타입
+     * @return PageResponse 객체
+     */
+    public static <T> PageResponse<T> ofCursor(List<T> content, int pageSize, boolean first, String nextCursor) {
+        return PageResponse.<T>builder()
+                .content(content)
+                .pageSize(pageSize)
+                .isFirst(first)
+                .isLast(nextCursor == null)
+                .hasNext(nextCursor != null)
+                .hasPrevious(!first)
+                .countMode(CountMode.NONE)
+                .nextCursor(nextCursor)
                 .build();
     }
     
@@ -116,6 +214,7 @@ public class PageResponse<T> {
                 .isLast(true)
                 .hasNext(false)
                 .hasPrevious(false)
+                .countMode(CountMode.EXACT)
                 .build();
     }
     
@@ -156,7 +255,8 @@ public class PageResponse<T> {
      *   "isFirst": true,
      *   "isLast": false,
      *   "hasNext": true,
-     *   "hasPrevious": false
+     *   "hasPrevious": false,
+     *   "countMode": "EXACT"
      * }
      */
     
@@ -0,0 +1,41 @@
+package com.lucr.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 급상승 뉴스 응답 DTO (GET /api/v1/news/trending)
+ *
+ * 메모리 집계 결과만 담습니다 (DB 조회 없음).
+ * 제목 등 상세 정보는 GET /api/v1/news/{id}로 조회합니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-26
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrendingNewsResponse {
+
+    /** 순위 (1부터) */
+    private int rank;
+
+    /** 뉴스 ID */
+    private UUID newsId;
+
+    /**
+     * 감쇠 조회수 (근사값)
+     *
+     * 각 조회를 exp(-경과 시간 / 구간 길이)로 가중한 합 - 최근 조회일수록 크게 반영
+     * Count-Min Sketch 추정값이므로 실제보다 약간 클 수 있음
+     */
+    private double score;
+
+    /** 집계 구간 (1h / 24h) */
+    private String window;
+}
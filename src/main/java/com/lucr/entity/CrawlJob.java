@@ -14,13 +14,20 @@ import java.util.UUID;
  * Spring이 Python Crawler에 크롤링을 요청할 때마다 하나의 CrawlJob이 생성되며,
  * 작업의 생명주기(PENDING → RUNNING → COMPLETED/FAILED)를 추적합니다.
  *
+ * 샤딩 (lucr.crawl.shard.*):
+ *   트리거 하나가 부모 작업 1개 + 언론사별 / 파티션별 자식 작업 N개로 나뉩니다.
+ *   - 자식 작업: parentId, media 또는 partitionIndex/partitionCount를 가지며 워커 하나가 처리
+ *   - 부모 작업: 메시지를 발행하지 않고 자식 결과를 집계 (totalArticles, mediaResults)
+ *   샤딩 설정이 없으면 부모 작업 하나만 발행합니다 (기존 방식).
+ *
  * @author Ekko0701
  * @since 2026-02-06
  */
 @Entity
 @Table(name = "crawl_jobs", indexes = {
         @Index(name = "idx_crawl_job_status", columnList = "status"),
-        @Index(name = "idx_crawl_job_created_at", columnList = "created_at DESC")
+        @Index(name = "idx_crawl_job_created_at", columnList = "created_at DESC"),
+        @Index(name = "idx_crawl_job_parent_id", columnList = "parent_id")
 })
 @Getter
 @Setter
@@ -38,6 +45,27 @@ public class CrawlJob {
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
+    /**
+     * 부모 작업 ID (샤딩된 자식 작업만, 부모 / 단일 작업은 null)
+     */
+    @Column(name = "parent_id", updatable = false)
+    private UUID parentId;
+
+    /**
+     * 담당 언론사 (언론사별 자식 작업만)
+     */
+    @Column(name = "media", length = 100, updatable = false)
+    private String media;
+
+    /**
+     * 담당 파티션 번호 / 전체 파티션 수 (파티션별 자식 작업만, 0부터)
+     */
+    @Column(name = "partition_index", updatable = false)
+    private Integer partitionIndex;
+
+    @Column(name = "partition_count", updatable = false)
+    private Integer partitionCount;
+
     /**
      * 작업 상태
      * PENDING → RUNNING → COMPLETED / FAILED
@@ -97,6 +125,68 @@ public class CrawlJob {
         FAILED      // 크롤링 실패
     }
 
+    /**
+     * 자식 작업 생성 (언론사 단위)
+     */
+    public static CrawlJob mediaShard(UUID parentId, String media) {
+        return CrawlJob.builder().parentId(parentId).media(media).build();
+    }
+
+    /**
+     * 자식 작업 생성 (파티션 단위)
+     */
+    public static CrawlJob partitionShard(UUID parentId, int partitionIndex, int partitionCount) {
+        return CrawlJob.builder()
+                .parentId(parentId)
+                .partitionIndex(partitionIndex)
+                .partitionCount(partitionCount)
+                .build();
+    }
+
+    /**
+     * 샤딩된 자식 작업인지
+     */
+    public boolean isShard() {
+        return parentId != null;
+    }
+
+    /**
+     * 부모의 mediaResults에서 사용하는 키 (언론사 이름 또는 "partition-{번호}")
+     */
+    public String shardKey() {
+        if (media != null) {
+            return media;
+        }
+        return partitionIndex != null ? "partition-" + partitionIndex : id.toString();
+    }
+
+    /**
+     * 종료 상태(COMPLETED / FAILED)인지
+     */
+    public boolean isFinished() {
+        return status == CrawlJobStatus.COMPLETED || status == CrawlJobStatus.FAILED;
+    }
+
+    /**
+     * 같은 값을 가진 새 인스턴스 (영속성 컨텍스트와 분리된 스냅샷, CrawlJobRegistry에서 사용)
+     */
+    public CrawlJob copy() {
+        return CrawlJob.builder()
+                .id(id)
+                .parentId(parentId)
+                .media(media)
+                .partitionIndex(partitionIndex)
+                .partitionCount(partitionCount)
+                .status(status)
+                .totalArticles(totalArticles)
+                .mediaResults(mediaResults)
+                .errorMessage(errorMessage)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .completedAt(completedAt)
+                .build();
+    }
+
     /**
      * 작업을 실행 중 상태로 변경
      */
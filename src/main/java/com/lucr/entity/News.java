@@ -1,7 +1,9 @@
 package com.lucr.entity;
 
+import com.lucr.common.UrlCanonicalizer;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -32,8 +34,9 @@ import java.util.UUID;
 @Table(name = "news", indexes = {
     @Index(name = "idx_news_view_count", columnList = "view_count DESC"),
     @Index(name = "idx_news_published_at", columnList = "published_at DESC"),
+    @Index(name = "idx_news_created_at", columnList = "created_at DESC"),
     @Index(name = "idx_news_sentiment", columnList = "sentiment_score"),
-    @Index(name = "idx_news_source", columnList = "source")
+    @Index(name = "idx_news_source_published_at", columnList = "source, published_at DESC")
 })
 @Getter
 @Setter
@@ -41,6 +44,9 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 public class News {
+
+    /** 고조회수 기준 (이 값 이상이면 isHighView = true) */
+    public static final int HIGH_VIEW_THRESHOLD = 1000;
     
     /**
      * 뉴스 고유 ID (UUID)
@@ -80,14 +86,24 @@ public class News {
     private String source;
     
     /**
-     * 뉴스 URL (중복 방지를 위해 unique 설정)
+     * 뉴스 URL (크롤링한 원본 그대로 저장)
      * 
-     * - unique = true: 중복 URL 방지
-     * - 같은 뉴스가 여러 번 크롤링되는 것 방지
+     * - 중복 방지는 urlHash의 유니크 인덱스로 처리 (긴 TEXT를 인덱싱하지 않음)
+     * - 수정 불가 (urlHash와 항상 일치해야 함)
      */
-    @Column(name = "url", nullable = false, unique = true, columnDefinition = "TEXT")
+    @Column(name = "url", nullable = false, updatable = false, columnDefinition = "TEXT")
     private String url;
     
+    /**
+     * 정규화된 URL의 64비트 해시 (UrlCanonicalizer.hash)
+     * 
+     * - unique = true: 같은 기사의 URL 변형(추적 파라미터, www, http/https 등) 중복 방지
+     * - INSERT 전 onCreate()에서 자동 계산
+     * - 기존 행은 UrlHashBackfill이 기동 시 채움 (그래서 DB 제약은 NULL 허용)
+     */
+    @Column(name = "url_hash", unique = true, updatable = false)
+    private Long urlHash;
+    
     /**
      * 조회수
      * 
@@ -97,6 +113,18 @@ public class News {
     @Builder.Default
     private Integer viewCount = 0;
     
+    /**
+     * 순 방문자 수 (HyperLogLog 추정값, 오차 약 1.6%)
+     * 
+     * - 같은 방문자의 반복 조회는 세지 않음
+     * - UniqueViewerFlusher가 news_viewer_sketch의 스케치를 병합할 때 갱신
+     * - @ColumnDefault: 네이티브 INSERT / 기존 행도 0으로 시작
+     */
+    @Column(name = "unique_viewers", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long uniqueViewers = 0L;
+    
     /**
      * 뉴스 발행 시간
      */
@@ -129,6 +157,7 @@ public class News {
      * 고조회수 뉴스 여부 (1000+ 조회수)
      * 
      * - 비즈니스 로직: 조회수가 1000 이상이면 true
+     * - lucr.view-count.high-view-basis=unique-viewers면 순 방문자 수 1000 이상
      */
     @Column(name = "is_high_view")
     @Builder.Default
@@ -155,10 +184,13 @@ public class News {
 
     /**
      * JPA Lifecycle 콜백 - INSERT 전 실행
-     * createdAt과 updatedAt을 현재 시간으로 설정
+     * urlHash를 계산하고, createdAt과 updatedAt을 현재 시간으로 설정
      */
     @PrePersist
     protected void onCreate() {
+        if (this.urlHash == null && this.url != null) {
+            this.urlHash = UrlCanonicalizer.hash(this.url);
+        }
         if (this.createdAt == null) {
             this.createdAt = LocalDateTime.now();
         }
@@ -167,6 +199,21 @@ public class News {
         }
     }
 
+    /**
+     * 네이티브 INSERT 전 기본값 설정 (NewsInsertRepository)
+     * 
+     * JPA를 거치지 않아 @GeneratedValue / @PrePersist / @CreationTimestamp가 동작하지 않으므로 직접 채움
+     */
+    public void prepareForInsert() {
+        if (this.id == null) {
+            this.id = UUID.randomUUID();
+        }
+        onCreate();
+        if (this.crawledAt == null) {
+            this.crawledAt = this.createdAt;
+        }
+    }
+
     /**
      * JPA Lifecycle 콜백 - UPDATE 전 실행
      * updatedAt을 현재 시간으로 갱신
@@ -194,7 +241,7 @@ public class News {
      * private 메서드로 내부에서만 사용
      */
     private void updateHighViewStatus() {
-        this.isHighView = this.viewCount >= 1000;
+        this.isHighView = this.viewCount >= HIGH_VIEW_THRESHOLD;
     }
     
     /**
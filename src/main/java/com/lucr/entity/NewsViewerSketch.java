@@ -0,0 +1,54 @@
+package com.lucr.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * NewsViewerSketch Entity - 기사별 순 방문자 HyperLogLog 스케치
+ *
+ * UniqueViewerFlusher가 JDBC로 직접 읽고 병합하므로 애플리케이션에서 엔티티로 조회하지는 않으며,
+ * 테이블 구조를 JPA(ddl-auto)로 관리하기 위해 매핑합니다.
+ * 기사가 삭제되면 스케치도 함께 삭제됩니다 (ON DELETE CASCADE).
+ *
+ * @author kimdongjoo
+ * @since 2026-02-27
+ */
+@Entity
+@Table(name = "news_viewer_sketch")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NewsViewerSketch {
+
+    /**
+     * 뉴스 ID (news.id와 같은 값, 기본 키 겸 외래 키)
+     */
+    @Id
+    @Column(name = "news_id", updatable = false, nullable = false)
+    private UUID newsId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "news_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private News news;
+
+    /**
+     * 직렬화한 스케치 (HyperLogLog.toBytes, 아직 병합 전이면 빈 값)
+     */
+    @Column(name = "sketch", nullable = false)
+    private byte[] sketch;
+
+    /**
+     * 마지막 병합 시간
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
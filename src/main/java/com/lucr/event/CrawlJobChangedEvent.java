@@ -0,0 +1,18 @@
+package com.lucr.event;
+
+import com.lucr.entity.CrawlJob;
+
+/**
+ * 크롤링 작업 변경 이벤트 (생성 / 상태 전이)
+ *
+ * CrawlJobService가 트랜잭션 안에서 발행하고,
+ * CrawlJobRegistry가 @TransactionalEventListener(AFTER_COMMIT)로 커밋이 확정된 상태만 반영합니다.
+ * 리스너는 커밋 시점의 값을 복사해 보관하므로 발행 이후의 같은 트랜잭션 내 변경도 포함됩니다.
+ *
+ * @param job 변경 후 엔티티
+ *
+ * @author kimdongjoo
+ * @since 2026-02-25
+ */
+public record CrawlJobChangedEvent(CrawlJob job) {
+}
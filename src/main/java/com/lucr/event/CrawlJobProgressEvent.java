@@ -0,0 +1,62 @@
+package com.lucr.event;
+
+import com.lucr.entity.CrawlJob;
+import com.lucr.entity.CrawlJob.CrawlJobStatus;
+
+import java.util.UUID;
+
+/**
+ * 크롤링 작업 진행 이벤트 (상태 전이 / 기사 수 증가)
+ *
+ * CrawlJobService가 트랜잭션 안에서 발행하고,
+ * CrawlJobProgressBroadcaster가 커밋 후 SSE 구독자에게 전달합니다.
+ * - STATUS   : 상태가 바뀐 시점의 작업 스냅샷 (totalArticles는 DB에 기록된 값)
+ * - ARTICLES : 결과 배치 하나에서 새로 저장된 기사 수 (ingested, 증가분만 전달)
+ *
+ * ARTICLES는 UPDATE 한 번으로 반영하는 경로에서 발행하므로 엔티티를 읽지 않고,
+ * parentId / totalArticles를 채우지 않습니다 (구독자 쪽에서 증가분을 누적).
+ *
+ * @param type          이벤트 종류
+ * @param jobId         작업 ID
+ * @param parentId      부모 작업 ID (STATUS 이벤트의 자식 작업만)
+ * @param status        변경 후 상태 (ARTICLES는 RUNNING)
+ * @param totalArticles 누적 기사 수 (STATUS만)
+ * @param ingested      이번 배치에서 저장된 기사 수 (ARTICLES만)
+ * @param errorMessage  실패 사유 (FAILED만)
+ *
+ * @author kimdongjoo
+ * @since 2026-02-24
+ */
+public record CrawlJobProgressEvent(
+        Type type,
+        UUID jobId,
+        UUID parentId,
+        CrawlJobStatus status,
+        Integer totalArticles,
+        Integer ingested,
+        String errorMessage
+) {
+
+    public enum Type {
+        STATUS,
+        ARTICLES
+    }
+
+    public static CrawlJobProgressEvent status(CrawlJob job) {
+        return new CrawlJobProgressEvent(Type.STATUS, job.getId(), job.getParentId(), job.getStatus(),
+                job.getTotalArticles(), null, job.getErrorMessage());
+    }
+
+    public static CrawlJobProgressEvent articles(UUID jobId, int ingested) {
+        return new CrawlJobProgressEvent(Type.ARTICLES, jobId, null, CrawlJobStatus.RUNNING,
+                null, ingested, null);
+    }
+
+    /**
+     * 더 이상 이벤트가 없는 상태인지 (COMPLETED / FAILED)
+     */
+    public boolean isFinished() {
+        return type == Type.STATUS
+                && (status == CrawlJobStatus.COMPLETED || status == CrawlJobStatus.FAILED);
+    }
+}
@@ -0,0 +1,19 @@
+package com.lucr.event;
+
+import java.util.UUID;
+
+/**
+ * 뉴스 일괄 가져오기 완료 이벤트
+ *
+ * COPY 적재는 행 단위 NewsChangedEvent를 발행하지 않으므로,
+ * 메모리 구조(검색 색인, URL 필터)는 이 이벤트를 받아 전체를 다시 구축합니다.
+ * 작업이 실패해도 앞 청크까지는 커밋되어 있으므로 저장된 행이 있으면 발행합니다.
+ *
+ * @param importId 가져오기 작업 ID
+ * @param inserted 저장된 뉴스 수
+ *
+ * @author kimdongjoo
+ * @since 2026-02-21
+ */
+public record NewsBulkImportedEvent(UUID importId, long inserted) {
+}
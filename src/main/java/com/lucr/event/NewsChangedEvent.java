@@ -0,0 +1,40 @@
+package com.lucr.event;
+
+import com.lucr.entity.News;
+
+import java.util.UUID;
+
+/**
+ * 뉴스 변경 이벤트 (생성 / 수정 / 삭제)
+ *
+ * NewsService가 트랜잭션 안에서 발행하고,
+ * 리스너는 @TransactionalEventListener(AFTER_COMMIT)로 커밋이 확정된 변경만 반영합니다.
+ * - 롤백된 변경이 검색 색인 등 메모리 구조에 남는 것을 방지
+ *
+ * @param type   변경 종류
+ * @param newsId 뉴스 ID
+ * @param news   변경 후 엔티티 (삭제 시 null)
+ *
+ * @author kimdongjoo
+ * @since 2026-02-10
+ */
+public record NewsChangedEvent(ChangeType type, UUID newsId, News news) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static NewsChangedEvent created(News news) {
+        return new NewsChangedEvent(ChangeType.CREATED, news.getId(), news);
+    }
+
+    public static NewsChangedEvent updated(News news) {
+        return new NewsChangedEvent(ChangeType.UPDATED, news.getId(), news);
+    }
+
+    public static NewsChangedEvent deleted(UUID newsId) {
+        return new NewsChangedEvent(ChangeType.DELETED, newsId, null);
+    }
+}
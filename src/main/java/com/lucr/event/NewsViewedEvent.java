@@ -0,0 +1,23 @@
+package com.lucr.event;
+
+import java.util.UUID;
+
+/**
+ * 뉴스 조회 이벤트 (POST /api/v1/news/{id}/view)
+ *
+ * NewsService가 조회수 증가 트랜잭션 안에서 발행하고,
+ * 리스너는 @TransactionalEventListener로 커밋된 조회만 집계합니다 (급상승 뉴스, 순 방문자 수 등).
+ *
+ * @param newsId    뉴스 ID
+ * @param views     조회 수 (요청 하나면 1)
+ * @param viewerKey 방문자 식별 키 (ViewerFingerprint, 모르면 null → 순 방문자 수에 반영하지 않음)
+ *
+ * @author kimdongjoo
+ * @since 2026-02-26
+ */
+public record NewsViewedEvent(UUID newsId, long views, String viewerKey) {
+
+    public static NewsViewedEvent of(UUID newsId, String viewerKey) {
+        return new NewsViewedEvent(newsId, 1, viewerKey);
+    }
+}
@@ -23,6 +23,7 @@ public enum ErrorCode {
     RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "E404001", "요청한 리소스를 찾을 수 없습니다."),
     NEWS_NOT_FOUND(HttpStatus.NOT_FOUND, "E404002", "뉴스를 찾을 수 없습니다."),
     CRAWL_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "E404003", "크롤링 작업을 찾을 수 없습니다."),
+    BULK_IMPORT_NOT_FOUND(HttpStatus.NOT_FOUND, "E404004", "뉴스 가져오기 작업을 찾을 수 없습니다."),
     
     // 409 Conflict
     DUPLICATE_RESOURCE(HttpStatus.CONFLICT, "E409001", "이미 존재하는 리소스입니다."),
@@ -30,7 +31,10 @@ public enum ErrorCode {
     
     // 500 Internal Server Error
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "E500001", "서버 내부 오류가 발생했습니다."),
-    DATABASE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "E500002", "데이터베이스 오류가 발생했습니다.");
+    DATABASE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "E500002", "데이터베이스 오류가 발생했습니다."),
+
+    // 503 Service Unavailable
+    TOO_MANY_SUBSCRIBERS(HttpStatus.SERVICE_UNAVAILABLE, "E503001", "구독 연결 수가 한도를 초과했습니다.");
 
     private final HttpStatus status;
     private final String code;
@@ -35,4 +35,14 @@ public class ResourceNotFoundException extends BusinessException {
                 "크롤링 작업을 찾을 수 없습니다: " + id
         );
     }
+
+    /**
+     * 뉴스 가져오기 작업을 찾을 수 없는 경우
+     */
+    public static ResourceNotFoundException bulkImportNotFound(String id) {
+        return new ResourceNotFoundException(
+                ErrorCode.BULK_IMPORT_NOT_FOUND,
+                "뉴스 가져오기 작업을 찾을 수 없습니다: " + id
+        );
+    }
 }
@@ -1,5 +1,6 @@
 package com.lucr.mapper;
 
+import com.lucr.dto.projection.NewsSummary;
 import com.lucr.dto.request.NewsCreateRequest;
 import com.lucr.dto.request.NewsUpdateRequest;
 import com.lucr.dto.response.NewsDetailResponse;
@@ -102,6 +103,7 @@ public class NewsMapper {
                 .source(entity.getSource())
                 .url(entity.getUrl())
                 .viewCount(entity.getViewCount())
+                .uniqueViewers(entity.getUniqueViewers())
                 .isHighView(entity.getIsHighView())
                 .sentimentScore(entity.getSentimentScore())
                 .publishedAt(entity.getPublishedAt())
@@ -109,6 +111,59 @@ public class NewsMapper {
                 .build();
     }
     
+    /**
+     * NewsSummary Projection → NewsResponse 변환
+     * 
+     * 목록 조회 시 사용 (본문 전체를 조회하지 않는 경로)
+     * - contentHead(본문 앞 101자)로 엔티티 변환과 같은 요약 생성
+     * 
+     * @param summary 목록용 Projection
+     * @return NewsResponse DTO
+     */
+    public NewsResponse toResponse(NewsSummary summary) {
+        return NewsResponse.builder()
+                .id(summary.id())
+                .title(summary.title())
+                .contentSummary(createContentSummary(summary.contentHead()))
+                .source(summary.source())
+                .url(summary.url())
+                .viewCount(summary.viewCount())
+                .uniqueViewers(summary.uniqueViewers())
+                .isHighView(summary.isHighView())
+                .sentimentScore(summary.sentimentScore())
+                .publishedAt(summary.publishedAt())
+                .createdAt(summary.createdAt())
+                .build();
+    }
+    
+    /**
+     * News Entity → NewsSummary Projection 변환
+     * 
+     * 메모리 순위표(PopularNewsLeaderboard)처럼 엔티티를 받아 목록용 값만 보관할 때 사용
+     * - 본문은 DB 조회와 같은 길이(CONTENT_HEAD_LENGTH)로 자름
+     * 
+     * @param entity News Entity
+     * @return NewsSummary Projection
+     */
+    public NewsSummary toSummary(News entity) {
+        String content = entity.getContent();
+        String contentHead = content != null && content.length() > NewsSummary.CONTENT_HEAD_LENGTH
+                ? content.substring(0, NewsSummary.CONTENT_HEAD_LENGTH)
+                : content;
+        return new NewsSummary(
+                entity.getId(),
+                entity.getTitle(),
+                contentHead,
+                entity.getSource(),
+                entity.getUrl(),
+                entity.getViewCount(),
+                entity.getUniqueViewers(),
+                entity.getIsHighView(),
+                entity.getSentimentScore(),
+                entity.getPublishedAt(),
+                entity.getCreatedAt());
+    }
+    
     /**
      * News Entity → NewsDetailResponse 변환
      * 
@@ -121,6 +176,62 @@ public class NewsMapper {
      * @return NewsDetailResponse DTO
      */
     public NewsDetailResponse toDetailResponse(News entity) {
+        return detailBuilder(entity).build();
+    }
+    
+    /**
+     * News Entity + 미반영 조회수 → NewsDetailResponse 변환
+     * 
+     * 조회수 버퍼(write-behind) 사용 시 DB 값에 아직 반영되지 않은 증가분을 더해 응답
+     * 
+     * @param entity News Entity (DB에 반영된 조회수)
+     * @param pendingViews 아직 DB에 반영되지 않은 조회수 증가분
+     * @return NewsDetailResponse DTO
+     */
+    public NewsDetailResponse toDetailResponse(News entity, long pendingViews) {
+        return toDetailResponse(entity, pendingViews, true);
+    }
+    
+    /**
+     * News Entity + 미반영 조회수 → NewsDetailResponse 변환 (isHighView 재계산 여부 지정)
+     * 
+     * @param entity News Entity (DB에 반영된 조회수)
+     * @param pendingViews 아직 DB에 반영되지 않은 조회수 증가분
+     * @param highViewByViewCount true면 증가분을 더한 조회수로 isHighView 계산,
+     *                            false면 DB 값 유지 (순 방문자 수 기준일 때)
+     * @return NewsDetailResponse DTO
+     */
+    public NewsDetailResponse toDetailResponse(News entity, long pendingViews, boolean highViewByViewCount) {
+        int viewCount = (int) Math.min(Integer.MAX_VALUE, entity.getViewCount() + pendingViews);
+        NewsDetailResponse.NewsDetailResponseBuilder builder = detailBuilder(entity).viewCount(viewCount);
+        if (highViewByViewCount) {
+            builder.isHighView(viewCount >= News.HIGH_VIEW_THRESHOLD);
+        }
+        return builder.build();
+    }
+    
+    /**
+     * 캐시된 상세 응답 + 미반영 조회수 → NewsDetailResponse (원본은 변경하지 않음)
+     * 
+     * @param cached 상세 캐시의 응답 (DB에 반영된 조회수)
+     * @param pendingViews 아직 DB에 반영되지 않은 조회수 증가분
+     * @param highViewByViewCount true면 증가분을 더한 조회수로 isHighView 계산,
+     *                            false면 캐시 값 유지 (순 방문자 수 기준일 때)
+     * @return NewsDetailResponse DTO
+     */
+    public NewsDetailResponse withPendingViews(NewsDetailResponse cached, long pendingViews, boolean highViewByViewCount) {
+        long base = cached.getViewCount() != null ? cached.getViewCount() : 0;
+        int viewCount = (int) Math.min(Integer.MAX_VALUE, base + pendingViews);
+        NewsDetailResponse.NewsDetailResponseBuilder builder = cached.toBuilder().viewCount(viewCount);
+        if (highViewByViewCount) {
+            builder.isHighView(viewCount >= News.HIGH_VIEW_THRESHOLD);
+        }
+        return builder.build();
+    }
+    
+    // ========== Helper 메서드 ==========
+    
+    private NewsDetailResponse.NewsDetailResponseBuilder detailBuilder(News entity) {
         // contentLength, sentimentLabel, estimatedReadingTime은 DTO에서 자동 계산
         return NewsDetailResponse.builder()
                 .id(entity.getId())
@@ -129,17 +240,15 @@ public class NewsMapper {
                 .source(entity.getSource())
                 .url(entity.getUrl())
                 .viewCount(entity.getViewCount())
+                .uniqueViewers(entity.getUniqueViewers())
                 .isHighView(entity.getIsHighView())
                 .sentimentScore(entity.getSentimentScore())
                 .publishedAt(entity.getPublishedAt())
                 .crawledAt(entity.getCrawledAt())
                 .createdAt(entity.getCreatedAt())
-                .updatedAt(entity.getUpdatedAt())
-                .build();
+                .updatedAt(entity.getUpdatedAt());
     }
     
-    // ========== Helper 메서드 ==========
-    
     /**
      * 본문 요약 생성
      * 
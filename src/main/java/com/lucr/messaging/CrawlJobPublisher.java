@@ -1,12 +1,36 @@
 package com.lucr.messaging;
 
+import com.lucr.config.CrawlPublishProperties;
 import com.lucr.config.RabbitMQConfig;
-import lombok.RequiredArgsConstructor;
+import com.lucr.entity.CrawlJob;
+import com.lucr.service.CrawlJobService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 크롤링 요청 메시지 발행자 (Spring → RabbitMQ → Python)
@@ -17,22 +41,62 @@ import java.util.UUID;
  *
  * 흐름:
  *   publish() 호출
- *     → CrawlRequestMessage 객체 생성
- *     → JacksonJsonMessageConverter가 JSON으로 변환
- *     → Exchange(lucr.crawl.exchange)에 발행
+ *     → 발행 대기열에 추가하고 확인 결과(CompletableFuture)를 즉시 반환 (요청 스레드는 브로커를 기다리지 않음)
+ *     → 발행 스레드가 대기열을 비우며 한 채널에서 최대 batch-size개를 연속 발행
+ *     → JacksonJsonMessageConverter가 JSON으로 변환, Exchange(lucr.crawl.exchange)에 발행
  *     → Binding 규칙에 따라 Request Queue(lucr.crawl.request)로 라우팅
- *     → Python Worker가 큐에서 소비
+ *     → 브로커의 발행 확인(correlated publisher confirm)으로 결과 완료
+ *
+ * 확인 결과:
+ * - ACK      : 브로커가 메시지를 받아 큐에 넣음
+ * - NACK     : 브로커가 거부
+ * - RETURNED : 라우팅할 큐가 없음 (mandatory)
+ * - TIMEOUT  : confirm-timeout-ms 안에 확인이 오지 않음
+ * - ERROR    : 발행 자체가 실패 (연결 끊김 등)
+ * ACK 외의 결과는 아직 PENDING인 작업을 FAILED로 변경합니다 (CrawlJobService.failIfPending).
+ *
+ * 메트릭:
+ * - lucr.crawl.publish.latency         : 발행 호출 시간 (클라이언트 → 소켓)
+ * - lucr.crawl.publish.confirm{result} : 발행 → 확인 왕복 시간
+ * - lucr.crawl.publish.pending         : 발행 대기 + 확인 대기 중인 메시지 수
+ *
+ * 주의: spring.rabbitmq.publisher-confirm-type=correlated가 아니면 확인을 받을 수 없으므로
+ *      발행 성공을 ACK로 간주합니다.
  *
  * @author Ekko0701
  * @since 2026-02-06
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class CrawlJobPublisher {
+public class CrawlJobPublisher implements MeterBinder {
 
     /** Spring AMQP가 자동 등록하는 메시지 발행 도구 */
     private final RabbitTemplate rabbitTemplate;
+    private final CrawlJobService crawlJobService;
+    private final CrawlPublishProperties properties;
+
+    /** 발행 대기열 (요청 스레드 → 발행 스레드) */
+    private final Queue<PendingPublish> queue = new ConcurrentLinkedQueue<>();
+
+    /** 발행 스레드가 대기열을 비우는 중인지 */
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    /** 발행 대기 + 확인 대기 중인 메시지 수 */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("crawl-publisher").daemon(true).factory());
+
+    private MeterRegistry meterRegistry;
+    private Timer latencyTimer;
+
+    public CrawlJobPublisher(RabbitTemplate rabbitTemplate,
+                             CrawlJobService crawlJobService,
+                             CrawlPublishProperties properties) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.crawlJobService = crawlJobService;
+        this.properties = properties;
+    }
 
     /**
      * Python Crawler에 전달되는 크롤링 요청 메시지 DTO
@@ -40,39 +104,276 @@ public class CrawlJobPublisher {
      * JSON 변환 결과:
      * {
      *   "jobId": "550e8400-e29b-41d4-a716-446655440000",
-     *   "maxArticles": 50
+     *   "maxArticles": 50,
+     *   "parentJobId": "7c9e6679-7425-40de-944b-e07fc1f90ae7",
+     *   "media": "hankyung",
+     *   "partitionIndex": null,
+     *   "partitionCount": null
      * }
+     * 샤딩하지 않은 작업은 parentJobId / media / partition 필드가 모두 null이며 전체 언론사를 크롤링합니다.
      *
-     * @param jobId       CrawlJob의 UUID (작업 추적용)
-     * @param maxArticles 언론사당 최대 수집 기사 수
+     * @param jobId          CrawlJob의 UUID (작업 추적용, 결과 메시지의 jobId)
+     * @param maxArticles    언론사당 최대 수집 기사 수
+     * @param parentJobId    부모 작업 UUID (자식 작업만)
+     * @param media          담당 언론사 (언론사별 자식 작업만)
+     * @param partitionIndex 담당 파티션 번호 (파티션별 자식 작업만, 0부터)
+     * @param partitionCount 전체 파티션 수 (파티션별 자식 작업만)
      */
     public record CrawlRequestMessage(
             String jobId,
-            int maxArticles
-    ) {}
+            int maxArticles,
+            String parentJobId,
+            String media,
+            Integer partitionIndex,
+            Integer partitionCount
+    ) {
+
+        public static CrawlRequestMessage of(CrawlJob job, int maxArticles) {
+            return new CrawlRequestMessage(
+                    job.getId().toString(),
+                    maxArticles,
+                    job.getParentId() != null ? job.getParentId().toString() : null,
+                    job.getMedia(),
+                    job.getPartitionIndex(),
+                    job.getPartitionCount()
+            );
+        }
+    }
+
+    /**
+     * 발행 확인 결과
+     */
+    public enum Outcome {
+        ACK,
+        NACK,
+        RETURNED,
+        TIMEOUT,
+        ERROR
+    }
+
+    /**
+     * @param jobId     CrawlJob UUID
+     * @param outcome   확인 결과
+     * @param reason    실패 사유 (ACK면 null)
+     * @param roundTrip 발행 → 확인 왕복 시간
+     */
+    public record PublishConfirm(UUID jobId, Outcome outcome, String reason, Duration roundTrip) {
+
+        public boolean isAcked() {
+            return outcome == Outcome.ACK;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+        this.latencyTimer = Timer.builder("lucr.crawl.publish.latency")
+                .description("크롤링 요청 발행 호출 시간")
+                .register(registry);
+        Gauge.builder("lucr.crawl.publish.pending", inFlight, AtomicInteger::get)
+                .description("발행 또는 브로커 확인을 기다리는 크롤링 요청 수")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        sender.shutdown();
+        if (!sender.awaitTermination(properties.getConfirmTimeoutMs(), TimeUnit.MILLISECONDS)) {
+            sender.shutdownNow();
+        }
+    }
+
+    // ========== 발행 ==========
 
     /**
-     * 크롤링 요청 메시지를 RabbitMQ에 발행
+     * 크롤링 요청 메시지를 RabbitMQ에 발행 (비동기)
      *
-     * @param jobId       CrawlJob UUID
+     * @param job         발행할 작업 (단일 작업 또는 자식 작업)
      * @param maxArticles 언론사당 최대 수집 기사 수
+     * @return 브로커 확인 결과 (항상 정상 완료, 실패는 Outcome으로 구분)
      */
-    public void publish(UUID jobId, int maxArticles) {
-        // 1. 메시지 객체 생성 (UUID → String 변환하여 JSON 호환성 확보)
-        CrawlRequestMessage message = new CrawlRequestMessage(
-                jobId.toString(),
-                maxArticles
-        );
-
-        // 2. Exchange + Routing Key로 메시지 발행
+    public CompletableFuture<PublishConfirm> publish(CrawlJob job, int maxArticles) {
+        PendingPublish pending = new PendingPublish(CrawlRequestMessage.of(job, maxArticles), job.getId());
+        inFlight.incrementAndGet();
+        queue.add(pending);
+        scheduleDrain();
+        return pending.result;
+    }
+
+    /**
+     * 여러 작업의 요청 메시지를 한꺼번에 발행 (비동기, 샤딩된 자식 작업)
+     *
+     * @param jobs        발행할 작업 목록
+     * @param maxArticles 언론사당 최대 수집 기사 수
+     * @return 작업별 브로커 확인 결과 (jobs 순서)
+     */
+    public List<CompletableFuture<PublishConfirm>> publishAll(List<CrawlJob> jobs, int maxArticles) {
+        List<CompletableFuture<PublishConfirm>> results = new ArrayList<>(jobs.size());
+        for (CrawlJob job : jobs) {
+            PendingPublish pending = new PendingPublish(CrawlRequestMessage.of(job, maxArticles), job.getId());
+            inFlight.incrementAndGet();
+            queue.add(pending);
+            results.add(pending.result);
+        }
+        scheduleDrain();
+        return results;
+    }
+
+    // ========== Helper 메서드 ==========
+
+    /**
+     * 발행 스레드가 쉬고 있으면 대기열 비우기 시작
+     */
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            sender.execute(this::drain);
+        }
+    }
+
+    /**
+     * 대기열이 빌 때까지 batch-size개씩 한 채널에서 발행
+     *
+     * draining을 내린 직후 추가된 메시지를 놓치지 않도록 대기열을 다시 확인합니다.
+     */
+    private void drain() {
+        do {
+            List<PendingPublish> batch;
+            while (!(batch = pollBatch()).isEmpty()) {
+                sendBatch(batch);
+            }
+            draining.set(false);
+        } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    private List<PendingPublish> pollBatch() {
+        List<PendingPublish> batch = new ArrayList<>(Math.min(properties.getBatchSize(), 16));
+        PendingPublish pending;
+        while (batch.size() < properties.getBatchSize() && (pending = queue.poll()) != null) {
+            batch.add(pending);
+        }
+        return batch;
+    }
+
+    private void sendBatch(List<PendingPublish> batch) {
+        boolean confirmsEnabled = isPublisherConfirms();
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (PendingPublish pending : batch) {
+                    send(operations, pending, confirmsEnabled);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // 채널을 얻지 못한 경우 - 아직 결과가 없는 메시지를 모두 실패 처리
+            for (PendingPublish pending : batch) {
+                complete(pending, Outcome.ERROR, e.getMessage());
+            }
+        }
+        if (batch.size() > 1) {
+            log.info("크롤링 요청 메시지 일괄 발행: count={}", batch.size());
+        }
+    }
+
+    private void send(RabbitOperations operations, PendingPublish pending, boolean confirmsEnabled) {
+        // 1. 메시지 객체는 등록 시 생성 (UUID → String 변환하여 JSON 호환성 확보)
+        CrawlRequestMessage message = pending.message;
+        CorrelationData correlation = new CorrelationData(pending.jobId.toString());
+
+        // 2. Exchange + Routing Key로 메시지 발행 (확인은 correlation의 Future로 비동기 수신)
         //    - MessageConverter(JacksonJsonMessageConverter)가 message → JSON 자동 변환
         //    - Exchange가 Routing Key를 보고 Request Queue로 라우팅
-        rabbitTemplate.convertAndSend(
-                RabbitMQConfig.CRAWL_EXCHANGE,      // 목적지 Exchange
-                RabbitMQConfig.CRAWL_REQUEST_KEY,    // 라우팅 키
-                message                              // 메시지 (자동 JSON 변환)
-        );
+        try {
+            pending.sentNanos = System.nanoTime();
+            operations.convertAndSend(
+                    RabbitMQConfig.CRAWL_EXCHANGE,      // 목적지 Exchange
+                    RabbitMQConfig.CRAWL_REQUEST_KEY,    // 라우팅 키
+                    message,                             // 메시지 (자동 JSON 변환)
+                    correlation                          // 발행 확인 연결용
+            );
+            if (latencyTimer != null) {
+                latencyTimer.record(System.nanoTime() - pending.sentNanos, TimeUnit.NANOSECONDS);
+            }
+        } catch (RuntimeException e) {
+            complete(pending, Outcome.ERROR, e.getMessage());
+            return;
+        }
+        log.info("크롤링 요청 메시지 발행: jobId={}, maxArticles={}, media={}, partition={}",
+                pending.jobId, message.maxArticles(), message.media(), message.partitionIndex());
+
+        if (!confirmsEnabled) {
+            complete(pending, Outcome.ACK, null);
+            return;
+        }
+        correlation.getFuture()
+                .orTimeout(properties.getConfirmTimeoutMs(), TimeUnit.MILLISECONDS)
+                .whenComplete((confirm, error) -> {
+                    if (error != null) {
+                        complete(pending, error instanceof TimeoutException ? Outcome.TIMEOUT : Outcome.ERROR,
+                                error instanceof TimeoutException
+                                        ? "브로커 발행 확인 시간 초과 (" + properties.getConfirmTimeoutMs() + "ms)"
+                                        : error.getMessage());
+                    } else if (!confirm.isAck()) {
+                        complete(pending, Outcome.NACK, "브로커가 메시지를 거부했습니다: " + confirm.getReason());
+                    } else if (correlation.getReturned() != null) {
+                        ReturnedMessage returned = correlation.getReturned();
+                        complete(pending, Outcome.RETURNED,
+                                "라우팅할 큐가 없습니다: " + returned.getReplyCode() + " " + returned.getReplyText());
+                    } else {
+                        complete(pending, Outcome.ACK, null);
+                    }
+                });
+    }
+
+    /**
+     * 확인 결과 기록 - ACK가 아니면 작업을 FAILED로 변경
+     */
+    private void complete(PendingPublish pending, Outcome outcome, String reason) {
+        if (!pending.completed.compareAndSet(false, true)) {
+            return;
+        }
+        Duration roundTrip = Duration.ofNanos(
+                pending.sentNanos != 0 ? System.nanoTime() - pending.sentNanos : 0);
+        if (meterRegistry != null) {
+            Timer.builder("lucr.crawl.publish.confirm")
+                    .description("크롤링 요청 발행 → 브로커 확인 왕복 시간")
+                    .tag("result", outcome.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry)
+                    .record(roundTrip);
+        }
+
+        if (outcome != Outcome.ACK) {
+            log.error("크롤링 요청 발행 실패: jobId={}, outcome={}, reason={}", pending.jobId, outcome, reason);
+            try {
+                crawlJobService.failIfPending(pending.jobId, "크롤링 요청 발행 실패 (" + outcome + "): " + reason);
+            } catch (RuntimeException e) {
+                log.error("크롤링 작업 실패 처리 중 오류: jobId={}", pending.jobId, e);
+            }
+        } else {
+            log.debug("크롤링 요청 발행 확인: jobId={}, roundTrip={}ms", pending.jobId, roundTrip.toMillis());
+        }
+
+        inFlight.decrementAndGet();
+        pending.result.complete(new PublishConfirm(pending.jobId, outcome, reason, roundTrip));
+    }
+
+    private boolean isPublisherConfirms() {
+        ConnectionFactory connectionFactory = rabbitTemplate.getConnectionFactory();
+        return connectionFactory != null && connectionFactory.isPublisherConfirms();
+    }
+
+    /**
+     * 발행 대기 중인 요청
+     */
+    private static final class PendingPublish {
+        private final CrawlRequestMessage message;
+        private final UUID jobId;
+        private final CompletableFuture<PublishConfirm> result = new CompletableFuture<>();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile long sentNanos;
 
-        log.info("크롤링 요청 메시지 발행: jobId={}, maxArticles={}", jobId, maxArticles);
+        private PendingPublish(CrawlRequestMessage message, UUID jobId) {
+            this.message = message;
+            this.jobId = jobId;
+        }
     }
 }
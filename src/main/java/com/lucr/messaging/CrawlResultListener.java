@@ -0,0 +1,232 @@
+package com.lucr.messaging;
+
+import com.lucr.config.CrawlResultProperties;
+import com.lucr.config.RabbitMQConfig;
+import com.lucr.dto.request.NewsCreateRequest;
+import com.lucr.exception.ResourceNotFoundException;
+import com.lucr.service.CrawlJobService;
+import com.lucr.service.NewsIngestService;
+import com.lucr.service.NewsIngestService.IngestResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import com.rabbitmq.client.Channel;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 크롤링 결과 메시지 소비자 (Python → RabbitMQ → Spring)
+ *
+ * 흐름:
+ *   Result Queue(lucr.crawl.result)
+ *     → 컨테이너가 최대 batch-size개 메시지를 모아 한 번에 전달 (배치 리스너)
+ *     → 작업(jobId)별로 기사를 모아 NewsIngestService로 일괄 저장
+ *     → 작업별로 저장된 기사 수를 UPDATE 1회로 반영
+ *     → 완료/실패 메시지가 있으면 작업 상태 변경
+ *
+ * 실패 처리 (작업 단위로 격리 - 한 작업의 실패가 같은 배치의 다른 작업을 막지 않음):
+ * - 없는 작업           : 재시도해도 처리할 수 없으므로 버림
+ * - 일시적 실패 (DB 연결 / 락 등) : retry-attempts회까지 그 작업만 다시 처리 (완료된 단계는 건너뜀)
+ * - 그 외 / 재시도 소진 : 그 작업의 메시지를 데드 레터 교환기(lucr.crawl.dlx)로 보내고 다음 작업 계속
+ *
+ * 메시지 확인은 수동(MANUAL)이며 작업 단위로 합니다.
+ * - 처리 / 무시 / 데드 레터 발행이 끝난 작업 : 그 작업의 메시지만 ack
+ * - 데드 레터 발행까지 실패한 작업           : 그 작업의 메시지만 거부(requeue 없음) → 큐의 DLX 설정으로 DLQ 보관
+ * 앞서 처리한 작업의 메시지는 이미 ack되었으므로 DLQ에 함께 들어가지 않고,
+ * DLQ를 재처리해도 기사 수(recordIngested)가 두 번 반영되지 않습니다.
+ * 이미 저장된 URL은 다시 저장하지 않으므로 재처리해도 기사가 중복되지 않습니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-17
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlResultListener {
+
+    /** 데드 레터 메시지에 남기는 실패 원인 헤더 */
+    static final String ERROR_HEADER = "x-lucr-error";
+
+    private final NewsIngestService newsIngestService;
+    private final CrawlJobService crawlJobService;
+    private final RabbitTemplate rabbitTemplate;
+    private final CrawlResultProperties properties;
+
+    /**
+     * 작업별로 모은 배치 내용 (재시도 시 완료된 단계를 건너뛰기 위해 진행 상태 포함)
+     */
+    private static final class JobBatch {
+        private final List<CrawlResultMessage> messages = new ArrayList<>();
+        private final List<Long> deliveryTags = new ArrayList<>();
+        private final List<NewsCreateRequest> articles = new ArrayList<>();
+        private CrawlResultMessage terminal;
+        private IngestResult ingested;
+        private boolean recorded;
+    }
+
+    @RabbitListener(
+            queues = RabbitMQConfig.CRAWL_RESULT_QUEUE,
+            containerFactory = RabbitMQConfig.CRAWL_RESULT_CONTAINER_FACTORY
+    )
+    public void onResults(List<Message<CrawlResultMessage>> messages, Channel channel) throws IOException {
+        List<Long> ignored = new ArrayList<>();
+        Map<UUID, JobBatch> batches = groupByJob(messages, ignored);
+        ack(channel, ignored);
+
+        int totalArticles = 0;
+        for (Map.Entry<UUID, JobBatch> entry : batches.entrySet()) {
+            JobBatch batch = entry.getValue();
+            if (process(entry.getKey(), batch)) {
+                ack(channel, batch.deliveryTags);
+            } else {
+                reject(channel, batch.deliveryTags);
+            }
+            totalArticles += batch.articles.size();
+        }
+
+        log.info("크롤링 결과 배치 처리: messages={}, jobs={}, articles={}",
+                messages.size(), batches.size(), totalArticles);
+    }
+
+    // ========== Helper 메서드 ==========
+
+    /**
+     * 작업별로 묶기 (잘못된 jobId의 메시지는 ignored에 배달 태그만 모음)
+     */
+    private Map<UUID, JobBatch> groupByJob(List<Message<CrawlResultMessage>> messages, List<Long> ignored) {
+        Map<UUID, JobBatch> batches = new LinkedHashMap<>();
+        for (Message<CrawlResultMessage> delivery : messages) {
+            CrawlResultMessage message = delivery.getPayload();
+            Long deliveryTag = delivery.getHeaders().get(AmqpHeaders.DELIVERY_TAG, Long.class);
+            UUID jobId = parseJobId(message.jobId());
+            if (jobId == null) {
+                log.warn("잘못된 jobId - 메시지 무시: jobId={}", message.jobId());
+                addTag(ignored, deliveryTag);
+                continue;
+            }
+
+            JobBatch batch = batches.computeIfAbsent(jobId, id -> new JobBatch());
+            batch.messages.add(message);
+            addTag(batch.deliveryTags, deliveryTag);
+            batch.articles.addAll(message.articlesOrEmpty());
+            if (message.typeOrDefault() != CrawlResultMessage.Type.ARTICLES) {
+                batch.terminal = message;
+            }
+        }
+        return batches;
+    }
+
+    /**
+     * 작업 하나의 배치 처리 (실패는 이 작업 안에서 재시도 / 데드 레터 처리)
+     *
+     * @return 메시지를 ack해도 되면 true, 데드 레터 발행까지 실패했으면 false
+     */
+    private boolean process(UUID jobId, JobBatch batch) {
+        int attempts = Math.max(1, properties.getRetryAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                apply(jobId, batch);
+                return true;
+            } catch (ResourceNotFoundException e) {
+                // 없는 작업의 결과는 재시도해도 처리할 수 없으므로 버림
+                log.warn("크롤링 작업을 찾을 수 없어 결과 무시: jobId={}, articles={}", jobId, batch.articles.size());
+                return true;
+            } catch (RuntimeException e) {
+                if (attempt < attempts && TransientErrors.isTransient(e)) {
+                    log.warn("크롤링 결과 처리 일시 실패 - 재시도: jobId={}, attempt={}/{}, error={}",
+                            jobId, attempt, attempts, e.getMessage());
+                    TransientErrors.backoff(properties.getRetryBackoffMs(), attempt);
+                    continue;
+                }
+                return deadLetter(jobId, batch, e);
+            }
+        }
+    }
+
+    /**
+     * 저장 → 기사 수 반영 → 상태 변경 (각 단계는 별도 트랜잭션, 성공한 단계는 재시도 시 건너뜀)
+     */
+    private void apply(UUID jobId, JobBatch batch) {
+        if (!batch.articles.isEmpty()) {
+            if (batch.ingested == null) {
+                batch.ingested = newsIngestService.ingest(batch.articles);
+            }
+            if (!batch.recorded) {
+                crawlJobService.recordIngested(jobId, batch.ingested.created());
+                batch.recorded = true;
+            }
+        }
+
+        CrawlResultMessage terminal = batch.terminal;
+        if (terminal != null && terminal.typeOrDefault() == CrawlResultMessage.Type.COMPLETED) {
+            crawlJobService.completeWithResults(jobId, terminal.totalArticles(), terminal.mediaResults());
+        } else if (terminal != null) {
+            crawlJobService.markFailed(jobId, terminal.errorMessage());
+        }
+    }
+
+    /**
+     * 처리할 수 없는 작업의 메시지를 데드 레터 교환기로 발행
+     *
+     * @return 발행 성공 여부 (실패하면 호출 측에서 이 작업의 메시지만 거부)
+     */
+    private boolean deadLetter(UUID jobId, JobBatch batch, RuntimeException cause) {
+        log.error("크롤링 결과 처리 실패 - 데드 레터로 이동: jobId={}, messages={}, articles={}",
+                jobId, batch.messages.size(), batch.articles.size(), cause);
+        try {
+            for (CrawlResultMessage message : batch.messages) {
+                rabbitTemplate.convertAndSend(RabbitMQConfig.CRAWL_DEAD_LETTER_EXCHANGE,
+                        RabbitMQConfig.CRAWL_RESULT_KEY, message, outgoing -> {
+                            outgoing.getMessageProperties().setHeader(ERROR_HEADER, String.valueOf(cause));
+                            return outgoing;
+                        });
+            }
+            return true;
+        } catch (AmqpException e) {
+            log.error("데드 레터 발행 실패 - 이 작업의 메시지만 거부: jobId={}", jobId, e);
+            return false;
+        }
+    }
+
+    private static void ack(Channel channel, List<Long> deliveryTags) throws IOException {
+        for (long deliveryTag : deliveryTags) {
+            channel.basicAck(deliveryTag, false);
+        }
+    }
+
+    /**
+     * requeue 없이 거부 (큐의 DLX 설정으로 DLQ에 보관, 무한 재전달 방지)
+     */
+    private static void reject(Channel channel, List<Long> deliveryTags) throws IOException {
+        for (long deliveryTag : deliveryTags) {
+            channel.basicNack(deliveryTag, false, false);
+        }
+    }
+
+    private static void addTag(List<Long> deliveryTags, Long deliveryTag) {
+        if (deliveryTag != null) {
+            deliveryTags.add(deliveryTag);
+        }
+    }
+
+    private static UUID parseJobId(String jobId) {
+        if (jobId == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(jobId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.lucr.messaging;
+
+import com.lucr.dto.request.NewsCreateRequest;
+
+import java.util.List;
+
+/**
+ * 크롤링 결과 메시지 DTO (Python → RabbitMQ → Spring)
+ *
+ * Python Worker는 수집한 기사를 여러 메시지로 나눠 보내고(ARTICLES),
+ * 마지막에 완료(COMPLETED) 또는 실패(FAILED) 메시지를 보냅니다.
+ *
+ * JSON 예시:
+ * {
+ *   "jobId": "550e8400-e29b-41d4-a716-446655440000",
+ *   "type": "ARTICLES",
+ *   "articles": [
+ *     { "title": "...", "content": "...", "source": "hankyung", "url": "https://...", "publishedAt": "..." }
+ *   ]
+ * }
+ * {
+ *   "jobId": "550e8400-e29b-41d4-a716-446655440000",
+ *   "type": "COMPLETED",
+ *   "totalArticles": 143,
+ *   "mediaResults": "{\"hankyung\": 50, \"maekyung\": 48, \"edaily\": 45}"
+ * }
+ *
+ * @param jobId         CrawlJob UUID
+ * @param type          메시지 종류 (없으면 ARTICLES)
+ * @param articles      수집한 기사 목록 (ARTICLES)
+ * @param totalArticles 크롤러가 수집한 총 기사 수 (COMPLETED, 없으면 저장된 기사 수 사용)
+ * @param mediaResults  언론사별 수집 결과 JSON (COMPLETED)
+ * @param errorMessage  에러 메시지 (FAILED)
+ *
+ * @author kimdongjoo
+ * @since 2026-02-17
+ */
+public record CrawlResultMessage(
+        String jobId,
+        Type type,
+        List<NewsCreateRequest> articles,
+        Integer totalArticles,
+        String mediaResults,
+        String errorMessage
+) {
+
+    public enum Type {
+        ARTICLES,
+        COMPLETED,
+        FAILED
+    }
+
+    public Type typeOrDefault() {
+        return type != null ? type : Type.ARTICLES;
+    }
+
+    public List<NewsCreateRequest> articlesOrEmpty() {
+        return articles != null ? articles : List.of();
+    }
+}
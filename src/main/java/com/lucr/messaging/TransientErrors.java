@@ -0,0 +1,45 @@
+package com.lucr.messaging;
+
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+/**
+ * 메시지 처리 실패 분류 (재시도할지, 데드 레터로 보낼지)
+ *
+ * 일시적 실패: DB 연결 / 락 대기 / 타임아웃 등 같은 메시지를 다시 처리하면 성공할 수 있는 오류
+ * 그 외 (제약 위반, 잘못된 데이터 등)는 몇 번을 재시도해도 같은 결과이므로 바로 데드 레터로 보냅니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-17
+ */
+final class TransientErrors {
+
+    private TransientErrors() {
+    }
+
+    static boolean isTransient(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof CannotCreateTransactionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 재시도 전 대기 (attempt번째 실패 후 backoffMs * attempt)
+     */
+    static void backoff(long backoffMs, int attempt) {
+        if (backoffMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(backoffMs * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.lucr.messaging;
+
+import com.lucr.config.RabbitMQConfig;
+import com.lucr.config.ViewEventProperties;
+import com.lucr.service.ViewCountFlusher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.ImmediateRequeueAmqpException;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 조회 이벤트 소비자 (RabbitMQ → DB)
+ *
+ * 흐름:
+ *   View Event Queue(lucr.view.event)
+ *     → 컨테이너가 최대 batch-size개 메시지를 모아 한 번에 전달 (배치 리스너)
+ *     → 뉴스별로 조회 수 합산
+ *     → ViewCountFlusher.apply()로 UPDATE 1회 반영 (인기 뉴스 순위표도 함께 갱신)
+ *
+ * 반영 실패 처리 (UPDATE 한 문장이라 실패하면 아무것도 반영되지 않음):
+ * - 일시적 실패 (DB 연결 / 락 등) : retry-attempts회까지 다시 반영, 소진되면 배치를 다시 큐에 넣음 (ImmediateRequeue)
+ * - 그 외                        : requeue 없이 거부 → lucr.view.dlx → lucr.view.event.dlq (무한 재전달 방지)
+ * 증가분을 더하는 UPDATE라 재전달된 배치는 다시 더해지므로,
+ * 예외가 난 뒤에도 커밋된 경우(커밋 응답 유실)에는 조회수가 중복 반영될 수 있습니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-03-01
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewEventListener {
+
+    private final ViewCountFlusher viewCountFlusher;
+    private final ViewEventProperties properties;
+
+    @RabbitListener(
+            queues = RabbitMQConfig.VIEW_EVENT_QUEUE,
+            containerFactory = RabbitMQConfig.VIEW_EVENT_CONTAINER_FACTORY
+    )
+    public void onViewEvents(List<ViewEventMessage> messages) {
+        Map<UUID, Long> deltas = aggregate(messages);
+        long total = apply(deltas);
+
+        log.debug("조회 이벤트 배치 반영: messages={}, news={}, views={}",
+                messages.size(), deltas.size(), total);
+    }
+
+    // ========== Helper 메서드 ==========
+
+    /**
+     * 일시적 실패는 재시도, 그 외는 requeue 없이 거부
+     */
+    private long apply(Map<UUID, Long> deltas) {
+        int attempts = Math.max(1, properties.getRetryAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return viewCountFlusher.apply(deltas);
+            } catch (RuntimeException e) {
+                if (!TransientErrors.isTransient(e)) {
+                    log.error("조회 이벤트 반영 실패 - 데드 레터로 이동: news={}", deltas.size(), e);
+                    throw new AmqpRejectAndDontRequeueException("조회 이벤트 반영 실패", e);
+                }
+                if (attempt >= attempts) {
+                    log.warn("조회 이벤트 반영 일시 실패 - 배치 재전달: news={}, error={}", deltas.size(), e.getMessage());
+                    throw new ImmediateRequeueAmqpException("조회 이벤트 반영 일시 실패", e);
+                }
+                TransientErrors.backoff(properties.getRetryBackoffMs(), attempt);
+            }
+        }
+    }
+
+    private Map<UUID, Long> aggregate(List<ViewEventMessage> messages) {
+        Map<UUID, Long> deltas = new HashMap<>();
+        for (ViewEventMessage message : messages) {
+            UUID newsId = parseNewsId(message.newsId());
+            if (newsId == null || message.views() <= 0) {
+                log.warn("잘못된 조회 이벤트 - 메시지 무시: newsId={}, views={}", message.newsId(), message.views());
+                continue;
+            }
+            deltas.merge(newsId, message.views(), Long::sum);
+        }
+        return deltas;
+    }
+
+    private static UUID parseNewsId(String newsId) {
+        if (newsId == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(newsId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
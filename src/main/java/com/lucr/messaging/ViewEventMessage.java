@@ -0,0 +1,25 @@
+package com.lucr.messaging;
+
+import java.util.UUID;
+
+/**
+ * 조회 이벤트 메시지 DTO (조회 API → RabbitMQ → ViewEventListener)
+ *
+ * JSON 예시:
+ * {
+ *   "newsId": "550e8400-e29b-41d4-a716-446655440000",
+ *   "views": 1
+ * }
+ *
+ * @param newsId 뉴스 UUID (JSON 호환을 위해 문자열)
+ * @param views  조회 수 (1 이상)
+ *
+ * @author kimdongjoo
+ * @since 2026-03-01
+ */
+public record ViewEventMessage(String newsId, long views) {
+
+    public static ViewEventMessage of(UUID newsId) {
+        return new ViewEventMessage(newsId.toString(), 1);
+    }
+}
@@ -0,0 +1,75 @@
+package com.lucr.messaging;
+
+import com.lucr.config.RabbitMQConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 조회 이벤트 발행자 (조회 API → RabbitMQ, lucr.view-count.mode=queued)
+ *
+ * 조회 요청은 메시지 한 건만 발행하고 바로 응답합니다.
+ * DB 반영은 ViewEventListener가 모아서 하므로 조회가 몰려도 커넥션 풀 대신 큐에 쌓입니다.
+ *
+ * 조회 이벤트는 작업 메시지와 달리 건별 발행 확인(publisher confirm)을 기다리지 않습니다.
+ * 발행 호출이 실패하면 false를 반환하고, 호출자가 메모리 버퍼로 대신 누적합니다.
+ *
+ * 메트릭:
+ * - lucr.news.view_event.published{result} : 발행 성공(sent) / 실패(failed) 수
+ *
+ * @author kimdongjoo
+ * @since 2026-03-01
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewEventPublisher implements MeterBinder {
+
+    private final RabbitTemplate rabbitTemplate;
+
+    private Counter sentCounter;
+    private Counter failedCounter;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        sentCounter = Counter.builder("lucr.news.view_event.published")
+                .description("발행한 조회 이벤트 수")
+                .tag("result", "sent")
+                .register(registry);
+        failedCounter = Counter.builder("lucr.news.view_event.published")
+                .description("발행한 조회 이벤트 수")
+                .tag("result", "failed")
+                .register(registry);
+    }
+
+    /**
+     * 조회 이벤트 발행
+     *
+     * @param newsId 뉴스 ID
+     * @return 발행했으면 true, 브로커 연결 실패 등으로 발행하지 못했으면 false
+     */
+    public boolean publish(UUID newsId) {
+        try {
+            rabbitTemplate.convertAndSend(
+                    RabbitMQConfig.VIEW_EXCHANGE,
+                    RabbitMQConfig.VIEW_EVENT_KEY,
+                    ViewEventMessage.of(newsId));
+        } catch (RuntimeException e) {
+            log.warn("조회 이벤트 발행 실패: newsId={}, reason={}", newsId, e.getMessage());
+            if (failedCounter != null) {
+                failedCounter.increment();
+            }
+            return false;
+        }
+        if (sentCounter != null) {
+            sentCounter.increment();
+        }
+        return true;
+    }
+}
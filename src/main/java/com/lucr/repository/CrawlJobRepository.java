@@ -2,10 +2,16 @@ package com.lucr.repository;
 
 import com.lucr.entity.CrawlJob;
 import com.lucr.entity.CrawlJob.CrawlJobStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -42,4 +48,83 @@ public interface CrawlJobRepository extends JpaRepository<CrawlJob, UUID> {
      * 용도: 이미 실행 중인 작업이 있는지 확인 (중복 실행 방지)
      */
     boolean existsByStatus(CrawlJobStatus status);
+
+    /**
+     * 최상위(부모 / 단일) 작업 중 상태별 존재 여부 확인
+     *
+     * 생성되는 SQL:
+     * SELECT COUNT(*) > 0 FROM crawl_jobs WHERE parent_id IS NULL AND status = ?
+     *
+     * 용도: 트리거 중복 실행 방지 (자식 작업은 여러 워커에서 동시에 RUNNING일 수 있음)
+     */
+    boolean existsByParentIdIsNullAndStatus(CrawlJobStatus status);
+
+    /**
+     * 자식 작업 목록
+     *
+     * 생성되는 SQL:
+     * SELECT * FROM crawl_jobs WHERE parent_id = ?
+     */
+    List<CrawlJob> findByParentId(UUID parentId);
+
+    /**
+     * 작업 조회 + 행 잠금
+     *
+     * 생성되는 SQL:
+     * SELECT * FROM crawl_jobs WHERE id = ? FOR UPDATE
+     *
+     * 용도: 자식 작업이 동시에 끝날 때 부모 집계를 한 트랜잭션씩 순서대로 수행
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM CrawlJob j WHERE j.id = :id")
+    Optional<CrawlJob> findByIdForUpdate(@Param("id") UUID id);
+
+    /**
+     * 저장된 기사 수 누적 + PENDING이면 RUNNING으로 전환 (단일 UPDATE)
+     *
+     * 생성되는 SQL:
+     * UPDATE crawl_jobs SET total_articles = total_articles + ?,
+     *        status = CASE WHEN status = 'PENDING' THEN 'RUNNING' ELSE status END, updated_at = ?
+     * WHERE id = ?
+     *
+     * 여러 컨슈머가 같은 작업의 결과를 동시에 처리해도 누적값이 덮어써지지 않음
+     *
+     * @return 변경된 행 수 (없는 작업이면 0)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+           UPDATE CrawlJob j
+           SET j.totalArticles = j.totalArticles + :count,
+               j.status = CASE WHEN j.status = :pending THEN :running ELSE j.status END,
+               j.updatedAt = CURRENT_TIMESTAMP
+           WHERE j.id = :id
+           """)
+    int addIngestedArticles(@Param("id") UUID id,
+                            @Param("count") int count,
+                            @Param("pending") CrawlJobStatus pending,
+                            @Param("running") CrawlJobStatus running);
+
+    /**
+     * 자식 작업의 부모에 저장된 기사 수 누적 + PENDING이면 RUNNING으로 전환 (단일 UPDATE)
+     *
+     * 생성되는 SQL:
+     * UPDATE crawl_jobs SET total_articles = total_articles + ?, status = CASE ... END, updated_at = ?
+     * WHERE id = (SELECT parent_id FROM crawl_jobs WHERE id = ?)
+     *
+     * 부모 작업의 진행 상황을 자식이 끝나기 전에도 조회할 수 있도록 함께 누적합니다.
+     *
+     * @return 변경된 행 수 (부모가 없는 작업이면 0)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+           UPDATE CrawlJob p
+           SET p.totalArticles = p.totalArticles + :count,
+               p.status = CASE WHEN p.status = :pending THEN :running ELSE p.status END,
+               p.updatedAt = CURRENT_TIMESTAMP
+           WHERE p.id = (SELECT c.parentId FROM CrawlJob c WHERE c.id = :childId)
+           """)
+    int addIngestedArticlesToParent(@Param("childId") UUID childId,
+                                    @Param("count") int count,
+                                    @Param("pending") CrawlJobStatus pending,
+                                    @Param("running") CrawlJobStatus running);
 }
@@ -0,0 +1,40 @@
+package com.lucr.repository;
+
+import com.lucr.entity.News;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 중복 URL을 건너뛰는 뉴스 INSERT (NewsRepository fragment)
+ *
+ * existsByUrl → save는 DB 왕복이 2번이고,
+ * 같은 URL을 동시에 저장하면 둘 다 확인을 통과한 뒤 한쪽이 유니크 제약 위반 예외로 실패합니다.
+ * INSERT ... ON CONFLICT (url_hash) DO NOTHING RETURNING id 한 문장으로
+ * 중복 확인과 저장을 DB 안에서 원자적으로 처리하고, 중복은 예외 없이 결과로 알려줍니다.
+ *
+ * 주의: JPA를 거치지 않는 네이티브 INSERT이므로
+ *      저장된 엔티티는 영속성 컨텍스트에 올라가지 않습니다 (id / 생성 시간은 호출 전에 채움).
+ *
+ * @author kimdongjoo
+ * @since 2026-02-20
+ */
+public interface NewsInsertRepository {
+
+    /**
+     * 뉴스 단건 INSERT (같은 url_hash가 있으면 건너뜀)
+     *
+     * @param news 저장할 뉴스 (id / url_hash / 생성 시간이 비어 있으면 채움)
+     * @return 저장되었으면 true, 이미 있는 URL이면 false
+     */
+    boolean insertIgnoringDuplicate(News news);
+
+    /**
+     * 뉴스 여러 건 INSERT (multi-row VALUES, 같은 url_hash가 있는 행은 건너뜀)
+     *
+     * @param news 저장할 뉴스 목록 (각 뉴스의 id / url_hash / 생성 시간이 비어 있으면 채움)
+     * @return 실제로 저장된 뉴스의 id
+     */
+    Set<UUID> insertIgnoringDuplicates(List<News> news);
+}
@@ -0,0 +1,109 @@
+package com.lucr.repository;
+
+import com.lucr.entity.News;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * NewsInsertRepository 구현 (PostgreSQL INSERT ... ON CONFLICT)
+ *
+ * 생성되는 SQL:
+ * INSERT INTO news (id, title, ..., url_hash, ...) VALUES (?, ...), (?, ...), ...
+ * ON CONFLICT (url_hash) DO NOTHING
+ * RETURNING id
+ *
+ * - RETURNING은 실제로 저장된 행만 반환하므로 반환되지 않은 id = 중복
+ * - 한 문장에 MAX_ROWS_PER_STATEMENT행까지 (바인드 파라미터 수 제한 65535 대비)
+ * - 같은 문장 안의 중복 url_hash도 DO NOTHING으로 먼저 온 행만 저장
+ *
+ * JdbcTemplate은 JpaTransactionManager의 트랜잭션(같은 커넥션)에 참여합니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-20
+ */
+@RequiredArgsConstructor
+class NewsInsertRepositoryImpl implements NewsInsertRepository {
+
+    /** 한 INSERT 문에 넣을 최대 행 수 (13컬럼 × 1000행 = 13,000 파라미터) */
+    static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private static final String INSERT_COLUMNS = """
+            INSERT INTO news (id, title, content, source, url, url_hash, view_count, is_high_view,
+                              sentiment_score, published_at, crawled_at, created_at, updated_at)
+            VALUES
+            """;
+
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String ON_CONFLICT = """
+
+            ON CONFLICT (url_hash) DO NOTHING
+            RETURNING id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insertIgnoringDuplicate(News news) {
+        return !insertIgnoringDuplicates(List.of(news)).isEmpty();
+    }
+
+    @Override
+    public Set<UUID> insertIgnoringDuplicates(List<News> news) {
+        if (news.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<UUID> inserted = new HashSet<>(news.size() * 2);
+        for (int from = 0; from < news.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<News> chunk = news.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, news.size()));
+            chunk.forEach(News::prepareForInsert);
+            inserted.addAll(jdbcTemplate.query(
+                    insertSql(chunk.size()),
+                    ps -> bindRows(ps, chunk),
+                    (rs, rowNum) -> rs.getObject(1, UUID.class)));
+        }
+        return inserted;
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_COLUMNS.length() + rows * (ROW_PLACEHOLDERS.length() + 2) + 64);
+        sql.append(INSERT_COLUMNS);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(",\n");
+            }
+            sql.append(ROW_PLACEHOLDERS);
+        }
+        return sql.append(ON_CONFLICT).toString();
+    }
+
+    private static void bindRows(PreparedStatement ps, List<News> rows) throws SQLException {
+        int index = 1;
+        for (News news : rows) {
+            ps.setObject(index++, news.getId());
+            ps.setString(index++, news.getTitle());
+            ps.setString(index++, news.getContent());
+            ps.setString(index++, news.getSource());
+            ps.setString(index++, news.getUrl());
+            ps.setLong(index++, news.getUrlHash());
+            ps.setInt(index++, news.getViewCount());
+            ps.setBoolean(index++, news.getIsHighView());
+            ps.setObject(index++, news.getSentimentScore(), Types.NUMERIC);
+            ps.setObject(index++, news.getPublishedAt(), Types.TIMESTAMP);
+            ps.setObject(index++, news.getCrawledAt(), Types.TIMESTAMP);
+            ps.setObject(index++, news.getCreatedAt(), Types.TIMESTAMP);
+            ps.setObject(index++, news.getUpdatedAt(), Types.TIMESTAMP);
+        }
+    }
+}
@@ -1,18 +1,29 @@
 package com.lucr.repository;
 
+import com.lucr.common.UrlCanonicalizer;
+import com.lucr.dto.projection.NewsSummary;
 import com.lucr.entity.News;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * News Repository - 뉴스 데이터 접근 계층
@@ -22,12 +33,16 @@ import java.util.UUID;
  * 2. 메서드 이름 기반 쿼리 자동 생성
  * 3. @Query 어노테이션으로 커스텀 쿼리 작성
  * 4. 페이징 및 정렬 지원
+ * 5. Specification 기반 동적 쿼리 (JpaSpecificationExecutor, 조건은 NewsSpecifications 참고)
+ * 6. 목록용 Projection 조회 (NewsSummary - 본문 전체를 읽지 않음)
+ * 7. 중복 URL을 건너뛰는 INSERT (NewsInsertRepository - ON CONFLICT, 예외 없이 중복 판정)
  * 
  * @author Kim Dongjoo
  * @since 2026-01-28
  */
 @Repository
-public interface NewsRepository extends JpaRepository<News, UUID> {
+public interface NewsRepository extends JpaRepository<News, UUID>, JpaSpecificationExecutor<News>,
+        NewsSummaryRepository, NewsInsertRepository {
     
     // ========== 1. 기본 CRUD (JpaRepository가 자동 제공) ==========
     // save(news)           - INSERT/UPDATE
@@ -41,14 +56,27 @@ public interface NewsRepository extends JpaRepository<News, UUID> {
     // ========== 2. 메서드 이름 기반 쿼리 (Query Methods) ==========
     
     /**
-     * URL로 뉴스 조회
+     * URL로 뉴스 조회 (url_hash 인덱스 사용)
      * 
      * 생성되는 SQL:
-     * SELECT * FROM news WHERE url = ?
+     * SELECT * FROM news WHERE url_hash = ?
+     * 
+     * 해시가 일치한 행만 정규화된 URL을 비교하여 해시 충돌을 걸러냄
      * 
      * 용도: 같은 URL의 뉴스가 이미 있는지 확인 (중복 크롤링 방지)
      */
-    Optional<News> findByUrl(String url);
+    default Optional<News> findByUrl(String url) {
+        return findByUrlHash(UrlCanonicalizer.hash(url))
+                .filter(news -> UrlCanonicalizer.isSame(news.getUrl(), url));
+    }
+    
+    /**
+     * URL 해시로 뉴스 조회
+     * 
+     * 생성되는 SQL:
+     * SELECT * FROM news WHERE url_hash = ?
+     */
+    Optional<News> findByUrlHash(Long urlHash);
     
     /**
      * 뉴스 출처로 조회
@@ -60,6 +88,23 @@ public interface NewsRepository extends JpaRepository<News, UUID> {
      */
     List<News> findBySource(String source);
     
+    /**
+     * 뉴스 출처로 조회 + 페이징
+     * 
+     * 생성되는 SQL:
+     * SELECT * FROM news WHERE source = ? 
+     * ORDER BY published_at DESC 
+     * LIMIT ? OFFSET ?
+     * 
+     * SELECT COUNT(*) FROM news WHERE source = ?
+     * 
+     * idx_news_source_published_at (source, published_at DESC) 인덱스로
+     * 정렬 없이 한 페이지 분량만 읽습니다.
+     * 
+     * 용도: 출처별 뉴스 목록 (전체 출처 기사를 메모리에 올리지 않음)
+     */
+    Page<News> findBySource(String source, Pageable pageable);
+    
     /**
      * 제목에 키워드가 포함된 뉴스 조회
      * 
@@ -142,6 +187,19 @@ public interface NewsRepository extends JpaRepository<News, UUID> {
      */
     Page<News> findAllByOrderByPublishedAtDesc(Pageable pageable);
     
+    /**
+     * ID 기준 keyset 배치 조회
+     * 
+     * 생성되는 SQL:
+     * SELECT * FROM news 
+     * WHERE id > ? 
+     * ORDER BY id ASC 
+     * LIMIT ?
+     * 
+     * 용도: 검색 색인 구축 시 OFFSET 없이 전체 테이블 순회
+     */
+    List<News> findByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+    
     
     // ========== 3. @Query 어노테이션 (JPQL - 커스텀 쿼리) ==========
     
@@ -157,6 +215,23 @@ public interface NewsRepository extends JpaRepository<News, UUID> {
     @Query("SELECT n FROM News n WHERE n.title LIKE %:keyword% OR n.content LIKE %:keyword%")
     List<News> searchByKeyword(@Param("keyword") String keyword);
     
+    /**
+     * 제목 또는 본문에 키워드가 포함된 뉴스 ID 검색 (DB 페이징)
+     * 
+     * 엔티티 대신 ID만 조회하고 LIMIT/OFFSET을 DB에서 적용
+     * 
+     * 생성되는 SQL:
+     * SELECT id FROM news 
+     * WHERE title LIKE %keyword% OR content LIKE %keyword%
+     * ORDER BY ? 
+     * LIMIT ? OFFSET ?
+     * 
+     * 용도: LikeNewsSearchEngine (lucr.search.engine=like)
+     */
+    @Query(value = "SELECT n.id FROM News n WHERE n.title LIKE %:keyword% OR n.content LIKE %:keyword%",
+           countQuery = "SELECT COUNT(n) FROM News n WHERE n.title LIKE %:keyword% OR n.content LIKE %:keyword%")
+    Page<UUID> searchIdsByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    
     /**
      * 출처별 뉴스 개수 조회
      * 
@@ -204,6 +279,149 @@ public interface NewsRepository extends JpaRepository<News, UUID> {
     List<News> findPositiveHighViewNews(Pageable pageable);
     
     
+    // ========== 목록용 Projection (NewsSummary) ==========
+    //
+    // 목록 응답은 본문 앞 100자만 사용하므로 엔티티 대신 필요한 컬럼만 조회합니다.
+    // 본문은 DB에서 SUBSTRING으로 잘라 전송하여 content TEXT 전체를 읽어오지 않습니다.
+
+    /**
+     * 목록용 SELECT 절 (JPQL 생성자 표현식, 길이는 NewsSummary.CONTENT_HEAD_LENGTH)
+     */
+    String SUMMARY_SELECT = "SELECT new com.lucr.dto.projection.NewsSummary("
+            + "n.id, n.title, SUBSTRING(n.content, 1, " + NewsSummary.CONTENT_HEAD_LENGTH + "), n.source, n.url, "
+            + "n.viewCount, n.uniqueViewers, n.isHighView, n.sentimentScore, n.publishedAt, n.createdAt) "
+            + "FROM News n\n";
+
+    /**
+     * 전체 목록 (정렬은 Pageable 사용)
+     *
+     * 생성되는 SQL:
+     * SELECT id, title, substring(content, 1, 101), source, ... FROM news
+     * ORDER BY ? LIMIT ? OFFSET ?
+     */
+    @Query(value = SUMMARY_SELECT, countQuery = "SELECT COUNT(n) FROM News n")
+    Page<NewsSummary> findSummaries(Pageable pageable);
+
+    /**
+     * 전체 목록 Slice (COUNT 쿼리 없이 size + 1건 조회)
+     */
+    @Query(SUMMARY_SELECT)
+    Slice<NewsSummary> findSummarySlice(Pageable pageable);
+
+    /**
+     * 출처별 목록 (idx_news_source_published_at 사용)
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE n.source = :source",
+           countQuery = "SELECT COUNT(n) FROM News n WHERE n.source = :source")
+    Page<NewsSummary> findSummariesBySource(@Param("source") String source, Pageable pageable);
+
+    /**
+     * 출처별 목록 Slice (COUNT 쿼리 없이 size + 1건 조회)
+     */
+    @Query(SUMMARY_SELECT + "WHERE n.source = :source")
+    Slice<NewsSummary> findSummarySliceBySource(@Param("source") String source, Pageable pageable);
+
+    /**
+     * ID 목록으로 조회 (검색 엔진이 반환한 ID 페이지 채우기, 순서 보장 안 함)
+     */
+    @Query(SUMMARY_SELECT + "WHERE n.id IN :ids")
+    List<NewsSummary> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+    
+    
+    // ========== Keyset (cursor) 페이징 ==========
+    //
+    // OFFSET은 앞의 N행을 읽고 버려야 하므로 깊은 페이지일수록 느려집니다.
+    // 마지막으로 본 (정렬 키, id) 이후부터 LIMIT 만큼만 읽어 페이지 깊이와 무관한 비용으로 조회합니다.
+    //
+    // 조건은 "key <= :key AND (key < :key OR id < :id)" 형태로 작성
+    // - 앞 조건이 인덱스 범위 스캔 시작점이 되고 (sargable)
+    // - 뒤 조건은 같은 정렬 키를 가진 행들 사이의 순서를 id로 이어갑니다.
+
+    /**
+     * 최신 뉴스 첫 페이지 (생성일, id 내림차순)
+     */
+    @Query(SUMMARY_SELECT + "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NewsSummary> findRecent(Limit limit);
+
+    /**
+     * 최신 뉴스 다음 페이지 - (createdAt, id) 이후
+     *
+     * 생성되는 SQL:
+     * SELECT * FROM news
+     * WHERE created_at <= ? AND (created_at < ? OR id < ?)
+     * ORDER BY created_at DESC, id DESC
+     * LIMIT ?
+     */
+    @Query(SUMMARY_SELECT + """
+           WHERE n.createdAt <= :createdAt AND (n.createdAt < :createdAt OR n.id < :id)
+           ORDER BY n.createdAt DESC, n.id DESC
+           """)
+    List<NewsSummary> findRecentAfter(@Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") UUID id,
+                                      Limit limit);
+
+    /**
+     * 인기 뉴스 첫 페이지 (조회수, id 내림차순)
+     */
+    @Query(SUMMARY_SELECT + "ORDER BY n.viewCount DESC, n.id DESC")
+    List<NewsSummary> findPopular(Limit limit);
+
+    /**
+     * 인기 뉴스 다음 페이지 - (viewCount, id) 이후
+     *
+     * 생성되는 SQL:
+     * SELECT * FROM news
+     * WHERE view_count <= ? AND (view_count < ? OR id < ?)
+     * ORDER BY view_count DESC, id DESC
+     * LIMIT ?
+     */
+    @Query(SUMMARY_SELECT + """
+           WHERE n.viewCount <= :viewCount AND (n.viewCount < :viewCount OR n.id < :id)
+           ORDER BY n.viewCount DESC, n.id DESC
+           """)
+    List<NewsSummary> findPopularAfter(@Param("viewCount") int viewCount,
+                                       @Param("id") UUID id,
+                                       Limit limit);
+
+    /**
+     * 발행일순 첫 페이지 (발행일, id 내림차순)
+     *
+     * 발행일이 있는 뉴스만 조회합니다. 발행일이 없는 뉴스는 이 목록이 끝난 뒤
+     * findUnpublished / findUnpublishedAfter로 이어서 조회합니다 (NULLS LAST와 같은 순서).
+     */
+    @Query(SUMMARY_SELECT + "WHERE n.publishedAt IS NOT NULL ORDER BY n.publishedAt DESC, n.id DESC")
+    List<NewsSummary> findLatestPublished(Limit limit);
+
+    /**
+     * 발행일순 다음 페이지 - (publishedAt, id) 이후
+     *
+     * 생성되는 SQL:
+     * SELECT * FROM news
+     * WHERE published_at <= ? AND (published_at < ? OR id < ?)
+     * ORDER BY published_at DESC, id DESC
+     * LIMIT ?
+     */
+    @Query(SUMMARY_SELECT + """
+           WHERE n.publishedAt <= :publishedAt AND (n.publishedAt < :publishedAt OR n.id < :id)
+           ORDER BY n.publishedAt DESC, n.id DESC
+           """)
+    List<NewsSummary> findLatestPublishedAfter(@Param("publishedAt") LocalDateTime publishedAt,
+                                               @Param("id") UUID id,
+                                               Limit limit);
+
+    /**
+     * 발행일 없는 뉴스 첫 페이지 (id 내림차순, 발행일순 목록의 마지막 구간)
+     */
+    @Query(SUMMARY_SELECT + "WHERE n.publishedAt IS NULL ORDER BY n.id DESC")
+    List<NewsSummary> findUnpublished(Limit limit);
+
+    /**
+     * 발행일 없는 뉴스 다음 페이지 - id 이후
+     */
+    @Query(SUMMARY_SELECT + "WHERE n.publishedAt IS NULL AND n.id < :id ORDER BY n.id DESC")
+    List<NewsSummary> findUnpublishedAfter(@Param("id") UUID id, Limit limit);
+    
+    
     // ========== 4. Native Query (실제 SQL 사용) ==========
     
     /**
@@ -221,23 +439,141 @@ public interface NewsRepository extends JpaRepository<News, UUID> {
     );
     
     
+    /**
+     * PostgreSQL 전문 검색 - 관련도 순 뉴스 ID 조회 (DB 페이징)
+     * 
+     * search_vector: 제목(A) + 본문(B)으로 생성되는 tsvector 컬럼 (GIN 인덱스)
+     * - PostgresNewsSearchEngine이 기동 시 컬럼과 인덱스를 생성
+     * - websearch_to_tsquery: 사용자 입력을 안전하게 tsquery로 변환 (따옴표 구문 검색, -제외어 등 지원)
+     * 
+     * 주의: Pageable에 sort를 넣으면 관련도 정렬 뒤에 덧붙으므로 unsorted로 호출해야 함
+     * 
+     * 용도: PostgresNewsSearchEngine (lucr.search.engine=postgres)
+     */
+    @Query(value = """
+            SELECT n.id FROM news n
+            WHERE n.search_vector @@ websearch_to_tsquery(CAST(:config AS regconfig), :keyword)
+            ORDER BY ts_rank(n.search_vector, websearch_to_tsquery(CAST(:config AS regconfig), :keyword)) DESC, n.id
+            """,
+           countQuery = """
+            SELECT COUNT(*) FROM news n
+            WHERE n.search_vector @@ websearch_to_tsquery(CAST(:config AS regconfig), :keyword)
+            """,
+           nativeQuery = true)
+    Page<UUID> searchIdsByFullText(
+        @Param("config") String config,
+        @Param("keyword") String keyword,
+        Pageable pageable
+    );
+    
+    /**
+     * 조회수 1 증가 + 변경된 행 반환 (단일 SQL, PostgreSQL RETURNING)
+     * 
+     * 생성되는 SQL:
+     * UPDATE news SET view_count = view_count + 1, is_high_view = (view_count + 1 >= ?)
+     * WHERE id = ? RETURNING id, title, ...
+     * 
+     * - 행 락 안에서 현재 값에 더하므로 동시 요청이 서로의 증가분을 덮어쓰지 않음
+     * - SET 우변의 view_count는 변경 전 값이므로 is_high_view도 증가 후 값 기준
+     * - 엔티티 조회 / dirty checking 없이 DB 왕복 1회
+     * 
+     * @return 변경된 뉴스 (없는 ID면 empty)
+     */
+    default Optional<News> incrementViewCountReturning(UUID id) {
+        return incrementViewCountReturning(id, News.HIGH_VIEW_THRESHOLD);
+    }
+    
+    /**
+     * 조회수 1 증가 + 변경된 행 반환 (고조회수 기준값 지정)
+     * 
+     * 결과 행이 있으므로 @Modifying 없이 조회 쿼리로 실행
+     * (search_vector 등 엔티티에 없는 컬럼은 반환하지 않음)
+     * 호출자 트랜잭션이 없으면 이 문장만 쓰기 트랜잭션으로 실행 (NewsServiceImpl.incrementViewCount)
+     * 
+     * @param highViewThreshold 고조회수 기준 (News.HIGH_VIEW_THRESHOLD)
+     * @return 변경된 뉴스 (없는 ID면 empty)
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE news
+            SET view_count = view_count + 1,
+                is_high_view = (view_count + 1 >= :highViewThreshold)
+            WHERE id = :id
+            RETURNING id, title, content, source, url, url_hash, view_count, unique_viewers, is_high_view,
+                      sentiment_score, published_at, crawled_at, created_at, updated_at
+            """,
+           nativeQuery = true)
+    Optional<News> incrementViewCountReturning(@Param("id") UUID id,
+                                               @Param("highViewThreshold") int highViewThreshold);
+    
+    /**
+     * 조회수 1 증가 + 변경된 행 반환 (is_high_view는 변경하지 않음)
+     * 
+     * 생성되는 SQL:
+     * UPDATE news SET view_count = view_count + 1 WHERE id = ? RETURNING id, title, ...
+     * 
+     * 용도: lucr.view-count.high-view-basis=unique-viewers
+     *      (is_high_view는 UniqueViewerFlusher가 순 방문자 수 기준으로 갱신)
+     * 
+     * @return 변경된 뉴스 (없는 ID면 empty)
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE news
+            SET view_count = view_count + 1
+            WHERE id = :id
+            RETURNING id, title, content, source, url, url_hash, view_count, unique_viewers, is_high_view,
+                      sentiment_score, published_at, crawled_at, created_at, updated_at
+            """,
+           nativeQuery = true)
+    Optional<News> incrementViewCountOnlyReturning(@Param("id") UUID id);
+    
+    
     // ========== 5. Exists 쿼리 (존재 여부 확인) ==========
     
     /**
-     * URL 존재 여부 확인
+     * URL 존재 여부 확인 (url_hash 인덱스 사용)
      * 
      * 생성되는 SQL:
-     * SELECT COUNT(*) > 0 FROM news WHERE url = ?
+     * SELECT url FROM news WHERE url_hash = ?
+     * 
+     * 해시가 일치하면 저장된 URL과 정규화 결과를 비교 (해시 충돌 대비)
      * 
      * 용도: 중복 크롤링 방지
      */
-    boolean existsByUrl(String url);
+    default boolean existsByUrl(String url) {
+        return findUrlByUrlHash(UrlCanonicalizer.hash(url))
+                .filter(stored -> UrlCanonicalizer.isSame(stored, url))
+                .isPresent();
+    }
+    
+    /**
+     * URL 해시로 저장된 URL 조회
+     */
+    @Query("SELECT n.url FROM News n WHERE n.urlHash = :urlHash")
+    Optional<String> findUrlByUrlHash(@Param("urlHash") long urlHash);
     
     /**
      * 특정 출처의 뉴스 존재 여부 확인
      */
     boolean existsBySource(String source);
     
+    /**
+     * 저장된 모든 URL 스트리밍 조회
+     * 
+     * 생성되는 SQL:
+     * SELECT url FROM news
+     * 
+     * 용도: URL 필터(Bloom) 구축 - 전체 결과를 메모리에 올리지 않고 fetch size 단위로 읽음
+     * 주의: 트랜잭션 안에서 호출하고, 사용 후 Stream을 닫아야 함 (try-with-resources)
+     */
+    @Query("SELECT n.url FROM News n")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<String> streamAllUrls();
+    
     
     // ========== 6. Delete 쿼리 ==========
     
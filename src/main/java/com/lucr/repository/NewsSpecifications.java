@@ -0,0 +1,149 @@
+package com.lucr.repository;
+
+import com.lucr.dto.request.NewsSearchRequest;
+import com.lucr.entity.News;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * News 동적 검색 조건 (JPA Specification)
+ *
+ * NewsSearchRequest의 조건 중 값이 있는 것만 AND로 묶어 하나의 쿼리를 만듭니다.
+ *
+ * 조건 순서 (인덱스 선택도 높은 것부터):
+ *   1. source          = ?            → idx_news_source_published_at
+ *   2. published_at    BETWEEN ? AND ? → idx_news_source_published_at / idx_news_published_at
+ *   3. sentiment_score BETWEEN ? AND ? → idx_news_sentiment
+ *   4. view_count >= ?, is_high_view = ?
+ *   5. title/content LIKE %keyword%   (인덱스 사용 불가 - 앞 조건으로 줄어든 행에만 적용)
+ *
+ * 모든 조건은 컬럼을 함수로 감싸지 않은 sargable 형태로 작성하여
+ * PostgreSQL이 위 인덱스를 Index Scan / Bitmap AND로 사용할 수 있게 합니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-11
+ */
+public final class NewsSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private NewsSpecifications() {
+    }
+
+    /**
+     * 검색 요청 → Specification 변환
+     *
+     * @param request 검색 조건 (null 필드는 무시)
+     * @return 조건이 하나도 없으면 전체 조회 Specification
+     */
+    public static Specification<News> of(NewsSearchRequest request) {
+        List<Specification<News>> specs = new ArrayList<>();
+
+        if (hasText(request.getSource())) {
+            specs.add(sourceEquals(request.getSource()));
+        }
+        if (request.getStartDate() != null || request.getEndDate() != null) {
+            specs.add(publishedBetween(request.getStartDate(), request.getEndDate()));
+        }
+        if (request.getMinSentimentScore() != null || request.getMaxSentimentScore() != null) {
+            specs.add(sentimentBetween(request.getMinSentimentScore(), request.getMaxSentimentScore()));
+        }
+        if (request.getMinViewCount() != null) {
+            specs.add(viewCountAtLeast(request.getMinViewCount()));
+        }
+        if (request.getIsHighView() != null) {
+            specs.add(isHighView(request.getIsHighView()));
+        }
+        if (hasText(request.getKeyword())) {
+            specs.add(keywordContains(request.getKeyword().trim()));
+        }
+
+        return Specification.allOf(specs);
+    }
+
+    // ========== 개별 조건 ==========
+
+    /**
+     * 출처 일치
+     */
+    public static Specification<News> sourceEquals(String source) {
+        return (root, query, cb) -> cb.equal(root.get("source"), source);
+    }
+
+    /**
+     * 발행일 범위 (양 끝 포함, 한쪽만 지정 가능)
+     */
+    public static Specification<News> publishedBetween(LocalDateTime start, LocalDateTime end) {
+        return (root, query, cb) -> {
+            if (start != null && end != null) {
+                return cb.between(root.get("publishedAt"), start, end);
+            }
+            return start != null
+                    ? cb.greaterThanOrEqualTo(root.get("publishedAt"), start)
+                    : cb.lessThanOrEqualTo(root.get("publishedAt"), end);
+        };
+    }
+
+    /**
+     * 감정 점수 범위 (양 끝 포함, 한쪽만 지정 가능)
+     */
+    public static Specification<News> sentimentBetween(BigDecimal min, BigDecimal max) {
+        return (root, query, cb) -> {
+            if (min != null && max != null) {
+                return cb.between(root.get("sentimentScore"), min, max);
+            }
+            return min != null
+                    ? cb.greaterThanOrEqualTo(root.get("sentimentScore"), min)
+                    : cb.lessThanOrEqualTo(root.get("sentimentScore"), max);
+        };
+    }
+
+    /**
+     * 최소 조회수
+     */
+    public static Specification<News> viewCountAtLeast(int minViewCount) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("viewCount"), minViewCount);
+    }
+
+    /**
+     * 인기 뉴스 여부
+     */
+    public static Specification<News> isHighView(boolean highView) {
+        return (root, query, cb) -> cb.equal(root.get("isHighView"), highView);
+    }
+
+    /**
+     * 제목 또는 본문에 키워드 포함
+     *
+     * 키워드의 %, _ 는 와일드카드가 아닌 문자 그대로 검색
+     */
+    public static Specification<News> keywordContains(String keyword) {
+        String pattern = "%" + escapeLike(keyword) + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(root.get("title"), pattern, LIKE_ESCAPE),
+                cb.like(root.get("content"), pattern, LIKE_ESCAPE)
+        );
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
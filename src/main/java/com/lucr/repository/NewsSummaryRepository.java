@@ -0,0 +1,28 @@
+package com.lucr.repository;
+
+import com.lucr.dto.projection.NewsSummary;
+import com.lucr.entity.News;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * NewsSummary Projection 커스텀 조회 (NewsRepository fragment)
+ *
+ * JpaSpecificationExecutor는 엔티티만 반환하므로
+ * Specification 동적 검색 결과를 Projection으로 받기 위해 Criteria API로 직접 구현합니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-15
+ */
+public interface NewsSummaryRepository {
+
+    /**
+     * Specification 조건으로 목록용 Projection 조회 (정렬/페이징은 Pageable 사용)
+     *
+     * @param spec 검색 조건 (NewsSpecifications.of)
+     * @param pageable 페이징 정보
+     * @return 검색 결과 (COUNT 쿼리 포함)
+     */
+    Page<NewsSummary> searchSummaries(Specification<News> spec, Pageable pageable);
+}
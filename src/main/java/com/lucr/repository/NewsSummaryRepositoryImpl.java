@@ -0,0 +1,86 @@
+package com.lucr.repository;
+
+import com.lucr.dto.projection.NewsSummary;
+import com.lucr.entity.News;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+/**
+ * NewsSummaryRepository 구현 (Criteria API)
+ *
+ * 생성되는 SQL:
+ * SELECT id, title, substring(content, 1, 101), source, url, ... FROM news
+ * WHERE {spec} ORDER BY {sort} LIMIT ? OFFSET ?
+ *
+ * @author kimdongjoo
+ * @since 2026-02-15
+ */
+@RequiredArgsConstructor
+class NewsSummaryRepositoryImpl implements NewsSummaryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<NewsSummary> searchSummaries(Specification<News> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        // 1. 목록 조회 (필요한 컬럼만 생성자 표현식으로)
+        CriteriaQuery<NewsSummary> query = cb.createQuery(NewsSummary.class);
+        Root<News> root = query.from(News.class);
+        query.select(cb.construct(NewsSummary.class,
+                root.get("id"),
+                root.get("title"),
+                cb.substring(root.get("content"), 1, NewsSummary.CONTENT_HEAD_LENGTH),
+                root.get("source"),
+                root.get("url"),
+                root.get("viewCount"),
+                root.get("uniqueViewers"),
+                root.get("isHighView"),
+                root.get("sentimentScore"),
+                root.get("publishedAt"),
+                root.get("createdAt")));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<NewsSummary> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<NewsSummary> content = typedQuery.getResultList();
+
+        // 2. 마지막 페이지가 아닐 때만 COUNT 실행
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private long count(Specification<News> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<News> root = query.from(News.class);
+        query.select(cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,189 @@
+package com.lucr.search;
+
+import com.lucr.config.SearchProperties;
+import com.lucr.entity.News;
+import com.lucr.event.NewsBulkImportedEvent;
+import com.lucr.event.NewsChangedEvent;
+import com.lucr.repository.NewsRepository;
+import com.lucr.search.analysis.Analyzer;
+import com.lucr.search.analysis.KoreanNgramAnalyzer;
+import com.lucr.search.analysis.SimpleAnalyzer;
+import com.lucr.search.index.Bm25Similarity;
+import com.lucr.search.index.InvertedIndex;
+import com.lucr.search.index.SearchHits;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JVM 내 역색인 기반 검색 엔진 (lucr.search.engine=memory)
+ *
+ * 동작:
+ * 1. 기동 완료 시 news 테이블을 id 순으로 배치 조회하여 색인 구축
+ * 2. 뉴스 생성/수정/삭제 커밋 후 NewsChangedEvent로 색인 갱신
+ * 3. 검색 시 BM25 점수 상위 (offset + size)개만 선택하여 해당 페이지 ID 반환
+ *
+ * 제목과 본문은 lucr.search.analyzer로 선택한 분석기(기본: 한글 n-gram)로 색인합니다.
+ * 첫 색인 구축이 끝나기 전에는 LIKE 검색으로 대체합니다.
+ *
+ * 재구축 (기동 완료 / 일괄 가져오기 완료):
+ * - 새 색인을 따로 만든 뒤 한 번에 교체 (구축 중 검색은 이전 색인 사용, 잠시 메모리 2배)
+ * - 재구축은 한 번에 하나씩 실행 (동시에 요청되면 앞선 구축이 끝난 뒤 실행)
+ * - 구축 중 커밋된 변경은 현재 색인에 반영하면서 따로 모아 두었다가 교체 직전에 새 색인에 다시 적용
+ *   → 구축이 이미 읽은 뒤 삭제된 뉴스가 새 색인에 되살아나지 않음
+ *
+ * 주의: 인스턴스마다 독립된 색인을 가지므로,
+ *      다른 인스턴스에서 발생한 변경은 재기동(rebuild) 전까지 반영되지 않습니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-10
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "lucr.search.engine", havingValue = "memory")
+public class InMemoryNewsSearchEngine implements NewsSearchEngine {
+
+    /** UUID 정렬상 가장 작은 값 - 색인 구축 시 첫 배치의 시작점 */
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final NewsRepository newsRepository;
+    private final SearchProperties properties;
+
+    /** 현재 검색에 사용하는 색인 (재구축 시 통째로 교체) */
+    private volatile InvertedIndex index;
+
+    /** 색인 구축 완료 여부 */
+    private volatile boolean ready;
+
+    /** 변경 반영과 색인 교체를 직렬화하는 락 */
+    private final Object changeLock = new Object();
+
+    /** 재구축 중 커밋된 변경 (재구축 중이 아니면 null, changeLock으로 보호) */
+    private List<NewsChangedEvent> pendingChanges;
+
+    public InMemoryNewsSearchEngine(NewsRepository newsRepository, SearchProperties properties) {
+        this.newsRepository = newsRepository;
+        this.properties = properties;
+        this.index = newIndex();
+    }
+
+    // ========== 검색 ==========
+
+    @Override
+    public Page<UUID> search(String keyword, Pageable pageable) {
+        if (!ready) {
+            log.debug("검색 색인 구축 중 - LIKE 검색으로 대체: keyword={}", keyword);
+            return newsRepository.searchIdsByKeyword(keyword, pageable);
+        }
+
+        long end = pageable.getOffset() + pageable.getPageSize();
+        SearchHits hits = index.search(keyword, (int) Math.min(end, Integer.MAX_VALUE));
+
+        int from = (int) Math.min(pageable.getOffset(), hits.ids().size());
+        List<UUID> pageIds = hits.ids().subList(from, hits.ids().size());
+
+        return new PageImpl<>(pageIds, pageable, hits.totalHits());
+    }
+
+    // ========== 색인 구축 / 갱신 ==========
+
+    /**
+     * 기동 완료 후 전체 색인 구축
+     *
+     * id 기준 keyset 배치 조회로 OFFSET 스캔 없이 테이블을 한 번만 읽습니다.
+     * 일괄 가져오기(COPY) 완료 후에도 재구축합니다 (행 단위 이벤트가 없음).
+     */
+    @EventListener({ApplicationReadyEvent.class, NewsBulkImportedEvent.class})
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        log.info("검색 색인 구축 시작");
+
+        synchronized (changeLock) {
+            pendingChanges = new ArrayList<>();
+        }
+
+        InvertedIndex fresh = newIndex();
+        try {
+            Limit batch = Limit.of(properties.getBootstrapBatchSize());
+            UUID lastId = MIN_UUID;
+            List<News> newsList;
+            do {
+                newsList = newsRepository.findByIdGreaterThanOrderByIdAsc(lastId, batch);
+                for (News news : newsList) {
+                    fresh.upsert(news.getId(), news.getTitle(), news.getContent());
+                }
+                if (!newsList.isEmpty()) {
+                    lastId = newsList.get(newsList.size() - 1).getId();
+                }
+            } while (newsList.size() == batch.max());
+
+            synchronized (changeLock) {
+                // 구축 중 커밋된 변경을 커밋 순서대로 다시 적용한 뒤 교체
+                for (NewsChangedEvent event : pendingChanges) {
+                    apply(fresh, event);
+                }
+                index = fresh;
+                ready = true;
+            }
+        } finally {
+            synchronized (changeLock) {
+                pendingChanges = null;
+            }
+        }
+
+        log.info("검색 색인 구축 완료: documents={}, terms={}, memory={}KB, elapsed={}ms",
+                fresh.size(), fresh.termCount(), fresh.ramBytesUsed() / 1024,
+                System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 뉴스 변경 커밋 후 색인 반영 (재구축 중이면 새 색인에 다시 적용하도록 보관)
+     */
+    @TransactionalEventListener
+    public void onNewsChanged(NewsChangedEvent event) {
+        synchronized (changeLock) {
+            apply(index, event);
+            if (pendingChanges != null) {
+                pendingChanges.add(event);
+            }
+        }
+        log.debug("검색 색인 갱신: type={}, id={}", event.type(), event.newsId());
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private InvertedIndex newIndex() {
+        return new InvertedIndex(
+                createAnalyzer(properties.getAnalyzer()),
+                new Bm25Similarity(properties.getBm25K1(), properties.getBm25B()),
+                properties.getTitleBoost()
+        );
+    }
+
+    private static void apply(InvertedIndex target, NewsChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> target.upsert(
+                    event.newsId(), event.news().getTitle(), event.news().getContent());
+            case DELETED -> target.remove(event.newsId());
+        }
+    }
+
+    private static Analyzer createAnalyzer(String name) {
+        return switch (name) {
+            case "ngram" -> new KoreanNgramAnalyzer();
+            case "simple" -> new SimpleAnalyzer();
+            default -> throw new IllegalStateException("지원하지 않는 분석기입니다: " + name);
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.lucr.search;
+
+import com.lucr.repository.NewsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * LIKE 기반 검색 엔진 (lucr.search.engine=like, 기본값)
+ *
+ * 제목/본문 LIKE '%keyword%' 검색을 DB에서 페이징합니다.
+ * 색인이 없어 테이블 크기에 비례해 느려지지만, 다른 엔진과 비교 측정할 기준으로 유지합니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-10
+ */
+@Component
+@ConditionalOnProperty(name = "lucr.search.engine", havingValue = "like", matchIfMissing = true)
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LikeNewsSearchEngine implements NewsSearchEngine {
+
+    private final NewsRepository newsRepository;
+
+    @Override
+    public Page<UUID> search(String keyword, Pageable pageable) {
+        return newsRepository.searchIdsByKeyword(keyword, pageable);
+    }
+}
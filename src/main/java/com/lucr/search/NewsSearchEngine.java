@@ -0,0 +1,30 @@
+package com.lucr.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
+
+/**
+ * 키워드 검색 엔진
+ *
+ * 검색 결과로 엔티티가 아닌 "정렬된 뉴스 ID 한 페이지"만 반환합니다.
+ * NewsService는 반환된 페이지의 ID만 DB에서 조회(hydrate)하므로,
+ * 일치하는 전체 뉴스를 메모리에 올리지 않습니다.
+ *
+ * 구현체는 lucr.search.engine 설정으로 선택합니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-10
+ */
+public interface NewsSearchEngine {
+
+    /**
+     * 키워드 검색
+     *
+     * @param keyword  검색 키워드
+     * @param pageable 페이징 정보
+     * @return 검색 순위대로 정렬된 뉴스 ID 페이지 (totalElements = 전체 일치 수)
+     */
+    Page<UUID> search(String keyword, Pageable pageable);
+}
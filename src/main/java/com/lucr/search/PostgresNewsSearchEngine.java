@@ -0,0 +1,83 @@
+package com.lucr.search;
+
+import com.lucr.config.SearchProperties;
+import com.lucr.repository.NewsRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL 전문 검색 엔진 (lucr.search.engine=postgres)
+ *
+ * news 테이블에 제목/본문으로 생성되는 tsvector 컬럼(search_vector)과 GIN 인덱스를 두고,
+ * ts_rank 순으로 정렬한 ID 페이지를 DB에서 바로 LIMIT/OFFSET 합니다.
+ * - LIKE '%keyword%'와 달리 인덱스를 사용하므로 테이블 크기에 비례해 느려지지 않음
+ *
+ * search_vector는 엔티티에 매핑하지 않는 DB 생성 컬럼이므로
+ * (GENERATED ALWAYS ... STORED, INSERT/UPDATE 시 DB가 자동 계산)
+ * 기동 시 없으면 컬럼과 인덱스를 만듭니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-11
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "lucr.search.engine", havingValue = "postgres")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostgresNewsSearchEngine implements NewsSearchEngine {
+
+    /** regconfig 이름은 SQL에 직접 들어가므로 식별자 형태만 허용 */
+    private static final Pattern CONFIG_NAME = Pattern.compile("[a-z_]+");
+
+    private final NewsRepository newsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final SearchProperties properties;
+
+    /**
+     * search_vector 생성 컬럼 + GIN 인덱스 준비
+     *
+     * 제목은 가중치 A, 본문은 가중치 B로 넣어 ts_rank에서 제목 일치가 더 높은 점수를 받도록 함
+     * - 기존 행은 ADD COLUMN 시 한 번에 계산됨 (테이블 재작성 발생, 최초 1회)
+     */
+    @PostConstruct
+    void ensureSchema() {
+        String config = properties.getPostgresConfig();
+        if (!CONFIG_NAME.matcher(config).matches()) {
+            throw new IllegalStateException("lucr.search.postgres-config 값이 올바르지 않습니다: " + config);
+        }
+
+        jdbcTemplate.execute("""
+                ALTER TABLE news ADD COLUMN IF NOT EXISTS search_vector tsvector
+                GENERATED ALWAYS AS (
+                    setweight(to_tsvector('%1$s'::regconfig, coalesce(title, '')), 'A') ||
+                    setweight(to_tsvector('%1$s'::regconfig, coalesce(content, '')), 'B')
+                ) STORED
+                """.formatted(config));
+        jdbcTemplate.execute(
+                "CREATE INDEX IF NOT EXISTS idx_news_search_vector ON news USING GIN (search_vector)");
+
+        log.info("PostgreSQL 전문 검색 준비 완료: config={}", config);
+    }
+
+    /**
+     * 전문 검색
+     *
+     * 관련도 순 정렬이므로 Pageable의 sort는 무시하고 페이지 위치만 사용
+     */
+    @Override
+    public Page<UUID> search(String keyword, Pageable pageable) {
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        return newsRepository.searchIdsByFullText(properties.getPostgresConfig(), keyword, unsorted);
+    }
+}
@@ -0,0 +1,23 @@
+package com.lucr.search.analysis;
+
+/**
+ * 텍스트 → 검색 토큰 변환기
+ *
+ * 색인(News 제목/본문)과 검색어 분석에 같은 구현을 사용해야
+ * 같은 단어가 같은 토큰으로 매칭됩니다.
+ *
+ * 구현체는 여러 스레드에서 동시에 호출될 수 있으므로 thread-safe 해야 합니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-10
+ */
+public interface Analyzer {
+
+    /**
+     * 텍스트를 분석하여 토큰을 순서대로 consumer에 전달
+     *
+     * @param text     분석할 텍스트 (null이면 아무것도 하지 않음)
+     * @param consumer 토큰 수신 콜백
+     */
+    void analyze(CharSequence text, TokenConsumer consumer);
+}
@@ -0,0 +1,85 @@
+package com.lucr.search.analysis;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * char[] 구간으로 조회 가능한 불변 문자열 집합
+ *
+ * TokenConsumer가 넘겨주는 (buffer, offset, length)를 String으로 만들지 않고
+ * 그대로 포함 여부를 확인하기 위해 사용합니다. (불용어 사전 등)
+ *
+ * 구현: open addressing (linear probing), 해시는 String.hashCode와 같은 방식
+ *
+ * @author kimdongjoo
+ * @since 2026-02-12
+ */
+public final class CharArraySet {
+
+    private final char[][] entries;
+    private final int mask;
+    private final int size;
+
+    /**
+     * @param words 포함할 단어 목록 (CharNormalizer로 정규화하여 저장)
+     */
+    public CharArraySet(Collection<String> words) {
+        int capacity = Integer.highestOneBit(Math.max(4, words.size() * 2) - 1) << 1;
+        this.entries = new char[capacity][];
+        this.mask = capacity - 1;
+
+        int count = 0;
+        for (String word : words) {
+            char[] normalized = new char[word.length()];
+            for (int i = 0; i < normalized.length; i++) {
+                normalized[i] = CharNormalizer.normalize(word.charAt(i));
+            }
+            if (insert(normalized)) {
+                count++;
+            }
+        }
+        this.size = count;
+    }
+
+    /**
+     * 포함 여부 확인
+     */
+    public boolean contains(char[] buffer, int offset, int length) {
+        int slot = hash(buffer, offset, length) & mask;
+        char[] entry;
+        while ((entry = entries[slot]) != null) {
+            if (Arrays.equals(entry, 0, entry.length, buffer, offset, offset + length)) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // ========== 내부 구현 ==========
+
+    private boolean insert(char[] word) {
+        int slot = hash(word, 0, word.length) & mask;
+        char[] entry;
+        while ((entry = entries[slot]) != null) {
+            if (Arrays.equals(entry, word)) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        entries[slot] = word;
+        return true;
+    }
+
+    private static int hash(char[] buffer, int offset, int length) {
+        int h = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            h = 31 * h + buffer[i];
+        }
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,48 @@
+package com.lucr.search.analysis;
+
+/**
+ * 문자 단위 정규화 - 전각 → 반각 변환 + 소문자 변환
+ *
+ * 예시: "ＳＫ하이닉스 ＡＡＰＬ" → "sk하이닉스 aapl"
+ *
+ * 크롤링한 기사 본문에는 전각 영문/숫자(Ｆｕｌｌ ｗｉｄｔｈ)가 섞여 있어
+ * 정규화하지 않으면 "AAPL"과 "ＡＡＰＬ"이 서로 다른 토큰이 됩니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-12
+ */
+public final class CharNormalizer {
+
+    /** 전각 ASCII 영역 (！ ~ ～) */
+    private static final char FULLWIDTH_FIRST = '！';
+    private static final char FULLWIDTH_LAST = '～';
+
+    /** 전각 → 반각 변환 차이 (0xFF01 - 0x21) */
+    private static final int FULLWIDTH_OFFSET = 0xFEE0;
+
+    /** 전각 공백 */
+    private static final char IDEOGRAPHIC_SPACE = '　';
+
+    private CharNormalizer() {
+    }
+
+    /**
+     * 문자 하나 정규화
+     *
+     * @param c 원본 문자
+     * @return 반각/소문자로 변환된 문자 (변환 대상이 아니면 그대로)
+     */
+    public static char normalize(char c) {
+        if (c >= FULLWIDTH_FIRST && c <= FULLWIDTH_LAST) {
+            c = (char) (c - FULLWIDTH_OFFSET);
+        } else if (c == IDEOGRAPHIC_SPACE) {
+            return ' ';
+        }
+
+        // ASCII는 테이블 조회 없이 처리 (기사 본문 대부분이 한글 + ASCII)
+        if (c < 0x80) {
+            return (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(c);
+    }
+}
@@ -0,0 +1,140 @@
+package com.lucr.search.analysis;
+
+import java.util.List;
+
+/**
+ * 한국어 n-gram 분석기
+ *
+ * 한국어 뉴스는 "삼성전자", "반도체수출" 처럼 복합어가 붙어 쓰이고 조사가 결합되어
+ * 공백 단위 토큰화로는 부분 검색이 되지 않습니다.
+ * 형태소 분석기 없이 부분 일치를 지원하기 위해 한글 구간은 음절 n-gram으로 분해합니다.
+ *
+ * 처리 순서:
+ *   1. 문자 정규화 (전각 → 반각, 소문자)             → CharNormalizer
+ *   2. 문자 종류별 단어 분리 (한글 / 영문·숫자 / 구분자)
+ *   3. 단어 필터 (불용어 등)                          → TokenFilter
+ *   4. 한글 단어는 bigram + trigram, 그 외는 단어 그대로 토큰화
+ *
+ * 예시: "SK하이닉스, ＨＢＭ 공급" →
+ *   [sk, 하이, 하이닉, 이닉, 이닉스, 닉스, hbm, 공급]
+ *
+ * 한 음절 한글 단어("금", "원")는 n-gram을 만들 수 없으므로 그대로 토큰화합니다.
+ *
+ * 단어 버퍼는 스레드별로 재사용하고 n-gram은 버퍼의 구간을 그대로 넘기므로
+ * 토큰당 객체 할당이 없습니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-12
+ */
+public class KoreanNgramAnalyzer implements Analyzer {
+
+    /** 이보다 긴 단어는 잘라서 사용 (URL, 해시 등 비정상적으로 긴 문자열 방어) */
+    private static final int MAX_WORD_LENGTH = 64;
+
+    private static final ThreadLocal<char[]> BUFFER =
+            ThreadLocal.withInitial(() -> new char[MAX_WORD_LENGTH]);
+
+    /** 문자 종류 */
+    private static final int SEPARATOR = 0;
+    private static final int HANGUL = 1;
+    private static final int WORD = 2;
+
+    private final int minGram;
+    private final int maxGram;
+    private final TokenFilter[] filters;
+
+    /**
+     * 기본 설정: bigram + trigram, 기본 불용어 필터
+     */
+    public KoreanNgramAnalyzer() {
+        this(2, 3, List.of(new StopWordFilter()));
+    }
+
+    /**
+     * @param minGram 한글 n-gram 최소 길이 (1 이상)
+     * @param maxGram 한글 n-gram 최대 길이 (minGram 이상)
+     * @param filters 단어 필터 (등록 순서대로 적용)
+     */
+    public KoreanNgramAnalyzer(int minGram, int maxGram, List<? extends TokenFilter> filters) {
+        if (minGram < 1 || maxGram < minGram) {
+            throw new IllegalArgumentException(
+                    "n-gram 범위가 올바르지 않습니다: min=" + minGram + ", max=" + maxGram);
+        }
+        this.minGram = minGram;
+        this.maxGram = maxGram;
+        this.filters = filters.toArray(new TokenFilter[0]);
+    }
+
+    @Override
+    public void analyze(CharSequence text, TokenConsumer consumer) {
+        if (text == null) {
+            return;
+        }
+
+        char[] buffer = BUFFER.get();
+        int length = 0;
+        int wordType = SEPARATOR;
+
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = CharNormalizer.normalize(text.charAt(i));
+            int type = typeOf(c);
+
+            if (type != wordType) {
+                emitWord(buffer, length, wordType, consumer);
+                length = 0;
+                wordType = type;
+            }
+            if (type != SEPARATOR && length < MAX_WORD_LENGTH) {
+                buffer[length++] = c;
+            }
+        }
+
+        emitWord(buffer, length, wordType, consumer);
+    }
+
+    // ========== 내부 구현 ==========
+
+    private void emitWord(char[] buffer, int length, int wordType, TokenConsumer consumer) {
+        if (length == 0 || !accept(buffer, length)) {
+            return;
+        }
+
+        if (wordType != HANGUL || length <= minGram) {
+            consumer.accept(buffer, 0, length);
+            return;
+        }
+
+        // 위치 순서대로 n-gram 전달: 하이, 하이닉, 이닉, 이닉스, 닉스
+        for (int start = 0; start + minGram <= length; start++) {
+            int longest = Math.min(maxGram, length - start);
+            for (int gram = minGram; gram <= longest; gram++) {
+                consumer.accept(buffer, start, gram);
+            }
+        }
+    }
+
+    private boolean accept(char[] buffer, int length) {
+        for (TokenFilter filter : filters) {
+            if (!filter.accept(buffer, 0, length)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int typeOf(char c) {
+        if (isHangul(c)) {
+            return HANGUL;
+        }
+        return Character.isLetterOrDigit(c) ? WORD : SEPARATOR;
+    }
+
+    /**
+     * 한글 음절 / 자모 여부 (ㅋㅋ 같은 자모 단독 표기 포함)
+     */
+    private static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣')
+                || (c >= 'ㄱ' && c <= 'ㆎ')
+                || (c >= 'ᄀ' && c <= 'ᇿ');
+    }
+}
@@ -0,0 +1,46 @@
+package com.lucr.search.analysis;
+
+/**
+ * 기본 분석기 - 문자/숫자 연속 구간을 하나의 토큰으로 자르고 소문자로 변환
+ *
+ * 예시: "Samsung 삼성전자, 3Q 실적!" → [samsung, 삼성전자, 3q, 실적]
+ *
+ * 토큰 버퍼는 스레드별로 재사용하므로 토큰당 객체 할당이 없습니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-10
+ */
+public class SimpleAnalyzer implements Analyzer {
+
+    /** 이보다 긴 토큰은 잘라서 사용 (URL, 해시 등 비정상적으로 긴 문자열 방어) */
+    private static final int MAX_TOKEN_LENGTH = 64;
+
+    private static final ThreadLocal<char[]> BUFFER =
+            ThreadLocal.withInitial(() -> new char[MAX_TOKEN_LENGTH]);
+
+    @Override
+    public void analyze(CharSequence text, TokenConsumer consumer) {
+        if (text == null) {
+            return;
+        }
+
+        char[] buffer = BUFFER.get();
+        int length = 0;
+
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (length < MAX_TOKEN_LENGTH) {
+                    buffer[length++] = Character.toLowerCase(c);
+                }
+            } else if (length > 0) {
+                consumer.accept(buffer, 0, length);
+                length = 0;
+            }
+        }
+
+        if (length > 0) {
+            consumer.accept(buffer, 0, length);
+        }
+    }
+}
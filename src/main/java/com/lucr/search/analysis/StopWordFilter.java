@@ -0,0 +1,44 @@
+package com.lucr.search.analysis;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 불용어 필터 - 검색 의미가 없는 단어 제외
+ *
+ * 기본 사전은 금융 뉴스 본문에 자주 등장하지만 변별력이 없는 단어로 구성
+ * - 영문 관사/전치사 (the, of, ...)
+ * - 한국어 접속사/지시어, 기사 상투어 (그리고, 밝혔다, 기자 ...)
+ *
+ * @author kimdongjoo
+ * @since 2026-02-12
+ */
+public class StopWordFilter implements TokenFilter {
+
+    /** 기본 불용어 */
+    public static final List<String> DEFAULT_STOP_WORDS = List.of(
+            // 영문
+            "a", "an", "the", "and", "or", "of", "to", "in", "on", "at", "by", "for",
+            "with", "from", "as", "is", "are", "was", "were", "be", "it", "this", "that",
+            // 한국어 접속사 / 지시어
+            "그리고", "그러나", "하지만", "또한", "또", "및", "등", "이", "그", "저",
+            "것", "수", "때문", "위해", "대한", "통해", "이번", "지난",
+            // 기사 상투어
+            "있다", "했다", "한다", "밝혔다", "말했다", "전했다", "기자", "뉴스"
+    );
+
+    private final CharArraySet stopWords;
+
+    public StopWordFilter() {
+        this(DEFAULT_STOP_WORDS);
+    }
+
+    public StopWordFilter(Collection<String> stopWords) {
+        this.stopWords = new CharArraySet(stopWords);
+    }
+
+    @Override
+    public boolean accept(char[] buffer, int offset, int length) {
+        return !stopWords.contains(buffer, offset, length);
+    }
+}
@@ -0,0 +1,23 @@
+package com.lucr.search.analysis;
+
+/**
+ * 분석기가 만들어낸 토큰을 받는 콜백
+ *
+ * 토큰마다 String을 만들지 않기 위해 재사용 버퍼의 일부 구간을 그대로 넘깁니다.
+ * - buffer 내용은 콜백이 끝나면 덮어써지므로 보관이 필요하면 복사해야 함
+ *
+ * @author kimdongjoo
+ * @since 2026-02-10
+ */
+@FunctionalInterface
+public interface TokenConsumer {
+
+    /**
+     * 토큰 하나 전달
+     *
+     * @param buffer 토큰 문자가 들어있는 버퍼 (재사용됨)
+     * @param offset 토큰 시작 위치
+     * @param length 토큰 길이
+     */
+    void accept(char[] buffer, int offset, int length);
+}
@@ -0,0 +1,24 @@
+package com.lucr.search.analysis;
+
+/**
+ * 단어 단위 토큰 필터
+ *
+ * 분석기가 단어(같은 문자 종류의 연속 구간)를 자른 직후, n-gram 분해 전에 호출됩니다.
+ * false를 반환하면 해당 단어는 색인/검색에서 제외됩니다.
+ *
+ * 버퍼는 재사용되므로 필터 안에서 보관하면 안 됩니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-12
+ */
+@FunctionalInterface
+public interface TokenFilter {
+
+    /**
+     * @param buffer 정규화된 단어가 들어있는 버퍼
+     * @param offset 단어 시작 위치
+     * @param length 단어 길이
+     * @return 유지하면 true, 제외하면 false
+     */
+    boolean accept(char[] buffer, int offset, int length);
+}
@@ -0,0 +1,48 @@
+package com.lucr.search.index;
+
+/**
+ * BM25 랭킹 함수
+ *
+ * score(q, d) = Σ idf(t) · tf · (k1 + 1) / (tf + k1 · (1 - b + b · |d| / avgdl))
+ * idf(t)      = ln(1 + (N - df + 0.5) / (df + 0.5))
+ *
+ * - k1: tf 포화 정도 (클수록 같은 단어 반복에 점수를 더 줌)
+ * - b : 문서 길이 정규화 강도 (0 = 길이 무시, 1 = 완전 정규화)
+ *
+ * @author kimdongjoo
+ * @since 2026-02-10
+ */
+public record Bm25Similarity(float k1, float b) {
+
+    /** 일반적으로 쓰이는 기본값 (Lucene과 동일) */
+    public static final Bm25Similarity DEFAULT = new Bm25Similarity(1.2f, 0.75f);
+
+    public Bm25Similarity {
+        if (k1 < 0 || b < 0 || b > 1) {
+            throw new IllegalArgumentException("BM25 파라미터가 올바르지 않습니다: k1=" + k1 + ", b=" + b);
+        }
+    }
+
+    /**
+     * 역문서 빈도
+     *
+     * @param docFreq  용어가 등장하는 문서 수
+     * @param docCount 전체 문서 수
+     */
+    float idf(int docFreq, int docCount) {
+        return (float) Math.log(1 + (docCount - docFreq + 0.5) / (docFreq + 0.5));
+    }
+
+    /**
+     * 문서 하나에 대한 용어 점수
+     *
+     * @param idf          idf(t)
+     * @param termFreq     문서 내 용어 빈도
+     * @param docLength    문서 길이 (토큰 수)
+     * @param avgDocLength 평균 문서 길이
+     */
+    float score(float idf, int termFreq, int docLength, float avgDocLength) {
+        float norm = k1 * (1 - b + b * docLength / avgDocLength);
+        return idf * termFreq * (k1 + 1) / (termFreq + norm);
+    }
+}
@@ -0,0 +1,423 @@
+package com.lucr.search.index;
+
+import com.lucr.search.analysis.Analyzer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 뉴스 역색인 (In-memory Inverted Index) + BM25 랭킹
+ *
+ * 구성:
+ * - 용어 사전 (TermDictionary)  : 토큰 → termId
+ * - 포스팅 리스트 (PostingsList) : termId → [docId, tf] 압축 목록
+ * - 문서 norm (docLengths)       : docId → 문서 길이 (BM25 길이 정규화용)
+ * - docId ↔ 뉴스 UUID 매핑
+ *
+ * 문서 수정은 "기존 docId 삭제 표시 + 새 docId 추가"로 처리하고,
+ * 삭제 표시된 문서가 일정 비율을 넘으면 compact()로 포스팅을 재작성합니다.
+ *
+ * 동시성:
+ * - 검색은 읽기 락, 색인/삭제는 쓰기 락 (쓰기는 뉴스 생성/수정 시에만 발생)
+ *
+ * @author kimdongjoo
+ * @since 2026-02-10
+ */
+public class InvertedIndex {
+
+    /** 삭제 표시 문서가 이 수 이상이고 전체의 1/4을 넘으면 compact */
+    private static final int MIN_DELETES_FOR_COMPACTION = 1024;
+
+    /** 용어 / 문서 배열 초기 크기 */
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private final Analyzer analyzer;
+    private final Bm25Similarity similarity;
+    private final int titleBoost;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ── 아래 필드는 모두 lock으로 보호 ──
+    private TermDictionary dictionary = new TermDictionary();
+    private PostingsList[] postings = new PostingsList[INITIAL_CAPACITY];
+    private UUID[] docToNews = new UUID[INITIAL_CAPACITY];
+    private int[] docLengths = new int[INITIAL_CAPACITY];
+    private final BitSet deletedDocs = new BitSet();
+    private final Map<UUID, Integer> newsToDoc = new HashMap<>();
+    private int maxDoc;
+    private int deletedCount;
+    private long totalLiveLength;
+
+    /** 색인 중 문서 하나의 용어 빈도 집계 버퍼 (쓰기 락 안에서만 사용) */
+    private final DocTermCounter termCounter = new DocTermCounter();
+
+    /**
+     * @param analyzer   제목/본문/검색어 분석기
+     * @param similarity BM25 파라미터
+     * @param titleBoost 제목 토큰 가중치 (제목 토큰 1개를 본문 토큰 N개로 취급)
+     */
+    public InvertedIndex(Analyzer analyzer, Bm25Similarity similarity, int titleBoost) {
+        if (titleBoost < 1) {
+            throw new IllegalArgumentException("titleBoost는 1 이상이어야 합니다: " + titleBoost);
+        }
+        this.analyzer = analyzer;
+        this.similarity = similarity;
+        this.titleBoost = titleBoost;
+    }
+
+    // ========== 색인 ==========
+
+    /**
+     * 뉴스 색인 (이미 있으면 교체)
+     *
+     * @param newsId  뉴스 ID
+     * @param title   제목
+     * @param content 본문
+     */
+    public void upsert(UUID newsId, String title, String content) {
+        lock.writeLock().lock();
+        try {
+            deleteInternal(newsId);
+
+            termCounter.clear();
+            analyzer.analyze(title, (buffer, offset, length) ->
+                    termCounter.add(dictionary.getOrAdd(buffer, offset, length), titleBoost));
+            analyzer.analyze(content, (buffer, offset, length) ->
+                    termCounter.add(dictionary.getOrAdd(buffer, offset, length), 1));
+
+            int docId = maxDoc++;
+            ensureDocCapacity(maxDoc);
+            ensureTermCapacity(dictionary.size());
+
+            int docLength = 0;
+            for (int i = 0; i < termCounter.size(); i++) {
+                int termId = termCounter.termAt(i);
+                int termFreq = termCounter.freqAt(i);
+                PostingsList list = postings[termId];
+                if (list == null) {
+                    list = postings[termId] = new PostingsList();
+                }
+                list.add(docId, termFreq);
+                docLength += termFreq;
+            }
+
+            docToNews[docId] = newsId;
+            docLengths[docId] = docLength;
+            newsToDoc.put(newsId, docId);
+            totalLiveLength += docLength;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 뉴스 색인 제거
+     *
+     * @return 색인에 있었으면 true
+     */
+    public boolean remove(UUID newsId) {
+        lock.writeLock().lock();
+        try {
+            return deleteInternal(newsId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 색인 삭제 (용어 사전 포함, 재구축 시 이전 용어가 남지 않도록 배열도 초기 크기로)
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            dictionary = new TermDictionary();
+            postings = new PostingsList[INITIAL_CAPACITY];
+            docToNews = new UUID[INITIAL_CAPACITY];
+            docLengths = new int[INITIAL_CAPACITY];
+            deletedDocs.clear();
+            newsToDoc.clear();
+            maxDoc = 0;
+            deletedCount = 0;
+            totalLiveLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ========== 검색 ==========
+
+    /**
+     * BM25 점수 상위 문서 검색
+     *
+     * 검색어의 각 용어를 OR 조건으로 매칭하고, 여러 용어가 일치할수록 점수가 높아집니다.
+     *
+     * @param query 검색어
+     * @param topK  반환할 최대 문서 수 (페이지 끝 위치 = offset + size)
+     * @return 상위 topK개 뉴스 ID + 전체 일치 문서 수
+     */
+    public SearchHits search(String query, int topK) {
+        lock.readLock().lock();
+        try {
+            int liveDocs = maxDoc - deletedCount;
+            if (liveDocs == 0) {
+                return SearchHits.empty();
+            }
+
+            int[] termIds = analyzeQuery(query);
+            if (termIds.length == 0) {
+                return SearchHits.empty();
+            }
+
+            int expected = 0;
+            for (int termId : termIds) {
+                expected += postings[termId].docFreq();
+            }
+
+            float avgDocLength = Math.max(1f, (float) totalLiveLength / liveDocs);
+            ScoreAccumulator accumulator = new ScoreAccumulator(expected);
+
+            for (int termId : termIds) {
+                PostingsList list = postings[termId];
+                float idf = similarity.idf(Math.min(list.docFreq(), liveDocs), liveDocs);
+                PostingsList.Cursor cursor = list.cursor();
+                while (cursor.next()) {
+                    int docId = cursor.docId();
+                    if (deletedDocs.get(docId)) {
+                        continue;
+                    }
+                    accumulator.add(docId, similarity.score(idf, cursor.termFreq(), docLengths[docId], avgDocLength));
+                }
+            }
+
+            int[] topDocs = accumulator.topK(Math.max(0, topK));
+            List<UUID> ids = new ArrayList<>(topDocs.length);
+            for (int docId : topDocs) {
+                ids.add(docToNews[docId]);
+            }
+            return new SearchHits(ids, accumulator.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== 상태 ==========
+
+    /**
+     * 색인된 (삭제되지 않은) 문서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return maxDoc - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 용어 사전 크기
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return dictionary.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 대략적인 메모리 사용량 (바이트)
+     */
+    public long ramBytesUsed() {
+        lock.readLock().lock();
+        try {
+            long bytes = dictionary.ramBytesUsed()
+                    + (long) docLengths.length * Integer.BYTES
+                    + (long) docToNews.length * 32
+                    + (long) newsToDoc.size() * 48;
+            for (int termId = 0; termId < dictionary.size(); termId++) {
+                if (postings[termId] != null) {
+                    bytes += postings[termId].ramBytesUsed();
+                }
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== Helper 메서드 ==========
+
+    /**
+     * 검색어를 사전에 존재하는 고유 termId 배열로 변환 (사전에 없는 용어는 무시)
+     */
+    private int[] analyzeQuery(String query) {
+        int[][] holder = {new int[8]};
+        int[] count = {0};
+        analyzer.analyze(query, (buffer, offset, length) -> {
+            int termId = dictionary.find(buffer, offset, length);
+            if (termId < 0 || postings[termId] == null) {
+                return;
+            }
+            int[] ids = holder[0];
+            for (int i = 0; i < count[0]; i++) {
+                if (ids[i] == termId) {
+                    return;
+                }
+            }
+            if (count[0] == ids.length) {
+                holder[0] = ids = Arrays.copyOf(ids, ids.length << 1);
+            }
+            ids[count[0]++] = termId;
+        });
+        return Arrays.copyOf(holder[0], count[0]);
+    }
+
+    private boolean deleteInternal(UUID newsId) {
+        Integer docId = newsToDoc.remove(newsId);
+        if (docId == null) {
+            return false;
+        }
+        deletedDocs.set(docId);
+        deletedCount++;
+        totalLiveLength -= docLengths[docId];
+        docToNews[docId] = null;
+
+        if (deletedCount >= MIN_DELETES_FOR_COMPACTION && deletedCount * 4 > maxDoc) {
+            compact();
+        }
+        return true;
+    }
+
+    /**
+     * 삭제 표시된 문서를 포스팅에서 제거하고 docId를 0부터 다시 부여
+     */
+    private void compact() {
+        int[] remap = new int[maxDoc];
+        int newMaxDoc = 0;
+        for (int docId = 0; docId < maxDoc; docId++) {
+            remap[docId] = deletedDocs.get(docId) ? -1 : newMaxDoc++;
+        }
+
+        for (int termId = 0; termId < dictionary.size(); termId++) {
+            PostingsList old = postings[termId];
+            if (old == null) {
+                continue;
+            }
+            PostingsList rewritten = new PostingsList();
+            PostingsList.Cursor cursor = old.cursor();
+            while (cursor.next()) {
+                int newDocId = remap[cursor.docId()];
+                if (newDocId >= 0) {
+                    rewritten.add(newDocId, cursor.termFreq());
+                }
+            }
+            postings[termId] = rewritten.docFreq() > 0 ? rewritten : null;
+        }
+
+        UUID[] newDocToNews = new UUID[Math.max(newMaxDoc, 16)];
+        int[] newDocLengths = new int[newDocToNews.length];
+        for (int docId = 0; docId < maxDoc; docId++) {
+            int newDocId = remap[docId];
+            if (newDocId >= 0) {
+                newDocToNews[newDocId] = docToNews[docId];
+                newDocLengths[newDocId] = docLengths[docId];
+                newsToDoc.put(docToNews[docId], newDocId);
+            }
+        }
+
+        docToNews = newDocToNews;
+        docLengths = newDocLengths;
+        deletedDocs.clear();
+        deletedCount = 0;
+        maxDoc = newMaxDoc;
+    }
+
+    private void ensureDocCapacity(int required) {
+        if (required > docToNews.length) {
+            int newLength = Math.max(required, docToNews.length << 1);
+            docToNews = Arrays.copyOf(docToNews, newLength);
+            docLengths = Arrays.copyOf(docLengths, newLength);
+        }
+    }
+
+    private void ensureTermCapacity(int required) {
+        if (required > postings.length) {
+            postings = Arrays.copyOf(postings, Math.max(required, postings.length << 1));
+        }
+    }
+
+    /**
+     * 문서 하나의 termId → 빈도 집계 (재사용 버퍼)
+     *
+     * 한 문서의 고유 용어 수는 수백~수천 개 수준이므로 선형 배열 + 오픈 어드레싱 인덱스로 충분
+     */
+    private static final class DocTermCounter {
+        private int[] terms = new int[256];
+        private int[] freqs = new int[256];
+        private int[] slots = new int[512];
+        private int size;
+
+        void clear() {
+            Arrays.fill(slots, 0);
+            size = 0;
+        }
+
+        void add(int termId, int freq) {
+            int mask = slots.length - 1;
+            int slot = (termId * 0x9E3779B9 >>> 16) & mask;
+            while (true) {
+                int entry = slots[slot];
+                if (entry == 0) {
+                    break;
+                }
+                if (terms[entry - 1] == termId) {
+                    freqs[entry - 1] += freq;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (size == terms.length) {
+                terms = Arrays.copyOf(terms, size << 1);
+                freqs = Arrays.copyOf(freqs, size << 1);
+            }
+            terms[size] = termId;
+            freqs[size] = freq;
+            slots[slot] = ++size;
+            if (size * 2 > slots.length) {
+                rehash();
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        int termAt(int index) {
+            return terms[index];
+        }
+
+        int freqAt(int index) {
+            return freqs[index];
+        }
+
+        private void rehash() {
+            slots = new int[slots.length << 1];
+            int mask = slots.length - 1;
+            for (int i = 0; i < size; i++) {
+                int slot = (terms[i] * 0x9E3779B9 >>> 16) & mask;
+                while (slots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = i + 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.lucr.search.index;
+
+import java.util.Arrays;
+
+/**
+ * 압축 포스팅 리스트 - 하나의 용어가 등장하는 문서 목록
+ *
+ * 저장 형식 (문서마다 반복):
+ *   [docId 차이값 (VInt)] [용어 빈도 tf (VInt)]
+ *
+ * docId는 항상 증가하는 순서로만 추가되므로 직전 docId와의 차이(delta)만 저장하고,
+ * 7비트 가변 길이 정수(VInt)로 인코딩하여 대부분의 항목을 1~2바이트에 담습니다.
+ *
+ * thread-safe 하지 않음 - InvertedIndex의 락 안에서만 사용
+ *
+ * @author kimdongjoo
+ * @since 2026-02-10
+ */
+final class PostingsList {
+
+    private byte[] bytes = new byte[8];
+    private int size;
+    private int lastDocId = -1;
+    private int docFreq;
+
+    /**
+     * 문서 추가
+     *
+     * @param docId 직전에 추가한 docId보다 커야 함
+     * @param termFreq 문서 내 용어 빈도
+     */
+    void add(int docId, int termFreq) {
+        if (docId <= lastDocId) {
+            throw new IllegalArgumentException("docId는 증가 순서로 추가해야 합니다: " + docId + " <= " + lastDocId);
+        }
+        ensureCapacity(size + 10);
+        size = writeVInt(bytes, size, docId - lastDocId);
+        size = writeVInt(bytes, size, termFreq);
+        lastDocId = docId;
+        docFreq++;
+    }
+
+    /**
+     * 문서 빈도 (이 용어가 등장하는 문서 수, 삭제 표시된 문서 포함)
+     */
+    int docFreq() {
+        return docFreq;
+    }
+
+    long ramBytesUsed() {
+        return bytes.length + 16;
+    }
+
+    /**
+     * 포스팅 순회용 커서 생성
+     */
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * 순방향 디코딩 커서
+     *
+     * 사용 예시:
+     *   Cursor c = postings.cursor();
+     *   while (c.next()) { c.docId(); c.termFreq(); }
+     */
+    final class Cursor {
+        private int position;
+        private int docId = -1;
+        private int termFreq;
+
+        boolean next() {
+            if (position >= size) {
+                return false;
+            }
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            int tf = 0;
+            shift = 0;
+            do {
+                b = bytes[position++];
+                tf |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            docId += delta;
+            termFreq = tf;
+            return true;
+        }
+
+        int docId() {
+            return docId;
+        }
+
+        int termFreq() {
+            return termFreq;
+        }
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private void ensureCapacity(int required) {
+        if (required > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length + (bytes.length >> 1)));
+        }
+    }
+
+    private static int writeVInt(byte[] target, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            target[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        target[position++] = (byte) value;
+        return position;
+    }
+}
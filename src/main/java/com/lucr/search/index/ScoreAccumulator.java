@@ -0,0 +1,167 @@
+package com.lucr.search.index;
+
+import java.util.Arrays;
+
+/**
+ * docId → 누적 점수 맵 (int → float 오픈 어드레싱)
+ *
+ * 검색어 용어별로 포스팅을 순회하며 점수를 더해 나가는 term-at-a-time 방식에 사용합니다.
+ * 전체 문서 수 크기의 float[] 대신 일치 문서 수에 비례하는 만큼만 메모리를 사용합니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-10
+ */
+final class ScoreAccumulator {
+
+    private static final int EMPTY = -1;
+
+    private int[] keys;
+    private float[] values;
+    private int size;
+
+    /**
+     * @param expectedSize 예상 문서 수 (포스팅 길이 합)
+     */
+    ScoreAccumulator(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        keys = new int[capacity];
+        values = new float[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    void add(int docId, float score) {
+        int mask = keys.length - 1;
+        int slot = mix(docId) & mask;
+        while (true) {
+            int key = keys[slot];
+            if (key == docId) {
+                values[slot] += score;
+                return;
+            }
+            if (key == EMPTY) {
+                keys[slot] = docId;
+                values[slot] = score;
+                if (++size * 2 > keys.length) {
+                    grow();
+                }
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 점수 상위 k개 문서를 점수 내림차순으로 반환
+     *
+     * 크기 k의 최소 힙을 유지하여 O(n log k)로 선택
+     */
+    int[] topK(int k) {
+        int limit = Math.min(k, size);
+        int[] heapDocs = new int[limit];
+        float[] heapScores = new float[limit];
+        int heapSize = 0;
+
+        for (int slot = 0; slot < keys.length; slot++) {
+            int docId = keys[slot];
+            if (docId == EMPTY || limit == 0) {
+                continue;
+            }
+            float score = values[slot];
+            if (heapSize < limit) {
+                heapDocs[heapSize] = docId;
+                heapScores[heapSize] = score;
+                siftUp(heapDocs, heapScores, heapSize++);
+            } else if (greater(score, docId, heapScores[0], heapDocs[0])) {
+                heapDocs[0] = docId;
+                heapScores[0] = score;
+                siftDown(heapDocs, heapScores, heapSize);
+            }
+        }
+
+        // 힙에서 최소값부터 꺼내 뒤에서부터 채우면 내림차순
+        int[] result = new int[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            result[i] = heapDocs[0];
+            heapSize--;
+            heapDocs[0] = heapDocs[heapSize];
+            heapScores[0] = heapScores[heapSize];
+            siftDown(heapDocs, heapScores, heapSize);
+        }
+        return result;
+    }
+
+    // ========== Helper 메서드 ==========
+
+    /**
+     * 점수가 같으면 먼저 색인된(docId가 작은) 문서를 우선
+     */
+    private static boolean greater(float scoreA, int docA, float scoreB, int docB) {
+        return scoreA > scoreB || (scoreA == scoreB && docA < docB);
+    }
+
+    private static void siftUp(int[] docs, float[] scores, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!greater(scores[parent], docs[parent], scores[index], docs[index])) {
+                break;
+            }
+            swap(docs, scores, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] docs, float[] scores, int size) {
+        int index = 0;
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int smallest = (right < size && greater(scores[left], docs[left], scores[right], docs[right]))
+                    ? right : left;
+            if (!greater(scores[index], docs[index], scores[smallest], docs[smallest])) {
+                return;
+            }
+            swap(docs, scores, index, smallest);
+            index = smallest;
+        }
+    }
+
+    private static void swap(int[] docs, float[] scores, int i, int j) {
+        int d = docs[i];
+        docs[i] = docs[j];
+        docs[j] = d;
+        float s = scores[i];
+        scores[i] = scores[j];
+        scores[j] = s;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        float[] oldValues = values;
+        keys = new int[oldKeys.length << 1];
+        values = new float[oldKeys.length << 1];
+        Arrays.fill(keys, EMPTY);
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = mix(oldKeys[i]) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int mix(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,20 @@
+package com.lucr.search.index;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 색인 검색 결과
+ *
+ * @param ids       점수 내림차순으로 정렬된 상위 뉴스 ID (최대 topK개)
+ * @param totalHits 검색어와 일치한 전체 문서 수
+ *
+ * @author kimdongjoo
+ * @since 2026-02-10
+ */
+public record SearchHits(List<UUID> ids, long totalHits) {
+
+    public static SearchHits empty() {
+        return new SearchHits(List.of(), 0);
+    }
+}
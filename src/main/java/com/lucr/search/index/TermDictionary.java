@@ -0,0 +1,163 @@
+package com.lucr.search.index;
+
+import java.util.Arrays;
+
+/**
+ * 용어 사전 - 토큰 문자열 ↔ 정수 termId 매핑
+ *
+ * 모든 용어 문자를 하나의 char 풀에 이어 붙여 저장하고,
+ * 오픈 어드레싱 해시 테이블로 (char[], offset, length) 구간을 바로 조회합니다.
+ * - 조회 시 String 생성 없음 (분석기 버퍼를 그대로 사용)
+ * - 용어당 객체 오버헤드 없음 (HashMap&lt;String, Integer&gt; 대비 메모리 절약)
+ *
+ * thread-safe 하지 않음 - InvertedIndex의 락 안에서만 사용
+ *
+ * @author kimdongjoo
+ * @since 2026-02-10
+ */
+final class TermDictionary {
+
+    private static final int EMPTY = -1;
+
+    /** 용어 문자 풀 */
+    private char[] pool = new char[1 << 14];
+    private int poolSize;
+
+    /** termId → 풀 내 시작 위치 / 길이 */
+    private int[] termOffsets = new int[1 << 10];
+    private int[] termLengths = new int[1 << 10];
+    private int[] termHashes = new int[1 << 10];
+    private int termCount;
+
+    /** 해시 슬롯 → termId (EMPTY = 빈 슬롯) */
+    private int[] table = newTable(1 << 11);
+
+    /**
+     * 용어 조회
+     *
+     * @return termId (없으면 -1)
+     */
+    int find(char[] buffer, int offset, int length) {
+        int hash = hash(buffer, offset, length);
+        int mask = table.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int termId = table[slot];
+            if (termId == EMPTY) {
+                return -1;
+            }
+            if (termHashes[termId] == hash && equalsTerm(termId, buffer, offset, length)) {
+                return termId;
+            }
+        }
+    }
+
+    /**
+     * 용어 조회, 없으면 새로 등록
+     *
+     * @return termId
+     */
+    int getOrAdd(char[] buffer, int offset, int length) {
+        int hash = hash(buffer, offset, length);
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        for (; ; slot = (slot + 1) & mask) {
+            int termId = table[slot];
+            if (termId == EMPTY) {
+                break;
+            }
+            if (termHashes[termId] == hash && equalsTerm(termId, buffer, offset, length)) {
+                return termId;
+            }
+        }
+
+        int termId = termCount++;
+        ensureTermCapacity(termCount);
+        ensurePoolCapacity(poolSize + length);
+
+        System.arraycopy(buffer, offset, pool, poolSize, length);
+        termOffsets[termId] = poolSize;
+        termLengths[termId] = length;
+        termHashes[termId] = hash;
+        poolSize += length;
+        table[slot] = termId;
+
+        // 적재율 50% 초과 시 테이블 확장
+        if (termCount * 2 > table.length) {
+            rehash(table.length << 1);
+        }
+        return termId;
+    }
+
+    /**
+     * 용어 문자열 (디버깅/테스트용)
+     */
+    String term(int termId) {
+        return new String(pool, termOffsets[termId], termLengths[termId]);
+    }
+
+    int size() {
+        return termCount;
+    }
+
+    /**
+     * 대략적인 메모리 사용량 (바이트)
+     */
+    long ramBytesUsed() {
+        return (long) pool.length * Character.BYTES
+                + (long) termOffsets.length * Integer.BYTES * 3
+                + (long) table.length * Integer.BYTES;
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private boolean equalsTerm(int termId, char[] buffer, int offset, int length) {
+        if (termLengths[termId] != length) {
+            return false;
+        }
+        int start = termOffsets[termId];
+        return Arrays.equals(pool, start, start + length, buffer, offset, offset + length);
+    }
+
+    private void rehash(int newCapacity) {
+        int[] newTable = newTable(newCapacity);
+        int mask = newCapacity - 1;
+        for (int termId = 0; termId < termCount; termId++) {
+            int slot = termHashes[termId] & mask;
+            while (newTable[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            newTable[slot] = termId;
+        }
+        this.table = newTable;
+    }
+
+    private void ensureTermCapacity(int required) {
+        if (required > termOffsets.length) {
+            int newLength = Math.max(required, termOffsets.length << 1);
+            termOffsets = Arrays.copyOf(termOffsets, newLength);
+            termLengths = Arrays.copyOf(termLengths, newLength);
+            termHashes = Arrays.copyOf(termHashes, newLength);
+        }
+    }
+
+    private void ensurePoolCapacity(int required) {
+        if (required > pool.length) {
+            pool = Arrays.copyOf(pool, Math.max(required, pool.length << 1));
+        }
+    }
+
+    private static int[] newTable(int capacity) {
+        int[] table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+
+    private static int hash(char[] buffer, int offset, int length) {
+        int h = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            h = 31 * h + buffer[i];
+        }
+        // 상위 비트를 섞어 선형 탐사 시 군집 완화
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,361 @@
+package com.lucr.service;
+
+import com.lucr.config.CrawlStreamProperties;
+import com.lucr.dto.response.CrawlJobResponse;
+import com.lucr.entity.CrawlJob;
+import com.lucr.event.CrawlJobProgressEvent;
+import com.lucr.exception.BusinessException;
+import com.lucr.exception.ErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 크롤링 작업 진행 상황 SSE 브로드캐스터
+ *
+ * 대시보드가 작업 상태를 매초 폴링하면 요청마다 crawl_jobs를 조회합니다.
+ * 구독 시 스냅샷을 한 번 보내고, 이후에는 CrawlJobService가 발행한
+ * CrawlJobProgressEvent를 커밋 후에 구독자에게 밀어 줍니다 (DB 조회 없음).
+ *
+ * 흐름:
+ *   GET /api/v1/admin/crawl/jobs/{jobId}/events
+ *     → subscribe()   : SseEmitter 등록 후 스냅샷(snapshot) 전송, 이미 끝난 작업이면 바로 종료
+ *     → onProgress()  : 상태 전이(status) / 기사 수 증가(articles)를 작업 구독자와 부모 작업 구독자에게 전송
+ *     → 작업이 COMPLETED / FAILED가 되면 해당 작업의 연결을 모두 종료
+ *
+ * 스레드 모델:
+ * - SseEmitter는 서블릿 비동기 요청이므로 연결을 유지하는 동안 요청 스레드를 점유하지 않음
+ * - 이벤트는 구독자별 전송 대기열(send-queue-capacity)에 넣기만 함 - 트랜잭션 커밋 스레드(결과 큐 리스너)를 막지 않음
+ * - 전송은 작은 스레드 풀(crawl-stream, send-threads개)이 구독자 단위로 직렬 처리 - 구독자별 이벤트 순서 유지
+ * - 느린 구독자(대기열 가득 참 / 전송 하나가 send-timeout-ms 초과)는 구독 해제 → 다른 구독자의 전송을 막지 않음
+ *   (막힌 전송이 끝나면 연결 종료, 끝나지 않으면 timeout-ms에 컨테이너가 종료)
+ * - 끊긴 연결은 전송 실패 / 하트비트에서 정리
+ *
+ * 메트릭:
+ * - lucr.crawl.stream.subscribers : 현재 구독 연결 수
+ *
+ * @author kimdongjoo
+ * @since 2026-02-24
+ */
+@Slf4j
+@Component
+public class CrawlJobProgressBroadcaster implements MeterBinder {
+
+    /** 대기열에서 연결 종료를 뜻하는 표식 (전송할 이벤트 뒤에 넣어 순서 유지) */
+    private static final SseEmitter.SseEventBuilder CLOSE = SseEmitter.event();
+
+    private final CrawlJobService crawlJobService;
+    private final CrawlStreamProperties properties;
+
+    /** 작업 ID → 구독 연결 */
+    private final ConcurrentHashMap<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    /** 구독 중인 부모 작업의 자식 ID → 부모 ID (ARTICLES 이벤트에는 parentId가 없음) */
+    private final ConcurrentHashMap<UUID, UUID> parentOf = new ConcurrentHashMap<>();
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final ExecutorService sender;
+
+    public CrawlJobProgressBroadcaster(CrawlJobService crawlJobService, CrawlStreamProperties properties) {
+        this.crawlJobService = crawlJobService;
+        this.properties = properties;
+        this.sender = Executors.newFixedThreadPool(Math.max(1, properties.getSendThreads()),
+                Thread.ofPlatform().name("crawl-stream-", 0).daemon(true).factory());
+    }
+
+    // ========== 구독 ==========
+
+    /**
+     * 작업 진행 상황 구독
+     *
+     * 스냅샷을 읽기 전에 연결을 먼저 등록하므로 그 사이의 상태 전이를 놓치지 않습니다.
+     * (스냅샷보다 먼저 도착한 이벤트는 스냅샷이 덮어씀)
+     *
+     * @param jobId 작업 UUID (부모 작업이면 자식 작업 이벤트도 함께 전달)
+     * @return SSE 연결
+     * @throws com.lucr.exception.ResourceNotFoundException 작업을 찾을 수 없는 경우
+     * @throws BusinessException 구독 연결 수가 max-subscribers를 넘은 경우
+     */
+    public SseEmitter subscribe(UUID jobId) {
+        if (subscriberCount.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new BusinessException(ErrorCode.TOO_MANY_SUBSCRIBERS,
+                    "구독 연결 수가 한도(" + properties.getMaxSubscribers() + ")를 초과했습니다.");
+        }
+
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(jobId, emitter, Math.max(1, properties.getSendQueueCapacity()));
+        subscribers.compute(jobId, (key, current) -> {
+            Set<Subscriber> target = current != null ? current : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        CrawlJob job;
+        List<CrawlJob> children;
+        try {
+            job = crawlJobService.getJobById(jobId);
+            children = crawlJobService.getChildJobs(jobId);
+        } catch (RuntimeException e) {
+            unsubscribe(subscriber);
+            throw e;
+        }
+        children.forEach(child -> parentOf.put(child.getId(), jobId));
+
+        CrawlJobResponse snapshot = CrawlJobResponse.from(job, children);
+        subscriber.enqueue(SseEmitter.event().name("snapshot").data(snapshot, MediaType.APPLICATION_JSON));
+        if (job.isFinished()) {
+            subscriber.enqueue(CLOSE);
+        }
+
+        log.debug("크롤링 작업 진행 구독: jobId={}, subscribers={}", jobId, subscriberCount.get());
+        return emitter;
+    }
+
+    /**
+     * 현재 구독 연결 수
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    // ========== 이벤트 전달 ==========
+
+    /**
+     * 작업 진행 이벤트 전달 (커밋 후, 트랜잭션 밖에서 호출되면 즉시)
+     *
+     * 구독자별 대기열에 넣기만 하고 전송은 전송 스레드가 처리합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgress(CrawlJobProgressEvent event) {
+        UUID jobId = event.jobId();
+        UUID parentId = event.parentId() != null ? event.parentId() : parentOf.get(jobId);
+
+        String name = event.type().name().toLowerCase(Locale.ROOT);
+        broadcast(jobId, name, event);
+        if (parentId != null) {
+            broadcast(parentId, name, event);
+        }
+        if (event.isFinished()) {
+            forEachSubscriber(jobId, subscriber -> subscriber.enqueue(CLOSE));
+        }
+    }
+
+    /**
+     * 하트비트 (SSE 주석 이벤트)
+     *
+     * 이벤트가 없는 동안 프록시가 연결을 유휴로 끊지 않게 하고,
+     * 클라이언트가 떠난 연결은 전송 실패로, 전송이 멈춘 연결은 send-timeout-ms 초과로 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${lucr.crawl.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(current -> current.forEach(subscriber -> {
+            if (!subscriber.dropIfStalled()) {
+                subscriber.enqueue(SseEmitter.event().comment("heartbeat"));
+            }
+        }));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("lucr.crawl.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("크롤링 작업 진행 SSE 구독 연결 수")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        sender.shutdown();
+        if (!sender.awaitTermination(1, TimeUnit.SECONDS)) {
+            sender.shutdownNow();
+        }
+        subscribers.values().forEach(current -> current.forEach(subscriber -> {
+            unsubscribe(subscriber);
+            subscriber.emitter.complete();
+        }));
+    }
+
+    // ========== Helper 메서드 ==========
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(properties.getTimeoutMs());
+    }
+
+    private void broadcast(UUID jobId, String name, CrawlJobProgressEvent event) {
+        forEachSubscriber(jobId, subscriber ->
+                subscriber.enqueue(SseEmitter.event().name(name).data(event, MediaType.APPLICATION_JSON)));
+    }
+
+    private void forEachSubscriber(UUID jobId, Consumer<Subscriber> action) {
+        Set<Subscriber> current = subscribers.get(jobId);
+        if (current != null) {
+            current.forEach(action);
+        }
+    }
+
+    /**
+     * 구독 해제 (완료 / 타임아웃 / 오류 콜백이 여러 번 호출돼도 한 번만 반영)
+     */
+    private void unsubscribe(Subscriber subscriber) {
+        UUID jobId = subscriber.jobId;
+        subscribers.computeIfPresent(jobId, (key, current) -> {
+            if (current.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return current.isEmpty() ? null : current;
+        });
+        if (!subscribers.containsKey(jobId)) {
+            parentOf.values().removeIf(jobId::equals);
+        }
+    }
+
+    /**
+     * 구독 연결 하나 (전송 대기열 + 직렬 전송)
+     *
+     * 대기열에 넣은 쪽이 전송 작업을 한 번만 예약하고(draining), 전송 스레드는 대기열이 빌 때까지 보냅니다.
+     * 같은 구독자의 전송은 한 번에 하나씩만 실행되므로 순서가 유지됩니다.
+     */
+    private final class Subscriber {
+
+        private final UUID jobId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        /** 진행 중인 전송의 시작 시각 (nanoTime, 0이면 전송 중 아님) */
+        private volatile long sendStartedAt;
+
+        /** 느린 구독자로 해제됨 - 남은 이벤트는 버리고 연결 종료 */
+        private volatile boolean dropped;
+
+        Subscriber(UUID jobId, SseEmitter emitter, int capacity) {
+            this.jobId = jobId;
+            this.emitter = emitter;
+            this.pending = new ArrayBlockingQueue<>(capacity);
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (dropped || dropIfStalled()) {
+                return;
+            }
+            if (!pending.offer(event)) {
+                drop("전송 대기열 가득 참");
+                return;
+            }
+            schedule();
+        }
+
+        /**
+         * 전송 하나가 send-timeout-ms를 넘었으면 해제
+         *
+         * @return 해제되었으면 true
+         */
+        boolean dropIfStalled() {
+            long startedAt = sendStartedAt;
+            long timeout = TimeUnit.MILLISECONDS.toNanos(properties.getSendTimeoutMs());
+            if (startedAt != 0 && System.nanoTime() - startedAt > timeout) {
+                drop("전송 시간 초과");
+                return true;
+            }
+            return dropped;
+        }
+
+        /**
+         * 느린 구독자 해제 - 막힌 전송을 기다리지 않도록 여기서는 종료하지 않고,
+         * 전송 스레드가 돌아오면 연결을 종료합니다.
+         */
+        private void drop(String reason) {
+            if (dropped) {
+                return;
+            }
+            dropped = true;
+            pending.clear();
+            unsubscribe(this);
+            log.warn("느린 SSE 구독자 해제: jobId={}, reason={}", jobId, reason);
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // 종료 중
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!dropped && (event = pending.poll()) != null) {
+                    if (event == CLOSE) {
+                        close();
+                        return;
+                    }
+                    if (!send(event)) {
+                        return;
+                    }
+                }
+                if (dropped) {
+                    close();
+                    return;
+                }
+            } finally {
+                draining.set(false);
+            }
+            if (!pending.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private boolean send(SseEmitter.SseEventBuilder event) {
+            sendStartedAt = System.nanoTime();
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊었거나 이미 종료된 연결 - 컨테이너가 오류 콜백도 호출하지만 먼저 정리
+                log.debug("SSE 전송 실패 - 구독 해제: jobId={}, error={}", jobId, e.getMessage());
+                unsubscribe(this);
+                return false;
+            } finally {
+                sendStartedAt = 0;
+            }
+        }
+
+        private void close() {
+            pending.clear();
+            unsubscribe(this);
+            emitter.complete();
+        }
+    }
+}
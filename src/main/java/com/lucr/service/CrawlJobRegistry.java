@@ -0,0 +1,280 @@
+package com.lucr.service;
+
+import com.lucr.config.CrawlRegistryProperties;
+import com.lucr.entity.CrawlJob;
+import com.lucr.entity.CrawlJob.CrawlJobStatus;
+import com.lucr.event.CrawlJobChangedEvent;
+import com.lucr.event.CrawlJobProgressEvent;
+import com.lucr.repository.CrawlJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 크롤링 작업 메모리 레지스트리 (활성 작업 상태를 DB 조회 없이 제공)
+ *
+ * 작업 상태는 작업당 몇 번만 바뀌지만 대시보드 / 트리거는 계속 조회합니다.
+ * 종료되지 않은 작업을 메모리에 두고 커밋 후 이벤트로 갱신합니다.
+ *
+ * 동작:
+ * 1. 기동 완료 시 PENDING / RUNNING 작업과 그 자식 작업을 읽어 구축
+ * 2. 생성 / 상태 전이 커밋 후 CrawlJobChangedEvent로 스냅샷 병합
+ *    (이벤트의 기사 수는 ARTICLES 누적보다 늦을 수 있으므로 큰 값 유지, 종료된 작업은 이전 상태로 되돌리지 않음)
+ * 3. 결과 배치 커밋 후 CrawlJobProgressEvent(ARTICLES)로 기사 수 누적 (addIngestedArticles와 같은 규칙)
+ * 4. 종료된 작업은 terminal-ttl-ms 뒤 정리 (자식 작업은 부모와 함께 정리)
+ *
+ * 조회:
+ * - find / findChildren : 레지스트리에 있으면 복사본 반환, 없으면 Optional.empty() → 호출자가 DB 조회
+ * - hasRunningRoot      : 실행 중인 최상위 작업 여부 (구축 전에는 isReady() == false → 호출자가 DB 조회)
+ *
+ * 자식 목록은 생성 시점 또는 구축 시점부터 추적한 부모 작업만 제공합니다 (누락된 자식이 없도록).
+ * 이 인스턴스에서 커밋된 변경만 보이므로 결과 큐를 여러 인스턴스가 소비하면 값이 어긋납니다.
+ * 그래서 기본값은 비활성화(lucr.crawl.registry.enabled=false)이며, 단일 소비자 배포에서만 켭니다.
+ * 보관한 인스턴스는 바꾸지 않고 갱신할 때마다 새 복사본으로 교체하며, 조회 시에도 복사본을 반환합니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-25
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlJobRegistry {
+
+    private final CrawlJobRepository crawlJobRepository;
+    private final CrawlRegistryProperties properties;
+
+    /** 작업 ID → 스냅샷 */
+    private final Map<UUID, Entry> jobs = new ConcurrentHashMap<>();
+
+    /** 최상위 작업 ID → 자식 작업 ID (생성 / 구축 시점부터 추적한 작업만) */
+    private final Map<UUID, Set<UUID>> childrenOf = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    /**
+     * @param job       보관 중인 스냅샷 (변경하지 않음)
+     * @param expiresAt 정리 시각 (epoch ms, 종료되지 않은 작업은 Long.MAX_VALUE)
+     */
+    private record Entry(CrawlJob job, long expiresAt) {
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 구축이 끝나 hasRunningRoot()를 믿을 수 있는지
+     */
+    public boolean isReady() {
+        return properties.isEnabled() && ready;
+    }
+
+    /**
+     * 작업 조회
+     *
+     * @return 레지스트리에 있으면 복사본, 없으면 empty (DB 조회 필요)
+     */
+    public Optional<CrawlJob> find(UUID jobId) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        Entry entry = jobs.get(jobId);
+        return entry != null ? Optional.of(entry.job().copy()) : Optional.empty();
+    }
+
+    /**
+     * 자식 작업 조회
+     *
+     * @return 자식 목록을 추적 중인 부모 작업이면 복사본 목록, 아니면 empty (DB 조회 필요)
+     */
+    public Optional<List<CrawlJob>> findChildren(UUID parentId) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        Set<UUID> childIds = childrenOf.get(parentId);
+        if (childIds == null) {
+            return Optional.empty();
+        }
+        List<CrawlJob> children = new ArrayList<>(childIds.size());
+        for (UUID childId : childIds) {
+            Entry entry = jobs.get(childId);
+            if (entry == null) {
+                // 정리와 겹친 경우 - 일부만 반환하지 않고 DB로 넘김
+                return Optional.empty();
+            }
+            children.add(entry.job().copy());
+        }
+        return Optional.of(children);
+    }
+
+    /**
+     * 실행 중인 최상위(부모 / 단일) 작업이 있는지 (isReady()일 때만 사용)
+     */
+    public boolean hasRunningRoot() {
+        return jobs.values().stream()
+                .map(Entry::job)
+                .anyMatch(job -> !job.isShard() && job.getStatus() == CrawlJobStatus.RUNNING);
+    }
+
+    /**
+     * 보관 중인 작업 수
+     */
+    public int size() {
+        return jobs.size();
+    }
+
+    // ========== 갱신 ==========
+
+    /**
+     * 기동 완료 시 활성 작업으로 구축
+     *
+     * 이미 이벤트로 반영된 작업은 덮어쓰지 않습니다 (구축 중에 커밋된 변경이 더 최신).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        List<CrawlJob> active = new ArrayList<>(crawlJobRepository.findByStatus(CrawlJobStatus.PENDING));
+        active.addAll(crawlJobRepository.findByStatus(CrawlJobStatus.RUNNING));
+
+        for (CrawlJob job : active) {
+            jobs.putIfAbsent(job.getId(), entry(job));
+            if (job.isShard()) {
+                continue;
+            }
+            Set<UUID> childIds = childrenOf.computeIfAbsent(job.getId(), key -> ConcurrentHashMap.newKeySet());
+            for (CrawlJob child : crawlJobRepository.findByParentId(job.getId())) {
+                jobs.putIfAbsent(child.getId(), entry(child));
+                childIds.add(child.getId());
+            }
+        }
+        ready = true;
+
+        log.info("크롤링 작업 레지스트리 구축 완료: active={}, cached={}, elapsed={}ms",
+                active.size(), jobs.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 작업 생성 / 상태 전이 반영 (커밋 후, 트랜잭션 밖에서 호출되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(CrawlJobChangedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        CrawlJob job = event.job();
+        jobs.compute(job.getId(), (key, current) -> entry(current != null ? merge(current.job(), job) : job));
+        if (job.isShard()) {
+            childrenOf.computeIfPresent(job.getParentId(), (key, childIds) -> {
+                childIds.add(job.getId());
+                return childIds;
+            });
+        } else if (job.getStatus() == CrawlJobStatus.PENDING) {
+            // 생성 시점 - 이후 발행되는 자식 작업 이벤트로 자식 목록을 채움
+            childrenOf.putIfAbsent(job.getId(), ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    /**
+     * 결과 배치의 저장 기사 수 반영 (커밋 후)
+     *
+     * CrawlJobRepository.addIngestedArticles / addIngestedArticlesToParent와 같은 규칙:
+     * 기사 수 누적, PENDING이면 RUNNING으로 변경
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgress(CrawlJobProgressEvent event) {
+        if (!properties.isEnabled() || event.type() != CrawlJobProgressEvent.Type.ARTICLES) {
+            return;
+        }
+
+        Entry updated = addArticles(event.jobId(), event.ingested());
+        if (updated != null && updated.job().isShard()) {
+            addArticles(updated.job().getParentId(), event.ingested());
+        }
+    }
+
+    /**
+     * 만료된 종료 작업 정리
+     *
+     * - 최상위 작업: 만료되면 자식 작업과 함께 제거
+     * - 자식 작업: 부모가 레지스트리에 없을 때만 만료 시 제거 (부모의 자식 목록이 비지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${lucr.crawl.registry.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        int before = jobs.size();
+
+        for (Map.Entry<UUID, Entry> cached : jobs.entrySet()) {
+            Entry entry = cached.getValue();
+            if (entry.expiresAt() > now) {
+                continue;
+            }
+            CrawlJob job = entry.job();
+            if (!job.isShard()) {
+                if (jobs.remove(job.getId(), entry)) {
+                    Set<UUID> childIds = childrenOf.remove(job.getId());
+                    if (childIds != null) {
+                        childIds.forEach(jobs::remove);
+                    }
+                }
+            } else if (!jobs.containsKey(job.getParentId())) {
+                jobs.remove(job.getId(), entry);
+            }
+        }
+
+        int evicted = before - jobs.size();
+        if (evicted > 0) {
+            log.debug("크롤링 작업 레지스트리 정리: evicted={}, cached={}", evicted, jobs.size());
+        }
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private Entry entry(CrawlJob job) {
+        long expiresAt = job.isFinished()
+                ? System.currentTimeMillis() + properties.getTerminalTtlMs()
+                : Long.MAX_VALUE;
+        return new Entry(job.copy(), expiresAt);
+    }
+
+    /**
+     * 보관 중인 스냅샷과 이벤트 스냅샷 병합
+     *
+     * - 기사 수: 큰 값 (커밋 전에 읽은 값이 이후 ARTICLES 누적을 덮어쓰지 않도록, 기사 수는 줄지 않음)
+     * - 상태: 이미 종료된 작업은 늦게 도착한 PENDING / RUNNING으로 되돌리지 않음
+     */
+    private static CrawlJob merge(CrawlJob cached, CrawlJob incoming) {
+        CrawlJob next = cached.isFinished() && !incoming.isFinished() ? cached.copy() : incoming.copy();
+        next.setTotalArticles(Math.max(count(cached), count(incoming)));
+        return next;
+    }
+
+    private static int count(CrawlJob job) {
+        return job.getTotalArticles() != null ? job.getTotalArticles() : 0;
+    }
+
+    private Entry addArticles(UUID jobId, int ingested) {
+        return jobs.computeIfPresent(jobId, (key, entry) -> {
+            CrawlJob next = entry.job().copy();
+            next.setTotalArticles(count(next) + ingested);
+            if (next.getStatus() == CrawlJobStatus.PENDING) {
+                next.markRunning();
+            }
+            return new Entry(next, entry.expiresAt());
+        });
+    }
+}
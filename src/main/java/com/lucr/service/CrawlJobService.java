@@ -1,15 +1,25 @@
 package com.lucr.service;
 
+import com.lucr.config.CrawlShardProperties;
 import com.lucr.entity.CrawlJob;
 import com.lucr.entity.CrawlJob.CrawlJobStatus;
+import com.lucr.event.CrawlJobChangedEvent;
+import com.lucr.event.CrawlJobProgressEvent;
 import com.lucr.exception.ResourceNotFoundException;
 import com.lucr.repository.CrawlJobRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 
 /**
@@ -19,7 +29,12 @@ import java.util.UUID;
  * - 크롤링 작업 생성 (PENDING 상태)
  * - 작업 상태 조회 (jobId로 추적)
  * - 작업 상태 업데이트 (RUNNING → COMPLETED / FAILED)
- * - 중복 실행 방지 (이미 RUNNING 상태인 작업이 있는지 확인)
+ * - 중복 실행 방지 (이미 RUNNING 상태인 최상위 작업이 있는지 확인)
+ * - 샤딩: 트리거 하나를 언론사별 / 파티션별 자식 작업으로 나누고 (lucr.crawl.shard.*),
+ *   자식이 모두 끝나면 부모 작업에 totalArticles / mediaResults 집계
+ * - 진행 이벤트: 상태 전이 / 기사 수 증가를 CrawlJobProgressEvent로 발행 (커밋 후 SSE 구독자에게 전달)
+ * - 조회 / 중복 실행 확인은 CrawlJobRegistry(메모리)에서 먼저 찾고, 없을 때만 DB 조회
+ *   상태를 바꾸는 메서드는 항상 DB에서 읽은 엔티티를 변경하고 CrawlJobChangedEvent로 레지스트리 갱신
  *
  * @author Ekko0701
  * @since 2026-02-06
@@ -31,32 +46,61 @@ import java.util.UUID;
 public class CrawlJobService {
 
     private final CrawlJobRepository crawlJobRepository;
+    private final CrawlJobRegistry crawlJobRegistry;
+    private final CrawlShardProperties shardProperties;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 새로운 크롤링 작업 생성
+     * 생성된 작업 (부모 + 자식)
      *
-     * @return 생성된 CrawlJob (status = PENDING, id = 자동 생성 UUID)
+     * @param parent 부모 작업 (클라이언트에 반환하는 jobId)
+     * @param shards 자식 작업 (샤딩하지 않으면 빈 목록)
+     */
+    public record ShardedJob(CrawlJob parent, List<CrawlJob> shards) {
+
+        /**
+         * 요청 메시지를 발행할 작업 (자식이 있으면 자식, 없으면 부모)
+         */
+        public List<CrawlJob> publishTargets() {
+            return shards.isEmpty() ? List.of(parent) : shards;
+        }
+    }
+
+    /**
+     * 새로운 크롤링 작업 생성 (샤딩 설정에 따라 자식 작업 포함)
+     *
+     * @return 생성된 작업 (status = PENDING, id = 자동 생성 UUID)
      * @throws IllegalStateException 이미 실행 중인 작업이 있는 경우
      */
     @Transactional
-    public CrawlJob createJob() {
+    public ShardedJob createJob() {
         log.info("크롤링 작업 생성 요청");
 
-        // 이미 실행 중인 작업이 있는지 확인 (중복 실행 방지)
-        if (crawlJobRepository.existsByStatus(CrawlJobStatus.RUNNING)) {
+        // 이미 실행 중인 작업이 있는지 확인 (중복 실행 방지, 레지스트리 구축 전이면 DB 조회)
+        boolean running = crawlJobRegistry.isReady()
+                ? crawlJobRegistry.hasRunningRoot()
+                : crawlJobRepository.existsByParentIdIsNullAndStatus(CrawlJobStatus.RUNNING);
+        if (running) {
             log.warn("이미 실행 중인 크롤링 작업이 있습니다.");
             throw new IllegalStateException("이미 실행 중인 크롤링 작업이 있습니다. 완료 후 다시 시도해주세요.");
         }
 
         CrawlJob job = CrawlJob.builder().build();
         CrawlJob savedJob = crawlJobRepository.save(job);
+        List<CrawlJob> shards = crawlJobRepository.saveAll(buildShards(savedJob.getId()));
+        publishStatus(savedJob);
+        shards.forEach(this::publishStatus);
 
-        log.info("크롤링 작업 생성 완료: jobId={}, status={}", savedJob.getId(), savedJob.getStatus());
-        return savedJob;
+        log.info("크롤링 작업 생성 완료: jobId={}, status={}, shards={}",
+                savedJob.getId(), savedJob.getStatus(), shards.size());
+        return new ShardedJob(savedJob, shards);
     }
 
     /**
-     * 작업 ID로 조회
+     * 작업 ID로 조회 (레지스트리에 있으면 DB 조회 없이 반환)
+     *
+     * 반환값은 조회 전용입니다 (레지스트리에서 찾으면 영속성 컨텍스트와 분리된 복사본).
      *
      * @param jobId 작업 UUID
      * @return CrawlJob 엔티티
@@ -65,11 +109,18 @@ public class CrawlJobService {
     public CrawlJob getJobById(UUID jobId) {
         log.debug("크롤링 작업 조회: jobId={}", jobId);
 
-        return crawlJobRepository.findById(jobId)
-                .orElseThrow(() -> {
-                    log.error("크롤링 작업을 찾을 수 없음: jobId={}", jobId);
-                    return ResourceNotFoundException.crawlJobNotFound(jobId.toString());
-                });
+        return crawlJobRegistry.find(jobId).orElseGet(() -> loadJob(jobId));
+    }
+
+    /**
+     * 자식 작업 목록 조회
+     *
+     * @param parentId 부모 작업 UUID
+     * @return 자식 작업 목록 (샤딩하지 않은 작업이면 빈 목록)
+     */
+    public List<CrawlJob> getChildJobs(UUID parentId) {
+        return crawlJobRegistry.findChildren(parentId)
+                .orElseGet(() -> crawlJobRepository.findByParentId(parentId));
     }
 
     /**
@@ -91,8 +142,9 @@ public class CrawlJobService {
      */
     @Transactional
     public CrawlJob markRunning(UUID jobId) {
-        CrawlJob job = getJobById(jobId);
+        CrawlJob job = loadJob(jobId);
         job.markRunning();
+        publishStatus(job);
 
         log.info("크롤링 작업 실행 중: jobId={}", jobId);
         return job;
@@ -108,13 +160,56 @@ public class CrawlJobService {
      */
     @Transactional
     public CrawlJob markCompleted(UUID jobId, int totalArticles, String mediaResults) {
-        CrawlJob job = getJobById(jobId);
+        CrawlJob job = loadJob(jobId);
         job.markCompleted(totalArticles, mediaResults);
+        publishStatus(job);
 
         log.info("크롤링 작업 완료: jobId={}, totalArticles={}", jobId, totalArticles);
         return job;
     }
 
+    /**
+     * 결과 배치에서 저장된 기사 수 반영 (배치당 UPDATE 1회)
+     *
+     * @param jobId            작업 UUID
+     * @param ingestedArticles 이번 배치에서 새로 저장된 기사 수
+     * @throws ResourceNotFoundException 작업을 찾을 수 없는 경우
+     */
+    @Transactional
+    public void recordIngested(UUID jobId, int ingestedArticles) {
+        int updated = crawlJobRepository.addIngestedArticles(
+                jobId, ingestedArticles, CrawlJobStatus.PENDING, CrawlJobStatus.RUNNING);
+        if (updated == 0) {
+            log.error("크롤링 작업을 찾을 수 없음: jobId={}", jobId);
+            throw ResourceNotFoundException.crawlJobNotFound(jobId.toString());
+        }
+        crawlJobRepository.addIngestedArticlesToParent(
+                jobId, ingestedArticles, CrawlJobStatus.PENDING, CrawlJobStatus.RUNNING);
+        eventPublisher.publishEvent(CrawlJobProgressEvent.articles(jobId, ingestedArticles));
+
+        log.debug("크롤링 결과 반영: jobId={}, ingested={}", jobId, ingestedArticles);
+    }
+
+    /**
+     * 작업 상태를 COMPLETED로 변경 (총 기사 수가 없으면 누적된 저장 기사 수 사용)
+     *
+     * @param jobId         작업 UUID
+     * @param totalArticles 크롤러가 보고한 총 기사 수 (null 허용)
+     * @param mediaResults  언론사별 수집 결과 JSON
+     * @return 업데이트된 CrawlJob
+     */
+    @Transactional
+    public CrawlJob completeWithResults(UUID jobId, Integer totalArticles, String mediaResults) {
+        CrawlJob job = loadJob(jobId);
+        int total = totalArticles != null ? totalArticles : job.getTotalArticles();
+        job.markCompleted(total, mediaResults);
+        publishStatus(job);
+
+        log.info("크롤링 작업 완료: jobId={}, totalArticles={}", jobId, total);
+        aggregateParent(job);
+        return job;
+    }
+
     /**
      * 작업 상태를 FAILED로 변경
      *
@@ -124,10 +219,140 @@ public class CrawlJobService {
      */
     @Transactional
     public CrawlJob markFailed(UUID jobId, String errorMessage) {
-        CrawlJob job = getJobById(jobId);
+        CrawlJob job = loadJob(jobId);
         job.markFailed(errorMessage);
+        publishStatus(job);
 
         log.error("크롤링 작업 실패: jobId={}, error={}", jobId, errorMessage);
+        aggregateParent(job);
         return job;
     }
+
+    /**
+     * 아직 PENDING인 작업만 FAILED로 변경 (요청 메시지 발행 실패 / 확인 시간 초과)
+     *
+     * 확인(ack)만 늦게 온 경우 크롤러가 이미 작업을 시작했을 수 있으므로
+     * RUNNING 이후 상태는 덮어쓰지 않습니다.
+     *
+     * @param jobId        작업 UUID
+     * @param errorMessage 에러 메시지
+     * @return FAILED로 변경했으면 true
+     */
+    @Transactional
+    public boolean failIfPending(UUID jobId, String errorMessage) {
+        CrawlJob job = loadJob(jobId);
+        if (job.getStatus() != CrawlJobStatus.PENDING) {
+            log.warn("크롤링 요청 발행 실패 - 이미 진행된 작업은 유지: jobId={}, status={}, error={}",
+                    jobId, job.getStatus(), errorMessage);
+            return false;
+        }
+        job.markFailed(errorMessage);
+        publishStatus(job);
+
+        log.error("크롤링 요청 발행 실패: jobId={}, error={}", jobId, errorMessage);
+        aggregateParent(job);
+        return true;
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private CrawlJob loadJob(UUID jobId) {
+        return crawlJobRepository.findById(jobId)
+                .orElseThrow(() -> {
+                    log.error("크롤링 작업을 찾을 수 없음: jobId={}", jobId);
+                    return ResourceNotFoundException.crawlJobNotFound(jobId.toString());
+                });
+    }
+
+    /**
+     * 상태 변경 이벤트 발행 (커밋 후 레지스트리 갱신 / SSE 구독자에게 전달)
+     */
+    private void publishStatus(CrawlJob job) {
+        eventPublisher.publishEvent(new CrawlJobChangedEvent(job));
+        eventPublisher.publishEvent(CrawlJobProgressEvent.status(job));
+    }
+
+    private List<CrawlJob> buildShards(UUID parentId) {
+        List<CrawlJob> shards = new ArrayList<>();
+        if (!shardProperties.getMedia().isEmpty()) {
+            for (String media : shardProperties.getMedia()) {
+                shards.add(CrawlJob.mediaShard(parentId, media));
+            }
+        } else if (shardProperties.getPartitions() > 1) {
+            for (int i = 0; i < shardProperties.getPartitions(); i++) {
+                shards.add(CrawlJob.partitionShard(parentId, i, shardProperties.getPartitions()));
+            }
+        }
+        return shards;
+    }
+
+    /**
+     * 자식 작업이 끝났을 때 부모 작업 집계
+     *
+     * 부모 행을 잠근 뒤(SELECT ... FOR UPDATE) 자식 상태를 읽으므로,
+     * 자식 두 개가 동시에 끝나도 나중에 잠금을 얻은 트랜잭션이 앞선 변경을 보고 집계합니다.
+     * - 아직 끝나지 않은 자식이 있으면 부모는 RUNNING
+     * - 모두 COMPLETED면 부모 COMPLETED, 하나라도 FAILED면 부모 FAILED (집계 값은 함께 기록)
+     * - mediaResults: 자식이 보고한 언론사별 수를 합산 (보고가 없으면 shardKey → 저장 기사 수)
+     */
+    private void aggregateParent(CrawlJob child) {
+        if (!child.isShard()) {
+            return;
+        }
+        CrawlJob parent = crawlJobRepository.findByIdForUpdate(child.getParentId()).orElse(null);
+        if (parent == null || parent.isFinished()) {
+            return;
+        }
+
+        List<CrawlJob> shards = crawlJobRepository.findByParentId(parent.getId());
+        if (shards.stream().anyMatch(shard -> !shard.isFinished())) {
+            if (parent.getStatus() == CrawlJobStatus.PENDING) {
+                parent.markRunning();
+                publishStatus(parent);
+            }
+            return;
+        }
+
+        int total = 0;
+        Map<String, Integer> mediaCounts = new TreeMap<>();
+        List<String> failed = new ArrayList<>();
+        for (CrawlJob shard : shards) {
+            total += shard.getTotalArticles();
+            mergeMediaResults(mediaCounts, shard);
+            if (shard.getStatus() == CrawlJobStatus.FAILED) {
+                failed.add(shard.shardKey());
+            }
+        }
+        String mediaResults = objectMapper.writeValueAsString(mediaCounts);
+
+        if (failed.isEmpty()) {
+            parent.markCompleted(total, mediaResults);
+            log.info("크롤링 작업 완료 (샤드 집계): jobId={}, shards={}, totalArticles={}",
+                    parent.getId(), shards.size(), total);
+        } else {
+            parent.markFailed("실패한 샤드: " + String.join(", ", failed));
+            parent.setTotalArticles(total);
+            parent.setMediaResults(mediaResults);
+            log.error("크롤링 작업 실패 (샤드 집계): jobId={}, failed={}, totalArticles={}",
+                    parent.getId(), failed, total);
+        }
+        publishStatus(parent);
+    }
+
+    private void mergeMediaResults(Map<String, Integer> mediaCounts, CrawlJob shard) {
+        if (shard.getMediaResults() != null) {
+            try {
+                JsonNode reported = objectMapper.readTree(shard.getMediaResults());
+                if (reported.isObject()) {
+                    for (Map.Entry<String, JsonNode> entry : reported.properties()) {
+                        mediaCounts.merge(entry.getKey(), entry.getValue().asInt(), Integer::sum);
+                    }
+                    return;
+                }
+            } catch (JacksonException e) {
+                log.warn("자식 작업 mediaResults 해석 실패 - 저장 기사 수로 집계: jobId={}", shard.getId());
+            }
+        }
+        mediaCounts.merge(shard.shardKey(), shard.getTotalArticles(), Integer::sum);
+    }
 }
@@ -0,0 +1,176 @@
+package com.lucr.service;
+
+import com.lucr.bulk.BulkImportJob;
+import com.lucr.bulk.CsvNewsRecordReader;
+import com.lucr.bulk.NdjsonNewsRecordReader;
+import com.lucr.bulk.NewsCopyLoader;
+import com.lucr.bulk.NewsImportFormat;
+import com.lucr.bulk.NewsRecordReader;
+import com.lucr.config.BulkImportProperties;
+import com.lucr.event.NewsBulkImportedEvent;
+import com.lucr.exception.BusinessException;
+import com.lucr.exception.ErrorCode;
+import com.lucr.exception.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 뉴스 일괄 가져오기 서비스 (백필용, POST /api/v1/admin/news/import)
+ *
+ * 수백만 건을 POST /api/v1/news/batch로 넣으면 요청 / 검증 / INSERT 문 생성 비용이 반복됩니다.
+ * 서버의 가져오기 디렉터리(lucr.bulk-import.directory)에 둔 NDJSON / CSV 파일을
+ * 스트리밍으로 읽어 PostgreSQL COPY로 적재합니다 (NewsCopyLoader).
+ *
+ * 동작:
+ * 1. 파일 경로 / 형식 확인 후 작업 등록, importId 즉시 반환
+ * 2. 전용 스레드 하나에서 순서대로 실행 (동시 가져오기로 DB에 부하가 몰리지 않도록)
+ * 3. 진행 상황(읽은 수, 저장 수, 중복 수, rows/sec)은 GET /api/v1/admin/news/import/{importId}로 조회
+ * 4. 저장된 행이 있으면 NewsBulkImportedEvent 발행 → 검색 색인 / URL 필터 재구축
+ *
+ * - 레코드 하나씩 읽어 바로 COPY로 전송하므로 파일 크기와 무관하게 메모리 사용량이 일정
+ * - .gz 파일은 압축을 풀면서 읽음
+ * - 작업 목록은 인스턴스 메모리에만 보관 (재시작하면 사라짐)
+ *
+ * @author kimdongjoo
+ * @since 2026-02-21
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsBulkImportService {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final NewsCopyLoader newsCopyLoader;
+    private final BulkImportProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<UUID, BulkImportJob> jobs = new ConcurrentHashMap<>();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("news-import").daemon(true).factory());
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ========== 가져오기 ==========
+
+    /**
+     * 가져오기 작업 시작
+     *
+     * @param fileName 가져오기 디렉터리 기준 파일 경로
+     * @param format   파일 형식 (ndjson / csv, null이면 확장자로 판단)
+     * @return 등록된 작업 (QUEUED)
+     * @throws BusinessException 디렉터리 밖의 경로, 없는 파일, 알 수 없는 형식
+     */
+    public BulkImportJob startImport(String fileName, String format) {
+        Path file = resolveFile(fileName);
+        NewsImportFormat importFormat = NewsImportFormat.resolve(format, file.getFileName().toString());
+        if (importFormat == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "파일 형식을 알 수 없습니다. format=ndjson 또는 format=csv를 지정해주세요.");
+        }
+
+        BulkImportJob job = new BulkImportJob(fileName, importFormat);
+        jobs.put(job.getId(), job);
+        executor.execute(() -> runImport(job, file));
+
+        log.info("뉴스 가져오기 등록: importId={}, file={}, format={}", job.getId(), file, importFormat);
+        return job;
+    }
+
+    /**
+     * 가져오기 작업 조회
+     *
+     * @throws ResourceNotFoundException 작업이 없을 때
+     */
+    public BulkImportJob getImport(UUID importId) {
+        BulkImportJob job = jobs.get(importId);
+        if (job == null) {
+            throw ResourceNotFoundException.bulkImportNotFound(importId.toString());
+        }
+        return job;
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private void runImport(BulkImportJob job, Path file) {
+        job.start();
+        try (NewsRecordReader reader = openReader(file, job.getFormat())) {
+            newsCopyLoader.load(reader, job);
+            job.complete();
+            log.info("뉴스 가져오기 완료: importId={}, read={}, inserted={}, duplicates={}, invalid={}, rowsPerSec={}",
+                    job.getId(), job.getReadCount(), job.getInsertedCount(), job.getDuplicateCount(),
+                    job.getInvalidCount(), String.format("%.0f", job.getRowsPerSecond()));
+        } catch (Exception e) {
+            job.fail(e.getMessage());
+            log.error("뉴스 가져오기 실패: importId={}, read={}, inserted={}",
+                    job.getId(), job.getReadCount(), job.getInsertedCount(), e);
+        }
+
+        if (job.getInsertedCount() > 0) {
+            eventPublisher.publishEvent(new NewsBulkImportedEvent(job.getId(), job.getInsertedCount()));
+        }
+    }
+
+    private NewsRecordReader openReader(Path file, NewsImportFormat format) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        try {
+            if (file.getFileName().toString().endsWith(".gz")) {
+                in = new GZIPInputStream(in, READ_BUFFER_SIZE);
+            }
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(in, StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+        return switch (format) {
+            case NDJSON -> new NdjsonNewsRecordReader(reader, objectMapper);
+            case CSV -> new CsvNewsRecordReader(reader);
+        };
+    }
+
+    /**
+     * 가져오기 디렉터리 기준 경로 해석 ("../" 등으로 디렉터리 밖을 가리키면 거부)
+     */
+    private Path resolveFile(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "가져올 파일을 지정해주세요.");
+        }
+
+        Path directory = Path.of(properties.getDirectory()).toAbsolutePath().normalize();
+        Path file = directory.resolve(fileName.strip()).normalize();
+        if (!file.startsWith(directory)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "가져오기 디렉터리 밖의 파일은 지정할 수 없습니다: " + fileName);
+        }
+        if (!Files.isRegularFile(file) || !Files.isReadable(file)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "가져올 파일을 찾을 수 없습니다: " + fileName);
+        }
+        return file;
+    }
+}
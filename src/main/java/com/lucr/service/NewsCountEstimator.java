@@ -0,0 +1,117 @@
+package com.lucr.service;
+
+import com.lucr.repository.NewsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * news 테이블 전체 행 수 추정기
+ *
+ * COUNT(*)는 테이블 전체(또는 인덱스 전체)를 읽어야 하므로 행 수에 비례해 느려집니다.
+ * 목록 화면의 "총 N건" 표시는 근사값으로 충분하므로 PostgreSQL 플래너 통계를 사용합니다.
+ *   SELECT reltuples FROM pg_class WHERE oid = 'news'::regclass
+ * - autovacuum / ANALYZE 시점에 갱신되므로 최근 변경분만큼 오차가 있음
+ *
+ * 통계가 아직 없거나(-1, ANALYZE 전) PostgreSQL이 아닌 환경(H2 테스트 등)에서는
+ * 정확한 COUNT로 대체합니다.
+ *
+ * 조회 결과는 짧게 캐시하여 요청마다 카탈로그를 조회하지 않습니다.
+ *
+ * exactTotal()은 정확한 COUNT를 EXACT_CACHE_TTL 동안 캐시합니다.
+ * (메모리에서 응답하는 인기 뉴스 앞쪽 페이지의 EXACT 전체 개수, 최근 TTL 동안의 생성 / 삭제는 반영 전)
+ *
+ * @author kimdongjoo
+ * @since 2026-02-14
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsCountEstimator {
+
+    /** 추정값 캐시 유지 시간 */
+    private static final Duration CACHE_TTL = Duration.ofSeconds(30);
+
+    /** 정확한 COUNT 캐시 유지 시간 */
+    private static final Duration EXACT_CACHE_TTL = Duration.ofSeconds(5);
+
+    private static final String ESTIMATE_SQL =
+            "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = CAST('news' AS regclass)";
+
+    private final NewsRepository newsRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /** PostgreSQL 여부 (최초 조회 시 한 번만 확인) */
+    private volatile Boolean postgres;
+
+    /** 캐시된 추정값과 만료 시각 (한 번에 교체하기 위해 묶어서 보관) */
+    private volatile Estimate cached;
+
+    /** 캐시된 정확한 COUNT와 만료 시각 */
+    private volatile Estimate cachedExact;
+
+    private record Estimate(long count, long expiresAtNanos) {
+    }
+
+    /**
+     * 전체 뉴스 수 추정
+     *
+     * @return 추정 행 수 (0 이상)
+     */
+    public long estimateTotal() {
+        Estimate current = cached;
+        long now = System.nanoTime();
+        if (current != null && now - current.expiresAtNanos() < 0) {
+            return current.count();
+        }
+
+        long count = loadEstimate();
+        cached = new Estimate(count, now + CACHE_TTL.toNanos());
+        return count;
+    }
+
+    /**
+     * 전체 뉴스 수 (COUNT, EXACT_CACHE_TTL 동안 캐시)
+     *
+     * @return 캐시 시점의 정확한 행 수
+     */
+    public long exactTotal() {
+        Estimate current = cachedExact;
+        long now = System.nanoTime();
+        if (current != null && now - current.expiresAtNanos() < 0) {
+            return current.count();
+        }
+
+        long count = newsRepository.count();
+        cachedExact = new Estimate(count, now + EXACT_CACHE_TTL.toNanos());
+        return count;
+    }
+
+    private long loadEstimate() {
+        if (isPostgres()) {
+            Long reltuples = jdbcTemplate.queryForObject(ESTIMATE_SQL, Long.class);
+            if (reltuples != null && reltuples >= 0) {
+                return reltuples;
+            }
+            log.debug("news 테이블 통계 없음 (ANALYZE 전) - COUNT로 대체");
+        }
+        return newsRepository.count();
+    }
+
+    /**
+     * 실패한 카탈로그 조회가 현재 트랜잭션을 중단시키지 않도록 쿼리 전에 DB 종류를 확인
+     */
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())));
+            postgres = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,136 @@
+package com.lucr.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lucr.config.NewsCacheProperties;
+import com.lucr.dto.response.NewsDetailResponse;
+import com.lucr.event.NewsChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 뉴스 상세 로컬 캐시 (GET /api/v1/news/{id}, Caffeine)
+ *
+ * 기사는 수집 후 거의 바뀌지 않으므로 상세 응답(NewsDetailResponse)을 메모리에 보관합니다.
+ * - 크기 상한: 응답 크기 추정치(weigher) 합계가 max-megabytes 이하 (W-TinyLFU로 자주 쓰는 기사 유지)
+ * - 단일 로드: 같은 ID의 동시 미스는 로더를 한 번만 실행하고 나머지는 결과를 기다림 (cache stampede 방지)
+ * - 없는 기사(예외)는 캐시하지 않음
+ *
+ * 무효화 (모두 커밋 후):
+ * - 수정 / 삭제          : NewsChangedEvent
+ * - 조회수 반영          : ViewCountFlusher (buffered flush, queued 배치), direct 모드 증가
+ * - 순 방문자 수 반영    : UniqueViewerFlusher
+ * 로드 중인 키를 무효화하면 로드가 끝난 뒤 제거되므로, 커밋 전 값을 읽은 로드가 캐시에 남지 않습니다.
+ * 다른 인스턴스의 변경은 expire-after-write-ms가 지나면 반영됩니다.
+ *
+ * 메트릭 (CaffeineCacheMetrics, cache=news-detail):
+ * - cache.gets{result=hit|miss}, cache.load.duration, cache.evictions, cache.eviction.weight, cache.size
+ *
+ * @author kimdongjoo
+ * @since 2026-03-02
+ */
+@Component
+public class NewsDetailCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "news-detail";
+
+    /** 문자열 외 필드 + 객체 헤더 추정치 (bytes) */
+    private static final int BASE_WEIGHT = 256;
+
+    private final NewsCacheProperties properties;
+    private final Cache<UUID, NewsDetailResponse> cache;
+
+    public NewsDetailCache(NewsCacheProperties properties) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(Math.max(1, properties.getMaxMegabytes()) * 1024 * 1024)
+                .weigher((UUID id, NewsDetailResponse response) -> weigh(response))
+                .expireAfterWrite(Duration.ofMillis(properties.getExpireAfterWriteMs()))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 캐시에서 조회, 없으면 loader로 한 번만 로드
+     *
+     * @param id     뉴스 ID
+     * @param loader DB 조회 (예외는 그대로 전파, 캐시하지 않음)
+     */
+    public NewsDetailResponse get(UUID id, Function<UUID, NewsDetailResponse> loader) {
+        if (!properties.isEnabled()) {
+            return loader.apply(id);
+        }
+        return cache.get(id, loader);
+    }
+
+    // ========== 무효화 ==========
+
+    /**
+     * 수정 / 삭제 커밋 후 무효화
+     */
+    @TransactionalEventListener
+    public void onNewsChanged(NewsChangedEvent event) {
+        if (event.type() != NewsChangedEvent.ChangeType.CREATED) {
+            cache.invalidate(event.newsId());
+        }
+    }
+
+    /**
+     * 즉시 무효화 (트랜잭션 밖에서 반영이 끝난 뒤 호출)
+     */
+    public void invalidateAll(Collection<UUID> ids) {
+        cache.invalidateAll(ids);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 무효화 (트랜잭션 밖이면 즉시)
+     */
+    public void invalidateAfterCommit(UUID id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(id);
+            }
+        });
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    // ========== Helper 메서드 ==========
+
+    /**
+     * 응답 크기 추정 (문자열은 Latin-1이 아니면 문자당 2바이트)
+     */
+    private static int weigh(NewsDetailResponse response) {
+        long chars = length(response.getTitle()) + length(response.getContent())
+                + length(response.getSource()) + length(response.getUrl());
+        return (int) Math.min(Integer.MAX_VALUE, BASE_WEIGHT + chars * 2);
+    }
+
+    private static long length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
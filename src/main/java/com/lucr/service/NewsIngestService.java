@@ -0,0 +1,170 @@
+package com.lucr.service;
+
+import com.lucr.common.UrlCanonicalizer;
+import com.lucr.dto.request.NewsCreateRequest;
+import com.lucr.entity.News;
+import com.lucr.event.NewsChangedEvent;
+import com.lucr.mapper.NewsMapper;
+import com.lucr.repository.NewsRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 뉴스 일괄 저장 서비스 (크롤링 결과 수집, POST /api/v1/news/batch)
+ *
+ * 기사마다 existsByUrl + save를 호출하면 기사당 DB 왕복이 2번 발생합니다.
+ * 배치 단위로 처리하여 왕복 수를 줄입니다.
+ *   1. 단건 생성과 같은 제약 조건 검증 + 배치 안에서 같은 URL 제거 (정규화 기준, 먼저 온 기사 우선)
+ *   2. 남은 기사를 multi-row INSERT ... ON CONFLICT (url_hash) DO NOTHING RETURNING id로 저장
+ *      → 중복 확인과 저장이 한 문장 (1000행당 DB 왕복 1회), RETURNING에 없는 기사 = 이미 저장된 URL
+ *
+ * 저장된 뉴스는 NewsChangedEvent(CREATED)로 검색 색인에 반영됩니다 (커밋 후).
+ *
+ * @author kimdongjoo
+ * @since 2026-02-17
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NewsIngestService {
+
+    private final NewsRepository newsRepository;
+    private final NewsMapper newsMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+
+    /**
+     * 기사별 처리 결과
+     */
+    public enum ItemStatus {
+        CREATED,    // 새로 저장됨
+        DUPLICATE,  // 이미 저장된 URL이거나 같은 요청 안에서 앞선 기사와 URL이 같음
+        INVALID     // 필수 값 누락 / 형식 오류로 건너뜀
+    }
+
+    /**
+     * @param url    기사 URL
+     * @param status 처리 결과
+     * @param id     저장된 뉴스 ID (CREATED일 때만)
+     * @param reason 건너뛴 이유 (INVALID일 때만)
+     */
+    public record ItemResult(String url, ItemStatus status, UUID id, String reason) {
+    }
+
+    /**
+     * 일괄 저장 결과
+     *
+     * @param received   받은 기사 수
+     * @param created    새로 저장된 기사 수
+     * @param duplicates 이미 있거나 배치 안에서 중복된 기사 수
+     * @param invalid    검증에 실패해 건너뛴 기사 수
+     * @param items      기사별 결과 (요청 순서)
+     */
+    public record IngestResult(int received, int created, int duplicates, int invalid, List<ItemResult> items) {
+
+        public static IngestResult empty() {
+            return new IngestResult(0, 0, 0, 0, List.of());
+        }
+    }
+
+    /**
+     * 기사 일괄 저장 (중복 URL 제외)
+     *
+     * @param articles 저장할 기사 목록
+     * @return 저장 결과 (요약 + 기사별 결과)
+     */
+    @Transactional
+    public IngestResult ingest(List<NewsCreateRequest> articles) {
+        if (articles.isEmpty()) {
+            return IngestResult.empty();
+        }
+
+        // 1. 검증 + 배치 내 중복 URL 제거 (정규화된 URL → 처음 등장한 위치)
+        ItemResult[] items = new ItemResult[articles.size()];
+        Map<String, Integer> firstIndexByUrl = new LinkedHashMap<>();
+        for (int i = 0; i < articles.size(); i++) {
+            NewsCreateRequest article = articles.get(i);
+            String violation = validate(article);
+            if (violation != null) {
+                items[i] = new ItemResult(article != null ? article.getUrl() : null, ItemStatus.INVALID, null, violation);
+            } else if (firstIndexByUrl.putIfAbsent(UrlCanonicalizer.canonicalize(article.getUrl()), i) != null) {
+                items[i] = new ItemResult(article.getUrl(), ItemStatus.DUPLICATE, null, null);
+            }
+        }
+
+        // 2. INSERT ... ON CONFLICT DO NOTHING (이미 저장된 URL은 DB가 건너뜀)
+        List<Integer> candidateIndexes = new ArrayList<>(firstIndexByUrl.values());
+        List<News> candidates = new ArrayList<>(candidateIndexes.size());
+        for (int index : candidateIndexes) {
+            candidates.add(newsMapper.toEntity(articles.get(index)));
+        }
+        Set<UUID> insertedIds = newsRepository.insertIgnoringDuplicates(candidates);
+
+        // 3. RETURNING된 id만 CREATED, 나머지는 DUPLICATE
+        for (int i = 0; i < candidates.size(); i++) {
+            News news = candidates.get(i);
+            if (insertedIds.contains(news.getId())) {
+                items[candidateIndexes.get(i)] = new ItemResult(news.getUrl(), ItemStatus.CREATED, news.getId(), null);
+                eventPublisher.publishEvent(NewsChangedEvent.created(news));
+            } else {
+                items[candidateIndexes.get(i)] = new ItemResult(news.getUrl(), ItemStatus.DUPLICATE, null, null);
+            }
+        }
+
+        IngestResult result = summarize(items);
+        log.debug("뉴스 일괄 저장 완료: received={}, created={}, duplicates={}, invalid={}",
+                result.received(), result.created(), result.duplicates(), result.invalid());
+        return result;
+    }
+
+    // ========== Helper 메서드 ==========
+
+    /**
+     * NewsCreateRequest 제약 조건 검증 (단건 생성 API와 같은 규칙)
+     *
+     * @return 위반 메시지를 필드 경로 순으로 이어 붙인 값 (유효하면 null)
+     */
+    private String validate(NewsCreateRequest article) {
+        if (article == null) {
+            return "기사 정보가 없습니다.";
+        }
+        Set<ConstraintViolation<NewsCreateRequest>> violations = validator.validate(article);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .sorted(Comparator.comparing((ConstraintViolation<NewsCreateRequest> v) -> v.getPropertyPath().toString())
+                        .thenComparing(ConstraintViolation::getMessage))
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining(", "));
+    }
+
+    private static IngestResult summarize(ItemResult[] items) {
+        int created = 0;
+        int duplicates = 0;
+        int invalid = 0;
+        for (ItemResult item : items) {
+            switch (item.status()) {
+                case CREATED -> created++;
+                case DUPLICATE -> duplicates++;
+                case INVALID -> invalid++;
+            }
+        }
+        return new IngestResult(items.length, created, duplicates, invalid, List.of(items));
+    }
+}
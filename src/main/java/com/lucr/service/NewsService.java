@@ -1,11 +1,15 @@
 package com.lucr.service;
 
+import com.lucr.common.CountMode;
+import com.lucr.common.TrendingWindow;
 import com.lucr.dto.request.NewsCreateRequest;
 import com.lucr.dto.request.NewsSearchRequest;
 import com.lucr.dto.request.NewsUpdateRequest;
+import com.lucr.dto.response.NewsBatchCreateResponse;
 import com.lucr.dto.response.NewsDetailResponse;
 import com.lucr.dto.response.NewsResponse;
 import com.lucr.dto.response.PageResponse;
+import com.lucr.dto.response.TrendingNewsResponse;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
@@ -27,6 +31,14 @@ public interface NewsService {
      */
     NewsDetailResponse createNews(NewsCreateRequest request);
 
+    /**
+     * 뉴스 일괄 생성 (이미 있는 URL은 건너뜀)
+     *
+     * @param requests 뉴스 생성 요청 목록 (1 ~ 500건)
+     * @return 요청 순서대로 기사별 생성/중복/검증 실패 결과
+     */
+    NewsBatchCreateResponse createNewsBatch(List<NewsCreateRequest> requests);
+
     /**
      * 뉴스 ID로 단건 조회 (상세 정보)
      *
@@ -36,13 +48,33 @@ public interface NewsService {
      */
     NewsDetailResponse getNewsById(UUID id);
 
+    /**
+     * 뉴스 목록 조회 (페이징, 정확한 전체 개수 포함)
+     *
+     * @param pageable 페이징 정보
+     * @return 페이징된 뉴스 목록
+     */
+    default PageResponse<NewsResponse> getAllNews(Pageable pageable) {
+        return getAllNews(pageable, CountMode.EXACT);
+    }
+
     /**
      * 뉴스 목록 조회 (페이징)
      *
      * @param pageable 페이징 정보
+     * @param countMode 전체 개수 계산 방식
      * @return 페이징된 뉴스 목록
      */
-    PageResponse<NewsResponse> getAllNews(Pageable pageable);
+    PageResponse<NewsResponse> getAllNews(Pageable pageable, CountMode countMode);
+
+    /**
+     * 뉴스 목록 조회 (커서 페이징, 발행일 최신순)
+     *
+     * @param cursor 이전 응답의 nextCursor (null 또는 빈 값이면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 뉴스 목록 + 다음 페이지 커서
+     */
+    PageResponse<NewsResponse> getAllNews(String cursor, int size);
 
     /**
      * 뉴스 수정
@@ -71,29 +103,79 @@ public interface NewsService {
     PageResponse<NewsResponse> searchNews(NewsSearchRequest searchRequest);
 
     /**
-     * 뉴스 조회수 증가
+     * 뉴스 조회수 증가 (순 방문자 수 집계 포함)
      *
      * @param id 뉴스 ID
+     * @param viewerKey 방문자 식별 키 (ViewerFingerprint, null이면 순 방문자 수에 반영하지 않음)
      * @return 조회수가 증가된 뉴스 상세 정보
      * @throws RuntimeException 뉴스를 찾을 수 없는 경우
      */
-    NewsDetailResponse incrementViewCount(UUID id);
+    NewsDetailResponse incrementViewCount(UUID id, String viewerKey);
+
+    /**
+     * 인기 뉴스 목록 조회 (조회수 높은 순, 정확한 전체 개수 포함)
+     *
+     * @param pageable 페이징 정보
+     * @return 인기 뉴스 페이징 목록
+     */
+    default PageResponse<NewsResponse> getHighViewNews(Pageable pageable) {
+        return getHighViewNews(pageable, CountMode.EXACT);
+    }
 
     /**
      * 인기 뉴스 목록 조회 (조회수 높은 순)
      *
      * @param pageable 페이징 정보
+     * @param countMode 전체 개수 계산 방식
      * @return 인기 뉴스 페이징 목록
      */
-    PageResponse<NewsResponse> getHighViewNews(Pageable pageable);
+    PageResponse<NewsResponse> getHighViewNews(Pageable pageable, CountMode countMode);
+
+    /**
+     * 인기 뉴스 목록 조회 (커서 페이징, 조회수 높은 순)
+     *
+     * @param cursor 이전 응답의 nextCursor (null 또는 빈 값이면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 인기 뉴스 목록 + 다음 페이지 커서
+     */
+    PageResponse<NewsResponse> getHighViewNews(String cursor, int size);
+
+    /**
+     * 급상승 뉴스 목록 조회 (구간별 시간 감쇠 조회수 높은 순, 메모리 집계)
+     *
+     * @param window 집계 구간 (1h / 24h)
+     * @param size 최대 개수
+     * @return 순위 / 뉴스 ID / 감쇠 조회수
+     */
+    List<TrendingNewsResponse> getTrendingNews(TrendingWindow window, int size);
+
+    /**
+     * 최신 뉴스 목록 조회 (생성일 최신순, 정확한 전체 개수 포함)
+     *
+     * @param pageable 페이징 정보
+     * @return 최신 뉴스 페이징 목록
+     */
+    default PageResponse<NewsResponse> getRecentNews(Pageable pageable) {
+        return getRecentNews(pageable, CountMode.EXACT);
+    }
 
     /**
      * 최신 뉴스 목록 조회 (생성일 최신순)
      *
      * @param pageable 페이징 정보
+     * @param countMode 전체 개수 계산 방식
      * @return 최신 뉴스 페이징 목록
      */
-    PageResponse<NewsResponse> getRecentNews(Pageable pageable);
+    PageResponse<NewsResponse> getRecentNews(Pageable pageable, CountMode countMode);
+
+    /**
+     * 최신 뉴스 목록 조회 (커서 페이징, 생성일 최신순)
+     *
+     * @param cursor 이전 응답의 nextCursor (null 또는 빈 값이면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 최신 뉴스 목록 + 다음 페이지 커서
+     */
+    PageResponse<NewsResponse> getRecentNews(String cursor, int size);
 
     /**
      * URL 중복 체크
@@ -103,14 +185,26 @@ public interface NewsService {
      */
     boolean existsByUrl(String url);
 
+    /**
+     * 특정 출처의 뉴스 목록 조회 (정확한 전체 개수 포함)
+     *
+     * @param source 뉴스 출처
+     * @param pageable 페이징 정보
+     * @return 해당 출처의 뉴스 페이징 목록
+     */
+    default PageResponse<NewsResponse> getNewsBySource(String source, Pageable pageable) {
+        return getNewsBySource(source, pageable, CountMode.EXACT);
+    }
+
     /**
      * 특정 출처의 뉴스 목록 조회
      *
      * @param source 뉴스 출처
      * @param pageable 페이징 정보
+     * @param countMode 전체 개수 계산 방식 (ESTIMATED는 NONE으로 처리)
      * @return 해당 출처의 뉴스 페이징 목록
      */
-    PageResponse<NewsResponse> getNewsBySource(String source, Pageable pageable);
+    PageResponse<NewsResponse> getNewsBySource(String source, Pageable pageable, CountMode countMode);
 
     /**
      * 키워드로 뉴스 검색 (제목 + 본문)
@@ -1,27 +1,56 @@
 package com.lucr.service;
 
+import com.lucr.common.CountMode;
+import com.lucr.common.KeysetCursor;
+import com.lucr.common.TrendingWindow;
+import com.lucr.config.ViewCountProperties;
+import com.lucr.dto.projection.NewsSummary;
 import com.lucr.dto.request.NewsCreateRequest;
 import com.lucr.dto.request.NewsSearchRequest;
 import com.lucr.dto.request.NewsUpdateRequest;
+import com.lucr.dto.response.NewsBatchCreateResponse;
 import com.lucr.dto.response.NewsDetailResponse;
 import com.lucr.dto.response.NewsResponse;
 import com.lucr.dto.response.PageResponse;
+import com.lucr.dto.response.TrendingNewsResponse;
 import com.lucr.entity.News;
+import com.lucr.event.NewsChangedEvent;
+import com.lucr.event.NewsViewedEvent;
+import com.lucr.exception.BusinessException;
 import com.lucr.exception.DuplicateResourceException;
+import com.lucr.exception.ErrorCode;
 import com.lucr.exception.ResourceNotFoundException;
 import com.lucr.mapper.NewsMapper;
+import com.lucr.messaging.ViewEventPublisher;
 import com.lucr.repository.NewsRepository;
+import com.lucr.repository.NewsSpecifications;
+import com.lucr.search.NewsSearchEngine;
+import com.lucr.service.NewsIngestService.IngestResult;
+import com.lucr.service.NewsIngestService.ItemResult;
+import com.lucr.sketch.TopK;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -36,8 +65,33 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class NewsServiceImpl implements NewsService {
 
+    /**
+     * 상세 검색에서 정렬 가능한 필드 (엔티티 필드명)
+     */
+    private static final Set<String> SORTABLE_FIELDS =
+            Set.of("createdAt", "publishedAt", "viewCount", "sentimentScore", "title");
+
+    /** 일괄 생성 한 번에 받을 수 있는 최대 기사 수 */
+    private static final int MAX_BATCH_SIZE = 500;
+
+    /** 커서 정렬 종류 (다른 목록의 커서 재사용 방지) */
+    private static final String CURSOR_RECENT = "recent";
+    private static final String CURSOR_POPULAR = "popular";
+    private static final String CURSOR_PUBLISHED = "published";
+
     private final NewsRepository newsRepository;
     private final NewsMapper newsMapper;
+    private final NewsSearchEngine newsSearchEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NewsCountEstimator newsCountEstimator;
+    private final ViewCountBuffer viewCountBuffer;
+    private final ViewCountProperties viewCountProperties;
+    private final NewsIngestService newsIngestService;
+    private final NewsUrlFilter newsUrlFilter;
+    private final NewsTrendingTracker newsTrendingTracker;
+    private final PopularNewsLeaderboard popularNewsLeaderboard;
+    private final ViewEventPublisher viewEventPublisher;
+    private final NewsDetailCache newsDetailCache;
 
     /**
      * 새로운 뉴스 생성
@@ -47,21 +101,54 @@ public class NewsServiceImpl implements NewsService {
     public NewsDetailResponse createNews(NewsCreateRequest request) {
         log.info("뉴스 생성 요청: title={}, source={}", request.getTitle(), request.getSource());
 
-        // URL 중복 체크
-        if (newsRepository.existsByUrl(request.getUrl())) {
+        // DTO → Entity 변환
+        News news = newsMapper.toEntity(request);
+
+        // DB 저장 + URL 중복 체크 (INSERT ... ON CONFLICT DO NOTHING, 동시 요청도 예외 없이 판정)
+        if (!newsRepository.insertIgnoringDuplicate(news)) {
             log.warn("중복된 URL로 뉴스 생성 시도: url={}", request.getUrl());
             throw DuplicateResourceException.duplicateNewsUrl(request.getUrl());
         }
+        eventPublisher.publishEvent(NewsChangedEvent.created(news));
+        log.info("뉴스 생성 완료: id={}, title={}", news.getId(), news.getTitle());
 
-        // DTO → Entity 변환
-        News news = newsMapper.toEntity(request);
+        // Entity → DetailResponse 변환
+        return newsMapper.toDetailResponse(news);
+    }
+
+    /**
+     * 뉴스 일괄 생성
+     *
+     * 기사마다 existsByUrl + save를 하지 않고
+     * 중복 확인과 저장을 multi-row INSERT ... ON CONFLICT 한 번으로 처리 (NewsIngestService)
+     */
+    @Override
+    @Transactional
+    public NewsBatchCreateResponse createNewsBatch(List<NewsCreateRequest> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "일괄 생성은 1건 이상 " + MAX_BATCH_SIZE + "건 이하로 요청해야 합니다.");
+        }
+        log.debug("뉴스 일괄 생성 요청: size={}", requests.size());
 
-        // DB 저장
-        News savedNews = newsRepository.save(news);
-        log.info("뉴스 생성 완료: id={}, title={}", savedNews.getId(), savedNews.getTitle());
+        IngestResult result = newsIngestService.ingest(requests);
 
-        // Entity → DetailResponse 변환
-        return newsMapper.toDetailResponse(savedNews);
+        List<NewsBatchCreateResponse.Item> items = new ArrayList<>(result.items().size());
+        for (int i = 0; i < result.items().size(); i++) {
+            ItemResult item = result.items().get(i);
+            items.add(new NewsBatchCreateResponse.Item(
+                    i, item.url(), item.status().name(), item.id(), item.reason()));
+        }
+
+        log.debug("뉴스 일괄 생성 완료: created={}, duplicates={}, invalid={}",
+                result.created(), result.duplicates(), result.invalid());
+        return NewsBatchCreateResponse.builder()
+                .requested(result.received())
+                .created(result.created())
+                .duplicates(result.duplicates())
+                .invalid(result.invalid())
+                .items(items)
+                .build();
     }
 
     /**
@@ -71,23 +158,30 @@ public class NewsServiceImpl implements NewsService {
     public NewsDetailResponse getNewsById(UUID id) {
         log.debug("뉴스 조회 요청: id={}", id);
 
-        News news = newsRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.error("뉴스를 찾을 수 없음: id={}", id);
-                    return ResourceNotFoundException.newsNotFound(id.toString());
-                });
-
-        return newsMapper.toDetailResponse(news);
+        // 로컬 캐시 우선 (같은 ID의 동시 미스는 DB 조회 1회)
+        return newsDetailCache.get(id, key -> {
+            News news = newsRepository.findById(key)
+                    .orElseThrow(() -> {
+                        log.error("뉴스를 찾을 수 없음: id={}", key);
+                        return ResourceNotFoundException.newsNotFound(key.toString());
+                    });
+            return newsMapper.toDetailResponse(news);
+        });
     }
 
     /**
      * 뉴스 목록 조회 (페이징)
      */
     @Override
-    public PageResponse<NewsResponse> getAllNews(Pageable pageable) {
-        log.debug("뉴스 목록 조회 요청: page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
+    public PageResponse<NewsResponse> getAllNews(Pageable pageable, CountMode countMode) {
+        log.debug("뉴스 목록 조회 요청: page={}, size={}, count={}",
+                pageable.getPageNumber(), pageable.getPageSize(), countMode);
 
-        Page<News> newsPage = newsRepository.findAll(pageable);
+        if (countMode != CountMode.EXACT) {
+            return toSliceResponse(newsRepository.findSummarySlice(pageable), countMode);
+        }
+
+        Page<NewsSummary> newsPage = newsRepository.findSummaries(pageable);
 
         List<NewsResponse> responses = newsPage.getContent().stream()
                 .map(newsMapper::toResponse)
@@ -96,6 +190,32 @@ public class NewsServiceImpl implements NewsService {
         return PageResponse.of(newsPage, responses);
     }
 
+    /**
+     * 뉴스 목록 조회 (커서 페이징, 발행일 최신순)
+     *
+     * 발행일이 없는 뉴스는 발행일이 있는 뉴스 뒤에 id 내림차순으로 이어집니다 (NULLS LAST).
+     * 각 구간은 자기 인덱스 범위만 읽도록 따로 조회하고, 한 페이지가 두 구간에 걸치면 이어 붙입니다.
+     */
+    @Override
+    public PageResponse<NewsResponse> getAllNews(String cursor, int size) {
+        log.debug("뉴스 목록 커서 조회 요청: cursor={}, size={}", cursor, size);
+
+        Limit limit = Limit.of(size + 1);
+        List<NewsSummary> rows;
+        if (isFirstPage(cursor)) {
+            rows = withUnpublished(newsRepository.findLatestPublished(limit), size + 1);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor, CURSOR_PUBLISHED);
+            rows = after.isNullKey()
+                    ? newsRepository.findUnpublishedAfter(after.id(), limit)
+                    : withUnpublished(
+                            newsRepository.findLatestPublishedAfter(after.keyAsDateTime(), after.id(), limit), size + 1);
+        }
+
+        return toCursorPage(rows, size, isFirstPage(cursor),
+                last -> KeysetCursor.of(CURSOR_PUBLISHED, last.publishedAt(), last.id()));
+    }
+
     /**
      * 뉴스 수정
      */
@@ -112,6 +232,7 @@ public class NewsServiceImpl implements NewsService {
 
         // Entity 업데이트 (Mapper 사용)
         newsMapper.updateEntity(news, request);
+        eventPublisher.publishEvent(NewsChangedEvent.updated(news));
 
         // 변경 감지로 자동 업데이트 (save 호출 불필요)
         log.info("뉴스 수정 완료: id={}", id);
@@ -133,6 +254,7 @@ public class NewsServiceImpl implements NewsService {
         }
 
         newsRepository.deleteById(id);
+        eventPublisher.publishEvent(NewsChangedEvent.deleted(id));
         log.info("뉴스 삭제 완료: id={}", id);
     }
 
@@ -144,20 +266,17 @@ public class NewsServiceImpl implements NewsService {
         log.debug("뉴스 검색 요청: keyword={}, source={}", 
                 searchRequest.getKeyword(), searchRequest.getSource());
 
-        // Pageable 생성
+        validateRanges(searchRequest);
+
+        // 정렬/페이징은 DB에서 처리 (ORDER BY ... LIMIT/OFFSET)
         Pageable pageable = PageRequest.of(
                 searchRequest.getPage(),
                 searchRequest.getSize(),
-                Sort.by(Sort.Direction.DESC, "createdAt")
+                parseSort(searchRequest.getSort())
         );
 
-        // 기본 검색 (키워드가 있는 경우)
-        Page<News> newsPage;
-        if (searchRequest.getKeyword() != null && !searchRequest.getKeyword().trim().isEmpty()) {
-            newsPage = newsRepository.findAll(pageable); // TODO: 실제 검색 쿼리 구현 필요
-        } else {
-            newsPage = newsRepository.findAll(pageable);
-        }
+        // 값이 있는 조건만 AND로 묶은 단일 쿼리
+        Page<NewsSummary> newsPage = newsRepository.searchSummaries(NewsSpecifications.of(searchRequest), pageable);
 
         List<NewsResponse> responses = newsPage.getContent().stream()
                 .map(newsMapper::toResponse)
@@ -168,20 +287,54 @@ public class NewsServiceImpl implements NewsService {
 
     /**
      * 뉴스 조회수 증가
+     *
+     * 트랜잭션 없이 실행 (조회 / 발행 중 DB 커넥션을 잡고 있지 않도록):
+     * - queued   : 상세 캐시(없으면 읽기 전용 조회)로 응답, 조회 이벤트 발행은 트랜잭션 밖
+     * - buffered : 읽기 전용 조회 + 메모리 버퍼 누적
+     * - direct   : UPDATE ... RETURNING 한 문장이 자체 쓰기 트랜잭션으로 실행
      */
     @Override
-    @Transactional
-    public NewsDetailResponse incrementViewCount(UUID id) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public NewsDetailResponse incrementViewCount(UUID id, String viewerKey) {
         log.debug("조회수 증가 요청: id={}", id);
 
-        News news = newsRepository.findById(id)
+        if (viewCountProperties.isQueued()) {
+            NewsDetailResponse cached = getNewsById(id);
+
+            // 조회 이벤트만 발행 (ViewEventListener가 모아서 일괄 반영), 브로커 장애 시 메모리 버퍼에 누적
+            if (!viewEventPublisher.publish(id)) {
+                viewCountBuffer.increment(id);
+            }
+            eventPublisher.publishEvent(NewsViewedEvent.of(id, viewerKey));
+            return newsMapper.withPendingViews(cached, 1, !viewCountProperties.isUniqueViewerBasis());
+        }
+
+        if (viewCountProperties.isBuffered()) {
+            News news = newsRepository.findById(id)
+                    .orElseThrow(() -> {
+                        log.error("뉴스를 찾을 수 없음: id={}", id);
+                        return ResourceNotFoundException.newsNotFound(id.toString());
+                    });
+
+            // 행을 수정하지 않고 버퍼에 누적 (ViewCountFlusher가 주기적으로 일괄 반영)
+            long pendingViews = viewCountBuffer.increment(id);
+            eventPublisher.publishEvent(NewsViewedEvent.of(id, viewerKey));
+            log.debug("조회수 증가 누적: id={}, pending={}", id, pendingViews);
+            return newsMapper.toDetailResponse(news, pendingViews, !viewCountProperties.isUniqueViewerBasis());
+        }
+
+        // 단일 UPDATE ... RETURNING (엔티티 조회 없이 증가 후 행으로 응답)
+        Optional<News> updated = viewCountProperties.isUniqueViewerBasis()
+                ? newsRepository.incrementViewCountOnlyReturning(id)
+                : newsRepository.incrementViewCountReturning(id);
+        News news = updated
                 .orElseThrow(() -> {
                     log.error("뉴스를 찾을 수 없음: id={}", id);
                     return ResourceNotFoundException.newsNotFound(id.toString());
                 });
-
-        // 조회수 증가 (Entity의 비즈니스 로직 메서드 사용)
-        news.incrementViewCount();
+        eventPublisher.publishEvent(NewsViewedEvent.of(id, viewerKey));
+        popularNewsLeaderboard.offer(news);
+        newsDetailCache.invalidateAfterCommit(id);
         log.debug("조회수 증가 완료: id={}, viewCount={}", id, news.getViewCount());
 
         return newsMapper.toDetailResponse(news);
@@ -189,13 +342,40 @@ public class NewsServiceImpl implements NewsService {
 
     /**
      * 인기 뉴스 목록 조회 (조회수 높은 순)
+     *
+     * 보조 정렬이 없으면 메모리 순위표 범위 안의 페이지는 DB 조회 없이 응답합니다.
+     * EXACT의 전체 개수는 짧게 캐시한 COUNT(NewsCountEstimator.exactTotal)를 사용합니다.
      */
     @Override
-    public PageResponse<NewsResponse> getHighViewNews(Pageable pageable) {
-        log.debug("인기 뉴스 조회 요청: page={}, size={}", 
-                pageable.getPageNumber(), pageable.getPageSize());
+    public PageResponse<NewsResponse> getHighViewNews(Pageable pageable, CountMode countMode) {
+        log.debug("인기 뉴스 조회 요청: page={}, size={}, count={}", 
+                pageable.getPageNumber(), pageable.getPageSize(), countMode);
+
+        // viewCount 기준 내림차순 정렬 (요청 정렬은 보조 정렬로 유지, 마지막은 순위표와 같은 id DESC)
+        Pageable sortedPageable = PageRequest.of(
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                Sort.by(Sort.Direction.DESC, "viewCount").and(pageable.getSort()).and(Sort.by(Sort.Direction.DESC, "id"))
+        );
 
-        Page<News> newsPage = newsRepository.findAllByOrderByViewCountDesc(pageable);
+        // 보조 정렬이 없으면 메모리 순위표에서 먼저 조회 (size + 1건으로 다음 페이지 판단)
+        if (pageable.getSort().isUnsorted()) {
+            Optional<List<NewsSummary>> ranked = popularNewsLeaderboard.top(
+                    (int) Math.min(sortedPageable.getOffset(), Integer.MAX_VALUE), pageable.getPageSize() + 1);
+            if (ranked.isPresent()) {
+                Slice<NewsSummary> slice = toSlice(ranked.get(), sortedPageable);
+                if (countMode == CountMode.EXACT) {
+                    return toExactResponse(slice, newsCountEstimator.exactTotal());
+                }
+                return toSliceResponse(slice, countMode);
+            }
+        }
+
+        if (countMode != CountMode.EXACT) {
+            return toSliceResponse(newsRepository.findSummarySlice(sortedPageable), countMode);
+        }
+
+        Page<NewsSummary> newsPage = newsRepository.findSummaries(sortedPageable);
 
         List<NewsResponse> responses = newsPage.getContent().stream()
                 .map(newsMapper::toResponse)
@@ -204,13 +384,55 @@ public class NewsServiceImpl implements NewsService {
         return PageResponse.of(newsPage, responses);
     }
 
+    /**
+     * 인기 뉴스 목록 조회 (커서 페이징, 조회수 높은 순)
+     */
+    @Override
+    public PageResponse<NewsResponse> getHighViewNews(String cursor, int size) {
+        log.debug("인기 뉴스 커서 조회 요청: cursor={}, size={}", cursor, size);
+
+        // 메모리 순위표 범위 안이면 DB 조회 없이 응답 (같은 정렬이라 커서를 그대로 이어감)
+        Limit limit = Limit.of(size + 1);
+        List<NewsSummary> rows;
+        if (isFirstPage(cursor)) {
+            rows = popularNewsLeaderboard.top(0, size + 1)
+                    .orElseGet(() -> newsRepository.findPopular(limit));
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor, CURSOR_POPULAR);
+            rows = popularNewsLeaderboard.after(after.keyAsInt(), after.id(), size + 1)
+                    .orElseGet(() -> newsRepository.findPopularAfter(after.keyAsInt(), after.id(), limit));
+        }
+
+        return toCursorPage(rows, size, isFirstPage(cursor),
+                last -> KeysetCursor.of(CURSOR_POPULAR, last.viewCount(), last.id()));
+    }
+
+    /**
+     * 급상승 뉴스 목록 조회 (DB 조회 없음, NewsTrendingTracker)
+     */
+    @Override
+    public List<TrendingNewsResponse> getTrendingNews(TrendingWindow window, int size) {
+        List<TopK.Entry<UUID>> trending = newsTrendingTracker.getTrending(window, size);
+
+        List<TrendingNewsResponse> responses = new ArrayList<>(trending.size());
+        for (TopK.Entry<UUID> entry : trending) {
+            responses.add(TrendingNewsResponse.builder()
+                    .rank(responses.size() + 1)
+                    .newsId(entry.key())
+                    .score(entry.score())
+                    .window(window.getLabel())
+                    .build());
+        }
+        return responses;
+    }
+
     /**
      * 최신 뉴스 목록 조회 (생성일 최신순)
      */
     @Override
-    public PageResponse<NewsResponse> getRecentNews(Pageable pageable) {
-        log.debug("최신 뉴스 조회 요청: page={}, size={}", 
-                pageable.getPageNumber(), pageable.getPageSize());
+    public PageResponse<NewsResponse> getRecentNews(Pageable pageable, CountMode countMode) {
+        log.debug("최신 뉴스 조회 요청: page={}, size={}, count={}", 
+                pageable.getPageNumber(), pageable.getPageSize(), countMode);
 
         // createdAt 기준 내림차순 정렬
         Pageable sortedPageable = PageRequest.of(
@@ -219,7 +441,11 @@ public class NewsServiceImpl implements NewsService {
                 Sort.by(Sort.Direction.DESC, "createdAt")
         );
 
-        Page<News> newsPage = newsRepository.findAll(sortedPageable);
+        if (countMode != CountMode.EXACT) {
+            return toSliceResponse(newsRepository.findSummarySlice(sortedPageable), countMode);
+        }
+
+        Page<NewsSummary> newsPage = newsRepository.findSummaries(sortedPageable);
 
         List<NewsResponse> responses = newsPage.getContent().stream()
                 .map(newsMapper::toResponse)
@@ -228,86 +454,222 @@ public class NewsServiceImpl implements NewsService {
         return PageResponse.of(newsPage, responses);
     }
 
+    /**
+     * 최신 뉴스 목록 조회 (커서 페이징, 생성일 최신순)
+     */
+    @Override
+    public PageResponse<NewsResponse> getRecentNews(String cursor, int size) {
+        log.debug("최신 뉴스 커서 조회 요청: cursor={}, size={}", cursor, size);
+
+        Limit limit = Limit.of(size + 1);
+        List<NewsSummary> rows;
+        if (isFirstPage(cursor)) {
+            rows = newsRepository.findRecent(limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor, CURSOR_RECENT);
+            rows = newsRepository.findRecentAfter(after.keyAsDateTime(), after.id(), limit);
+        }
+
+        return toCursorPage(rows, size, isFirstPage(cursor),
+                last -> KeysetCursor.of(CURSOR_RECENT, last.createdAt(), last.id()));
+    }
+
     /**
      * URL 중복 체크
+     *
+     * URL 필터(Bloom)에 없는 URL은 DB 조회 없이 false
      */
     @Override
     public boolean existsByUrl(String url) {
         log.debug("URL 중복 체크: url={}", url);
-        return newsRepository.existsByUrl(url);
+        return newsUrlFilter.exists(url, newsRepository::existsByUrl);
     }
 
     /**
      * 특정 출처의 뉴스 목록 조회
+     *
+     * 출처 조건이 있어 통계 기반 추정이 불가능하므로 ESTIMATED는 NONE으로 처리
      */
     @Override
-    public PageResponse<NewsResponse> getNewsBySource(String source, Pageable pageable) {
-        log.debug("출처별 뉴스 조회 요청: source={}, page={}, size={}", 
-                source, pageable.getPageNumber(), pageable.getPageSize());
-
-        // Repository에서 List를 반환하므로 Page로 변환 필요
-        List<News> newsList = newsRepository.findBySource(source);
-
-        // List를 수동으로 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), newsList.size());
+    public PageResponse<NewsResponse> getNewsBySource(String source, Pageable pageable, CountMode countMode) {
+        log.debug("출처별 뉴스 조회 요청: source={}, page={}, size={}, count={}", 
+                source, pageable.getPageNumber(), pageable.getPageSize(), countMode);
 
-        List<NewsResponse> responses;
-        if (start > newsList.size()) {
-            responses = List.of();
-        } else {
-            responses = newsList.subList(start, end).stream()
+        if (countMode != CountMode.EXACT) {
+            Slice<NewsSummary> slice = newsRepository.findSummarySliceBySource(source, pageable);
+            return PageResponse.ofSlice(slice, slice.getContent().stream()
                     .map(newsMapper::toResponse)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()));
         }
 
-        // 수동으로 PageResponse 생성
-        return PageResponse.<NewsResponse>builder()
-                .content(responses)
-                .currentPage(pageable.getPageNumber())
-                .pageSize(pageable.getPageSize())
-                .totalElements((long) newsList.size())
-                .totalPages((int) Math.ceil((double) newsList.size() / pageable.getPageSize()))
-                .isFirst(pageable.getPageNumber() == 0)
-                .isLast(end >= newsList.size())
-                .hasNext(end < newsList.size())
-                .hasPrevious(pageable.getPageNumber() > 0)
-                .build();
+        // 한 페이지 분량만 DB에서 조회 (컨트롤러에서 지정한 정렬 그대로 사용)
+        Page<NewsSummary> newsPage = newsRepository.findSummariesBySource(source, pageable);
+
+        List<NewsResponse> responses = newsPage.getContent().stream()
+                .map(newsMapper::toResponse)
+                .collect(Collectors.toList());
+
+        return PageResponse.of(newsPage, responses);
     }
 
     /**
      * 키워드로 뉴스 검색 (제목 + 본문)
+     *
+     * 검색 엔진이 현재 페이지의 뉴스 ID만 순위대로 반환하고,
+     * 해당 ID들만 DB에서 조회하여 응답을 구성
      */
     @Override
     public PageResponse<NewsResponse> searchByKeyword(String keyword, Pageable pageable) {
         log.debug("키워드 검색 요청: keyword={}, page={}, size={}", 
                 keyword, pageable.getPageNumber(), pageable.getPageSize());
 
-        List<News> newsList = newsRepository.searchByKeyword(keyword);
+        Page<UUID> idPage = newsSearchEngine.search(keyword, pageable);
 
-        // List를 수동으로 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), newsList.size());
+        List<NewsResponse> responses = findAllInOrder(idPage.getContent()).stream()
+                .map(newsMapper::toResponse)
+                .collect(Collectors.toList());
 
-        List<NewsResponse> responses;
-        if (start > newsList.size()) {
-            responses = List.of();
-        } else {
-            responses = newsList.subList(start, end).stream()
-                    .map(newsMapper::toResponse)
-                    .collect(Collectors.toList());
+        return PageResponse.of(idPage, responses);
+    }
+
+    // ========== Helper 메서드 ==========
+
+    /**
+     * COUNT 없는 조건 없는 목록 응답 생성
+     *
+     * - NONE      : 전체 개수 없이 다음 페이지 여부만
+     * - ESTIMATED : 플래너 통계 기반 추정 개수 포함
+     */
+    private PageResponse<NewsResponse> toSliceResponse(Slice<NewsSummary> slice, CountMode countMode) {
+        List<NewsResponse> responses = slice.getContent().stream()
+                .map(newsMapper::toResponse)
+                .collect(Collectors.toList());
+
+        if (countMode == CountMode.ESTIMATED) {
+            return PageResponse.ofEstimated(slice, responses, newsCountEstimator.estimateTotal());
         }
+        return PageResponse.ofSlice(slice, responses);
+    }
 
-        return PageResponse.<NewsResponse>builder()
-                .content(responses)
-                .currentPage(pageable.getPageNumber())
-                .pageSize(pageable.getPageSize())
-                .totalElements((long) newsList.size())
-                .totalPages((int) Math.ceil((double) newsList.size() / pageable.getPageSize()))
-                .isFirst(pageable.getPageNumber() == 0)
-                .isLast(end >= newsList.size())
-                .hasNext(end < newsList.size())
-                .hasPrevious(pageable.getPageNumber() > 0)
-                .build();
+    /**
+     * 메모리에서 조회한 Slice + 캐시된 전체 개수로 EXACT 응답 생성
+     *
+     * 캐시된 개수가 실제로 본 개수보다 작으면 본 개수로 보정합니다.
+     */
+    private PageResponse<NewsResponse> toExactResponse(Slice<NewsSummary> slice, long cachedTotal) {
+        List<NewsResponse> responses = slice.getContent().stream()
+                .map(newsMapper::toResponse)
+                .collect(Collectors.toList());
+
+        long seen = slice.getPageable().getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+        long total = slice.hasNext() ? Math.max(cachedTotal, seen) : seen;
+        return PageResponse.of(new PageImpl<>(slice.getContent(), slice.getPageable(), total), responses);
+    }
+
+    /**
+     * 메모리에서 조회한 size + 1건으로 Slice 생성 (초과분이 있으면 다음 페이지 있음)
+     */
+    private static Slice<NewsSummary> toSlice(List<NewsSummary> rows, Pageable pageable) {
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<NewsSummary> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    /**
+     * 발행일 있는 구간이 limit에 못 미치면 발행일 없는 뉴스로 나머지를 채움
+     */
+    private List<NewsSummary> withUnpublished(List<NewsSummary> published, int limit) {
+        if (published.size() >= limit) {
+            return published;
+        }
+        List<NewsSummary> rows = new ArrayList<>(published);
+        rows.addAll(newsRepository.findUnpublished(Limit.of(limit - published.size())));
+        return rows;
+    }
+
+    private static boolean isFirstPage(String cursor) {
+        return cursor == null || cursor.isBlank();
+    }
+
+    /**
+     * 커서 페이징 응답 생성
+     *
+     * size + 1건을 조회하여 초과분이 있으면 다음 페이지가 있는 것으로 판단하고
+     * 현재 페이지 마지막 행으로 다음 커서를 만듭니다. (COUNT 쿼리 없음)
+     */
+    private PageResponse<NewsResponse> toCursorPage(List<NewsSummary> rows, int size, boolean first,
+                                                    Function<NewsSummary, KeysetCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<NewsSummary> page = hasNext ? rows.subList(0, size) : rows;
+
+        List<NewsResponse> responses = page.stream()
+                .map(newsMapper::toResponse)
+                .collect(Collectors.toList());
+
+        String nextCursor = hasNext ? cursorOf.apply(page.get(size - 1)).encode() : null;
+        return PageResponse.ofCursor(responses, size, first, nextCursor);
+    }
+
+    /**
+     * ID 목록으로 뉴스 조회 (입력 ID 순서 유지)
+     *
+     * IN 조회는 순서를 보장하지 않으므로 검색 순위대로 다시 정렬
+     * - 검색 후 삭제된 뉴스는 결과에서 제외
+     */
+    private List<NewsSummary> findAllInOrder(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, NewsSummary> newsById = newsRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(NewsSummary::id, Function.identity()));
+
+        return ids.stream()
+                .map(newsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 정렬 문자열 파싱 ("field,direction")
+     *
+     * - 허용되지 않은 필드/방향은 INVALID_INPUT_VALUE
+     * - 동일 값이 많은 컬럼(viewCount 등)에서도 페이지 경계가 흔들리지 않도록 id를 보조 정렬로 추가
+     */
+    private Sort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+        }
+
+        String[] parts = sort.split(",");
+        String property = parts[0].trim();
+        if (!SORTABLE_FIELDS.contains(property) || parts.length > 2) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "지원하지 않는 정렬 기준입니다: " + sort);
+        }
+
+        Sort.Direction direction = parts.length == 2
+                ? Sort.Direction.fromOptionalString(parts[1].trim())
+                        .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                                "지원하지 않는 정렬 방향입니다: " + sort))
+                : Sort.Direction.ASC;
+
+        return Sort.by(new Sort.Order(direction, property), new Sort.Order(direction, "id"));
+    }
+
+    /**
+     * 범위 조건 검증 (시작 <= 종료, 최소 <= 최대)
+     */
+    private void validateRanges(NewsSearchRequest request) {
+        if (request.getStartDate() != null && request.getEndDate() != null
+                && request.getStartDate().isAfter(request.getEndDate())) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "시작 날짜는 종료 날짜보다 이후일 수 없습니다.");
+        }
+        if (request.getMinSentimentScore() != null && request.getMaxSentimentScore() != null
+                && request.getMinSentimentScore().compareTo(request.getMaxSentimentScore()) > 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "최소 감정 점수는 최대 감정 점수보다 클 수 없습니다.");
+        }
     }
 }
@@ -0,0 +1,209 @@
+package com.lucr.service;
+
+import com.lucr.common.TrendingWindow;
+import com.lucr.config.TrendingProperties;
+import com.lucr.event.NewsChangedEvent;
+import com.lucr.event.NewsViewedEvent;
+import com.lucr.sketch.CountMinSketch;
+import com.lucr.sketch.TopK;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 급상승 뉴스 집계 (시간 감쇠 heavy hitter, GET /api/v1/news/trending)
+ *
+ * /popular는 누적 viewCount로 정렬하므로 오래전 화제 기사가 계속 상위에 남습니다.
+ * 조회 이벤트를 구간(1h / 24h)별로 시간 감쇠 가중치를 주어 메모리에서 집계합니다.
+ *
+ * 구조 (구간마다):
+ * - Count-Min Sketch : 모든 뉴스의 감쇠 조회수 근사 (고정 크기)
+ * - TopK             : 추정값 상위 top-k개 뉴스 (고정 크기)
+ * 뉴스 수와 무관하게 메모리가 고정되고, 조회는 상위 목록을 복사하는 것뿐이라 DB 접근이 없습니다.
+ *
+ * 시간 감쇠 (forward decay, Cormode et al. 2009):
+ *   시각 t의 조회 가중치 = exp((t - L) / τ)  (L: 기준 시각, τ: 구간 길이)
+ *   시각 now의 점수     = 누적 가중치 * exp(-(now - L) / τ)
+ * 가중치를 기록 시점에 한 번만 계산하므로 오래된 항목을 주기적으로 갱신할 필요가 없고,
+ * 같은 기준 시각을 공유하는 항목끼리는 누적 가중치 순서가 곧 감쇠 점수 순서입니다.
+ * 지수가 커지면(RESCALE_EXPONENT) 기준 시각을 옮기고 전체에 같은 비율을 곱해 overflow를 막습니다.
+ *
+ * 제약:
+ * - 이 인스턴스가 처리한 조회만 집계 (재시작하면 초기화)
+ * - 삭제된 뉴스는 NewsChangedEvent(DELETED)로 상위 목록에서 제거
+ *
+ * 메트릭:
+ * - lucr.news.trending.tracked{window} : 상위 목록에 있는 뉴스 수
+ *
+ * @author kimdongjoo
+ * @since 2026-02-26
+ */
+@Slf4j
+@Component
+public class NewsTrendingTracker implements MeterBinder {
+
+    /** 기준 시각을 옮기는 지수 (e^32 ≈ 7.9e13, double 정밀도 안에서 충분히 여유) */
+    private static final double RESCALE_EXPONENT = 32;
+
+    private final TrendingProperties properties;
+    private final Map<TrendingWindow, DecayedWindow> windows = new EnumMap<>(TrendingWindow.class);
+
+    public NewsTrendingTracker(TrendingProperties properties) {
+        this.properties = properties;
+        for (TrendingWindow window : TrendingWindow.values()) {
+            windows.put(window, new DecayedWindow(window, properties));
+        }
+    }
+
+    // ========== 집계 ==========
+
+    /**
+     * 조회 이벤트 반영 (커밋 후, 트랜잭션 밖에서 호출되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsViewed(NewsViewedEvent event) {
+        record(event.newsId(), event.views());
+    }
+
+    /**
+     * 삭제된 뉴스를 상위 목록에서 제거 (스케치의 누적값은 감쇠로 사라짐)
+     */
+    @TransactionalEventListener
+    public void onNewsChanged(NewsChangedEvent event) {
+        if (event.type() == NewsChangedEvent.ChangeType.DELETED) {
+            windows.values().forEach(window -> window.remove(event.newsId()));
+        }
+    }
+
+    /**
+     * 조회 수 반영
+     *
+     * @param newsId 뉴스 ID
+     * @param views  조회 수 (1 이상)
+     */
+    public void record(UUID newsId, long views) {
+        if (!properties.isEnabled() || views <= 0) {
+            return;
+        }
+        byte[] key = toBytes(newsId);
+        long now = currentTimeMillis();
+        for (DecayedWindow window : windows.values()) {
+            window.add(key, newsId, views, now);
+        }
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 구간별 급상승 뉴스 (감쇠 점수 높은 순)
+     *
+     * @param window 집계 구간
+     * @param size   최대 개수 (top-k 이하로 제한)
+     * @return 뉴스 ID와 현재 시각 기준 감쇠 점수
+     */
+    public List<TopK.Entry<UUID>> getTrending(TrendingWindow window, int size) {
+        int limit = Math.max(0, Math.min(size, properties.getTopK()));
+        return windows.get(window).top(limit, currentTimeMillis());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        windows.forEach((window, counter) ->
+                Gauge.builder("lucr.news.trending.tracked", counter, DecayedWindow::size)
+                        .description("급상승 뉴스 상위 목록에 있는 뉴스 수")
+                        .tag("window", window.getLabel())
+                        .register(registry));
+    }
+
+    // ========== Helper 메서드 ==========
+
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * 구간 하나의 감쇠 집계 (스케치 + 상위 목록을 한 락으로 갱신)
+     */
+    private static final class DecayedWindow {
+
+        private final TrendingWindow window;
+        private final double timeConstantMillis;
+        private final CountMinSketch sketch;
+        private final TopK<UUID> topK;
+
+        /** 감쇠 기준 시각 L (epoch ms, 첫 조회 시각으로 시작) */
+        private long landmark;
+        private boolean started;
+
+        DecayedWindow(TrendingWindow window, TrendingProperties properties) {
+            this.window = window;
+            this.timeConstantMillis = window.getTimeConstant().toMillis();
+            this.sketch = new CountMinSketch(properties.getSketchWidth(), properties.getSketchDepth());
+            this.topK = new TopK<>(properties.getTopK());
+        }
+
+        synchronized void add(byte[] key, UUID newsId, long views, long now) {
+            if (!started) {
+                landmark = now;
+                started = true;
+            }
+            double exponent = (now - landmark) / timeConstantMillis;
+            if (exponent > RESCALE_EXPONENT) {
+                rescale(now);
+                exponent = 0;
+            }
+            double estimate = sketch.add(key, views * Math.exp(exponent));
+            topK.offer(newsId, estimate);
+        }
+
+        synchronized void remove(UUID newsId) {
+            topK.remove(newsId);
+        }
+
+        synchronized List<TopK.Entry<UUID>> top(int n, long now) {
+            double decay = Math.exp(-(now - landmark) / timeConstantMillis);
+            List<TopK.Entry<UUID>> top = topK.top(n);
+            List<TopK.Entry<UUID>> result = new ArrayList<>(top.size());
+            for (TopK.Entry<UUID> entry : top) {
+                result.add(new TopK.Entry<>(entry.key(), entry.score() * decay));
+            }
+            return result;
+        }
+
+        synchronized int size() {
+            return topK.size();
+        }
+
+        /**
+         * 기준 시각을 now로 옮김 (모든 누적 가중치에 exp(-(now - L) / τ)를 곱함)
+         */
+        private void rescale(long now) {
+            double factor = Math.exp(-(now - landmark) / timeConstantMillis);
+            sketch.scale(factor);
+            if (factor > 0) {
+                topK.scale(factor);
+            } else {
+                topK.clear();
+            }
+            landmark = now;
+            log.debug("급상승 집계 기준 시각 이동: window={}, factor={}", window.getLabel(), factor);
+        }
+    }
+}
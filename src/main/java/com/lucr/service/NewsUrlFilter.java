@@ -0,0 +1,207 @@
+package com.lucr.service;
+
+import com.lucr.common.UrlCanonicalizer;
+import com.lucr.config.UrlFilterProperties;
+import com.lucr.event.NewsBulkImportedEvent;
+import com.lucr.event.NewsChangedEvent;
+import com.lucr.repository.NewsRepository;
+import com.lucr.sketch.ScalableBloomFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * 뉴스 URL 존재 여부 필터 (Bloom 필터 + DB 확인)
+ *
+ * 크롤러는 후보 링크마다 GET /api/v1/news/exists를 호출하므로
+ * 대부분의 요청이 "없음"으로 끝나는데도 매번 DB 인덱스를 조회합니다.
+ *
+ * 동작:
+ * 1. 기동 완료 시 url 컬럼을 스트리밍 조회하여 필터 구축 (정규화된 URL 기준, UrlCanonicalizer)
+ * 2. 뉴스 생성 커밋 후 NewsChangedEvent(CREATED)로 URL 추가
+ * 3. lucr.url-filter.rebuild-interval-ms 주기로 전체 재구축 (삭제된 URL 정리)
+ *
+ * 조회:
+ * - 필터에 없음 → DB 조회 없이 false (Bloom 필터는 false negative가 없음)
+ * - 필터에 있음 → DB로 확인 (오탐일 수 있음)
+ * - 필터 구축 전 / 비활성화 → 항상 DB 조회
+ *
+ * 메트릭:
+ * - lucr.news.url_filter.lookups{result=miss}           : DB 조회 없이 끝난 요청
+ * - lucr.news.url_filter.lookups{result=hit}            : 필터와 DB 모두 존재
+ * - lucr.news.url_filter.lookups{result=false_positive} : 필터는 존재, DB에는 없음
+ * - lucr.news.url_filter.size / expected_fpp            : 필터 원소 수 / 예상 오탐률
+ *
+ * 주의: 인스턴스마다 독립된 필터를 가지므로,
+ *      다른 인스턴스에서 저장된 URL은 다음 재구축 전까지 "없음"으로 판단될 수 있습니다.
+ *      이 경우에도 url_hash 유니크 제약이 중복 저장을 막습니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-18
+ */
+@Slf4j
+@Component
+public class NewsUrlFilter implements MeterBinder {
+
+    private final NewsRepository newsRepository;
+    private final UrlFilterProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+
+    /** 조회에 사용하는 필터 (구축 전에는 null) */
+    private volatile ScalableBloomFilter filter;
+
+    /** 재구축 중인 필터 - 재구축 도중 커밋된 URL도 함께 기록 */
+    private volatile ScalableBloomFilter building;
+
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public NewsUrlFilter(NewsRepository newsRepository,
+                         UrlFilterProperties properties,
+                         PlatformTransactionManager transactionManager) {
+        this.newsRepository = newsRepository;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindLookupCounter(registry, "miss", misses);
+        bindLookupCounter(registry, "hit", hits);
+        bindLookupCounter(registry, "false_positive", falsePositives);
+        Gauge.builder("lucr.news.url_filter.size", this,
+                        urlFilter -> urlFilter.filter != null ? urlFilter.filter.approximateElementCount() : 0)
+                .description("URL 필터에 기록된 URL 수 (근사값)")
+                .register(registry);
+        Gauge.builder("lucr.news.url_filter.expected_fpp", this,
+                        urlFilter -> urlFilter.filter != null ? urlFilter.filter.expectedFalsePositiveRate() : 0)
+                .description("URL 필터 예상 오탐률")
+                .register(registry);
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * URL 존재 여부 (필터에 있을 수 있는 URL만 DB로 확인)
+     *
+     * @param url      확인할 URL
+     * @param database DB 존재 여부 확인 (예: newsRepository::existsByUrl)
+     * @return 존재하면 true
+     */
+    public boolean exists(String url, Predicate<String> database) {
+        ScalableBloomFilter current = filter;
+        if (current == null) {
+            return database.test(url);
+        }
+        if (!current.mightContain(UrlCanonicalizer.canonicalize(url))) {
+            misses.increment();
+            return false;
+        }
+
+        boolean exists = database.test(url);
+        if (exists) {
+            hits.increment();
+        } else {
+            falsePositives.increment();
+        }
+        return exists;
+    }
+
+    /**
+     * 필터 구축 완료 여부
+     */
+    public boolean isReady() {
+        return filter != null;
+    }
+
+    // ========== 구축 / 갱신 ==========
+
+    /**
+     * 기동 완료 시 / 주기적으로 전체 재구축
+     *
+     * 새 필터를 만든 뒤 교체하므로 재구축 중에도 기존 필터로 조회합니다.
+     * 일괄 가져오기(COPY) 완료 후에도 재구축합니다 (행 단위 이벤트가 없음).
+     */
+    @EventListener({ApplicationReadyEvent.class, NewsBulkImportedEvent.class})
+    @Scheduled(initialDelayString = "${lucr.url-filter.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${lucr.url-filter.rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        ScalableBloomFilter next = new ScalableBloomFilter(
+                properties.getExpectedInsertions(), properties.getFalsePositiveRate());
+        // 스트리밍 시작 전에 등록 - 스냅샷 이후 커밋된 URL은 onNewsChanged에서 기록
+        building = next;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> urls = newsRepository.streamAllUrls()) {
+                    urls.map(UrlCanonicalizer::canonicalize).forEach(next::put);
+                }
+            });
+        } catch (RuntimeException e) {
+            building = null;
+            log.warn("URL 필터 구축 실패 - 기존 필터 유지: ready={}", isReady(), e);
+            return;
+        }
+        filter = next;
+        building = null;
+
+        log.info("URL 필터 구축 완료: urls={}, slices={}, memory={}KB, expectedFpp={}, elapsed={}ms",
+                next.approximateElementCount(), next.sliceCount(), next.bitSize() / 8 / 1024,
+                String.format("%.5f", next.expectedFalsePositiveRate()),
+                System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 뉴스 생성 커밋 후 URL 추가
+     */
+    @TransactionalEventListener
+    public void onNewsChanged(NewsChangedEvent event) {
+        if (event.type() == NewsChangedEvent.ChangeType.CREATED) {
+            add(event.news().getUrl());
+        }
+    }
+
+    // ========== Helper 메서드 ==========
+
+    /**
+     * building을 먼저 읽어야 교체 직후에도 새 필터에 기록됨
+     * (rebuild는 filter = next 후 building = null 순서로 교체)
+     */
+    private void add(String url) {
+        String canonical = UrlCanonicalizer.canonicalize(url);
+        ScalableBloomFilter next = building;
+        if (next != null) {
+            next.put(canonical);
+        }
+        ScalableBloomFilter current = filter;
+        if (current != null && current != next) {
+            current.put(canonical);
+        }
+    }
+
+    private static void bindLookupCounter(MeterRegistry registry, String result, LongAdder adder) {
+        FunctionCounter.builder("lucr.news.url_filter.lookups", adder, LongAdder::sum)
+                .description("URL 존재 여부 조회 결과")
+                .tag("result", result)
+                .register(registry);
+    }
+}
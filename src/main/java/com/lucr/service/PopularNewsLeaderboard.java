@@ -0,0 +1,351 @@
+package com.lucr.service;
+
+import com.lucr.config.PopularLeaderboardProperties;
+import com.lucr.dto.projection.NewsSummary;
+import com.lucr.entity.News;
+import com.lucr.event.NewsChangedEvent;
+import com.lucr.mapper.NewsMapper;
+import com.lucr.repository.NewsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 인기 뉴스 메모리 순위표 (GET /api/v1/news/popular 앞쪽 페이지를 DB 조회 없이 제공)
+ *
+ * 조회수 상위 capacity개 뉴스를 (view_count DESC, id DESC) 순서로 보관합니다.
+ * DB 목록 쿼리(findPopular / findPopularAfter)와 같은 순서이므로
+ * 순위표 범위 안의 페이지는 메모리에서, 넘는 페이지는 DB에서 이어서 조회해도 결과가 같습니다.
+ *
+ * 구조:
+ * - ConcurrentSkipListSet : 순위 (락 없이 정렬 순회, 갱신 O(log N))
+ * - ConcurrentHashMap     : 뉴스 ID → 현재 항목 (같은 뉴스의 갱신은 compute()로 직렬화)
+ *
+ * 갱신 (모두 DB에 반영된 절대 조회수):
+ * - direct 모드 조회수 증가 : UPDATE ... RETURNING 결과
+ * - buffered / queued 반영 : ViewCountFlusher의 UPDATE ... RETURNING 결과
+ * - 생성 / 수정 / 삭제     : NewsChangedEvent (커밋 후)
+ * 조회수는 줄지 않으므로 더 작은 값은 늦게 도착한 이전 값으로 보고 버립니다 (최댓값 병합).
+ * 그래서 여러 스레드의 갱신이 어떤 순서로 도착해도 결과가 같습니다.
+ *
+ * 보관 범위(floor): 이 항목 이전 순위의 뉴스는 모두 보관 중이라고 알려진 마지막 키
+ * - 재구축 시 최하위 항목으로 설정 (DB 행이 capacity보다 적으면 전체)
+ * - capacity 초과로 최하위를 제거하거나, floor 항목이 삭제되면 한 칸 앞으로 올림
+ * - floor보다 뒤에 오는 새 뉴스는 보관하지 않음 (사이에 보관하지 않은 뉴스가 있을 수 있음)
+ * 순위표 밖의 뉴스는 조회수가 floor 앞으로 오를 때 갱신 경로로 다시 들어오므로
+ * 보관 중인 항목은 항상 전체 순위의 앞부분과 같고, 그보다 뒤를 읽는 요청은 DB 조회(miss)가 됩니다.
+ * 다른 인스턴스의 조회수 / 일괄 저장 / 삭제는 resync-interval-ms마다 DB 기준 재구축으로 반영합니다.
+ *
+ * 메트릭:
+ * - lucr.news.popular.leaderboard.size             : 보관 중인 뉴스 수
+ * - lucr.news.popular.leaderboard.requests{result} : 메모리 응답(hit) / DB 조회(miss) 수
+ *
+ * @author kimdongjoo
+ * @since 2026-02-28
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularNewsLeaderboard implements MeterBinder {
+
+    /** DB 정렬과 같은 순서: view_count DESC, id DESC (PostgreSQL uuid 비교는 부호 없는 바이트 순서) */
+    private static final Comparator<Entry> ORDER = Comparator.comparingInt(Entry::viewCount).reversed()
+            .thenComparing(Entry::id, (a, b) -> compareUnsigned(b, a));
+
+    /** 모든 항목보다 뒤에 오는 탐색용 항목 (조회수 -1) */
+    private static final Entry LAST = new Entry(-1, new UUID(0, 0), null);
+
+    /** 모든 항목보다 앞에 오는 floor 값 (보관 범위 없음) */
+    private static final Entry FIRST = new Entry(Integer.MAX_VALUE, new UUID(-1L, -1L), null);
+
+    private final NewsRepository newsRepository;
+    private final NewsMapper newsMapper;
+    private final PopularLeaderboardProperties properties;
+
+    private volatile Board board;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+
+    /**
+     * @param viewCount 정렬 키 (summary.viewCount()와 같음)
+     * @param id        뉴스 ID
+     * @param summary   목록 응답용 Projection
+     */
+    private record Entry(int viewCount, UUID id, NewsSummary summary) {
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("lucr.news.popular.leaderboard.size", this, PopularNewsLeaderboard::size)
+                .description("인기 뉴스 순위표에 보관 중인 뉴스 수")
+                .register(registry);
+        hitCounter = Counter.builder("lucr.news.popular.leaderboard.requests")
+                .description("인기 뉴스 목록 요청 수")
+                .tag("result", "hit")
+                .register(registry);
+        missCounter = Counter.builder("lucr.news.popular.leaderboard.requests")
+                .description("인기 뉴스 목록 요청 수")
+                .tag("result", "miss")
+                .register(registry);
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 순위 offset부터 limit개
+     *
+     * @return limit개를 모두 채울 수 있으면 목록, 아니면 empty (DB 조회 필요)
+     */
+    public Optional<List<NewsSummary>> top(int offset, int limit) {
+        Board current = board;
+        if (current == null || !properties.isEnabled() || (long) offset + limit > current.capacity) {
+            return miss();
+        }
+        return collect(current.ranking, offset, limit);
+    }
+
+    /**
+     * 커서 (viewCount, id) 다음부터 limit개
+     *
+     * @return limit개를 모두 채울 수 있으면 목록, 아니면 empty (DB 조회 필요)
+     */
+    public Optional<List<NewsSummary>> after(int viewCount, UUID id, int limit) {
+        Board current = board;
+        if (current == null || !properties.isEnabled()) {
+            return miss();
+        }
+        return collect(current.ranking.tailSet(new Entry(viewCount, id, null), false), 0, limit);
+    }
+
+    public int size() {
+        Board current = board;
+        return current != null ? current.entries.size() : 0;
+    }
+
+    // ========== 갱신 ==========
+
+    /**
+     * 뉴스 반영 (DB에 반영된 조회수 기준)
+     */
+    public void offer(News news) {
+        offer(newsMapper.toSummary(news));
+    }
+
+    /**
+     * 목록용 Projection 반영 (ViewCountFlusher의 RETURNING 결과 등)
+     */
+    public void offer(NewsSummary summary) {
+        Board current = board;
+        if (current != null && properties.isEnabled() && summary.viewCount() != null) {
+            current.offer(summary);
+        }
+    }
+
+    /**
+     * 뉴스 생성 / 수정 / 삭제 반영 (커밋 후)
+     */
+    @TransactionalEventListener
+    public void onNewsChanged(NewsChangedEvent event) {
+        Board current = board;
+        if (current == null) {
+            return;
+        }
+        if (event.type() == NewsChangedEvent.ChangeType.DELETED) {
+            current.remove(event.newsId());
+        } else {
+            offer(event.news());
+        }
+    }
+
+    /**
+     * DB 기준으로 순위표 구축 (기동 완료 시 + 주기적으로)
+     *
+     * 새 순위표를 만든 뒤 한 번에 교체합니다. 구축 중 도착한 갱신은 다음 갱신 때 다시 반영됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${lucr.popular-leaderboard.resync-interval-ms:300000}",
+            fixedDelayString = "${lucr.popular-leaderboard.resync-interval-ms:300000}")
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            board = null;
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        Board fresh = new Board(Math.max(1, properties.getCapacity()));
+        List<NewsSummary> rows = newsRepository.findPopular(Limit.of(fresh.capacity));
+        for (NewsSummary summary : rows) {
+            fresh.offer(summary);
+        }
+        if (rows.size() >= fresh.capacity) {
+            // 최하위 이후의 DB 행은 보관하지 않음
+            fresh.raiseFloor(fresh.lastOr(FIRST));
+        }
+        board = fresh;
+
+        log.info("인기 뉴스 순위표 구축 완료: size={}, elapsed={}ms",
+                fresh.entries.size(), System.currentTimeMillis() - startTime);
+    }
+
+    // ========== Helper 메서드 ==========
+
+    /**
+     * 순위 순서로 중복 없이 offset 이후 limit개 수집
+     *
+     * 갱신 중에는 같은 뉴스의 새 항목이 추가된 뒤 이전 항목이 제거되므로
+     * 잠깐 두 항목이 함께 보일 수 있습니다. 앞쪽(새 값)만 사용합니다.
+     */
+    private Optional<List<NewsSummary>> collect(Set<Entry> ranking, int offset, int limit) {
+        List<NewsSummary> result = new ArrayList<>(limit);
+        Set<UUID> seen = new HashSet<>();
+        int skip = offset;
+        for (Entry entry : ranking) {
+            if (!seen.add(entry.id())) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            result.add(entry.summary());
+            if (result.size() == limit) {
+                if (hitCounter != null) {
+                    hitCounter.increment();
+                }
+                return Optional.of(result);
+            }
+        }
+        return miss();
+    }
+
+    private Optional<List<NewsSummary>> miss() {
+        if (missCounter != null) {
+            missCounter.increment();
+        }
+        return Optional.empty();
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    /**
+     * 순위표 한 벌 (재구축 시 통째로 교체)
+     */
+    private static final class Board {
+
+        private final int capacity;
+        private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(ORDER);
+        private final ConcurrentHashMap<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+        /** 보관 범위의 마지막 키 (앞으로만 이동, LAST면 전체) */
+        private volatile Entry floor = LAST;
+
+        Board(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void offer(NewsSummary summary) {
+            entries.compute(summary.id(), (id, current) -> {
+                if (current != null && current.viewCount() > summary.viewCount()) {
+                    // 늦게 도착한 이전 값 (조회수는 줄지 않음)
+                    return current;
+                }
+                Entry next = new Entry(summary.viewCount(), id, summary);
+                if (current == null) {
+                    if (ORDER.compare(next, floor) > 0) {
+                        // 보관 범위 밖 - 사이에 보관하지 않은 뉴스가 있을 수 있음
+                        return null;
+                    }
+                    Entry min = entries.size() >= capacity ? ranking.lower(LAST) : null;
+                    if (min != null && ORDER.compare(next, min) > 0) {
+                        // 가득 찼고 최하위보다 뒤 - 보관하지 않음
+                        return null;
+                    }
+                    ranking.add(next);
+                } else if (ORDER.compare(next, current) == 0) {
+                    // 순위 그대로 (제목 수정 등) - 같은 키라 먼저 빼고 넣음
+                    ranking.remove(current);
+                    ranking.add(next);
+                } else {
+                    // 순위 상승 - 새 위치를 먼저 추가해 순회 중에도 빠지지 않게 함
+                    ranking.add(next);
+                    ranking.remove(current);
+                }
+                return next;
+            });
+            trim();
+        }
+
+        void remove(UUID id) {
+            entries.computeIfPresent(id, (key, current) -> {
+                ranking.remove(current);
+                if (key.equals(floor.id())) {
+                    raiseFloor(lowerOr(current, FIRST));
+                }
+                return null;
+            });
+        }
+
+        /**
+         * floor를 candidate로 올림 (더 뒤로는 내리지 않음)
+         */
+        synchronized void raiseFloor(Entry candidate) {
+            if (ORDER.compare(candidate, floor) < 0) {
+                floor = candidate;
+            }
+        }
+
+        Entry lastOr(Entry fallback) {
+            return lowerOr(LAST, fallback);
+        }
+
+        private Entry lowerOr(Entry entry, Entry fallback) {
+            Entry lower = ranking.lower(entry);
+            return lower != null ? lower : fallback;
+        }
+
+        /**
+         * capacity를 넘은 만큼 최하위 항목 제거
+         */
+        private void trim() {
+            while (entries.size() > capacity) {
+                Entry min = ranking.lower(LAST);
+                if (min == null) {
+                    return;
+                }
+                entries.computeIfPresent(min.id(), (id, current) -> {
+                    if (current != min) {
+                        // 같은 뉴스가 갱신 중 - 다음 반복에서 다시 확인
+                        return current;
+                    }
+                    ranking.remove(min);
+                    // 제거한 항목부터는 보관 범위 밖
+                    raiseFloor(lowerOr(min, FIRST));
+                    return null;
+                });
+            }
+        }
+    }
+}
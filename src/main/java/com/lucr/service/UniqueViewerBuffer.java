@@ -0,0 +1,98 @@
+package com.lucr.service;
+
+import com.lucr.config.UniqueViewerProperties;
+import com.lucr.event.NewsViewedEvent;
+import com.lucr.sketch.HyperLogLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 순 방문자 스케치 메모리 버퍼
+ *
+ * 조회 이벤트마다 기사별 HyperLogLog에 방문자 키를 추가하고,
+ * UniqueViewerFlusher가 주기적으로 꺼내 DB 스케치에 병합합니다.
+ * - 같은 방문자의 반복 조회는 레지스터를 바꾸지 않으므로 스케치가 커지지 않음
+ * - 기사당 스케치는 희소 표현으로 시작하므로 방문자가 적은 기사는 수십 바이트
+ *
+ * 스케치 변경은 ConcurrentHashMap.compute() 안에서만 하므로
+ * drain()이 꺼낸 스케치는 더 이상 다른 스레드가 바꾸지 않습니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-27
+ */
+@Component
+@RequiredArgsConstructor
+public class UniqueViewerBuffer {
+
+    private final UniqueViewerProperties properties;
+
+    private final ConcurrentHashMap<UUID, HyperLogLog> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 조회 이벤트 반영 (커밋 후, 트랜잭션 밖에서 호출되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsViewed(NewsViewedEvent event) {
+        if (event.viewerKey() != null) {
+            add(event.newsId(), event.viewerKey());
+        }
+    }
+
+    /**
+     * 방문자 추가
+     *
+     * @param newsId    뉴스 ID
+     * @param viewerKey 방문자 식별 키
+     */
+    public void add(UUID newsId, String viewerKey) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        byte[] key = viewerKey.getBytes(StandardCharsets.UTF_8);
+        pending.compute(newsId, (id, sketch) -> {
+            HyperLogLog target = sketch != null ? sketch : new HyperLogLog(properties.getPrecision());
+            target.add(key);
+            return target;
+        });
+    }
+
+    /**
+     * 스케치 되돌리기 (DB 병합 실패 시 다음 주기에 재시도)
+     */
+    public void restore(UUID newsId, HyperLogLog sketch) {
+        pending.merge(newsId, sketch, (current, failed) -> {
+            current.merge(failed);
+            return current;
+        });
+    }
+
+    /**
+     * 모인 스케치를 모두 꺼냄
+     *
+     * @return 뉴스 ID → 스케치 (꺼낸 스케치는 버퍼에서 제거됨)
+     */
+    public Map<UUID, HyperLogLog> drain() {
+        Map<UUID, HyperLogLog> drained = new HashMap<>();
+        for (UUID newsId : pending.keySet()) {
+            HyperLogLog sketch = pending.remove(newsId);
+            if (sketch != null) {
+                drained.put(newsId, sketch);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 스케치를 보유 중인 뉴스 수 (메트릭용)
+     */
+    public int trackedCount() {
+        return pending.size();
+    }
+}
@@ -0,0 +1,219 @@
+package com.lucr.service;
+
+import com.lucr.config.UniqueViewerProperties;
+import com.lucr.config.ViewCountProperties;
+import com.lucr.entity.News;
+import com.lucr.sketch.HyperLogLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 순 방문자 스케치 → DB 병합 (news_viewer_sketch, news.unique_viewers)
+ *
+ * 주기마다 UniqueViewerBuffer의 스케치를 꺼내 기사별 저장 스케치(bytea)와 합칩니다.
+ * HyperLogLog 병합은 합집합이므로 여러 인스턴스가 각자 모은 스케치를 합쳐도
+ * 같은 방문자를 두 번 세지 않습니다.
+ *
+ * 트랜잭션 하나에서 batch-size개씩 (뉴스 ID 오름차순으로 잠가 인스턴스 간 교착 방지):
+ *   1. INSERT ... SELECT FROM news ON CONFLICT DO NOTHING : 처음 집계하는 기사의 빈 행 생성 (삭제된 기사 제외)
+ *   2. SELECT ... FOR UPDATE                              : 저장 스케치를 읽고 행 잠금 (다른 인스턴스의 병합과 직렬화)
+ *   3. 메모리에서 병합 후 UPDATE news_viewer_sketch / news.unique_viewers (JDBC 배치)
+ * - lucr.view-count.high-view-basis=unique-viewers면 is_high_view도 순 방문자 수 기준으로 갱신
+ * - 반영 실패 시 스케치를 버퍼에 되돌려 다음 주기에 재시도
+ * - 손상되었거나 precision이 다른 저장 스케치는 빈 스케치로 보고 덮어씀 (같은 배치가 계속 실패하지 않도록)
+ * - 커밋 후 배치의 뉴스 상세 캐시 무효화
+ *
+ * 스케치 테이블은 NewsViewerSketch 엔티티로 관리합니다 (기사 삭제 시 함께 삭제).
+ *
+ * 메트릭:
+ * - lucr.news.unique_viewers.pending.ids : 병합 대기 중인 뉴스 수
+ * - lucr.news.unique_viewers.merged      : 병합한 기사 스케치 누계
+ *
+ * @author kimdongjoo
+ * @since 2026-02-27
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UniqueViewerFlusher implements MeterBinder {
+
+    private static final String INSERT_EMPTY_SQL = """
+            INSERT INTO news_viewer_sketch (news_id, sketch, updated_at)
+            SELECT id, ''::bytea, now() FROM news WHERE id = ANY(?) ORDER BY id
+            ON CONFLICT (news_id) DO NOTHING
+            """;
+
+    private static final String LOCK_SQL = """
+            SELECT news_id, sketch FROM news_viewer_sketch
+            WHERE news_id = ANY(?) ORDER BY news_id FOR UPDATE
+            """;
+
+    private static final String UPDATE_SKETCH_SQL =
+            "UPDATE news_viewer_sketch SET sketch = ?, updated_at = now() WHERE news_id = ?";
+
+    private static final String UPDATE_COUNT_SQL =
+            "UPDATE news SET unique_viewers = ? WHERE id = ?";
+
+    private static final String UPDATE_COUNT_AND_HIGH_VIEW_SQL =
+            "UPDATE news SET unique_viewers = ?, is_high_view = (? >= ?) WHERE id = ?";
+
+    private final UniqueViewerBuffer uniqueViewerBuffer;
+    private final UniqueViewerProperties properties;
+    private final ViewCountProperties viewCountProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NewsDetailCache newsDetailCache;
+
+    private Counter mergedCounter;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("lucr.news.unique_viewers.pending.ids", uniqueViewerBuffer, UniqueViewerBuffer::trackedCount)
+                .description("DB에 병합되지 않은 순 방문자 스케치를 보유 중인 뉴스 수")
+                .register(registry);
+        mergedCounter = Counter.builder("lucr.news.unique_viewers.merged")
+                .description("DB에 병합한 순 방문자 스케치 누계")
+                .register(registry);
+    }
+
+    /**
+     * 모인 스케치를 DB 스케치에 병합
+     *
+     * @return 병합한 기사 수
+     */
+    @Scheduled(fixedDelayString = "${lucr.unique-viewers.flush-interval-ms:5000}")
+    public int flush() {
+        Map<UUID, HyperLogLog> sketches = uniqueViewerBuffer.drain();
+        if (sketches.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> ids = new ArrayList<>(sketches.keySet());
+        ids.sort(null);
+
+        int merged = 0;
+        int batchSize = Math.max(1, properties.getBatchSize());
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<UUID> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            try {
+                Integer count = transactionTemplate.execute(status -> mergeBatch(batch, sketches));
+                merged += count != null ? count : 0;
+                newsDetailCache.invalidateAll(batch);
+            } catch (RuntimeException e) {
+                log.warn("순 방문자 스케치 병합 실패 - 다음 주기에 재시도: news={}", batch.size(), e);
+                batch.forEach(id -> uniqueViewerBuffer.restore(id, sketches.get(id)));
+            }
+        }
+
+        if (mergedCounter != null) {
+            mergedCounter.increment(merged);
+        }
+        log.debug("순 방문자 스케치 병합 완료: news={}, merged={}", sketches.size(), merged);
+        return merged;
+    }
+
+    /**
+     * 종료 시 남은 스케치 병합 (DataSource는 이 빈보다 늦게 정리됨)
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        int merged = flush();
+        log.info("종료 전 순 방문자 스케치 병합: news={}", merged);
+    }
+
+    // ========== Helper 메서드 ==========
+
+    /**
+     * 한 배치 병합 (트랜잭션 안에서 호출)
+     *
+     * @param ids      뉴스 ID (오름차순)
+     * @param sketches 버퍼에서 꺼낸 스케치
+     * @return 병합한 기사 수 (삭제된 기사 제외)
+     */
+    private int mergeBatch(List<UUID> ids, Map<UUID, HyperLogLog> sketches) {
+        UUID[] idArray = ids.toArray(UUID[]::new);
+        jdbcTemplate.update(INSERT_EMPTY_SQL, ps -> setIds(ps, idArray));
+
+        Map<UUID, byte[]> stored = new HashMap<>();
+        jdbcTemplate.query(LOCK_SQL, ps -> setIds(ps, idArray),
+                rs -> {
+                    stored.put(rs.getObject("news_id", UUID.class), rs.getBytes("sketch"));
+                });
+
+        List<Object[]> sketchArgs = new ArrayList<>(stored.size());
+        List<Object[]> countArgs = new ArrayList<>(stored.size());
+        boolean updateHighView = viewCountProperties.isUniqueViewerBasis();
+        for (UUID id : ids) {
+            byte[] bytes = stored.get(id);
+            if (bytes == null) {
+                // 삭제된 기사
+                continue;
+            }
+            HyperLogLog sketch = sketches.get(id);
+            HyperLogLog existing = readStored(id, bytes, sketch.precision());
+            if (existing != null) {
+                sketch.merge(existing);
+            }
+
+            long uniqueViewers = sketch.estimate();
+            sketchArgs.add(new Object[]{sketch.toBytes(), id});
+            countArgs.add(updateHighView
+                    ? new Object[]{uniqueViewers, uniqueViewers, News.HIGH_VIEW_THRESHOLD, id}
+                    : new Object[]{uniqueViewers, id});
+        }
+
+        if (!sketchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SKETCH_SQL, sketchArgs);
+            jdbcTemplate.batchUpdate(updateHighView ? UPDATE_COUNT_AND_HIGH_VIEW_SQL : UPDATE_COUNT_SQL, countArgs);
+        }
+        return sketchArgs.size();
+    }
+
+    /**
+     * 저장된 스케치 읽기
+     *
+     * 손상되었거나 precision이 다른 스케치는 빈 스케치로 취급합니다 (이번 배치의 스케치로 덮어써 초기화).
+     * 예외를 던지면 배치 전체가 롤백되고 다음 flush에서 같은 스케치로 다시 실패하므로 여기서 끊습니다.
+     *
+     * @return 병합할 스케치 (비어 있거나 읽을 수 없으면 null)
+     */
+    private static HyperLogLog readStored(UUID id, byte[] bytes, int precision) {
+        if (bytes.length == 0) {
+            return null;
+        }
+        HyperLogLog existing;
+        try {
+            existing = HyperLogLog.fromBytes(bytes);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            log.warn("손상된 저장 스케치 - 초기화: id={}, bytes={}, error={}", id, bytes.length, e.getMessage());
+            return null;
+        }
+        if (existing.precision() != precision) {
+            log.warn("precision이 다른 저장 스케치 - 초기화: id={}, stored={}, current={}",
+                    id, existing.precision(), precision);
+            return null;
+        }
+        return existing;
+    }
+
+    private static void setIds(PreparedStatement ps, UUID[] ids) throws SQLException {
+        ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids));
+    }
+}
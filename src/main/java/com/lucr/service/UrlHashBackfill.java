@@ -0,0 +1,104 @@
+package com.lucr.service;
+
+import com.lucr.common.UrlCanonicalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 기존 뉴스의 url_hash 채우기
+ *
+ * url_hash 컬럼은 ddl-auto로 추가되므로 기존 행은 NULL입니다.
+ * 기동 완료 시 NULL인 행을 id 순으로 배치 조회하여 해시를 계산하고 JDBC 배치로 반영합니다.
+ *   UPDATE news SET url_hash = ? WHERE id = ? AND NOT EXISTS (같은 url_hash를 가진 행)
+ * - 정규화 후 같은 URL이 된 행(추적 파라미터만 다른 기존 중복)은 먼저 처리된 행만 해시를 갖고
+ *   나머지는 NULL로 남겨 로그로 알림 (정리 후 재기동하면 다시 시도)
+ *
+ * 새로 저장되는 뉴스는 News.onCreate()에서 계산하므로 이 작업이 끝나면 더 할 일이 없습니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-19
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UrlHashBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String SELECT_SQL = """
+            SELECT id, url FROM news
+            WHERE url_hash IS NULL AND id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String UPDATE_SQL = """
+            UPDATE news SET url_hash = ?
+            WHERE id = ?
+              AND NOT EXISTS (SELECT 1 FROM news other WHERE other.url_hash = ?)
+            """;
+
+    /** UUID 정렬상 가장 작은 값 - 첫 배치의 시작점 */
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기동 완료 시 url_hash가 없는 행 채우기 (URL 필터 / 검색 색인 구축보다 먼저)
+     *
+     * @return 해시를 채운 행 수
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public int backfill() {
+        long startTime = System.currentTimeMillis();
+        int updated = 0;
+        int skipped = 0;
+
+        UUID lastId = MIN_UUID;
+        List<Row> rows;
+        do {
+            rows = jdbcTemplate.query(SELECT_SQL,
+                    (rs, rowNum) -> new Row(rs.getObject("id", UUID.class), rs.getString("url")),
+                    lastId, BATCH_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> batchArgs = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                long hash = UrlCanonicalizer.hash(row.url());
+                batchArgs.add(new Object[]{hash, row.id(), hash});
+            }
+            int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs);
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    skipped++;
+                    log.warn("url_hash 채우기 건너뜀 - 정규화 후 같은 URL이 이미 있음: id={}, url={}",
+                            rows.get(i).id(), rows.get(i).url());
+                } else {
+                    updated++;
+                }
+            }
+            lastId = rows.get(rows.size() - 1).id();
+        } while (rows.size() == BATCH_SIZE);
+
+        if (updated > 0 || skipped > 0) {
+            log.info("url_hash 채우기 완료: updated={}, skipped={}, elapsed={}ms",
+                    updated, skipped, System.currentTimeMillis() - startTime);
+        }
+        return updated;
+    }
+
+    private record Row(UUID id, String url) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.lucr.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 증가분 메모리 버퍼 (write-behind)
+ *
+ * 조회 요청마다 news 행을 UPDATE하면 인기 기사 한 건에 요청이 몰릴 때
+ * 같은 행의 락을 두고 경합하고 매 요청이 DB 왕복을 기다립니다.
+ * 증가분은 뉴스별 LongAdder에 누적하고 ViewCountFlusher가 주기적으로 한 번에 반영합니다.
+ * - LongAdder: 스레드별 셀에 나눠 더하므로 같은 뉴스에 동시 요청이 몰려도 CAS 경합이 적음
+ * - ConcurrentHashMap: 뉴스 ID 단위로 분산 (전역 락 없음)
+ *
+ * 증가분이 없는 뉴스의 카운터는 drain 시 맵에서 제거합니다.
+ * 제거와 동시에 더해진 증가분은 retired 표시를 보고 새 카운터로 옮겨 유실되지 않습니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-16
+ */
+@Component
+public class ViewCountBuffer {
+
+    private final ConcurrentHashMap<UUID, Counter> counters = new ConcurrentHashMap<>();
+
+    private static final class Counter {
+        private final LongAdder adder = new LongAdder();
+        private volatile boolean retired;
+    }
+
+    /**
+     * 조회수 1 증가
+     *
+     * @param id 뉴스 ID
+     * @return 아직 DB에 반영되지 않은 해당 뉴스의 증가분 (근사값)
+     */
+    public long increment(UUID id) {
+        return add(id, 1);
+    }
+
+    /**
+     * 증가분 추가 (DB 반영 실패 시 되돌리기에도 사용)
+     *
+     * @param id 뉴스 ID
+     * @param delta 증가분 (1 이상)
+     * @return 아직 DB에 반영되지 않은 해당 뉴스의 증가분 (근사값)
+     */
+    public long add(UUID id, long delta) {
+        Counter counter = counters.computeIfAbsent(id, key -> new Counter());
+        counter.adder.add(delta);
+        if (counter.retired) {
+            // drain이 이미 맵에서 제거한 카운터에 더해진 경우 새 카운터로 옮김
+            long moved = counter.adder.sumThenReset();
+            return moved > 0 ? add(id, moved) : pending(id);
+        }
+        return counter.adder.sum();
+    }
+
+    /**
+     * 누적된 증가분을 모두 꺼내고 0으로 초기화
+     *
+     * @return 뉴스 ID → 증가분 (증가분이 있는 뉴스만)
+     */
+    public Map<UUID, Long> drain() {
+        Map<UUID, Long> deltas = new HashMap<>();
+        for (Map.Entry<UUID, Counter> entry : counters.entrySet()) {
+            Counter counter = entry.getValue();
+            long delta = counter.adder.sumThenReset();
+            if (delta == 0 && counters.remove(entry.getKey(), counter)) {
+                // 제거 직전에 더해진 증가분 회수 (이후 증가분은 add()가 새 카운터로 옮김)
+                counter.retired = true;
+                delta = counter.adder.sumThenReset();
+            }
+            if (delta > 0) {
+                deltas.put(entry.getKey(), delta);
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 특정 뉴스의 미반영 증가분
+     */
+    public long pending(UUID id) {
+        Counter counter = counters.get(id);
+        return counter == null ? 0 : counter.adder.sum();
+    }
+
+    /**
+     * 전체 미반영 증가분 합계 (메트릭용)
+     */
+    public long pendingTotal() {
+        long total = 0;
+        for (Counter counter : counters.values()) {
+            total += counter.adder.sum();
+        }
+        return total;
+    }
+
+    /**
+     * 카운터를 보유 중인 뉴스 수 (메트릭용)
+     */
+    public int trackedCount() {
+        return counters.size();
+    }
+}
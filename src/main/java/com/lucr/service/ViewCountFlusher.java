@@ -0,0 +1,186 @@
+package com.lucr.service;
+
+import com.lucr.config.ViewCountProperties;
+import com.lucr.dto.projection.NewsSummary;
+import com.lucr.entity.News;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 조회수 버퍼 → DB 반영 (write-behind flush)
+ *
+ * 주기마다 ViewCountBuffer의 증가분을 꺼내 UPDATE 한 문장으로 반영합니다.
+ *   UPDATE news n SET view_count = n.view_count + d.delta, is_high_view = (n.view_count + d.delta >= 1000)
+ *   FROM unnest(?::uuid[], ?::bigint[]) AS d(id, delta) WHERE n.id = d.id
+ *   RETURNING (목록용 컬럼)
+ * (lucr.view-count.high-view-basis=unique-viewers면 is_high_view는 UniqueViewerFlusher가 갱신하므로 view_count만)
+ * - 엔티티 조회 / dirty checking 없이 증가분만 더하므로 다른 요청의 증가분을 덮어쓰지 않음
+ * - RETURNING으로 받은 반영 후 행을 인기 뉴스 순위표(PopularNewsLeaderboard)에 전달 (추가 조회 없음)
+ * - 반영 실패 시 증가분을 버퍼에 되돌려 다음 주기에 재시도
+ * - 같은 UPDATE를 조회 이벤트 큐 소비자(ViewEventListener)도 사용 (apply)
+ * - 애플리케이션 종료 시 남은 증가분을 마지막으로 반영
+ *
+ * 메트릭:
+ * - lucr.news.view_count.pending : 미반영 증가분 합계
+ * - lucr.news.view_count.pending.ids : 미반영 뉴스 수
+ * - lucr.news.view_count.flushed : 반영된 증가분 누계
+ *
+ * @author kimdongjoo
+ * @since 2026-02-16
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountFlusher implements MeterBinder {
+
+    /** 목록용 Projection(NewsSummary) 컬럼 */
+    private static final String RETURNING_SUMMARY = """
+            RETURNING n.id, n.title, SUBSTRING(n.content, 1, %d) AS content_head, n.source, n.url,
+                      n.view_count, n.unique_viewers, n.is_high_view, n.sentiment_score,
+                      n.published_at, n.created_at
+            """.formatted(NewsSummary.CONTENT_HEAD_LENGTH);
+
+    private static final String FLUSH_SQL = """
+            UPDATE news n
+            SET view_count = n.view_count + d.delta,
+                is_high_view = (n.view_count + d.delta >= ?)
+            FROM unnest(?::uuid[], ?::bigint[]) AS d(id, delta)
+            WHERE n.id = d.id
+            """ + RETURNING_SUMMARY;
+
+    private static final String FLUSH_VIEW_COUNT_ONLY_SQL = """
+            UPDATE news n
+            SET view_count = n.view_count + d.delta
+            FROM unnest(?::uuid[], ?::bigint[]) AS d(id, delta)
+            WHERE n.id = d.id
+            """ + RETURNING_SUMMARY;
+
+    private static final RowMapper<NewsSummary> SUMMARY_ROW_MAPPER = (rs, rowNum) -> new NewsSummary(
+            rs.getObject("id", UUID.class),
+            rs.getString("title"),
+            rs.getString("content_head"),
+            rs.getString("source"),
+            rs.getString("url"),
+            rs.getInt("view_count"),
+            rs.getLong("unique_viewers"),
+            rs.getBoolean("is_high_view"),
+            rs.getBigDecimal("sentiment_score"),
+            rs.getObject("published_at", LocalDateTime.class),
+            rs.getObject("created_at", LocalDateTime.class));
+
+    private final ViewCountBuffer viewCountBuffer;
+    private final ViewCountProperties viewCountProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final PopularNewsLeaderboard popularNewsLeaderboard;
+    private final NewsDetailCache newsDetailCache;
+
+    private Counter flushedCounter;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("lucr.news.view_count.pending", viewCountBuffer, ViewCountBuffer::pendingTotal)
+                .description("DB에 반영되지 않은 조회수 증가분")
+                .register(registry);
+        Gauge.builder("lucr.news.view_count.pending.ids", viewCountBuffer, ViewCountBuffer::trackedCount)
+                .description("조회수 증가분을 보유 중인 뉴스 수")
+                .register(registry);
+        flushedCounter = Counter.builder("lucr.news.view_count.flushed")
+                .description("DB에 반영된 조회수 증가분 누계")
+                .register(registry);
+    }
+
+    /**
+     * 누적된 조회수 증가분 반영
+     *
+     * @return 반영한 증가분 합계
+     */
+    @Scheduled(fixedDelayString = "${lucr.view-count.flush-interval-ms:1000}")
+    public long flush() {
+        Map<UUID, Long> deltas = viewCountBuffer.drain();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        long total;
+        try {
+            total = apply(deltas);
+        } catch (RuntimeException e) {
+            log.warn("조회수 반영 실패 - 다음 주기에 재시도: news={}", deltas.size(), e);
+            deltas.forEach(viewCountBuffer::add);
+            return 0;
+        }
+
+        log.debug("조회수 반영 완료: news={}, views={}", deltas.size(), total);
+        return total;
+    }
+
+    /**
+     * 뉴스별 조회수 증가분을 UPDATE 한 문장으로 반영 (버퍼 flush, ViewEventListener 배치)
+     *
+     * 반영 후 행은 인기 뉴스 순위표에 전달하고 상세 캐시에서 무효화합니다 (자동 커밋 후).
+     * 삭제된 뉴스의 증가분은 무시됩니다.
+     *
+     * @param deltas 뉴스 ID → 증가분
+     * @return 반영한 증가분 합계
+     * @throws org.springframework.dao.DataAccessException 반영 실패 시 (호출자가 재시도 결정)
+     */
+    public long apply(Map<UUID, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        boolean updateHighView = !viewCountProperties.isUniqueViewerBasis();
+        UUID[] ids = new UUID[deltas.size()];
+        Long[] values = new Long[deltas.size()];
+        long total = 0;
+        int i = 0;
+        for (Map.Entry<UUID, Long> entry : deltas.entrySet()) {
+            ids[i] = entry.getKey();
+            values[i] = entry.getValue();
+            total += entry.getValue();
+            i++;
+        }
+
+        List<NewsSummary> updated = jdbcTemplate.query(updateHighView ? FLUSH_SQL : FLUSH_VIEW_COUNT_ONLY_SQL,
+                ps -> {
+                    int index = 1;
+                    if (updateHighView) {
+                        ps.setInt(index++, News.HIGH_VIEW_THRESHOLD);
+                    }
+                    ps.setArray(index++, ps.getConnection().createArrayOf("uuid", ids));
+                    ps.setArray(index, ps.getConnection().createArrayOf("bigint", values));
+                },
+                SUMMARY_ROW_MAPPER);
+
+        updated.forEach(popularNewsLeaderboard::offer);
+        newsDetailCache.invalidateAll(updated.stream().map(NewsSummary::id).toList());
+
+        if (flushedCounter != null) {
+            flushedCounter.increment(total);
+        }
+        return total;
+    }
+
+    /**
+     * 종료 시 남은 증가분 반영 (DataSource는 이 빈보다 늦게 정리됨)
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        long total = flush();
+        log.info("종료 전 조회수 반영: views={}", total);
+    }
+}
@@ -0,0 +1,149 @@
+package com.lucr.sketch;
+
+import java.util.Arrays;
+
+/**
+ * Count-Min Sketch (Cormode & Muthukrishnan 2005)
+ *
+ * 키별 누적 가중치를 고정 크기 카운터 행렬(depth x width)로 근사합니다.
+ * - estimate(key) >= 실제 값 (과소 추정 없음)
+ * - estimate(key) <= 실제 값 + epsilon * 전체 가중치 (확률 1 - delta 이상), epsilon = e / width, delta = e^-depth
+ * 키 수와 무관하게 메모리가 depth * width * 8바이트로 고정됩니다.
+ *
+ * 보수적 갱신(conservative update): 추가할 때 최솟값 기준으로 필요한 셀만 올려
+ * 다른 키와 충돌한 셀의 과대 추정을 줄입니다 (상위 키 추적에 유리).
+ *
+ * 카운터는 double이므로 시간 감쇠 가중치(exp)를 그대로 누적할 수 있고,
+ * scale()로 전체를 한 번에 줄일 수 있습니다.
+ *
+ * 스레드 안전하지 않음: 호출자가 동기화해야 합니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-26
+ */
+public final class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final int mask;
+    private final double[] counts;
+    private double totalWeight;
+
+    /**
+     * @param width 행당 카운터 수 (2의 거듭제곱으로 올림)
+     * @param depth 행 수 (해시 함수 수)
+     */
+    public CountMinSketch(int width, int depth) {
+        if (width <= 0 || width > (1 << 30)) {
+            throw new IllegalArgumentException("width는 1 이상 2^30 이하여야 합니다: " + width);
+        }
+        if (depth <= 0) {
+            throw new IllegalArgumentException("depth는 1 이상이어야 합니다: " + depth);
+        }
+        this.width = Integer.bitCount(width) == 1 ? width : Integer.highestOneBit(width) << 1;
+        this.depth = depth;
+        this.mask = this.width - 1;
+        this.counts = new double[Math.multiplyExact(this.width, depth)];
+    }
+
+    /**
+     * 오차 한도로 생성
+     *
+     * @param epsilon 전체 가중치 대비 허용 과대 추정 비율 (예: 0.001)
+     * @param delta   오차 한도를 넘을 확률 (예: 0.01)
+     */
+    public static CountMinSketch withError(double epsilon, double delta) {
+        if (!(epsilon > 0 && epsilon < 1) || !(delta > 0 && delta < 1)) {
+            throw new IllegalArgumentException("epsilon / delta는 0과 1 사이여야 합니다: " + epsilon + ", " + delta);
+        }
+        int width = (int) Math.ceil(Math.E / epsilon);
+        int depth = (int) Math.ceil(Math.log(1 / delta));
+        return new CountMinSketch(width, depth);
+    }
+
+    // ========== 추가 / 조회 ==========
+
+    /**
+     * 가중치 추가 (보수적 갱신)
+     *
+     * @param key    키 바이트
+     * @param weight 추가할 가중치 (0 이상)
+     * @return 추가 후 추정값
+     */
+    public double add(byte[] key, double weight) {
+        if (!(weight >= 0)) {
+            throw new IllegalArgumentException("weight는 0 이상이어야 합니다: " + weight);
+        }
+        Murmur3.Hash128 hash = Murmur3.hash128(key, 0);
+        double estimate = estimate(hash) + weight;
+
+        long combined = hash.h1();
+        for (int row = 0; row < depth; row++) {
+            int index = row * width + ((int) combined & mask);
+            if (counts[index] < estimate) {
+                counts[index] = estimate;
+            }
+            combined += hash.h2();
+        }
+        totalWeight += weight;
+        return estimate;
+    }
+
+    /**
+     * 누적 가중치 추정 (실제 값 이상)
+     */
+    public double estimate(byte[] key) {
+        return estimate(Murmur3.hash128(key, 0));
+    }
+
+    /**
+     * 모든 카운터에 factor를 곱함 (시간 감쇠 기준점 이동 등)
+     */
+    public void scale(double factor) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] *= factor;
+        }
+        totalWeight *= factor;
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+        totalWeight = 0;
+    }
+
+    // ========== 상태 ==========
+
+    /**
+     * 추가된 가중치 합계 (오차 한도 계산의 N)
+     */
+    public double totalWeight() {
+        return totalWeight;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * 카운터 배열 크기 (byte)
+     */
+    public long sizeInBytes() {
+        return (long) counts.length * Double.BYTES;
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private double estimate(Murmur3.Hash128 hash) {
+        double min = Double.MAX_VALUE;
+        long combined = hash.h1();
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counts[row * width + ((int) combined & mask)]);
+            combined += hash.h2();
+        }
+        return min;
+    }
+}
@@ -0,0 +1,343 @@
+package com.lucr.sketch;
+
+import java.util.Arrays;
+
+/**
+ * HyperLogLog (Flajolet et al. 2007)
+ *
+ * 서로 다른 값의 개수(카디널리티)를 고정 크기 레지스터로 근사합니다.
+ * - 레지스터 수 m = 2^precision, 상대 표준 오차 ≈ 1.04 / sqrt(m) (precision 12 → 약 1.6%)
+ * - 값 자체를 보관하지 않으므로 방문자 수와 무관하게 메모리가 고정됨
+ * - 같은 precision의 스케치끼리 merge()하면 합집합의 스케치 (인스턴스별 집계를 합칠 수 있음)
+ *
+ * 표현:
+ * - 희소(sparse): 값이 있는 레지스터만 (index, rank) 정렬 배열로 보관 (조회가 적은 기사 대부분)
+ * - 밀집(dense) : 레지스터가 m / 4개를 넘으면 m바이트 배열로 전환
+ *
+ * 직렬화 (toBytes / fromBytes, DB bytea 저장용):
+ * - [0] 형식 (1: 희소, 2: 밀집), [1] precision
+ * - 희소: 레지스터마다 index(2바이트, big-endian) + rank(1바이트)
+ * - 밀집: 레지스터마다 6비트로 압축 (precision 12 → 3KB)
+ * 두 형식 중 작은 쪽으로 저장합니다.
+ *
+ * 스레드 안전하지 않음: 호출자가 동기화해야 합니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-27
+ */
+public final class HyperLogLog {
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 16;
+
+    private static final byte FORMAT_SPARSE = 1;
+    private static final byte FORMAT_DENSE = 2;
+    private static final int HEADER_BYTES = 2;
+    private static final int SPARSE_ENTRY_BYTES = 3;
+    private static final int REGISTER_BITS = 6;
+
+    private final int precision;
+    private final int registerCount;
+
+    /** 밀집 레지스터 (희소 표현이면 null) */
+    private byte[] registers;
+
+    /** 희소 레지스터: (index << 8) | rank, index 오름차순 */
+    private int[] sparse;
+    private int sparseSize;
+
+    /**
+     * @param precision 레지스터 수 2^precision (4 ~ 16)
+     */
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException(
+                    "precision은 " + MIN_PRECISION + " 이상 " + MAX_PRECISION + " 이하여야 합니다: " + precision);
+        }
+        this.precision = precision;
+        this.registerCount = 1 << precision;
+        this.sparse = new int[8];
+    }
+
+    // ========== 추가 / 병합 ==========
+
+    /**
+     * 값 추가
+     *
+     * @return 레지스터가 바뀌었으면 true (추정값이 바뀔 수 있음)
+     */
+    public boolean add(byte[] value) {
+        long hash = Murmur3.hash128(value, 0).h1();
+        int index = (int) (hash >>> (64 - precision));
+        // 남은 비트의 선행 0 개수 + 1 (남은 비트가 모두 0이어도 최대 64 - precision + 1)
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        return update(index, rank);
+    }
+
+    /**
+     * 다른 스케치를 합침 (합집합)
+     *
+     * @throws IllegalArgumentException precision이 다른 경우
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException(
+                    "precision이 다른 스케치는 합칠 수 없습니다: " + precision + ", " + other.precision);
+        }
+        if (other.registers != null) {
+            for (int index = 0; index < registerCount; index++) {
+                if (other.registers[index] != 0) {
+                    update(index, other.registers[index]);
+                }
+            }
+        } else {
+            for (int i = 0; i < other.sparseSize; i++) {
+                update(other.sparse[i] >>> 8, other.sparse[i] & 0xFF);
+            }
+        }
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 서로 다른 값의 개수 추정
+     *
+     * 값이 적을 때(추정값 <= 2.5m, 빈 레지스터 있음)는 linear counting으로 보정합니다.
+     */
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        if (registers != null) {
+            for (byte rank : registers) {
+                sum += Math.scalb(1.0, -rank);
+                if (rank == 0) {
+                    zeros++;
+                }
+            }
+        } else {
+            zeros = registerCount - sparseSize;
+            sum = zeros;
+            for (int i = 0; i < sparseSize; i++) {
+                sum += Math.scalb(1.0, -(sparse[i] & 0xFF));
+            }
+        }
+
+        double raw = alpha() * registerCount * registerCount / sum;
+        if (raw <= 2.5 * registerCount && zeros > 0) {
+            return Math.round(registerCount * Math.log((double) registerCount / zeros));
+        }
+        return Math.round(raw);
+    }
+
+    public boolean isEmpty() {
+        return registers == null && sparseSize == 0;
+    }
+
+    public int precision() {
+        return precision;
+    }
+
+    // ========== 직렬화 ==========
+
+    /**
+     * 저장용 바이트 배열 (희소 / 밀집 중 작은 형식)
+     */
+    public byte[] toBytes() {
+        int denseBytes = HEADER_BYTES + (registerCount * REGISTER_BITS + 7) / 8;
+        int nonZero = registers != null ? countNonZero() : sparseSize;
+        int sparseBytes = HEADER_BYTES + nonZero * SPARSE_ENTRY_BYTES;
+        return sparseBytes < denseBytes ? writeSparse(sparseBytes) : writeDense(denseBytes);
+    }
+
+    /**
+     * toBytes()로 저장한 스케치 복원
+     *
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static HyperLogLog fromBytes(byte[] data) {
+        if (data.length < HEADER_BYTES) {
+            throw new IllegalArgumentException("HyperLogLog 데이터가 너무 짧습니다: " + data.length);
+        }
+        HyperLogLog sketch = new HyperLogLog(data[1]);
+        switch (data[0]) {
+            case FORMAT_SPARSE -> sketch.readSparse(data);
+            case FORMAT_DENSE -> sketch.readDense(data);
+            default -> throw new IllegalArgumentException("알 수 없는 HyperLogLog 형식입니다: " + data[0]);
+        }
+        return sketch;
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private boolean update(int index, int rank) {
+        if (registers != null) {
+            if (registers[index] >= rank) {
+                return false;
+            }
+            registers[index] = (byte) rank;
+            return true;
+        }
+
+        int position = findSparse(index);
+        if (position >= 0) {
+            if ((sparse[position] & 0xFF) >= rank) {
+                return false;
+            }
+            sparse[position] = (index << 8) | rank;
+            return true;
+        }
+        if (sparseSize >= registerCount / 4) {
+            // 희소 배열(4바이트 x m / 4)이 밀집 배열(m바이트)보다 커지기 전에 전환
+            toDense();
+            registers[index] = (byte) rank;
+            return true;
+        }
+
+        int insertAt = -(position + 1);
+        if (sparseSize == sparse.length) {
+            sparse = Arrays.copyOf(sparse, Math.min(sparse.length * 2, registerCount / 4));
+        }
+        System.arraycopy(sparse, insertAt, sparse, insertAt + 1, sparseSize - insertAt);
+        sparse[insertAt] = (index << 8) | rank;
+        sparseSize++;
+        return true;
+    }
+
+    /**
+     * 희소 배열에서 index 위치 (없으면 -(삽입 위치) - 1)
+     */
+    private int findSparse(int index) {
+        int low = 0;
+        int high = sparseSize - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midIndex = sparse[mid] >>> 8;
+            if (midIndex < index) {
+                low = mid + 1;
+            } else if (midIndex > index) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void toDense() {
+        registers = new byte[registerCount];
+        for (int i = 0; i < sparseSize; i++) {
+            registers[sparse[i] >>> 8] = (byte) (sparse[i] & 0xFF);
+        }
+        sparse = null;
+        sparseSize = 0;
+    }
+
+    private int countNonZero() {
+        int count = 0;
+        for (byte rank : registers) {
+            if (rank != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private double alpha() {
+        return switch (registerCount) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / registerCount);
+        };
+    }
+
+    private byte[] writeSparse(int size) {
+        byte[] out = new byte[size];
+        out[0] = FORMAT_SPARSE;
+        out[1] = (byte) precision;
+        int position = HEADER_BYTES;
+        if (registers != null) {
+            for (int index = 0; index < registerCount; index++) {
+                if (registers[index] != 0) {
+                    position = writeSparseEntry(out, position, index, registers[index]);
+                }
+            }
+        } else {
+            for (int i = 0; i < sparseSize; i++) {
+                position = writeSparseEntry(out, position, sparse[i] >>> 8, sparse[i] & 0xFF);
+            }
+        }
+        return out;
+    }
+
+    private static int writeSparseEntry(byte[] out, int position, int index, int rank) {
+        out[position] = (byte) (index >>> 8);
+        out[position + 1] = (byte) index;
+        out[position + 2] = (byte) rank;
+        return position + SPARSE_ENTRY_BYTES;
+    }
+
+    private byte[] writeDense(int size) {
+        byte[] out = new byte[size];
+        out[0] = FORMAT_DENSE;
+        out[1] = (byte) precision;
+        int position = HEADER_BYTES;
+        int buffer = 0;
+        int bits = 0;
+        for (int index = 0; index < registerCount; index++) {
+            buffer = (buffer << REGISTER_BITS) | rankAt(index);
+            bits += REGISTER_BITS;
+            while (bits >= 8) {
+                bits -= 8;
+                out[position++] = (byte) (buffer >>> bits);
+            }
+            buffer &= (1 << bits) - 1;
+        }
+        if (bits > 0) {
+            out[position] = (byte) (buffer << (8 - bits));
+        }
+        return out;
+    }
+
+    private void readSparse(byte[] data) {
+        if ((data.length - HEADER_BYTES) % SPARSE_ENTRY_BYTES != 0) {
+            throw new IllegalArgumentException("희소 HyperLogLog 데이터 길이가 올바르지 않습니다: " + data.length);
+        }
+        for (int position = HEADER_BYTES; position < data.length; position += SPARSE_ENTRY_BYTES) {
+            int index = ((data[position] & 0xFF) << 8) | (data[position + 1] & 0xFF);
+            int rank = data[position + 2] & 0xFF;
+            if (index >= registerCount || rank == 0 || rank > 64 - precision + 1) {
+                throw new IllegalArgumentException("희소 HyperLogLog 레지스터가 올바르지 않습니다: index=" + index);
+            }
+            update(index, rank);
+        }
+    }
+
+    private void readDense(byte[] data) {
+        if (data.length != HEADER_BYTES + (registerCount * REGISTER_BITS + 7) / 8) {
+            throw new IllegalArgumentException("밀집 HyperLogLog 데이터 길이가 올바르지 않습니다: " + data.length);
+        }
+        registers = new byte[registerCount];
+        sparse = null;
+        int position = HEADER_BYTES;
+        int buffer = 0;
+        int bits = 0;
+        for (int index = 0; index < registerCount; index++) {
+            while (bits < REGISTER_BITS) {
+                buffer = (buffer << 8) | (data[position++] & 0xFF);
+                bits += 8;
+            }
+            bits -= REGISTER_BITS;
+            registers[index] = (byte) ((buffer >>> bits) & 0x3F);
+            buffer &= (1 << bits) - 1;
+        }
+    }
+
+    private int rankAt(int index) {
+        if (registers != null) {
+            return registers[index];
+        }
+        int position = findSparse(index);
+        return position >= 0 ? sparse[position] & 0xFF : 0;
+    }
+}
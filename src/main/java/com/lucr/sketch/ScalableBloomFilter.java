@@ -0,0 +1,228 @@
+package com.lucr.sketch;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 확장형 Bloom 필터 (Scalable Bloom Filter, Almeida et al. 2007)
+ *
+ * 문자열 집합의 포함 여부를 비트 배열로 근사합니다.
+ * - mightContain = false → 확실히 없음 (false negative 없음)
+ * - mightContain = true  → 있을 수도 있음 (오탐률 이하로 틀릴 수 있음)
+ *
+ * 원소 수를 미리 알 수 없으므로 슬라이스(고정 크기 Bloom 필터)를 이어 붙입니다.
+ * - 마지막 슬라이스가 용량에 차면 용량 GROWTH배, 오탐률 TIGHTENING배인 슬라이스 추가
+ * - 슬라이스 오탐률 p0 * r^i 의 합이 전체 목표 오탐률 이하가 되도록 p0 = P * (1 - r)
+ *
+ * 스레드 안전: 비트는 AtomicLongArray로 설정하므로 put / mightContain을 동시에 호출할 수 있습니다.
+ * 삭제는 지원하지 않습니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-18
+ */
+public final class ScalableBloomFilter {
+
+    /** 슬라이스 용량 증가 배수 */
+    private static final int GROWTH = 2;
+
+    /** 슬라이스 오탐률 감소 비율 */
+    private static final double TIGHTENING = 0.5;
+
+    private static final double LN2 = Math.log(2);
+
+    private final double falsePositiveRate;
+
+    /** 슬라이스 목록 (추가 시 배열 교체) */
+    private volatile Slice[] slices;
+
+    /**
+     * @param initialCapacity   첫 슬라이스 용량 (예상 원소 수)
+     * @param falsePositiveRate 목표 오탐률 (0 < p < 1)
+     */
+    public ScalableBloomFilter(long initialCapacity, double falsePositiveRate) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("initialCapacity는 1 이상이어야 합니다: " + initialCapacity);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate는 0과 1 사이여야 합니다: " + falsePositiveRate);
+        }
+        this.falsePositiveRate = falsePositiveRate;
+        this.slices = new Slice[]{new Slice(initialCapacity, falsePositiveRate * (1 - TIGHTENING))};
+    }
+
+    // ========== 추가 / 조회 ==========
+
+    /**
+     * 값 추가
+     *
+     * @return 새로 추가되었으면 true (이미 있다고 판단되면 false)
+     */
+    public boolean put(String value) {
+        Murmur3.Hash128 hash = hash(value);
+        if (mightContain(hash)) {
+            return false;
+        }
+        return writableSlice().put(hash);
+    }
+
+    /**
+     * 포함 여부
+     *
+     * @return false면 확실히 없음, true면 있을 수 있음
+     */
+    public boolean mightContain(String value) {
+        return mightContain(hash(value));
+    }
+
+    // ========== 상태 ==========
+
+    /**
+     * 추가된 원소 수 (중복으로 판단되어 건너뛴 값 제외, 근사값)
+     */
+    public long approximateElementCount() {
+        long count = 0;
+        for (Slice slice : slices) {
+            count += slice.count.get();
+        }
+        return count;
+    }
+
+    /**
+     * 현재 비트 채움 상태 기준 예상 오탐률
+     */
+    public double expectedFalsePositiveRate() {
+        double noFalsePositive = 1.0;
+        for (Slice slice : slices) {
+            noFalsePositive *= 1.0 - slice.expectedFalsePositiveRate();
+        }
+        return 1.0 - noFalsePositive;
+    }
+
+    /**
+     * 비트 배열 전체 크기 (bit)
+     */
+    public long bitSize() {
+        long bits = 0;
+        for (Slice slice : slices) {
+            bits += slice.bitSize;
+        }
+        return bits;
+    }
+
+    public int sliceCount() {
+        return slices.length;
+    }
+
+    public double falsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private boolean mightContain(Murmur3.Hash128 hash) {
+        for (Slice slice : slices) {
+            if (slice.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 값을 추가할 슬라이스 (마지막 슬라이스가 용량에 찼으면 새 슬라이스 추가)
+     */
+    private Slice writableSlice() {
+        Slice[] current = slices;
+        Slice last = current[current.length - 1];
+        if (last.count.get() < last.capacity) {
+            return last;
+        }
+        synchronized (this) {
+            current = slices;
+            last = current[current.length - 1];
+            if (last.count.get() < last.capacity) {
+                return last;
+            }
+            Slice[] grown = new Slice[current.length + 1];
+            System.arraycopy(current, 0, grown, 0, current.length);
+            grown[current.length] = new Slice(
+                    last.capacity * GROWTH, last.falsePositiveRate * TIGHTENING);
+            slices = grown;
+            return grown[current.length];
+        }
+    }
+
+    private static Murmur3.Hash128 hash(String value) {
+        return Murmur3.hash128(value.getBytes(StandardCharsets.UTF_8), 0);
+    }
+
+    /**
+     * 고정 크기 Bloom 필터
+     *
+     * 비트 수 m = -n ln p / (ln 2)^2, 해시 수 k = (m / n) ln 2
+     */
+    private static final class Slice {
+
+        private final long capacity;
+        private final double falsePositiveRate;
+        private final long bitSize;
+        private final int hashCount;
+        private final AtomicLongArray words;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong bitCount = new AtomicLong();
+
+        Slice(long capacity, double falsePositiveRate) {
+            long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (LN2 * LN2));
+            int wordCount = Math.toIntExact(Math.max(1, (bits + 63) >>> 6));
+            this.capacity = capacity;
+            this.falsePositiveRate = falsePositiveRate;
+            this.bitSize = (long) wordCount << 6;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / capacity * LN2));
+            this.words = new AtomicLongArray(wordCount);
+        }
+
+        boolean put(Murmur3.Hash128 hash) {
+            boolean changed = false;
+            long combined = hash.h1();
+            for (int i = 0; i < hashCount; i++) {
+                changed |= setBit((combined & Long.MAX_VALUE) % bitSize);
+                combined += hash.h2();
+            }
+            if (changed) {
+                count.incrementAndGet();
+            }
+            return changed;
+        }
+
+        boolean mightContain(Murmur3.Hash128 hash) {
+            long combined = hash.h1();
+            for (int i = 0; i < hashCount; i++) {
+                long index = (combined & Long.MAX_VALUE) % bitSize;
+                if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+                combined += hash.h2();
+            }
+            return true;
+        }
+
+        double expectedFalsePositiveRate() {
+            return Math.pow((double) bitCount.get() / bitSize, hashCount);
+        }
+
+        private boolean setBit(long index) {
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) {
+                    return false;
+                }
+            } while (!words.compareAndSet(word, current, current | mask));
+            bitCount.incrementAndGet();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.lucr.sketch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 점수 상위 K개 키 (크기 제한 정렬 집합)
+ *
+ * Count-Min Sketch와 함께 heavy hitter를 추적할 때 사용합니다.
+ * - 이미 있는 키: 점수 갱신
+ * - 자리가 남음: 추가
+ * - 가득 참: 최소 점수보다 크면 최소 키를 내보내고 추가, 아니면 무시
+ * 갱신 / 교체는 O(log K), 메모리는 K개로 고정됩니다.
+ *
+ * 점수가 같으면 키 순서로 정렬하므로 키는 Comparable이어야 합니다.
+ *
+ * 스레드 안전하지 않음: 호출자가 동기화해야 합니다.
+ *
+ * @param <T> 키 타입
+ *
+ * @author kimdongjoo
+ * @since 2026-02-26
+ */
+public final class TopK<T extends Comparable<T>> {
+
+    /**
+     * 키와 점수
+     */
+    public record Entry<T>(T key, double score) {
+    }
+
+    private final int capacity;
+    private final Map<T, Double> scores = new HashMap<>();
+    private final TreeSet<Entry<T>> ordered = new TreeSet<>(
+            Comparator.<Entry<T>>comparingDouble(Entry::score).thenComparing(Entry::key));
+
+    public TopK(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    // ========== 갱신 ==========
+
+    /**
+     * 키의 점수 반영
+     *
+     * @return 반영 후 키가 상위 K개에 있으면 true
+     */
+    public boolean offer(T key, double score) {
+        Double current = scores.get(key);
+        if (current != null) {
+            ordered.remove(new Entry<>(key, current));
+            put(key, score);
+            return true;
+        }
+        if (scores.size() < capacity) {
+            put(key, score);
+            return true;
+        }
+
+        Entry<T> min = ordered.first();
+        if (score <= min.score()) {
+            return false;
+        }
+        ordered.pollFirst();
+        scores.remove(min.key());
+        put(key, score);
+        return true;
+    }
+
+    /**
+     * 키 제거
+     *
+     * @return 있었으면 true
+     */
+    public boolean remove(T key) {
+        Double current = scores.remove(key);
+        if (current == null) {
+            return false;
+        }
+        ordered.remove(new Entry<>(key, current));
+        return true;
+    }
+
+    /**
+     * 모든 점수에 factor(> 0)를 곱함 (순서는 유지)
+     */
+    public void scale(double factor) {
+        if (!(factor > 0)) {
+            throw new IllegalArgumentException("factor는 0보다 커야 합니다: " + factor);
+        }
+        List<Entry<T>> entries = new ArrayList<>(ordered);
+        ordered.clear();
+        for (Entry<T> entry : entries) {
+            put(entry.key(), entry.score() * factor);
+        }
+    }
+
+    public void clear() {
+        scores.clear();
+        ordered.clear();
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 점수 높은 순 상위 n개
+     */
+    public List<Entry<T>> top(int n) {
+        List<Entry<T>> result = new ArrayList<>(Math.min(n, ordered.size()));
+        Iterator<Entry<T>> iterator = ordered.descendingIterator();
+        while (iterator.hasNext() && result.size() < n) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    /**
+     * 가장 낮은 점수 (비어 있으면 0)
+     */
+    public double minScore() {
+        return ordered.isEmpty() ? 0 : ordered.first().score();
+    }
+
+    public boolean contains(T key) {
+        return scores.containsKey(key);
+    }
+
+    public int size() {
+        return scores.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private void put(T key, double score) {
+        scores.put(key, score);
+        ordered.add(new Entry<>(key, score));
+    }
+}
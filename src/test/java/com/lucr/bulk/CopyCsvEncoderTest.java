@@ -0,0 +1,53 @@
+package com.lucr.bulk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CopyCsvEncoder 단위 테스트 (COPY ... WITH (FORMAT csv) 행 형식)
+ *
+ * @author kimdongjoo
+ * @since 2026-02-21
+ */
+@DisplayName("CopyCsvEncoder 테스트")
+class CopyCsvEncoderTest {
+
+    @Test
+    @DisplayName("문자열은 항상 인용, 내부 큰따옴표는 이중화, 쉼표 / 줄바꿈은 그대로")
+    void appendRow_QuotesStrings() {
+        // when
+        String row = CopyCsvEncoder.appendRow(new StringBuilder(), "a,b", "첫 줄\n\"둘째\" 줄").toString();
+
+        // then
+        assertThat(row).isEqualTo("\"a,b\",\"첫 줄\n\"\"둘째\"\" 줄\"\n");
+    }
+
+    @Test
+    @DisplayName("null은 인용하지 않은 빈 값(NULL), 빈 문자열은 \"\"")
+    void appendRow_NullAndEmpty() {
+        // when
+        String row = CopyCsvEncoder.appendRow(new StringBuilder(), null, "", null).toString();
+
+        // then
+        assertThat(row).isEqualTo(",\"\",\n");
+    }
+
+    @Test
+    @DisplayName("숫자 / UUID / 날짜는 toString, NUL 문자는 제거")
+    void appendRow_NonStringValues() {
+        // given
+        UUID id = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+        // when
+        String row = CopyCsvEncoder.appendRow(new StringBuilder(),
+                7L, id, -42L, LocalDateTime.of(2026, 2, 1, 9, 0), "a\0b").toString();
+
+        // then
+        assertThat(row).isEqualTo("7,00000000-0000-0000-0000-000000000001,-42,2026-02-01T09:00,\"ab\"\n");
+    }
+}
@@ -0,0 +1,189 @@
+package com.lucr.bulk;
+
+import com.lucr.config.BulkImportProperties;
+import com.lucr.dto.request.NewsCreateRequest;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * NewsCopyLoader 단위 테스트 (JDBC / COPY API는 Mock)
+ *
+ * - chunk-rows 단위로 COPY → MERGE → COMMIT 반복
+ * - 형식 오류 / Bean Validation 실패 레코드는 건너뛰고 집계
+ * - 실패 시 롤백 후 스테이징 삭제, autoCommit 복원
+ *
+ * @author kimdongjoo
+ * @since 2026-02-21
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewsCopyLoader 테스트")
+class NewsCopyLoaderTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private PGConnection pgConnection;
+
+    @Mock
+    private CopyManager copyManager;
+
+    @Mock
+    private CopyIn copyIn;
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private final BulkImportProperties properties = new BulkImportProperties();
+
+    private NewsCopyLoader loader;
+
+    private BulkImportJob job;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        properties.setChunkRows(2);
+        loader = new NewsCopyLoader(dataSource, validator, properties);
+        job = new BulkImportJob("news.ndjson", NewsImportFormat.NDJSON);
+
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.getAutoCommit()).willReturn(true);
+        given(connection.createStatement()).willReturn(statement);
+        given(connection.unwrap(PGConnection.class)).willReturn(pgConnection);
+        given(pgConnection.getCopyAPI()).willReturn(copyManager);
+        lenient().when(copyManager.copyIn(anyString())).thenReturn(copyIn);
+    }
+
+    @Test
+    @DisplayName("청크 단위 적재 - 3건 / chunk-rows 2 → COPY 2회, 청크마다 커밋")
+    void load_SplitsIntoChunks() throws Exception {
+        // given: 두 번째 청크의 1건은 이미 있는 URL
+        given(copyIn.endCopy()).willReturn(2L, 1L);
+        given(statement.executeUpdate(anyString())).willReturn(2, 0);
+
+        // when
+        loader.load(reader(valid(1), valid(2), valid(3)), job);
+
+        // then
+        then(copyManager).should(times(2)).copyIn(anyString());
+        then(copyIn).should(times(3)).writeToCopy(any(byte[].class), eq(0), anyInt());
+        then(connection).should(times(4)).commit();  // 스테이징 생성 + 청크 2 + 스테이징 삭제
+        then(connection).should(never()).rollback();
+        then(connection).should().setAutoCommit(true);
+
+        assertThat(job.getReadCount()).isEqualTo(3);
+        assertThat(job.getInsertedCount()).isEqualTo(2);
+        assertThat(job.getDuplicateCount()).isEqualTo(1);
+        assertThat(job.getInvalidCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("형식 오류 / 검증 실패 레코드 - 건너뛰고 invalid로 집계")
+    void load_InvalidRecords_Skipped() throws Exception {
+        // given: 제목이 너무 짧은 레코드
+        NewsRecord shortTitle = NewsRecord.of(2, NewsCreateRequest.builder()
+                .title("짧음")
+                .content("본문 내용입니다 열 자 이상")
+                .source("NAVER_FINANCE")
+                .url("https://example.com/short")
+                .build());
+        given(copyIn.endCopy()).willReturn(1L);
+        given(statement.executeUpdate(anyString())).willReturn(1);
+
+        // when
+        loader.load(reader(NewsRecord.malformed(1, "잘못된 JSON"), shortTitle, valid(3)), job);
+
+        // then: 청크 2건 중 유효한 1건만 전송
+        then(copyIn).should(times(1)).writeToCopy(any(byte[].class), eq(0), anyInt());
+        assertThat(job.getReadCount()).isEqualTo(3);
+        assertThat(job.getInvalidCount()).isEqualTo(2);
+        assertThat(job.getInsertedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("유효한 레코드가 없는 청크 - MERGE 생략")
+    void load_NoValidRows_SkipsMerge() throws Exception {
+        // given
+        given(copyIn.endCopy()).willReturn(0L);
+
+        // when
+        loader.load(reader(NewsRecord.malformed(1, "잘못된 JSON")), job);
+
+        // then
+        then(statement).should(never()).executeUpdate(anyString());
+        assertThat(job.getInvalidCount()).isEqualTo(1);
+        assertThat(job.getInsertedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("MERGE 실패 - 롤백 후 예외 전파, 스테이징 삭제와 autoCommit 복원")
+    void load_MergeFails_RollsBack() throws Exception {
+        // given
+        given(copyIn.endCopy()).willReturn(1L);
+        given(statement.executeUpdate(anyString())).willThrow(new SQLException("disk full"));
+
+        // when & then
+        assertThatThrownBy(() -> loader.load(reader(valid(1)), job))
+                .isInstanceOf(SQLException.class)
+                .hasMessage("disk full");
+
+        then(connection).should().rollback();
+        then(statement).should().execute(startsWith("DROP TABLE IF EXISTS news_import_staging"));
+        then(connection).should().setAutoCommit(true);
+        assertThat(job.getInsertedCount()).isZero();
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private static NewsRecord valid(long line) {
+        return NewsRecord.of(line, NewsCreateRequest.builder()
+                .title("삼성전자 주가 상승 " + line)
+                .content("삼성전자의 주가가 오늘 5% 상승했습니다.")
+                .source("NAVER_FINANCE")
+                .url("https://example.com/news/" + line)
+                .build());
+    }
+
+    private static NewsRecordReader reader(NewsRecord... records) {
+        Deque<NewsRecord> remaining = new ArrayDeque<>(List.of(records));
+        return new NewsRecordReader() {
+            @Override
+            public NewsRecord next() {
+                return remaining.poll();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
@@ -0,0 +1,159 @@
+package com.lucr.bulk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 가져오기 레코드 리더 단위 테스트 (CSV / NDJSON)
+ *
+ * - 정상 레코드 변환
+ * - 형식 오류는 예외 대신 malformed 레코드로 반환하고 다음 레코드를 계속 읽음
+ *
+ * @author kimdongjoo
+ * @since 2026-02-21
+ */
+@DisplayName("NewsRecordReader 테스트")
+class NewsRecordReaderTest {
+
+    // ========== CSV ==========
+
+    @Nested
+    @DisplayName("CsvNewsRecordReader")
+    class CsvTests {
+
+        @Test
+        @DisplayName("헤더 순서대로 매핑 - 따옴표 안의 쉼표 / 줄바꿈 / 큰따옴표 유지")
+        void next_QuotedFields() throws IOException {
+            // given
+            String csv = """
+                    url,title,source,content,published_at
+                    https://example.com/1,"삼성전자, 실적 발표",NAVER_FINANCE,"첫 줄
+                    둘째 줄 ""인용\""",2026-02-01T09:00:00
+                    https://example.com/2,SK하이닉스 신고가,DAUM_FINANCE,본문 내용입니다 열 자 이상,
+                    """;
+
+            // when
+            List<NewsRecord> records = readAll(new CsvNewsRecordReader(reader(csv)));
+
+            // then
+            assertThat(records).hasSize(2);
+            NewsRecord first = records.get(0);
+            assertThat(first.line()).isEqualTo(2);
+            assertThat(first.request().getTitle()).isEqualTo("삼성전자, 실적 발표");
+            assertThat(first.request().getContent()).isEqualTo("첫 줄\n둘째 줄 \"인용\"");
+            assertThat(first.request().getPublishedAt()).isEqualTo(LocalDateTime.of(2026, 2, 1, 9, 0));
+
+            NewsRecord second = records.get(1);
+            assertThat(second.line()).isEqualTo(4);
+            assertThat(second.request().getUrl()).isEqualTo("https://example.com/2");
+            assertThat(second.request().getPublishedAt()).isNull();
+        }
+
+        @Test
+        @DisplayName("BOM / CRLF / 빈 줄 / 헤더 대소문자 허용")
+        void next_BomAndCrlf() throws IOException {
+            // given
+            String csv = "\uFEFFTitle,Content,Source,URL,publishedAt\r\n"
+                    + "\r\n"
+                    + "제목입니다,본문 내용입니다 열 자 이상,NAVER_FINANCE,https://example.com/1,\r\n";
+
+            // when
+            List<NewsRecord> records = readAll(new CsvNewsRecordReader(reader(csv)));
+
+            // then
+            assertThat(records).hasSize(1);
+            assertThat(records.get(0).request().getTitle()).isEqualTo("제목입니다");
+            assertThat(records.get(0).request().getUrl()).isEqualTo("https://example.com/1");
+        }
+
+        @Test
+        @DisplayName("컬럼 수 / 날짜 형식 오류 - malformed로 반환하고 다음 레코드 계속")
+        void next_Malformed() throws IOException {
+            // given
+            String csv = """
+                    title,content,source,url,published_at
+                    제목,본문,NAVER_FINANCE
+                    제목입니다,본문 내용입니다 열 자 이상,NAVER_FINANCE,https://example.com/1,어제
+                    제목입니다,본문 내용입니다 열 자 이상,NAVER_FINANCE,https://example.com/2,
+                    """;
+
+            // when
+            List<NewsRecord> records = readAll(new CsvNewsRecordReader(reader(csv)));
+
+            // then
+            assertThat(records).extracting(NewsRecord::isMalformed).containsExactly(true, true, false);
+            assertThat(records.get(0).error()).contains("컬럼 수");
+            assertThat(records.get(1).error()).contains("published_at");
+        }
+
+        @Test
+        @DisplayName("필수 컬럼이 없는 헤더 - IOException")
+        void next_MissingRequiredColumn() {
+            // given
+            CsvNewsRecordReader csvReader = new CsvNewsRecordReader(reader("title,content,source\n"));
+
+            // when & then
+            assertThatThrownBy(csvReader::next)
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("url");
+        }
+    }
+
+    // ========== NDJSON ==========
+
+    @Nested
+    @DisplayName("NdjsonNewsRecordReader")
+    class NdjsonTests {
+
+        @Test
+        @DisplayName("줄 단위 변환 - 빈 줄은 건너뛰고 잘못된 JSON은 malformed")
+        void next_SkipsBlankAndMalformed() throws IOException {
+            // given
+            String ndjson = """
+                    {"title":"제목입니다","content":"본문 내용입니다 열 자 이상","source":"NAVER_FINANCE","url":"https://example.com/1","publishedAt":"2026-02-01T09:00:00"}
+
+                    {"title": 깨진 줄
+                    {"title":"제목입니다","content":"본문 내용입니다 열 자 이상","source":"NAVER_FINANCE","url":"https://example.com/2","extra":1}
+                    """;
+            NdjsonNewsRecordReader ndjsonReader =
+                    new NdjsonNewsRecordReader(reader(ndjson), JsonMapper.builder().build());
+
+            // when
+            List<NewsRecord> records = readAll(ndjsonReader);
+
+            // then
+            assertThat(records).extracting(NewsRecord::line).containsExactly(1L, 3L, 4L);
+            assertThat(records).extracting(NewsRecord::isMalformed).containsExactly(false, true, false);
+            assertThat(records.get(0).request().getPublishedAt()).isEqualTo(LocalDateTime.of(2026, 2, 1, 9, 0));
+            assertThat(records.get(2).request().getUrl()).isEqualTo("https://example.com/2");
+        }
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private static BufferedReader reader(String text) {
+        return new BufferedReader(new StringReader(text));
+    }
+
+    private static List<NewsRecord> readAll(NewsRecordReader reader) throws IOException {
+        List<NewsRecord> records = new ArrayList<>();
+        try (reader) {
+            NewsRecord record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
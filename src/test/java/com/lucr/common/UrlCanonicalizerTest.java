@@ -0,0 +1,62 @@
+package com.lucr.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * UrlCanonicalizer 단위 테스트
+ *
+ * - 같은 기사의 URL 변형은 같은 정규화 결과 / 해시
+ * - 다른 기사는 다른 결과
+ *
+ * @author kimdongjoo
+ * @since 2026-02-19
+ */
+@DisplayName("UrlCanonicalizer 테스트")
+class UrlCanonicalizerTest {
+
+    @ParameterizedTest(name = "{0} → {1}")
+    @CsvSource({
+            "HTTP://www.Example.com/a/?utm_source=x&b=2&a=1#top, https://example.com/a?a=1&b=2",
+            "https://example.com:443/news?id=1, https://example.com/news?id=1",
+            "http://example.com:8080/news, https://example.com:8080/news",
+            "https://example.com, https://example.com/",
+            "https://example.com/a/./b/../c, https://example.com/a/c",
+            "https://example.com/news?fbclid=abc&gclid=def, https://example.com/news",
+            "https://example.com/news?&&id=1&, https://example.com/news?id=1",
+            "'  https://EXAMPLE.com./news  ', https://example.com/news"
+    })
+    @DisplayName("정규화 규칙")
+    void canonicalize(String url, String expected) {
+        assertThat(UrlCanonicalizer.canonicalize(url)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("경로 / 쿼리 값의 대소문자는 유지")
+    void canonicalize_KeepsPathAndQueryCase() {
+        assertThat(UrlCanonicalizer.canonicalize("https://example.com/News?Id=ABC"))
+                .isEqualTo("https://example.com/News?Id=ABC");
+    }
+
+    @Test
+    @DisplayName("URI로 해석할 수 없는 값 - 공백만 제거")
+    void canonicalize_Invalid_ReturnsTrimmed() {
+        assertThat(UrlCanonicalizer.canonicalize(" not a url ")).isEqualTo("not a url");
+        assertThat(UrlCanonicalizer.canonicalize(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("해시 - URL 변형은 같은 값, 다른 기사는 다른 값")
+    void hash_SameForVariants() {
+        long hash = UrlCanonicalizer.hash("https://example.com/news/1");
+
+        assertThat(UrlCanonicalizer.hash("http://www.example.com/news/1/?utm_campaign=rss")).isEqualTo(hash);
+        assertThat(UrlCanonicalizer.hash("https://example.com/news/2")).isNotEqualTo(hash);
+        assertThat(UrlCanonicalizer.isSame("https://example.com/news/1", "https://EXAMPLE.com/news/1#comments"))
+                .isTrue();
+    }
+}
@@ -1,9 +1,11 @@
 package com.lucr.controller;
 
 import tools.jackson.databind.ObjectMapper;
+import com.lucr.common.CountMode;
 import com.lucr.dto.request.NewsCreateRequest;
 import com.lucr.dto.request.NewsSearchRequest;
 import com.lucr.dto.request.NewsUpdateRequest;
+import com.lucr.dto.response.NewsBatchCreateResponse;
 import com.lucr.dto.response.NewsDetailResponse;
 import com.lucr.dto.response.NewsResponse;
 import com.lucr.dto.response.PageResponse;
@@ -27,11 +29,14 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -137,7 +142,7 @@ class NewsControllerTest {
                     .hasPrevious(false)
                     .build();
 
-            given(newsService.getAllNews(any(Pageable.class))).willReturn(pageResponse);
+            given(newsService.getAllNews(any(Pageable.class), eq(CountMode.EXACT))).willReturn(pageResponse);
 
             // when & then
             mockMvc.perform(
@@ -156,7 +161,7 @@ class NewsControllerTest {
                     .andExpect(jsonPath("$.data.totalElements").value(1))
                     .andExpect(jsonPath("$.timestamp").exists());
 
-            then(newsService).should(times(1)).getAllNews(any(Pageable.class));
+            then(newsService).should(times(1)).getAllNews(any(Pageable.class), eq(CountMode.EXACT));
         }
 
         @Test
@@ -175,7 +180,7 @@ class NewsControllerTest {
                     .hasPrevious(false)
                     .build();
 
-            given(newsService.getAllNews(any(Pageable.class))).willReturn(emptyPage);
+            given(newsService.getAllNews(any(Pageable.class), eq(CountMode.EXACT))).willReturn(emptyPage);
 
             // when & then
             mockMvc.perform(get("/api/v1/news"))
@@ -184,7 +189,7 @@ class NewsControllerTest {
                     .andExpect(jsonPath("$.data.content").isEmpty())
                     .andExpect(jsonPath("$.data.totalElements").value(0));
 
-            then(newsService).should(times(1)).getAllNews(any(Pageable.class));
+            then(newsService).should(times(1)).getAllNews(any(Pageable.class), eq(CountMode.EXACT));
         }
     }
 
@@ -309,6 +314,46 @@ class NewsControllerTest {
         }
     }
 
+    // ========== POST /api/v1/news/batch - 뉴스 일괄 생성 ==========
+
+    @Nested
+    @DisplayName("POST /api/v1/news/batch - 뉴스 일괄 생성")
+    class CreateNewsBatchTests {
+
+        @Test
+        @DisplayName("성공 - 기사별 결과 반환")
+        void createNewsBatch_Success() throws Exception {
+            // given
+            UUID createdId = UUID.randomUUID();
+            NewsBatchCreateResponse response = NewsBatchCreateResponse.builder()
+                    .requested(2)
+                    .created(1)
+                    .duplicates(1)
+                    .invalid(0)
+                    .items(List.of(
+                            new NewsBatchCreateResponse.Item(0, "https://finance.naver.com/a", "CREATED", createdId, null),
+                            new NewsBatchCreateResponse.Item(1, "https://finance.naver.com/b", "DUPLICATE", null, null)))
+                    .build();
+            given(newsService.createNewsBatch(anyList())).willReturn(response);
+
+            // when & then
+            mockMvc.perform(
+                            post("/api/v1/news/batch")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(List.of(createRequest, createRequest)))
+                    )
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.data.created").value(1))
+                    .andExpect(jsonPath("$.data.duplicates").value(1))
+                    .andExpect(jsonPath("$.data.items[0].status").value("CREATED"))
+                    .andExpect(jsonPath("$.data.items[0].id").value(createdId.toString()))
+                    .andExpect(jsonPath("$.data.items[1].status").value("DUPLICATE"));
+
+            then(newsService).should(times(1)).createNewsBatch(argThat(requests -> requests.size() == 2));
+        }
+    }
+
     // ========== PUT /api/v1/news/{id} - 뉴스 수정 ==========
 
     @Nested
@@ -416,7 +461,7 @@ class NewsControllerTest {
                     .hasPrevious(false)
                     .build();
 
-            given(newsService.getHighViewNews(any(Pageable.class))).willReturn(pageResponse);
+            given(newsService.getHighViewNews(any(Pageable.class), eq(CountMode.EXACT))).willReturn(pageResponse);
 
             // when & then
             mockMvc.perform(get("/api/v1/news/popular"))
@@ -424,7 +469,32 @@ class NewsControllerTest {
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.data.content").isArray());
 
-            then(newsService).should(times(1)).getHighViewNews(any(Pageable.class));
+            then(newsService).should(times(1)).getHighViewNews(any(Pageable.class), eq(CountMode.EXACT));
+        }
+
+        @Test
+        @DisplayName("성공 - count=NONE 이면 전체 개수 없이 조회")
+        void getPopularNews_CountNone() throws Exception {
+            // given
+            PageResponse<NewsResponse> pageResponse = PageResponse.<NewsResponse>builder()
+                    .content(List.of(newsResponse))
+                    .currentPage(0)
+                    .pageSize(20)
+                    .isFirst(true)
+                    .isLast(false)
+                    .hasNext(true)
+                    .hasPrevious(false)
+                    .countMode(CountMode.NONE)
+                    .build();
+
+            given(newsService.getHighViewNews(any(Pageable.class), eq(CountMode.NONE))).willReturn(pageResponse);
+
+            // when & then
+            mockMvc.perform(get("/api/v1/news/popular").param("count", "NONE"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.countMode").value("NONE"))
+                    .andExpect(jsonPath("$.data.totalElements").doesNotExist())
+                    .andExpect(jsonPath("$.data.hasNext").value(true));
         }
     }
 
@@ -451,7 +521,7 @@ class NewsControllerTest {
                     .hasPrevious(false)
                     .build();
 
-            given(newsService.getRecentNews(any(Pageable.class))).willReturn(pageResponse);
+            given(newsService.getRecentNews(any(Pageable.class), eq(CountMode.EXACT))).willReturn(pageResponse);
 
             // when & then
             mockMvc.perform(get("/api/v1/news/recent"))
@@ -459,7 +529,27 @@ class NewsControllerTest {
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.data.content").isArray());
 
-            then(newsService).should(times(1)).getRecentNews(any(Pageable.class));
+            then(newsService).should(times(1)).getRecentNews(any(Pageable.class), eq(CountMode.EXACT));
+        }
+
+        @Test
+        @DisplayName("성공 - cursor 파라미터가 있으면 커서 페이징")
+        void getRecentNews_WithCursor_UsesKeyset() throws Exception {
+            // given
+            PageResponse<NewsResponse> pageResponse =
+                    PageResponse.ofCursor(List.of(newsResponse), 10, false, "next-token");
+
+            given(newsService.getRecentNews("prev-token", 10)).willReturn(pageResponse);
+
+            // when & then
+            mockMvc.perform(get("/api/v1/news/recent")
+                            .param("cursor", "prev-token")
+                            .param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.nextCursor").value("next-token"))
+                    .andExpect(jsonPath("$.data.hasNext").value(true));
+
+            then(newsService).should(never()).getRecentNews(any(Pageable.class), any(CountMode.class));
         }
     }
 
@@ -583,7 +673,7 @@ class NewsControllerTest {
                     .hasPrevious(false)
                     .build();
 
-            given(newsService.getNewsBySource(eq(source), any(Pageable.class)))
+            given(newsService.getNewsBySource(eq(source), any(Pageable.class), eq(CountMode.EXACT)))
                     .willReturn(pageResponse);
 
             // when & then
@@ -592,7 +682,7 @@ class NewsControllerTest {
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.data.content").isArray());
 
-            then(newsService).should(times(1)).getNewsBySource(eq(source), any(Pageable.class));
+            then(newsService).should(times(1)).getNewsBySource(eq(source), any(Pageable.class), eq(CountMode.EXACT));
         }
     }
 
@@ -616,15 +706,17 @@ class NewsControllerTest {
                     .isHighView(false)
                     .build();
 
-            given(newsService.incrementViewCount(testId)).willReturn(updatedNews);
+            given(newsService.incrementViewCount(testId, "id:viewer-1")).willReturn(updatedNews);
 
             // when & then
-            mockMvc.perform(post("/api/v1/news/{id}/view", testId))
+            mockMvc.perform(post("/api/v1/news/{id}/view", testId)
+                            .header("X-Viewer-Id", "viewer-1"))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.data.viewCount").value(151));
 
-            then(newsService).should(times(1)).incrementViewCount(testId);
+            // 방문자 식별 키는 X-Viewer-Id 헤더 기준
+            then(newsService).should(times(1)).incrementViewCount(testId, "id:viewer-1");
         }
     }
 
@@ -1,5 +1,6 @@
 package com.lucr.mapper;
 
+import com.lucr.dto.projection.NewsSummary;
 import com.lucr.dto.request.NewsCreateRequest;
 import com.lucr.dto.request.NewsUpdateRequest;
 import com.lucr.dto.response.NewsDetailResponse;
@@ -327,6 +328,29 @@ class NewsMapperTest {
             // then
             assertThat(response.getContentSummary()).isEmpty();
         }
+
+        @Test
+        @DisplayName("Projection 변환 - 본문 앞 101자로 엔티티와 같은 요약 생성")
+        void toResponse_Summary_SameAsEntity() {
+            // given: DB에서 잘라낸 본문 앞부분 (SUBSTRING(content, 1, 101))
+            String longContent = "가".repeat(150);
+            News longNews = News.builder()
+                    .title("제목")
+                    .content(longContent)
+                    .source("NAVER_FINANCE")
+                    .build();
+            NewsSummary summary = new NewsSummary(
+                    null, "제목", longContent.substring(0, NewsSummary.CONTENT_HEAD_LENGTH),
+                    "NAVER_FINANCE", null, 0, 0L, false, null, null, null);
+
+            // when
+            NewsResponse response = newsMapper.toResponse(summary);
+
+            // then
+            assertThat(response.getContentSummary())
+                    .isEqualTo(newsMapper.toResponse(longNews).getContentSummary());
+            assertThat(response.getTitle()).isEqualTo("제목");
+        }
     }
 
     // ========== 4. Entity → DetailResponse 변환 테스트 ==========
@@ -594,6 +618,28 @@ class NewsMapperTest {
             // then
             assertThat(response.getEstimatedReadingTime()).isEqualTo(0);
         }
+
+        @Test
+        @DisplayName("캐시 응답 + 미반영 조회수 - 새 응답에 더하고 원본은 유지")
+        void withPendingViews_AddsToCopy() {
+            // given
+            NewsDetailResponse cached = NewsDetailResponse.builder()
+                    .id(testNews.getId())
+                    .title("삼성전자 주가 상승")
+                    .viewCount(News.HIGH_VIEW_THRESHOLD - 1)
+                    .isHighView(false)
+                    .build();
+
+            // when
+            NewsDetailResponse response = newsMapper.withPendingViews(cached, 1, true);
+
+            // then
+            assertThat(response.getViewCount()).isEqualTo(News.HIGH_VIEW_THRESHOLD);
+            assertThat(response.getIsHighView()).isTrue();
+            assertThat(response.getTitle()).isEqualTo("삼성전자 주가 상승");
+            assertThat(cached.getViewCount()).isEqualTo(News.HIGH_VIEW_THRESHOLD - 1);
+            assertThat(cached.getIsHighView()).isFalse();
+        }
     }
 
     // ========== 5. Edge Cases 테스트 ==========
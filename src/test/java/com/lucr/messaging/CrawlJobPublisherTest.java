@@ -0,0 +1,251 @@
+package com.lucr.messaging;
+
+import com.lucr.config.CrawlPublishProperties;
+import com.lucr.config.RabbitMQConfig;
+import com.lucr.entity.CrawlJob;
+import com.lucr.messaging.CrawlJobPublisher.CrawlRequestMessage;
+import com.lucr.messaging.CrawlJobPublisher.Outcome;
+import com.lucr.messaging.CrawlJobPublisher.PublishConfirm;
+import com.lucr.service.CrawlJobService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.net.ConnectException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * CrawlJobPublisher 단위 테스트
+ *
+ * - 발행은 호출 스레드를 막지 않고 확인 결과를 CompletableFuture로 반환
+ * - ACK 외의 결과(NACK / RETURNED / TIMEOUT / ERROR)는 작업을 FAILED로 변경
+ * - 여러 작업은 batch-size개씩 한 채널에서 발행
+ *
+ * @author kimdongjoo
+ * @since 2026-02-22
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CrawlJobPublisher 테스트")
+class CrawlJobPublisherTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    @Mock
+    private CrawlJobService crawlJobService;
+
+    private final CrawlPublishProperties properties = new CrawlPublishProperties();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<CorrelationData> sent = new CopyOnWriteArrayList<>();
+
+    private CrawlJobPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        properties.setConfirmTimeoutMs(200);
+        publisher = new CrawlJobPublisher(rabbitTemplate, crawlJobService, properties);
+        publisher.bindTo(registry);
+
+        lenient().when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+        lenient().when(connectionFactory.isPublisherConfirms()).thenReturn(true);
+        lenient().when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(rabbitTemplate));
+        lenient().doAnswer(invocation -> {
+            sent.add(invocation.getArgument(3));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.CRAWL_EXCHANGE), eq(RabbitMQConfig.CRAWL_REQUEST_KEY),
+                any(Object.class), any(CorrelationData.class));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        publisher.shutdown();
+    }
+
+    @Test
+    @DisplayName("ACK - 작업 상태 변경 없음, 확인 왕복 시간 기록")
+    void publish_Ack() throws Exception {
+        // given
+        UUID jobId = UUID.randomUUID();
+
+        // when
+        CompletableFuture<PublishConfirm> result = publisher.publish(job(jobId), 50);
+        awaitSent(1).getFuture().complete(new CorrelationData.Confirm(true, null));
+
+        // then
+        PublishConfirm confirm = result.get(1, TimeUnit.SECONDS);
+        assertThat(confirm.outcome()).isEqualTo(Outcome.ACK);
+        assertThat(confirm.jobId()).isEqualTo(jobId);
+        assertThat(sent.get(0).getId()).isEqualTo(jobId.toString());
+        assertThat(registry.get("lucr.crawl.publish.confirm").tag("result", "ack").timer().count()).isEqualTo(1);
+        assertThat(registry.get("lucr.crawl.publish.latency").timer().count()).isEqualTo(1);
+        then(crawlJobService).should(never()).failIfPending(any(), any());
+    }
+
+    @Test
+    @DisplayName("NACK - 작업을 FAILED로 변경")
+    void publish_Nack_FailsJob() throws Exception {
+        // given
+        UUID jobId = UUID.randomUUID();
+
+        // when
+        CompletableFuture<PublishConfirm> result = publisher.publish(job(jobId), 50);
+        awaitSent(1).getFuture().complete(new CorrelationData.Confirm(false, "queue full"));
+
+        // then
+        assertThat(result.get(1, TimeUnit.SECONDS).outcome()).isEqualTo(Outcome.NACK);
+        then(crawlJobService).should().failIfPending(eq(jobId), contains("NACK"));
+    }
+
+    @Test
+    @DisplayName("라우팅 실패 후 ACK - RETURNED로 판단하고 작업을 FAILED로 변경")
+    void publish_Returned_FailsJob() throws Exception {
+        // given
+        UUID jobId = UUID.randomUUID();
+
+        // when
+        CompletableFuture<PublishConfirm> result = publisher.publish(job(jobId), 50);
+        CorrelationData correlation = awaitSent(1);
+        correlation.setReturned(new ReturnedMessage(new Message(new byte[0]), 312, "NO_ROUTE",
+                RabbitMQConfig.CRAWL_EXCHANGE, RabbitMQConfig.CRAWL_REQUEST_KEY));
+        correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+
+        // then
+        assertThat(result.get(1, TimeUnit.SECONDS).outcome()).isEqualTo(Outcome.RETURNED);
+        then(crawlJobService).should().failIfPending(eq(jobId), contains("NO_ROUTE"));
+    }
+
+    @Test
+    @DisplayName("확인 시간 초과 - TIMEOUT, 작업을 FAILED로 변경")
+    void publish_NoConfirm_TimesOut() throws Exception {
+        // given
+        UUID jobId = UUID.randomUUID();
+
+        // when
+        CompletableFuture<PublishConfirm> result = publisher.publish(job(jobId), 50);
+
+        // then
+        assertThat(result.get(2, TimeUnit.SECONDS).outcome()).isEqualTo(Outcome.TIMEOUT);
+        then(crawlJobService).should().failIfPending(eq(jobId), contains("시간 초과"));
+        assertThat(registry.get("lucr.crawl.publish.confirm").tag("result", "timeout").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("발행 실패 - ERROR, 작업을 FAILED로 변경")
+    void publish_SendFails_Error() throws Exception {
+        // given
+        UUID jobId = UUID.randomUUID();
+        willThrow(new AmqpConnectException(new ConnectException("refused")))
+                .given(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+
+        // when
+        PublishConfirm confirm = publisher.publish(job(jobId), 50).get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(confirm.outcome()).isEqualTo(Outcome.ERROR);
+        then(crawlJobService).should().failIfPending(eq(jobId), anyString());
+    }
+
+    @Test
+    @DisplayName("여러 작업 - batch-size개씩 한 채널(invoke)에서 발행")
+    void publishAll_SendsInBatches() throws Exception {
+        // given
+        properties.setBatchSize(2);
+        List<UUID> jobIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        List<CrawlJob> jobs = jobIds.stream().map(this::job).toList();
+
+        // when
+        List<CompletableFuture<PublishConfirm>> results = publisher.publishAll(jobs, 30);
+        awaitSent(3);
+        sent.forEach(correlation -> correlation.getFuture().complete(new CorrelationData.Confirm(true, null)));
+
+        // then
+        for (CompletableFuture<PublishConfirm> result : results) {
+            assertThat(result.get(1, TimeUnit.SECONDS).isAcked()).isTrue();
+        }
+        assertThat(sent).extracting(CorrelationData::getId)
+                .containsExactly(jobIds.stream().map(UUID::toString).toArray(String[]::new));
+        then(rabbitTemplate).should(times(2)).invoke(any());
+    }
+
+    @Test
+    @DisplayName("자식 작업 - 부모 ID / 담당 언론사를 메시지에 포함")
+    void publish_Shard_MessageCarriesShard() throws Exception {
+        // given
+        UUID parentId = UUID.randomUUID();
+        CrawlJob shard = CrawlJob.mediaShard(parentId, "hankyung");
+        shard.setId(UUID.randomUUID());
+        List<Object> messages = new CopyOnWriteArrayList<>();
+        willAnswer(invocation -> {
+            messages.add(invocation.getArgument(2));
+            sent.add(invocation.getArgument(3));
+            return null;
+        }).given(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+
+        // when
+        CompletableFuture<PublishConfirm> result = publisher.publish(shard, 20);
+        awaitSent(1).getFuture().complete(new CorrelationData.Confirm(true, null));
+
+        // then
+        assertThat(result.get(1, TimeUnit.SECONDS).isAcked()).isTrue();
+        assertThat(messages).containsExactly(new CrawlRequestMessage(
+                shard.getId().toString(), 20, parentId.toString(), "hankyung", null, null));
+    }
+
+    @Test
+    @DisplayName("발행 확인 비활성화 - 발행 성공을 ACK로 간주")
+    void publish_ConfirmsDisabled_AckOnSend() throws Exception {
+        // given
+        given(connectionFactory.isPublisherConfirms()).willReturn(false);
+
+        // when
+        PublishConfirm confirm = publisher.publish(job(UUID.randomUUID()), 50).get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(confirm.outcome()).isEqualTo(Outcome.ACK);
+        then(crawlJobService).should(never()).failIfPending(any(), any());
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private CrawlJob job(UUID jobId) {
+        return CrawlJob.builder().id(jobId).build();
+    }
+
+    /**
+     * 발행 스레드가 n번째 메시지를 보낼 때까지 대기
+     */
+    private CorrelationData awaitSent(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (sent.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(sent).hasSizeGreaterThanOrEqualTo(count);
+        return sent.get(count - 1);
+    }
+}
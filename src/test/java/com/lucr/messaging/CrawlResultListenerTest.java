@@ -0,0 +1,271 @@
+package com.lucr.messaging;
+
+import com.lucr.config.CrawlResultProperties;
+import com.lucr.config.RabbitMQConfig;
+import com.lucr.dto.request.NewsCreateRequest;
+import com.lucr.exception.ResourceNotFoundException;
+import com.lucr.service.CrawlJobService;
+import com.lucr.service.NewsIngestService;
+import com.lucr.service.NewsIngestService.IngestResult;
+import com.rabbitmq.client.Channel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * CrawlResultListener 단위 테스트
+ *
+ * - 같은 작업의 메시지는 한 번에 저장하고 작업 갱신도 한 번만
+ * - 완료 / 실패 메시지 처리
+ * - 잘못된 jobId / 없는 작업 무시
+ * - 작업 단위 실패 격리: 일시적 실패는 재시도, 그 외는 해당 작업만 데드 레터
+ * - 작업 단위 수동 확인: 데드 레터 발행까지 실패한 작업의 메시지만 거부
+ *
+ * @author kimdongjoo
+ * @since 2026-02-17
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CrawlResultListener 테스트")
+class CrawlResultListenerTest {
+
+    @Mock
+    private NewsIngestService newsIngestService;
+
+    @Mock
+    private CrawlJobService crawlJobService;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private Channel channel;
+
+    @Spy
+    private CrawlResultProperties properties = noBackoff();
+
+    @InjectMocks
+    private CrawlResultListener listener;
+
+    private final UUID jobId = UUID.randomUUID();
+
+    private NewsCreateRequest article(String url) {
+        return NewsCreateRequest.builder().title("제목입니다").source("hankyung").url(url).build();
+    }
+
+    private CrawlResultMessage articles(UUID jobId, NewsCreateRequest... articles) {
+        return new CrawlResultMessage(jobId.toString(), CrawlResultMessage.Type.ARTICLES,
+                List.of(articles), null, null, null);
+    }
+
+    @Test
+    @DisplayName("같은 작업의 여러 메시지 - 저장 1회, 작업 갱신 1회")
+    void onResults_SameJob_OneIngestAndOneUpdate() throws Exception {
+        // given
+        given(newsIngestService.ingest(anyList())).willReturn(new IngestResult(3, 2, 1, 0, List.of()));
+
+        // when
+        listener.onResults(deliveries(
+                articles(jobId, article("https://example.com/1"), article("https://example.com/2")),
+                articles(jobId, article("https://example.com/3"))), channel);
+
+        // then
+        then(newsIngestService).should(times(1)).ingest(argThat(list -> list.size() == 3));
+        then(crawlJobService).should(times(1)).recordIngested(jobId, 2);
+        then(crawlJobService).shouldHaveNoMoreInteractions();
+        then(channel).should().basicAck(1L, false);
+        then(channel).should().basicAck(2L, false);
+    }
+
+    @Test
+    @DisplayName("완료 메시지 - 기사 반영 후 작업 완료 처리")
+    void onResults_Completed_MarksJobCompleted() throws Exception {
+        // given
+        given(newsIngestService.ingest(anyList())).willReturn(new IngestResult(1, 1, 0, 0, List.of()));
+        CrawlResultMessage completed = new CrawlResultMessage(jobId.toString(),
+                CrawlResultMessage.Type.COMPLETED, null, 143, "{\"hankyung\": 50}", null);
+
+        // when
+        listener.onResults(deliveries(articles(jobId, article("https://example.com/1")), completed), channel);
+
+        // then
+        then(crawlJobService).should().recordIngested(jobId, 1);
+        then(crawlJobService).should().completeWithResults(jobId, 143, "{\"hankyung\": 50}");
+    }
+
+    @Test
+    @DisplayName("실패 메시지 - 작업 실패 처리 (기사 없으면 저장 생략)")
+    void onResults_Failed_MarksJobFailed() throws Exception {
+        // given
+        CrawlResultMessage failed = new CrawlResultMessage(jobId.toString(),
+                CrawlResultMessage.Type.FAILED, null, null, null, "timeout");
+
+        // when
+        listener.onResults(deliveries(failed), channel);
+
+        // then
+        then(newsIngestService).shouldHaveNoInteractions();
+        then(crawlJobService).should().markFailed(jobId, "timeout");
+    }
+
+    @Test
+    @DisplayName("잘못된 jobId / 없는 작업 - 예외 없이 무시 (재전달 방지)")
+    void onResults_InvalidOrUnknownJob_Ignored() {
+        // given
+        UUID unknownJob = UUID.randomUUID();
+        given(newsIngestService.ingest(anyList())).willReturn(new IngestResult(1, 1, 0, 0, List.of()));
+        willThrow(ResourceNotFoundException.crawlJobNotFound(unknownJob.toString()))
+                .given(crawlJobService).recordIngested(unknownJob, 1);
+        CrawlResultMessage malformed = new CrawlResultMessage("not-a-uuid", null,
+                List.of(article("https://example.com/x")), null, null, null);
+
+        // when & then
+        assertThatCode(() -> listener.onResults(deliveries(
+                malformed, articles(unknownJob, article("https://example.com/1"))), channel))
+                .doesNotThrowAnyException();
+        then(newsIngestService).should(times(1)).ingest(anyList());
+        then(crawlJobService).should(never()).completeWithResults(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("한 작업의 처리 실패 - 그 작업만 데드 레터, 다른 작업은 정상 처리")
+    void onResults_OneJobFails_OtherJobsProcessed() throws Exception {
+        // given
+        UUID brokenJob = UUID.randomUUID();
+        given(newsIngestService.ingest(anyList())).willReturn(new IngestResult(1, 1, 0, 0, List.of()));
+        willThrow(new DataIntegrityViolationException("제약 위반"))
+                .given(crawlJobService).recordIngested(brokenJob, 1);
+        CrawlResultMessage broken = articles(brokenJob, article("https://example.com/broken"));
+
+        // when
+        listener.onResults(deliveries(broken, articles(jobId, article("https://example.com/1"))), channel);
+
+        // then: 재시도 없이 데드 레터, 다음 작업은 반영
+        then(crawlJobService).should(times(1)).recordIngested(brokenJob, 1);
+        then(crawlJobService).should().recordIngested(jobId, 1);
+        then(rabbitTemplate).should(times(1)).convertAndSend(eq(RabbitMQConfig.CRAWL_DEAD_LETTER_EXCHANGE),
+                eq(RabbitMQConfig.CRAWL_RESULT_KEY), eq(broken), any(MessagePostProcessor.class));
+
+        // 데드 레터로 옮긴 메시지도 ack (큐에서 제거)
+        then(channel).should().basicAck(1L, false);
+        then(channel).should().basicAck(2L, false);
+        then(channel).should(never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("일시적 실패 - 성공한 단계는 건너뛰고 재시도")
+    void onResults_TransientFailure_RetriesRemainingSteps() throws Exception {
+        // given: 기사 수 반영 후 완료 처리에서 한 번 실패
+        given(newsIngestService.ingest(anyList())).willReturn(new IngestResult(1, 1, 0, 0, List.of()));
+        given(crawlJobService.completeWithResults(jobId, 1, null))
+                .willThrow(new DataAccessResourceFailureException("DB 연결 실패"))
+                .willReturn(null);
+        CrawlResultMessage completed = new CrawlResultMessage(jobId.toString(),
+                CrawlResultMessage.Type.COMPLETED, null, 1, null, null);
+
+        // when
+        listener.onResults(deliveries(articles(jobId, article("https://example.com/1")), completed), channel);
+
+        // then: 저장 / 기사 수 반영은 한 번만
+        then(newsIngestService).should(times(1)).ingest(anyList());
+        then(crawlJobService).should(times(1)).recordIngested(jobId, 1);
+        then(crawlJobService).should(times(2)).completeWithResults(jobId, 1, null);
+        then(rabbitTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("일시적 실패가 계속됨 - retry-attempts회 시도 후 데드 레터")
+    void onResults_TransientFailureExhausted_DeadLetters() throws Exception {
+        // given
+        given(newsIngestService.ingest(anyList())).willThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+
+        // when
+        listener.onResults(deliveries(articles(jobId, article("https://example.com/1"))), channel);
+
+        // then
+        then(newsIngestService).should(times(3)).ingest(anyList());
+        then(rabbitTemplate).should().convertAndSend(eq(RabbitMQConfig.CRAWL_DEAD_LETTER_EXCHANGE),
+                eq(RabbitMQConfig.CRAWL_RESULT_KEY), any(CrawlResultMessage.class), any(MessagePostProcessor.class));
+    }
+
+    @Test
+    @DisplayName("데드 레터 발행 실패 - 그 작업의 메시지만 requeue 없이 거부, 앞서 처리한 작업은 ack")
+    void onResults_DeadLetterPublishFails_RejectsOnlyFailedJob() throws Exception {
+        // given: 첫 작업은 정상, 두 번째 작업은 처리 실패 + 데드 레터 발행도 실패
+        UUID brokenJob = UUID.randomUUID();
+        given(newsIngestService.ingest(anyList()))
+                .willReturn(new IngestResult(1, 1, 0, 0, List.of()))
+                .willThrow(new IllegalStateException("잘못된 데이터"));
+        willThrow(new AmqpConnectException(new ConnectException("연결 실패")))
+                .given(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class),
+                        any(MessagePostProcessor.class));
+
+        // when
+        listener.onResults(deliveries(
+                articles(jobId, article("https://example.com/1")),
+                articles(brokenJob, article("https://example.com/broken"))), channel);
+
+        // then: 정상 작업은 ack (DLQ로 가지 않으므로 재처리 시 기사 수 중복 반영 없음)
+        then(crawlJobService).should(times(1)).recordIngested(jobId, 1);
+        then(channel).should().basicAck(1L, false);
+        then(channel).should().basicNack(2L, false, false);
+        then(channel).should(never()).basicAck(2L, false);
+    }
+
+    @Test
+    @DisplayName("잘못된 jobId 메시지 - ack하여 큐에서 제거")
+    void onResults_InvalidJobId_Acked() throws Exception {
+        // given
+        CrawlResultMessage malformed = new CrawlResultMessage("not-a-uuid", null, null, null, null, null);
+
+        // when
+        listener.onResults(deliveries(malformed), channel);
+
+        // then
+        then(channel).should().basicAck(1L, false);
+        then(newsIngestService).shouldHaveNoInteractions();
+    }
+
+    // ========== Helper 메서드 ==========
+
+    /**
+     * 배달 태그(1부터 순서대로)를 붙인 메시지 목록
+     */
+    private static List<Message<CrawlResultMessage>> deliveries(CrawlResultMessage... messages) {
+        List<Message<CrawlResultMessage>> deliveries = new ArrayList<>();
+        for (CrawlResultMessage message : messages) {
+            deliveries.add(MessageBuilder.withPayload(message)
+                    .setHeader(AmqpHeaders.DELIVERY_TAG, (long) deliveries.size() + 1)
+                    .build());
+        }
+        return deliveries;
+    }
+
+    private static CrawlResultProperties noBackoff() {
+        CrawlResultProperties properties = new CrawlResultProperties();
+        properties.setRetryBackoffMs(0);
+        return properties;
+    }
+}
@@ -0,0 +1,124 @@
+package com.lucr.messaging;
+
+import com.lucr.config.ViewEventProperties;
+import com.lucr.service.ViewCountFlusher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.ImmediateRequeueAmqpException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.times;
+
+/**
+ * ViewEventListener 단위 테스트
+ *
+ * - 배치의 조회 이벤트를 뉴스별로 합산해 UPDATE 1회
+ * - 잘못된 newsId / views 무시
+ * - 일시적 실패는 재시도 후 배치 재전달, 그 외는 requeue 없이 거부 (DLQ)
+ *
+ * @author kimdongjoo
+ * @since 2026-03-01
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ViewEventListener 테스트")
+class ViewEventListenerTest {
+
+    @Mock
+    private ViewCountFlusher viewCountFlusher;
+
+    @Spy
+    private ViewEventProperties properties = noBackoff();
+
+    @InjectMocks
+    private ViewEventListener listener;
+
+    private final UUID first = UUID.randomUUID();
+    private final UUID second = UUID.randomUUID();
+
+    @Test
+    @DisplayName("같은 뉴스의 이벤트 - 합산하여 한 번에 반영")
+    void onViewEvents_AggregatesPerNews() {
+        // when
+        listener.onViewEvents(List.of(
+                ViewEventMessage.of(first),
+                ViewEventMessage.of(second),
+                ViewEventMessage.of(first),
+                new ViewEventMessage(first.toString(), 2)));
+
+        // then
+        then(viewCountFlusher).should(times(1)).apply(Map.of(first, 4L, second, 1L));
+    }
+
+    @Test
+    @DisplayName("잘못된 이벤트 - 무시하고 나머지만 반영")
+    void onViewEvents_InvalidMessages_Ignored() {
+        // when
+        listener.onViewEvents(List.of(
+                new ViewEventMessage("not-a-uuid", 1),
+                new ViewEventMessage(null, 1),
+                new ViewEventMessage(second.toString(), 0),
+                ViewEventMessage.of(first)));
+
+        // then
+        then(viewCountFlusher).should(times(1)).apply(Map.of(first, 1L));
+    }
+
+    @Test
+    @DisplayName("일시적 실패 후 성공 - 재시도하여 반영")
+    void onViewEvents_TransientFailure_Retries() {
+        // given
+        given(viewCountFlusher.apply(anyMap()))
+                .willThrow(new DataAccessResourceFailureException("DB 연결 실패"))
+                .willReturn(1L);
+
+        // when
+        listener.onViewEvents(List.of(ViewEventMessage.of(first)));
+
+        // then
+        then(viewCountFlusher).should(times(2)).apply(Map.of(first, 1L));
+    }
+
+    @Test
+    @DisplayName("일시적 실패가 계속됨 - retry-attempts회 시도 후 배치 재전달")
+    void onViewEvents_TransientFailureExhausted_Requeues() {
+        // given
+        given(viewCountFlusher.apply(anyMap())).willThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+
+        // when & then
+        assertThatThrownBy(() -> listener.onViewEvents(List.of(ViewEventMessage.of(first))))
+                .isInstanceOf(ImmediateRequeueAmqpException.class);
+        then(viewCountFlusher).should(times(3)).apply(anyMap());
+    }
+
+    @Test
+    @DisplayName("일시적이지 않은 실패 - 재시도 없이 requeue 없이 거부 (DLQ)")
+    void onViewEvents_NonTransientFailure_RejectsWithoutRequeue() {
+        // given
+        given(viewCountFlusher.apply(anyMap())).willThrow(new DataIntegrityViolationException("제약 위반"));
+
+        // when & then
+        assertThatThrownBy(() -> listener.onViewEvents(List.of(ViewEventMessage.of(first))))
+                .isInstanceOf(AmqpRejectAndDontRequeueException.class);
+        then(viewCountFlusher).should(times(1)).apply(anyMap());
+    }
+
+    private static ViewEventProperties noBackoff() {
+        ViewEventProperties properties = new ViewEventProperties();
+        properties.setRetryBackoffMs(0);
+        return properties;
+    }
+}
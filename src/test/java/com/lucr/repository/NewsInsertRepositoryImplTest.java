@@ -0,0 +1,99 @@
+package com.lucr.repository;
+
+import com.lucr.entity.News;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * NewsInsertRepositoryImpl 단위 테스트
+ *
+ * ON CONFLICT / RETURNING은 H2에서 실행할 수 없으므로 생성되는 SQL과 분할만 검증합니다.
+ *
+ * @author kimdongjoo
+ * @since 2026-02-20
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewsInsertRepositoryImpl 테스트")
+class NewsInsertRepositoryImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private NewsInsertRepositoryImpl newsInsertRepository;
+
+    private News news(int i) {
+        return News.builder()
+                .title("삼성전자 주가 상승")
+                .content("삼성전자의 주가가 오늘 5% 상승했습니다.")
+                .source("NAVER_FINANCE")
+                .url("https://example.com/news/" + i)
+                .build();
+    }
+
+    @Test
+    @DisplayName("행이 많으면 1000행씩 나눠 INSERT, RETURNING된 id를 모아 반환")
+    void insertIgnoringDuplicates_Chunked() {
+        // given: 2,500건
+        List<News> news = IntStream.range(0, 2500).mapToObj(this::news).toList();
+        List<String> statements = new ArrayList<>();
+        given(jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class)))
+                .willAnswer(invocation -> {
+                    statements.add(invocation.getArgument(0));
+                    return List.of(UUID.randomUUID());
+                });
+
+        // when
+        Set<UUID> inserted = newsInsertRepository.insertIgnoringDuplicates(news);
+
+        // then
+        assertThat(statements).hasSize(3);
+        assertThat(statements).extracting(sql -> sql.split("\\(\\?").length - 1)
+                .containsExactly(1000, 1000, 500);
+        assertThat(statements.get(0)).contains("ON CONFLICT (url_hash) DO NOTHING", "RETURNING id");
+        assertThat(inserted).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("INSERT 전 id / url_hash / 생성 시간 채움")
+    void insertIgnoringDuplicate_PreparesEntity() {
+        // given
+        News news = news(1);
+        given(jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class)))
+                .willReturn(List.of());
+
+        // when: 이미 있는 URL (RETURNING 결과 없음)
+        boolean inserted = newsInsertRepository.insertIgnoringDuplicate(news);
+
+        // then
+        assertThat(inserted).isFalse();
+        assertThat(news.getId()).isNotNull();
+        assertThat(news.getUrlHash()).isNotNull();
+        assertThat(news.getCreatedAt()).isNotNull();
+        assertThat(news.getCrawledAt()).isEqualTo(news.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("빈 목록 - 쿼리 없음")
+    void insertIgnoringDuplicates_Empty() {
+        assertThat(newsInsertRepository.insertIgnoringDuplicates(List.of())).isEmpty();
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+}
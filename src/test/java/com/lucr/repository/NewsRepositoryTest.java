@@ -1,17 +1,25 @@
 package com.lucr.repository;
 
+import com.lucr.common.UrlCanonicalizer;
+import com.lucr.dto.projection.NewsSummary;
+import com.lucr.dto.request.NewsSearchRequest;
 import com.lucr.entity.News;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -215,6 +223,20 @@ class NewsRepositoryTest {
         assertThat(foundNews).isEmpty();
     }
 
+    @Test
+    @DisplayName("URL로 뉴스 조회 - 추적 파라미터 / www / http 차이는 같은 뉴스")
+    void findByUrl_CanonicalVariant_Found() {
+        // given: 뉴스 저장
+        newsRepository.save(testNews1);
+
+        // when: 같은 기사의 URL 변형으로 조회
+        Optional<News> foundNews = newsRepository.findByUrl("http://www.example.com/news1/?utm_source=naver#top");
+
+        // then: 조회 성공
+        assertThat(foundNews).isPresent();
+        assertThat(foundNews.get().getUrl()).isEqualTo("https://example.com/news1");
+    }
+
     @Test
     @DisplayName("출처로 뉴스 조회 - 성공")
     void findBySource_Success() {
@@ -435,6 +457,25 @@ class NewsRepositoryTest {
         assertThat(newsPage.getContent().get(1).getTitle()).isEqualTo("애플 신제품 출시");
     }
 
+    @Test
+    @DisplayName("출처별 페이징 조회 - 요청한 정렬로 한 페이지만 조회")
+    void findBySource_Paged_Success() {
+        // given: NAVER_FINANCE 2개 (1일 전, 7일 전), YAHOO_FINANCE 1개
+        newsRepository.save(testNews1);
+        newsRepository.save(testNews2);
+        newsRepository.save(testNews3);
+
+        // when: 발행일 내림차순 첫 페이지 1개
+        Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "publishedAt"));
+        Page<News> newsPage = newsRepository.findBySource("NAVER_FINANCE", pageable);
+
+        // then: 최신 1개만 조회, 전체 개수는 출처 기준
+        assertThat(newsPage.getContent()).hasSize(1);
+        assertThat(newsPage.getContent().get(0).getTitle()).isEqualTo("삼성전자 주가 상승");
+        assertThat(newsPage.getTotalElements()).isEqualTo(2);
+        assertThat(newsPage.hasNext()).isTrue();
+    }
+
     // ========== 4. @Query (JPQL) 테스트 ==========
 
     @Test
@@ -628,6 +669,34 @@ class NewsRepositoryTest {
         assertThat(exists).isFalse();
     }
 
+    @Test
+    @DisplayName("저장 시 url_hash 자동 계산 - 정규화된 URL 기준")
+    void save_ComputesUrlHash() {
+        // when
+        News savedNews = newsRepository.save(testNews1);
+
+        // then
+        assertThat(savedNews.getUrlHash())
+                .isEqualTo(UrlCanonicalizer.hash("https://www.example.com/news1?fbclid=abc"));
+    }
+
+    @Test
+    @DisplayName("같은 기사의 URL 변형 저장 - url_hash 유니크 제약 위반")
+    void save_CanonicalDuplicate_ViolatesUniqueHash() {
+        // given
+        newsRepository.saveAndFlush(testNews1);
+        News variant = News.builder()
+                .url("https://www.example.com/news1?utm_source=naver")
+                .title("삼성전자 주가 상승")
+                .content("삼성전자의 주가가 오늘 5% 상승했습니다.")
+                .source("NAVER_FINANCE")
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> newsRepository.saveAndFlush(variant))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
     // ========== 6. Delete 쿼리 테스트 ==========
 
     @Test
@@ -1536,4 +1605,200 @@ class NewsRepositoryTest {
         // then: (100 + 150 + 200) / 3 = 150.0
         assertThat(avgViewCount).isEqualTo(150.0);
     }
+
+    // ========== 9. Specification 동적 검색 테스트 ==========
+
+    @Test
+    @DisplayName("Specification - 출처 + 감정 점수 + 기간 복합 조건")
+    void findAllBySpecification_CombinedConditions() {
+        // given
+        newsRepository.saveAll(List.of(testNews1, testNews2, testNews3));
+
+        NewsSearchRequest request = NewsSearchRequest.builder()
+                .source("NAVER_FINANCE")
+                .minSentimentScore(BigDecimal.valueOf(0.5))
+                .startDate(LocalDateTime.now().minusDays(2))
+                .build();
+
+        // when
+        Page<News> result = newsRepository.findAll(NewsSpecifications.of(request), PageRequest.of(0, 10));
+
+        // then: NAVER_FINANCE 중 최근 2일, 감정 점수 0.5 이상 → testNews1만
+        assertThat(result.getContent())
+                .extracting(News::getUrl)
+                .containsExactly("https://example.com/news1");
+    }
+
+    @Test
+    @DisplayName("Specification - 키워드의 %는 문자 그대로 검색")
+    void findAllBySpecification_KeywordEscapesWildcard() {
+        // given
+        newsRepository.saveAll(List.of(testNews1, testNews2, testNews3));
+
+        NewsSearchRequest request = NewsSearchRequest.builder()
+                .keyword("5%")
+                .build();
+
+        // when
+        Page<News> result = newsRepository.findAll(NewsSpecifications.of(request), PageRequest.of(0, 10));
+
+        // then: "5% 상승" 본문을 가진 testNews1만 일치
+        assertThat(result.getContent())
+                .extracting(News::getUrl)
+                .containsExactly("https://example.com/news1");
+    }
+
+    @Test
+    @DisplayName("Specification - 조건 없음 + 정렬/페이징은 DB에서 처리")
+    void findAllBySpecification_NoConditions_SortAndPage() {
+        // given
+        newsRepository.saveAll(List.of(testNews1, testNews2, testNews3));
+
+        NewsSearchRequest request = NewsSearchRequest.builder().build();
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "viewCount"));
+
+        // when
+        Page<News> result = newsRepository.findAll(NewsSpecifications.of(request), pageable);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent())
+                .extracting(News::getViewCount)
+                .containsExactly(1500, 800);
+    }
+
+    // ========== 10. Keyset (cursor) 페이징 테스트 ==========
+
+    @Test
+    @DisplayName("Keyset - 조회수 동률이어도 id로 이어서 중복/누락 없이 순회")
+    void findPopularAfter_TiesBrokenById() {
+        // given: 조회수 동일 4건 + 더 높은 1건
+        for (int i = 0; i < 4; i++) {
+            newsRepository.save(News.builder()
+                    .url("https://example.com/tie" + i)
+                    .title("동률 뉴스 " + i)
+                    .source("NAVER_FINANCE")
+                    .viewCount(100)
+                    .build());
+        }
+        newsRepository.save(testNews1);
+
+        // when: 2건씩 끝까지 순회
+        List<NewsSummary> visited = new ArrayList<>();
+        List<NewsSummary> page = newsRepository.findPopular(Limit.of(2));
+        while (!page.isEmpty()) {
+            visited.addAll(page);
+            NewsSummary last = page.get(page.size() - 1);
+            page = newsRepository.findPopularAfter(last.viewCount(), last.id(), Limit.of(2));
+        }
+
+        // then: 5건 모두 한 번씩, 조회수 내림차순
+        assertThat(visited).hasSize(5);
+        assertThat(visited).extracting(NewsSummary::id).doesNotHaveDuplicates();
+        assertThat(visited.get(0).viewCount()).isEqualTo(1500);
+        assertThat(visited).extracting(NewsSummary::viewCount).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    @DisplayName("Keyset - 발행일순 다음 페이지는 커서 이후 행만 반환")
+    void findLatestPublishedAfter_ReturnsOlderRows() {
+        // given
+        newsRepository.saveAll(List.of(testNews1, testNews2, testNews3));
+
+        // when: testNews1(1일 전) 이후
+        List<NewsSummary> result = newsRepository.findLatestPublishedAfter(
+                testNews1.getPublishedAt(), testNews1.getId(), Limit.of(10));
+
+        // then: testNews2(3일 전), testNews3(7일 전) 순서
+        assertThat(result)
+                .extracting(NewsSummary::url)
+                .containsExactly("https://example.com/news2", "https://example.com/news3");
+    }
+
+    @Test
+    @DisplayName("Keyset - 발행일 없는 뉴스는 별도 구간에서 id 내림차순으로 끝까지 순회")
+    void findUnpublishedAfter_VisitsRowsWithoutPublishedAt() {
+        // given: 발행일 있는 1건 + 없는 3건
+        newsRepository.save(testNews1);
+        for (int i = 0; i < 3; i++) {
+            newsRepository.save(News.builder()
+                    .url("https://example.com/undated" + i)
+                    .title("발행일 없는 뉴스 " + i)
+                    .source("NAVER_FINANCE")
+                    .build());
+        }
+
+        // when: 발행일 구간에서는 빠지고, 발행일 없는 구간을 2건씩 순회
+        List<NewsSummary> published = newsRepository.findLatestPublished(Limit.of(10));
+        List<NewsSummary> visited = new ArrayList<>();
+        List<NewsSummary> page = newsRepository.findUnpublished(Limit.of(2));
+        while (!page.isEmpty()) {
+            visited.addAll(page);
+            page = newsRepository.findUnpublishedAfter(page.get(page.size() - 1).id(), Limit.of(2));
+        }
+
+        // then
+        assertThat(published).extracting(NewsSummary::url).containsExactly("https://example.com/news1");
+        assertThat(visited).hasSize(3);
+        assertThat(visited).extracting(NewsSummary::publishedAt).containsOnlyNulls();
+        assertThat(visited).extracting(NewsSummary::id).doesNotHaveDuplicates();
+    }
+
+    // ========== 11. 목록용 Projection (NewsSummary) 테스트 ==========
+
+    @Test
+    @DisplayName("Projection - 본문은 앞 101자만 조회")
+    void findSummaries_ContentHeadTruncated() {
+        // given: 본문 150자
+        newsRepository.save(News.builder()
+                .url("https://example.com/long")
+                .title("긴 본문 뉴스")
+                .content("가".repeat(150))
+                .source("NAVER_FINANCE")
+                .build());
+
+        // when
+        Page<NewsSummary> result = newsRepository.findSummaries(PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        NewsSummary summary = result.getContent().get(0);
+        assertThat(summary.title()).isEqualTo("긴 본문 뉴스");
+        assertThat(summary.contentHead()).isEqualTo("가".repeat(NewsSummary.CONTENT_HEAD_LENGTH));
+    }
+
+    @Test
+    @DisplayName("Projection - 출처별 조회는 정렬/페이징 유지")
+    void findSummariesBySource_Paged() {
+        // given
+        newsRepository.saveAll(List.of(testNews1, testNews2, testNews3));
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "publishedAt"));
+
+        // when
+        Page<NewsSummary> result = newsRepository.findSummariesBySource("NAVER_FINANCE", pageable);
+
+        // then: NAVER_FINANCE 2건, 발행일 최신순
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent())
+                .extracting(NewsSummary::url)
+                .containsExactly("https://example.com/news1", "https://example.com/news3");
+    }
+
+    @Test
+    @DisplayName("Projection - Specification 검색 결과를 Projection으로 조회")
+    void searchSummaries_WithSpecification() {
+        // given
+        newsRepository.saveAll(List.of(testNews1, testNews2, testNews3));
+        NewsSearchRequest request = NewsSearchRequest.builder().minViewCount(800).build();
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "viewCount"));
+
+        // when
+        Page<NewsSummary> result = newsRepository.searchSummaries(NewsSpecifications.of(request), pageable);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent())
+                .extracting(NewsSummary::viewCount)
+                .containsExactly(1500, 800);
+    }
 }
@@ -0,0 +1,109 @@
+package com.lucr.search;
+
+import com.lucr.config.SearchProperties;
+import com.lucr.entity.News;
+import com.lucr.event.NewsChangedEvent;
+import com.lucr.repository.NewsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * InMemoryNewsSearchEngine 단위 테스트
+ *
+ * - 재구축은 새 색인을 만든 뒤 교체 (구축 중 검색은 이전 색인)
+ * - 구축 중 커밋된 변경은 새 색인에 다시 적용
+ *
+ * @author kimdongjoo
+ * @since 2026-02-10
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryNewsSearchEngine 테스트")
+class InMemoryNewsSearchEngineTest {
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    private final SearchProperties properties = new SearchProperties();
+
+    private InMemoryNewsSearchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        properties.setAnalyzer("simple");
+        engine = new InMemoryNewsSearchEngine(newsRepository, properties);
+    }
+
+    @Test
+    @DisplayName("구축 중 삭제 - 이미 읽은 뉴스도 새 색인에 남지 않음")
+    void rebuild_DeletedDuringBuild_NotResurrected() {
+        // given: 구축이 뉴스를 읽은 직후 삭제가 커밋됨
+        News samsung = news("Samsung earnings");
+        News apple = news("Apple earnings");
+        given(newsRepository.findByIdGreaterThanOrderByIdAsc(any(UUID.class), any(Limit.class)))
+                .willAnswer(invocation -> {
+                    engine.onNewsChanged(NewsChangedEvent.deleted(samsung.getId()));
+                    return List.of(samsung, apple);
+                });
+
+        // when
+        engine.rebuild();
+
+        // then
+        assertThat(engine.search("earnings", PageRequest.of(0, 10)).getContent())
+                .containsExactly(apple.getId());
+    }
+
+    @Test
+    @DisplayName("구축 중 생성 - 새 색인에 반영, 구축 중 검색은 이전 색인 사용")
+    void rebuild_CreatedDuringBuild_ReplayedAndOldIndexServed() {
+        // given: 첫 구축 완료
+        News samsung = news("Samsung earnings");
+        given(newsRepository.findByIdGreaterThanOrderByIdAsc(any(UUID.class), any(Limit.class)))
+                .willReturn(List.of(samsung));
+        engine.rebuild();
+
+        // 두 번째 구축 중 새 뉴스 커밋 (DB 조회 결과에는 없음)
+        News apple = news("Apple earnings");
+        given(newsRepository.findByIdGreaterThanOrderByIdAsc(any(UUID.class), any(Limit.class)))
+                .willAnswer(invocation -> {
+                    engine.onNewsChanged(NewsChangedEvent.created(apple));
+                    // 구축 중에도 이전 색인으로 검색 (LIKE 대체 없음)
+                    assertThat(engine.search("samsung", PageRequest.of(0, 10)).getContent())
+                            .containsExactly(samsung.getId());
+                    return List.of(samsung);
+                });
+
+        // when
+        engine.rebuild();
+
+        // then
+        assertThat(engine.search("earnings", PageRequest.of(0, 10)).getContent())
+                .containsExactlyInAnyOrder(samsung.getId(), apple.getId());
+        then(newsRepository).should(never()).searchIdsByKeyword(anyString(), any());
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private static News news(String title) {
+        return News.builder()
+                .id(UUID.randomUUID())
+                .title(title)
+                .content(title + " report")
+                .source("NAVER_FINANCE")
+                .url("https://example.com/" + UUID.randomUUID())
+                .build();
+    }
+}
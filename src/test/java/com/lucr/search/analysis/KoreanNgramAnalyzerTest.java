@@ -0,0 +1,145 @@
+package com.lucr.search.analysis;
+
+import com.lucr.search.index.Bm25Similarity;
+import com.lucr.search.index.InvertedIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * KoreanNgramAnalyzer 단위 테스트
+ *
+ * - 한글 bigram/trigram 분해
+ * - 전각/대소문자 정규화
+ * - 불용어 제거
+ * - 역색인 연동 시 복합어 부분 검색
+ *
+ * @author kimdongjoo
+ * @since 2026-02-12
+ */
+@DisplayName("KoreanNgramAnalyzer 테스트")
+class KoreanNgramAnalyzerTest {
+
+    private final KoreanNgramAnalyzer analyzer = new KoreanNgramAnalyzer();
+
+    private List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        analyzer.analyze(text, (buffer, offset, length) -> tokens.add(new String(buffer, offset, length)));
+        return tokens;
+    }
+
+    @Nested
+    @DisplayName("토큰화")
+    class TokenizeTests {
+
+        @Test
+        @DisplayName("한글 단어 - 위치 순서대로 bigram + trigram")
+        void analyze_Hangul_Ngrams() {
+            // when
+            List<String> result = tokens("삼성전자");
+
+            // then
+            assertThat(result).containsExactly("삼성", "삼성전", "성전", "성전자", "전자");
+        }
+
+        @Test
+        @DisplayName("한글/영문 혼합 - 문자 종류 경계에서 분리")
+        void analyze_MixedScript_SplitsOnScriptBoundary() {
+            // when
+            List<String> result = tokens("SK하이닉스 3Q");
+
+            // then
+            assertThat(result).containsExactly("sk", "하이", "하이닉", "이닉", "이닉스", "닉스", "3q");
+        }
+
+        @Test
+        @DisplayName("한 음절 단어 - 그대로 토큰화")
+        void analyze_SingleSyllable_KeptAsIs() {
+            // when
+            List<String> result = tokens("금 시세");
+
+            // then
+            assertThat(result).containsExactly("금", "시세");
+        }
+
+        @Test
+        @DisplayName("null 입력 - 토큰 없음")
+        void analyze_Null_NoTokens() {
+            assertThat(tokens(null)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("정규화 / 필터")
+    class NormalizeAndFilterTests {
+
+        @Test
+        @DisplayName("전각 영문/숫자 - 반각 소문자로 정규화")
+        void analyze_FullWidth_Normalized() {
+            // when
+            List<String> result = tokens("ＡＡＰＬ　ＨＢＭ３");
+
+            // then
+            assertThat(result).containsExactly("aapl", "hbm3");
+        }
+
+        @Test
+        @DisplayName("불용어 - 단어 단위로 제거")
+        void analyze_StopWords_Removed() {
+            // when
+            List<String> result = tokens("The 반도체 수출 증가했다 그리고 기자");
+
+            // then
+            assertThat(result).containsExactly(
+                    "반도", "반도체", "도체", "수출", "증가", "증가했", "가했", "가했다", "했다");
+        }
+
+        @Test
+        @DisplayName("사용자 정의 필터 - 등록 순서대로 적용")
+        void analyze_CustomFilter() {
+            // given: 길이 1 단어 제외 필터
+            KoreanNgramAnalyzer custom = new KoreanNgramAnalyzer(2, 2, List.of((buffer, offset, length) -> length > 1));
+            List<String> result = new ArrayList<>();
+
+            // when
+            custom.analyze("금 가격", (buffer, offset, length) -> result.add(new String(buffer, offset, length)));
+
+            // then
+            assertThat(result).containsExactly("가격");
+        }
+
+        @Test
+        @DisplayName("잘못된 n-gram 범위 - 예외 발생")
+        void constructor_InvalidRange_ThrowsException() {
+            assertThatThrownBy(() -> new KoreanNgramAnalyzer(3, 2, List.of()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("역색인 연동")
+    class IndexIntegrationTests {
+
+        @Test
+        @DisplayName("복합어 일부로 검색 - 조사가 붙은 단어도 일치")
+        void search_CompoundWordPart_Matches() {
+            // given
+            InvertedIndex index = new InvertedIndex(analyzer, Bm25Similarity.DEFAULT, 2);
+            UUID hynix = UUID.randomUUID();
+            UUID apple = UUID.randomUUID();
+            index.upsert(hynix, "SK하이닉스, HBM 공급 확대", "하이닉스는 반도체수출 호조를 이어갔다");
+            index.upsert(apple, "애플 신제품 출시", "아이폰 판매 호조");
+
+            // when & then
+            assertThat(index.search("하이닉스", 10).ids()).containsExactly(hynix);
+            assertThat(index.search("반도체", 10).ids()).containsExactly(hynix);
+            assertThat(index.search("ｈｂｍ", 10).ids()).containsExactly(hynix);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.lucr.search.index;
+
+import com.lucr.search.analysis.SimpleAnalyzer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * InvertedIndex 단위 테스트
+ *
+ * - 색인 / 삭제 / 수정 반영
+ * - BM25 랭킹 (빈도, 문서 길이, 제목 가중치)
+ * - 삭제 누적 시 compact 후에도 결과 유지
+ *
+ * @author kimdongjoo
+ * @since 2026-02-10
+ */
+@DisplayName("InvertedIndex 테스트")
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex(new SimpleAnalyzer(), Bm25Similarity.DEFAULT, 2);
+    }
+
+    @Nested
+    @DisplayName("색인 및 검색")
+    class IndexAndSearchTests {
+
+        @Test
+        @DisplayName("일치 문서만 반환 - 대소문자 무시")
+        void search_ReturnsMatchingDocuments() {
+            // given
+            UUID samsung = UUID.randomUUID();
+            UUID apple = UUID.randomUUID();
+            index.upsert(samsung, "Samsung 실적 발표", "Samsung Electronics reported earnings");
+            index.upsert(apple, "Apple 신제품", "Apple released a new phone");
+
+            // when
+            SearchHits hits = index.search("SAMSUNG", 10);
+
+            // then
+            assertThat(hits.ids()).containsExactly(samsung);
+            assertThat(hits.totalHits()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("사전에 없는 검색어 - 빈 결과")
+        void search_UnknownTerm_Empty() {
+            // given
+            index.upsert(UUID.randomUUID(), "title", "content");
+
+            // when
+            SearchHits hits = index.search("nothing", 10);
+
+            // then
+            assertThat(hits.ids()).isEmpty();
+            assertThat(hits.totalHits()).isZero();
+        }
+
+        @Test
+        @DisplayName("topK 제한 - 상위 문서만 반환하고 전체 일치 수는 유지")
+        void search_TopK_LimitsIds() {
+            // given
+            for (int i = 0; i < 30; i++) {
+                index.upsert(UUID.randomUUID(), "stock " + i, "market stock news");
+            }
+
+            // when
+            SearchHits hits = index.search("stock", 5);
+
+            // then
+            assertThat(hits.ids()).hasSize(5);
+            assertThat(hits.totalHits()).isEqualTo(30);
+        }
+    }
+
+    @Nested
+    @DisplayName("BM25 랭킹")
+    class RankingTests {
+
+        @Test
+        @DisplayName("용어 빈도가 높은 문서가 상위")
+        void ranking_HigherTermFrequencyFirst() {
+            // given
+            UUID once = UUID.randomUUID();
+            UUID many = UUID.randomUUID();
+            index.upsert(once, "news", "chip demand market outlook");
+            index.upsert(many, "news", "chip chip chip market outlook");
+
+            // when
+            SearchHits hits = index.search("chip", 10);
+
+            // then
+            assertThat(hits.ids()).containsExactly(many, once);
+        }
+
+        @Test
+        @DisplayName("짧은 문서가 상위 - 문서 길이 정규화")
+        void ranking_ShorterDocumentFirst() {
+            // given
+            UUID shortDoc = UUID.randomUUID();
+            UUID longDoc = UUID.randomUUID();
+            index.upsert(shortDoc, "news", "chip rally");
+            index.upsert(longDoc, "news", "chip rally with a lot of unrelated words about weather and sports");
+
+            // when
+            SearchHits hits = index.search("chip", 10);
+
+            // then
+            assertThat(hits.ids()).containsExactly(shortDoc, longDoc);
+        }
+
+        @Test
+        @DisplayName("제목 일치 문서가 상위 - 제목 가중치")
+        void ranking_TitleBoost() {
+            // given
+            UUID inTitle = UUID.randomUUID();
+            UUID inContent = UUID.randomUUID();
+            index.upsert(inTitle, "tesla earnings", "quarterly report released today");
+            index.upsert(inContent, "quarterly report", "tesla earnings released today");
+
+            // when
+            SearchHits hits = index.search("tesla", 10);
+
+            // then
+            assertThat(hits.ids()).containsExactly(inTitle, inContent);
+        }
+
+        @Test
+        @DisplayName("여러 검색어 일치 문서가 상위")
+        void ranking_MoreMatchedTermsFirst() {
+            // given
+            UUID both = UUID.randomUUID();
+            UUID one = UUID.randomUUID();
+            index.upsert(one, "news", "samsung announced results");
+            index.upsert(both, "news", "samsung chip results");
+
+            // when
+            SearchHits hits = index.search("samsung chip", 10);
+
+            // then
+            assertThat(hits.ids()).containsExactly(both, one);
+            assertThat(hits.totalHits()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("수정 / 삭제")
+    class UpdateAndRemoveTests {
+
+        @Test
+        @DisplayName("수정 - 이전 내용으로는 검색되지 않음")
+        void upsert_ReplacesPreviousContent() {
+            // given
+            UUID id = UUID.randomUUID();
+            index.upsert(id, "old title", "old content");
+
+            // when
+            index.upsert(id, "new title", "new content");
+
+            // then
+            assertThat(index.search("old", 10).ids()).isEmpty();
+            assertThat(index.search("new", 10).ids()).containsExactly(id);
+            assertThat(index.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("삭제 - 검색 결과에서 제외")
+        void remove_ExcludedFromSearch() {
+            // given
+            UUID id = UUID.randomUUID();
+            index.upsert(id, "title", "content");
+
+            // when
+            boolean removed = index.remove(id);
+
+            // then
+            assertThat(removed).isTrue();
+            assertThat(index.search("content", 10).ids()).isEmpty();
+            assertThat(index.remove(id)).isFalse();
+        }
+
+        @Test
+        @DisplayName("대량 삭제 후 compact - 남은 문서는 그대로 검색")
+        void remove_Many_CompactKeepsLiveDocuments() {
+            // given: 4000건 색인 후 3000건 삭제 (compact 발생)
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < 4000; i++) {
+                UUID id = UUID.randomUUID();
+                ids.add(id);
+                index.upsert(id, "title", i % 2 == 0 ? "even market" : "odd market");
+            }
+            for (int i = 0; i < 3000; i++) {
+                index.remove(ids.get(i));
+            }
+
+            // when
+            SearchHits hits = index.search("even", 10_000);
+
+            // then
+            assertThat(index.size()).isEqualTo(1000);
+            assertThat(hits.totalHits()).isEqualTo(500);
+            assertThat(hits.ids()).allSatisfy(id -> assertThat(ids.indexOf(id)).isGreaterThanOrEqualTo(3000));
+        }
+    }
+
+    @Nested
+    @DisplayName("전체 삭제")
+    class ClearTests {
+
+        @Test
+        @DisplayName("clear - 용어 사전도 비우고 재구축 후에는 새 용어만 남음")
+        void clear_ResetsDictionary() {
+            // given
+            index.upsert(UUID.randomUUID(), "old title", "stale market content");
+            long emptyBytes = new InvertedIndex(new SimpleAnalyzer(), Bm25Similarity.DEFAULT, 2).ramBytesUsed();
+
+            // when
+            index.clear();
+
+            // then
+            assertThat(index.size()).isZero();
+            assertThat(index.termCount()).isZero();
+            assertThat(index.ramBytesUsed()).isEqualTo(emptyBytes);
+
+            // when: 재구축
+            UUID id = UUID.randomUUID();
+            index.upsert(id, "new", "fresh");
+
+            // then
+            assertThat(index.termCount()).isEqualTo(2);
+            assertThat(index.search("stale", 10).ids()).isEmpty();
+            assertThat(index.search("fresh", 10).ids()).containsExactly(id);
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package com.lucr.service;
+
+import com.lucr.config.CrawlStreamProperties;
+import com.lucr.entity.CrawlJob;
+import com.lucr.entity.CrawlJob.CrawlJobStatus;
+import com.lucr.event.CrawlJobProgressEvent;
+import com.lucr.exception.BusinessException;
+import com.lucr.exception.ErrorCode;
+import com.lucr.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * CrawlJobProgressBroadcaster 단위 테스트
+ *
+ * - 구독하면 스냅샷을 먼저 보내고, 이후 진행 이벤트를 밀어 줌
+ * - 자식 작업 이벤트는 부모 작업 구독자에게도 전달
+ * - 작업이 끝나면 연결 종료, 구독 수 한도 초과 시 거부
+ * - 느린 구독자는 다른 구독자의 전송을 막지 않고, 대기열 초과 / 전송 시간 초과 시 해제
+ *
+ * @author kimdongjoo
+ * @since 2026-02-24
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CrawlJobProgressBroadcaster 테스트")
+class CrawlJobProgressBroadcasterTest {
+
+    @Mock
+    private CrawlJobService crawlJobService;
+
+    private final CrawlStreamProperties properties = new CrawlStreamProperties();
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    private CrawlJobProgressBroadcaster broadcaster;
+
+    private final UUID jobId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new CrawlJobProgressBroadcaster(crawlJobService, properties) {
+            @Override
+            SseEmitter createEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("구독 - 스냅샷 전송 후 상태 전이 / 기사 수 이벤트 전송")
+    void subscribe_SnapshotThenEvents() throws Exception {
+        // given
+        CrawlJob job = job(jobId, CrawlJobStatus.PENDING);
+        given(crawlJobService.getJobById(jobId)).willReturn(job);
+        given(crawlJobService.getChildJobs(jobId)).willReturn(List.of());
+
+        // when
+        broadcaster.subscribe(jobId);
+        job.markRunning();
+        broadcaster.onProgress(CrawlJobProgressEvent.status(job));
+        broadcaster.onProgress(CrawlJobProgressEvent.articles(jobId, 25));
+
+        // then
+        RecordingEmitter emitter = emitters.get(0);
+        await(() -> emitter.events.size() == 3);
+        assertThat(emitter.events.get(0)).contains("event:snapshot");
+        assertThat(emitter.events.get(1)).contains("event:status", "status=RUNNING");
+        assertThat(emitter.events.get(2)).contains("event:articles", "ingested=25");
+        assertThat(emitter.completed).isFalse();
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("자식 작업 이벤트 - 부모 작업 구독자에게 전달")
+    void childEvent_ForwardedToParentSubscriber() throws Exception {
+        // given
+        CrawlJob child = CrawlJob.mediaShard(jobId, "hankyung");
+        child.setId(UUID.randomUUID());
+        given(crawlJobService.getJobById(jobId)).willReturn(job(jobId, CrawlJobStatus.RUNNING));
+        given(crawlJobService.getChildJobs(jobId)).willReturn(List.of(child));
+
+        // when
+        broadcaster.subscribe(jobId);
+        broadcaster.onProgress(CrawlJobProgressEvent.articles(child.getId(), 10));
+
+        // then
+        RecordingEmitter emitter = emitters.get(0);
+        await(() -> emitter.events.size() == 2);
+        assertThat(emitter.events.get(1)).contains("event:articles", child.getId().toString());
+    }
+
+    @Test
+    @DisplayName("작업 완료 이벤트 - 전송 후 연결 종료, 구독 해제")
+    void finishedEvent_CompletesEmitter() throws Exception {
+        // given
+        CrawlJob job = job(jobId, CrawlJobStatus.RUNNING);
+        given(crawlJobService.getJobById(jobId)).willReturn(job);
+        given(crawlJobService.getChildJobs(jobId)).willReturn(List.of());
+        broadcaster.subscribe(jobId);
+
+        // when
+        job.markCompleted(90, null);
+        broadcaster.onProgress(CrawlJobProgressEvent.status(job));
+
+        // then
+        RecordingEmitter emitter = emitters.get(0);
+        await(() -> emitter.completed);
+        assertThat(emitter.events.get(1)).contains("status=COMPLETED", "totalArticles=90");
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 끝난 작업 구독 - 스냅샷만 보내고 연결 종료")
+    void subscribe_FinishedJob_SnapshotAndComplete() throws Exception {
+        // given
+        given(crawlJobService.getJobById(jobId)).willReturn(job(jobId, CrawlJobStatus.FAILED));
+        given(crawlJobService.getChildJobs(jobId)).willReturn(List.of());
+
+        // when
+        broadcaster.subscribe(jobId);
+
+        // then
+        RecordingEmitter emitter = emitters.get(0);
+        await(() -> emitter.completed);
+        assertThat(emitter.events).hasSize(1);
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("없는 작업 구독 - ResourceNotFoundException, 구독 수 복구")
+    void subscribe_NotFound_Throws() {
+        // given
+        given(crawlJobService.getJobById(jobId)).willThrow(ResourceNotFoundException.crawlJobNotFound(jobId.toString()));
+
+        // when & then
+        assertThatThrownBy(() -> broadcaster.subscribe(jobId)).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("구독 수 한도 초과 - TOO_MANY_SUBSCRIBERS")
+    void subscribe_OverLimit_Rejected() {
+        // given
+        properties.setMaxSubscribers(1);
+        given(crawlJobService.getJobById(jobId)).willReturn(job(jobId, CrawlJobStatus.RUNNING));
+        given(crawlJobService.getChildJobs(jobId)).willReturn(List.of());
+        broadcaster.subscribe(jobId);
+
+        // when & then
+        assertThatThrownBy(() -> broadcaster.subscribe(jobId))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_SUBSCRIBERS);
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전송 실패(연결 끊김) - 구독 해제")
+    void sendFails_Unsubscribes() throws Exception {
+        // given
+        given(crawlJobService.getJobById(jobId)).willReturn(job(jobId, CrawlJobStatus.RUNNING));
+        given(crawlJobService.getChildJobs(jobId)).willReturn(List.of());
+        broadcaster.subscribe(jobId);
+        RecordingEmitter emitter = emitters.get(0);
+        await(() -> emitter.events.size() == 1);
+
+        // when
+        emitter.broken = true;
+        broadcaster.heartbeat();
+
+        // then
+        await(() -> broadcaster.getSubscriberCount() == 0);
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("전송이 막힌 구독자 - 다른 구독자는 계속 이벤트를 받음")
+    void slowSubscriber_DoesNotBlockOthers() throws Exception {
+        // given: 첫 번째 구독자의 전송이 막힘
+        given(crawlJobService.getJobById(jobId)).willReturn(job(jobId, CrawlJobStatus.RUNNING));
+        given(crawlJobService.getChildJobs(jobId)).willReturn(List.of());
+        CountDownLatch release = new CountDownLatch(1);
+        broadcaster.subscribe(jobId);
+        RecordingEmitter slow = emitters.get(0);
+        await(() -> slow.events.size() == 1);
+        slow.blocker = release;
+        broadcaster.subscribe(jobId);
+        RecordingEmitter fast = emitters.get(1);
+
+        // when
+        broadcaster.onProgress(CrawlJobProgressEvent.articles(jobId, 10));
+        broadcaster.onProgress(CrawlJobProgressEvent.articles(jobId, 20));
+
+        // then
+        await(() -> fast.events.size() == 3);
+        assertThat(slow.events).hasSize(1);
+        release.countDown();
+        await(() -> slow.events.size() == 3);
+    }
+
+    @Test
+    @DisplayName("전송 대기열 초과 - 느린 구독자 해제, 막힌 전송이 끝나면 연결 종료")
+    void slowSubscriber_QueueFull_Dropped() throws Exception {
+        // given
+        properties.setSendQueueCapacity(2);
+        given(crawlJobService.getJobById(jobId)).willReturn(job(jobId, CrawlJobStatus.RUNNING));
+        given(crawlJobService.getChildJobs(jobId)).willReturn(List.of());
+        CountDownLatch release = new CountDownLatch(1);
+        broadcaster.subscribe(jobId);
+        RecordingEmitter slow = emitters.get(0);
+        await(() -> slow.events.size() == 1);
+        slow.blocker = release;
+
+        // when: 전송 하나가 막힌 동안 대기열보다 많은 이벤트
+        for (int i = 1; i <= 4; i++) {
+            broadcaster.onProgress(CrawlJobProgressEvent.articles(jobId, i));
+        }
+
+        // then
+        await(() -> broadcaster.getSubscriberCount() == 0);
+        release.countDown();
+        await(() -> slow.completed);
+    }
+
+    @Test
+    @DisplayName("전송 시간 초과 - 하트비트에서 느린 구독자 해제")
+    void slowSubscriber_SendTimeout_Dropped() throws Exception {
+        // given
+        properties.setSendTimeoutMs(20);
+        given(crawlJobService.getJobById(jobId)).willReturn(job(jobId, CrawlJobStatus.RUNNING));
+        given(crawlJobService.getChildJobs(jobId)).willReturn(List.of());
+        CountDownLatch release = new CountDownLatch(1);
+        broadcaster.subscribe(jobId);
+        RecordingEmitter slow = emitters.get(0);
+        await(() -> slow.events.size() == 1);
+        slow.blocker = release;
+        broadcaster.onProgress(CrawlJobProgressEvent.articles(jobId, 10));
+        Thread.sleep(50);
+
+        // when
+        broadcaster.heartbeat();
+
+        // then
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+        release.countDown();
+        await(() -> slow.completed);
+    }
+
+    @Test
+    @DisplayName("메트릭 - 구독 연결 수 게이지")
+    void bindTo_RegistersGauge() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        broadcaster.bindTo(registry);
+        given(crawlJobService.getJobById(jobId)).willReturn(job(jobId, CrawlJobStatus.RUNNING));
+        given(crawlJobService.getChildJobs(jobId)).willReturn(List.of());
+
+        // when
+        broadcaster.subscribe(jobId);
+
+        // then
+        assertThat(registry.get("lucr.crawl.stream.subscribers").gauge().value()).isEqualTo(1.0);
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private CrawlJob job(UUID id, CrawlJobStatus status) {
+        return CrawlJob.builder().id(id).status(status).build();
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    /**
+     * 전송한 이벤트를 문자열로 기록하는 SseEmitter (서블릿 응답 없이 사용)
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+        private volatile boolean broken;
+        private volatile CountDownLatch blocker;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("Broken pipe");
+            }
+            CountDownLatch latch = blocker;
+            if (latch != null) {
+                try {
+                    latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            events.add(builder.build().stream()
+                    .map(data -> String.valueOf(data.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.lucr.service;
+
+import com.lucr.config.CrawlRegistryProperties;
+import com.lucr.entity.CrawlJob;
+import com.lucr.entity.CrawlJob.CrawlJobStatus;
+import com.lucr.event.CrawlJobChangedEvent;
+import com.lucr.event.CrawlJobProgressEvent;
+import com.lucr.repository.CrawlJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * CrawlJobRegistry 단위 테스트
+ *
+ * - 기동 시 PENDING / RUNNING 작업과 자식 작업으로 구축
+ * - 커밋 후 이벤트로 스냅샷 교체 / 기사 수 누적
+ * - 종료된 작업은 TTL이 지나면 자식 작업과 함께 정리
+ *
+ * @author kimdongjoo
+ * @since 2026-02-25
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CrawlJobRegistry 테스트")
+class CrawlJobRegistryTest {
+
+    @Mock
+    private CrawlJobRepository crawlJobRepository;
+
+    private final CrawlRegistryProperties properties = new CrawlRegistryProperties();
+
+    private CrawlJobRegistry registry;
+
+    private final UUID parentId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        properties.setEnabled(true);
+        registry = new CrawlJobRegistry(crawlJobRepository, properties);
+    }
+
+    // ========== 구축 ==========
+
+    @Nested
+    @DisplayName("rebuild 메서드는")
+    class RebuildTests {
+
+        @Test
+        @DisplayName("활성 작업과 자식 작업을 읽어 DB 조회 없이 제공")
+        void rebuild_ServesActiveJobs() {
+            // given
+            CrawlJob parent = job(parentId, null, CrawlJobStatus.RUNNING);
+            CrawlJob done = job(UUID.randomUUID(), parentId, CrawlJobStatus.COMPLETED);
+            CrawlJob running = job(UUID.randomUUID(), parentId, CrawlJobStatus.RUNNING);
+            given(crawlJobRepository.findByStatus(CrawlJobStatus.PENDING)).willReturn(List.of());
+            given(crawlJobRepository.findByStatus(CrawlJobStatus.RUNNING)).willReturn(List.of(parent, running));
+            given(crawlJobRepository.findByParentId(parentId)).willReturn(List.of(done, running));
+
+            // when
+            registry.rebuild();
+
+            // then
+            assertThat(registry.isReady()).isTrue();
+            assertThat(registry.hasRunningRoot()).isTrue();
+            assertThat(registry.find(parentId)).get().extracting(CrawlJob::getStatus).isEqualTo(CrawlJobStatus.RUNNING);
+            assertThat(registry.findChildren(parentId).orElseThrow()).extracting(CrawlJob::getId)
+                    .containsExactlyInAnyOrder(done.getId(), running.getId());
+        }
+
+        @Test
+        @DisplayName("비활성화 - DB를 읽지 않고 항상 empty")
+        void rebuild_Disabled() {
+            // given
+            properties.setEnabled(false);
+
+            // when
+            registry.rebuild();
+            registry.onJobChanged(new CrawlJobChangedEvent(job(parentId, null, CrawlJobStatus.PENDING)));
+
+            // then
+            assertThat(registry.isReady()).isFalse();
+            assertThat(registry.find(parentId)).isEmpty();
+            then(crawlJobRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    // ========== 이벤트 반영 ==========
+
+    @Test
+    @DisplayName("생성 이벤트 - 부모 / 자식 등록, 자식 목록 추적")
+    void onJobChanged_Created_TracksChildren() {
+        // given
+        CrawlJob parent = job(parentId, null, CrawlJobStatus.PENDING);
+        CrawlJob shard = job(UUID.randomUUID(), parentId, CrawlJobStatus.PENDING);
+
+        // when
+        registry.onJobChanged(new CrawlJobChangedEvent(parent));
+        registry.onJobChanged(new CrawlJobChangedEvent(shard));
+
+        // then
+        assertThat(registry.findChildren(parentId).orElseThrow()).hasSize(1);
+        assertThat(registry.hasRunningRoot()).isFalse();
+    }
+
+    @Test
+    @DisplayName("보관 중인 스냅샷은 원본 엔티티 / 반환값 변경의 영향을 받지 않음")
+    void find_ReturnsCopy() {
+        // given
+        CrawlJob parent = job(parentId, null, CrawlJobStatus.PENDING);
+        registry.onJobChanged(new CrawlJobChangedEvent(parent));
+
+        // when
+        parent.markRunning();
+        registry.find(parentId).orElseThrow().markFailed("변경");
+
+        // then
+        assertThat(registry.find(parentId)).get().extracting(CrawlJob::getStatus).isEqualTo(CrawlJobStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("ARTICLES 이벤트 - 자식 / 부모 기사 수 누적, PENDING이면 RUNNING")
+    void onProgress_Articles_AddsToJobAndParent() {
+        // given
+        UUID shardId = UUID.randomUUID();
+        registry.onJobChanged(new CrawlJobChangedEvent(job(parentId, null, CrawlJobStatus.PENDING)));
+        registry.onJobChanged(new CrawlJobChangedEvent(job(shardId, parentId, CrawlJobStatus.PENDING)));
+
+        // when
+        registry.onProgress(CrawlJobProgressEvent.articles(shardId, 25));
+        registry.onProgress(CrawlJobProgressEvent.articles(shardId, 15));
+
+        // then
+        CrawlJob shard = registry.find(shardId).orElseThrow();
+        CrawlJob parent = registry.find(parentId).orElseThrow();
+        assertThat(shard.getTotalArticles()).isEqualTo(40);
+        assertThat(shard.getStatus()).isEqualTo(CrawlJobStatus.RUNNING);
+        assertThat(parent.getTotalArticles()).isEqualTo(40);
+        assertThat(parent.getStatus()).isEqualTo(CrawlJobStatus.RUNNING);
+        assertThat(registry.hasRunningRoot()).isTrue();
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 상태 전이 이벤트 - 누적된 기사 수를 덮어쓰지 않음")
+    void onJobChanged_StaleCount_KeepsAccumulatedArticles() {
+        // given: 기사 40건 누적
+        UUID jobId = UUID.randomUUID();
+        registry.onJobChanged(new CrawlJobChangedEvent(job(jobId, null, CrawlJobStatus.PENDING)));
+        registry.onProgress(CrawlJobProgressEvent.articles(jobId, 40));
+
+        // when: 누적 전에 읽은 스냅샷(기사 0건)의 상태 전이 이벤트
+        CrawlJob stale = job(jobId, null, CrawlJobStatus.RUNNING);
+        stale.setTotalArticles(0);
+        registry.onJobChanged(new CrawlJobChangedEvent(stale));
+
+        // then
+        CrawlJob cached = registry.find(jobId).orElseThrow();
+        assertThat(cached.getTotalArticles()).isEqualTo(40);
+        assertThat(cached.getStatus()).isEqualTo(CrawlJobStatus.RUNNING);
+    }
+
+    @Test
+    @DisplayName("종료된 작업 - 늦게 도착한 RUNNING 이벤트로 되돌리지 않음")
+    void onJobChanged_FinishedJob_NotReverted() {
+        // given
+        UUID jobId = UUID.randomUUID();
+        CrawlJob completed = job(jobId, null, CrawlJobStatus.RUNNING);
+        completed.markCompleted(90, null);
+        registry.onJobChanged(new CrawlJobChangedEvent(completed));
+
+        // when
+        registry.onJobChanged(new CrawlJobChangedEvent(job(jobId, null, CrawlJobStatus.RUNNING)));
+
+        // then
+        CrawlJob cached = registry.find(jobId).orElseThrow();
+        assertThat(cached.getStatus()).isEqualTo(CrawlJobStatus.COMPLETED);
+        assertThat(cached.getTotalArticles()).isEqualTo(90);
+    }
+
+    // ========== 정리 ==========
+
+    @Test
+    @DisplayName("TTL이 지난 종료 작업은 자식 작업과 함께 정리")
+    void evictExpired_RemovesFinishedWithChildren() {
+        // given
+        properties.setTerminalTtlMs(0);
+        UUID shardId = UUID.randomUUID();
+        registry.onJobChanged(new CrawlJobChangedEvent(job(parentId, null, CrawlJobStatus.PENDING)));
+        registry.onJobChanged(new CrawlJobChangedEvent(job(shardId, parentId, CrawlJobStatus.COMPLETED)));
+        registry.onJobChanged(new CrawlJobChangedEvent(job(parentId, null, CrawlJobStatus.COMPLETED)));
+
+        // when
+        registry.evictExpired();
+
+        // then
+        assertThat(registry.size()).isZero();
+        assertThat(registry.find(parentId)).isEmpty();
+        assertThat(registry.findChildren(parentId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("부모가 진행 중이면 끝난 자식 작업은 정리하지 않음")
+    void evictExpired_KeepsChildrenOfActiveParent() {
+        // given
+        properties.setTerminalTtlMs(0);
+        UUID shardId = UUID.randomUUID();
+        registry.onJobChanged(new CrawlJobChangedEvent(job(parentId, null, CrawlJobStatus.PENDING)));
+        registry.onJobChanged(new CrawlJobChangedEvent(job(shardId, parentId, CrawlJobStatus.COMPLETED)));
+
+        // when
+        registry.evictExpired();
+
+        // then
+        assertThat(registry.find(shardId)).isPresent();
+        assertThat(registry.findChildren(parentId).orElseThrow()).hasSize(1);
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private CrawlJob job(UUID id, UUID parentId, CrawlJobStatus status) {
+        return CrawlJob.builder().id(id).parentId(parentId).status(status).build();
+    }
+}
@@ -0,0 +1,278 @@
+package com.lucr.service;
+
+import com.lucr.config.CrawlShardProperties;
+import com.lucr.entity.CrawlJob;
+import com.lucr.entity.CrawlJob.CrawlJobStatus;
+import com.lucr.event.CrawlJobChangedEvent;
+import com.lucr.event.CrawlJobProgressEvent;
+import com.lucr.repository.CrawlJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * CrawlJobService 단위 테스트 (샤딩 / 부모 작업 집계)
+ *
+ * - 트리거 하나를 언론사별 / 파티션별 자식 작업으로 분할
+ * - 자식이 모두 끝나면 부모 작업에 totalArticles / mediaResults 집계
+ * - 상태 전이 / 기사 수 증가는 CrawlJobProgressEvent로 발행
+ * - 조회 / 중복 실행 확인은 CrawlJobRegistry에 있으면 DB를 조회하지 않음
+ *
+ * @author kimdongjoo
+ * @since 2026-02-23
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CrawlJobService 테스트")
+class CrawlJobServiceTest {
+
+    @Mock
+    private CrawlJobRepository crawlJobRepository;
+
+    @Mock
+    private CrawlJobRegistry crawlJobRegistry;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final CrawlShardProperties shardProperties = new CrawlShardProperties();
+
+    private CrawlJobService crawlJobService;
+
+    private final UUID parentId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        crawlJobService = new CrawlJobService(crawlJobRepository, crawlJobRegistry, shardProperties, JsonMapper.builder().build(),
+                eventPublisher);
+    }
+
+    // ========== 작업 생성 ==========
+
+    @Nested
+    @DisplayName("createJob 메서드는")
+    class CreateJobTests {
+
+        @BeforeEach
+        void setUp() {
+            given(crawlJobRepository.existsByParentIdIsNullAndStatus(CrawlJobStatus.RUNNING)).willReturn(false);
+            given(crawlJobRepository.save(any(CrawlJob.class))).willAnswer(invocation -> {
+                CrawlJob job = invocation.getArgument(0);
+                job.setId(parentId);
+                return job;
+            });
+            given(crawlJobRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        }
+
+        @Test
+        @DisplayName("언론사 목록이 있으면 언론사마다 자식 작업 생성")
+        void createJob_MediaShards() {
+            // given
+            shardProperties.setMedia(List.of("hankyung", "maekyung", "edaily"));
+
+            // when
+            CrawlJobService.ShardedJob job = crawlJobService.createJob();
+
+            // then
+            assertThat(job.shards()).extracting(CrawlJob::getMedia).containsExactly("hankyung", "maekyung", "edaily");
+            assertThat(job.shards()).allSatisfy(shard -> assertThat(shard.getParentId()).isEqualTo(parentId));
+            assertThat(job.publishTargets()).isEqualTo(job.shards());
+        }
+
+        @Test
+        @DisplayName("언론사 목록이 없고 partitions > 1이면 파티션마다 자식 작업 생성")
+        void createJob_PartitionShards() {
+            // given
+            shardProperties.setPartitions(3);
+
+            // when
+            CrawlJobService.ShardedJob job = crawlJobService.createJob();
+
+            // then
+            assertThat(job.shards()).extracting(CrawlJob::getPartitionIndex).containsExactly(0, 1, 2);
+            assertThat(job.shards()).extracting(CrawlJob::getPartitionCount).containsOnly(3);
+        }
+
+        @Test
+        @DisplayName("샤딩 설정이 없으면 부모 작업 하나만 발행")
+        void createJob_NoShards() {
+            // when
+            CrawlJobService.ShardedJob job = crawlJobService.createJob();
+
+            // then
+            assertThat(job.shards()).isEmpty();
+            assertThat(job.publishTargets()).containsExactly(job.parent());
+        }
+    }
+
+    @Test
+    @DisplayName("createJob - 레지스트리가 준비되면 실행 중 여부를 DB에서 조회하지 않음")
+    void createJob_RegistryReady_SkipsDatabaseCheck() {
+        // given
+        given(crawlJobRegistry.isReady()).willReturn(true);
+        given(crawlJobRegistry.hasRunningRoot()).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> crawlJobService.createJob()).isInstanceOf(IllegalStateException.class);
+        then(crawlJobRepository).should(never()).existsByParentIdIsNullAndStatus(any());
+    }
+
+    @Test
+    @DisplayName("getJobById - 레지스트리에 있으면 DB 조회 없이 반환")
+    void getJobById_Registry_SkipsDatabase() {
+        // given
+        UUID jobId = UUID.randomUUID();
+        CrawlJob cached = CrawlJob.builder().id(jobId).status(CrawlJobStatus.RUNNING).build();
+        given(crawlJobRegistry.find(jobId)).willReturn(Optional.of(cached));
+
+        // when
+        CrawlJob job = crawlJobService.getJobById(jobId);
+
+        // then
+        assertThat(job).isSameAs(cached);
+        then(crawlJobRepository).should(never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("createJob - 실행 중인 최상위 작업이 있으면 IllegalStateException")
+    void createJob_Running_Throws() {
+        // given
+        given(crawlJobRepository.existsByParentIdIsNullAndStatus(CrawlJobStatus.RUNNING)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> crawlJobService.createJob()).isInstanceOf(IllegalStateException.class);
+        then(crawlJobRepository).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("recordIngested - 저장 기사 수를 ARTICLES 이벤트로 발행")
+    void recordIngested_PublishesArticles() {
+        // given
+        UUID jobId = UUID.randomUUID();
+        given(crawlJobRepository.addIngestedArticles(jobId, 25, CrawlJobStatus.PENDING, CrawlJobStatus.RUNNING))
+                .willReturn(1);
+
+        // when
+        crawlJobService.recordIngested(jobId, 25);
+
+        // then
+        then(eventPublisher).should().publishEvent(CrawlJobProgressEvent.articles(jobId, 25));
+    }
+
+    // ========== 부모 작업 집계 ==========
+
+    @Nested
+    @DisplayName("자식 작업이 끝나면")
+    class AggregateTests {
+
+        private CrawlJob parent;
+        private CrawlJob hankyung;
+        private CrawlJob maekyung;
+
+        @BeforeEach
+        void setUp() {
+            parent = CrawlJob.builder().id(parentId).status(CrawlJobStatus.RUNNING).build();
+            hankyung = shard("hankyung", 50);
+            maekyung = shard("maekyung", 40);
+            given(crawlJobRepository.findByIdForUpdate(parentId)).willReturn(Optional.of(parent));
+            given(crawlJobRepository.findByParentId(parentId)).willReturn(new ArrayList<>(List.of(hankyung, maekyung)));
+        }
+
+        @Test
+        @DisplayName("남은 자식이 있으면 부모는 RUNNING 유지")
+        void complete_NotLast_ParentRunning() {
+            // given
+            given(crawlJobRepository.findById(hankyung.getId())).willReturn(Optional.of(hankyung));
+
+            // when
+            crawlJobService.completeWithResults(hankyung.getId(), null, null);
+
+            // then
+            assertThat(hankyung.getStatus()).isEqualTo(CrawlJobStatus.COMPLETED);
+            assertThat(parent.getStatus()).isEqualTo(CrawlJobStatus.RUNNING);
+        }
+
+        @Test
+        @DisplayName("마지막 자식이 완료되면 부모 COMPLETED + 기사 수 / 언론사별 결과 집계")
+        void complete_Last_ParentCompleted() {
+            // given
+            hankyung.markCompleted(50, "{\"hankyung\": 50}");
+            given(crawlJobRepository.findById(maekyung.getId())).willReturn(Optional.of(maekyung));
+
+            // when
+            crawlJobService.completeWithResults(maekyung.getId(), null, null);
+
+            // then
+            assertThat(parent.getStatus()).isEqualTo(CrawlJobStatus.COMPLETED);
+            assertThat(parent.getTotalArticles()).isEqualTo(90);
+            assertThat(parent.getMediaResults()).isEqualTo("{\"hankyung\":50,\"maekyung\":40}");
+        }
+
+        @Test
+        @DisplayName("마지막 자식이 완료되면 자식 / 부모 STATUS 이벤트 순서대로 발행")
+        void complete_Last_PublishesChildThenParentStatus() {
+            // given
+            hankyung.markCompleted(50, null);
+            given(crawlJobRepository.findById(maekyung.getId())).willReturn(Optional.of(maekyung));
+            ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+
+            // when
+            crawlJobService.completeWithResults(maekyung.getId(), null, null);
+
+            // then
+            then(eventPublisher).should(times(4)).publishEvent(captor.capture());
+            List<CrawlJobProgressEvent> events = captor.getAllValues().stream()
+                    .filter(CrawlJobProgressEvent.class::isInstance)
+                    .map(CrawlJobProgressEvent.class::cast)
+                    .toList();
+            assertThat(events).extracting(CrawlJobProgressEvent::jobId).containsExactly(maekyung.getId(), parentId);
+            assertThat(events.get(0).parentId()).isEqualTo(parentId);
+            assertThat(events).allMatch(CrawlJobProgressEvent::isFinished);
+            assertThat(events.get(1).totalArticles()).isEqualTo(90);
+            assertThat(captor.getAllValues()).filteredOn(CrawlJobChangedEvent.class::isInstance)
+                    .extracting(event -> ((CrawlJobChangedEvent) event).job())
+                    .containsExactly(maekyung, parent);
+        }
+
+        @Test
+        @DisplayName("실패한 자식이 있으면 부모 FAILED, 집계 값은 기록")
+        void fail_Last_ParentFailed() {
+            // given
+            hankyung.markCompleted(50, null);
+            given(crawlJobRepository.findById(maekyung.getId())).willReturn(Optional.of(maekyung));
+
+            // when
+            crawlJobService.markFailed(maekyung.getId(), "timeout");
+
+            // then
+            assertThat(parent.getStatus()).isEqualTo(CrawlJobStatus.FAILED);
+            assertThat(parent.getErrorMessage()).contains("maekyung");
+            assertThat(parent.getTotalArticles()).isEqualTo(90);
+        }
+
+        private CrawlJob shard(String media, int totalArticles) {
+            CrawlJob shard = CrawlJob.mediaShard(parentId, media);
+            shard.setId(UUID.randomUUID());
+            shard.setStatus(CrawlJobStatus.RUNNING);
+            shard.setTotalArticles(totalArticles);
+            return shard;
+        }
+    }
+}
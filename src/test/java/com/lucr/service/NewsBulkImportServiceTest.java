@@ -0,0 +1,270 @@
+package com.lucr.service;
+
+import com.lucr.bulk.BulkImportJob;
+import com.lucr.bulk.NewsCopyLoader;
+import com.lucr.bulk.NewsImportFormat;
+import com.lucr.bulk.NewsRecordReader;
+import com.lucr.config.BulkImportProperties;
+import com.lucr.event.NewsBulkImportedEvent;
+import com.lucr.exception.BusinessException;
+import com.lucr.exception.ErrorCode;
+import com.lucr.exception.ResourceNotFoundException;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.never;
+
+/**
+ * NewsBulkImportService 단위 테스트
+ *
+ * - 가져오기 디렉터리 밖의 경로 / 없는 파일 / 알 수 없는 형식 거부
+ * - 작업 상태 전이: QUEUED → RUNNING → COMPLETED / FAILED
+ * - 저장된 행이 있을 때만 NewsBulkImportedEvent 발행
+ *
+ * @author kimdongjoo
+ * @since 2026-02-21
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewsBulkImportService 테스트")
+class NewsBulkImportServiceTest {
+
+    @TempDir
+    Path importDirectory;
+
+    @Mock
+    private NewsCopyLoader newsCopyLoader;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final BulkImportProperties properties = new BulkImportProperties();
+
+    private NewsBulkImportService service;
+
+    @BeforeEach
+    void setUp() {
+        properties.setDirectory(importDirectory.toString());
+        service = new NewsBulkImportService(newsCopyLoader, properties, JsonMapper.builder().build(), eventPublisher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    // ========== 경로 검증 ==========
+
+    @Nested
+    @DisplayName("파일 경로 검증")
+    class ResolveFileTests {
+
+        @Test
+        @DisplayName("상위 디렉터리(../)로 빠져나가는 경로 - 거부")
+        void startImport_ParentTraversal_Rejected() throws IOException {
+            // given: 가져오기 디렉터리 밖에 실제 파일이 있음
+            Path outside = importDirectory.resolveSibling("secret-" + UUID.randomUUID() + ".ndjson");
+            Files.writeString(outside, "{}");
+
+            try {
+                // when & then
+                assertInvalidInput(() -> service.startImport("../" + outside.getFileName(), null),
+                        "디렉터리 밖");
+            } finally {
+                Files.deleteIfExists(outside);
+            }
+        }
+
+        @Test
+        @DisplayName("하위 경로를 거쳐 빠져나가는 경로 - 정규화 후 거부")
+        void startImport_NestedTraversal_Rejected() {
+            assertInvalidInput(() -> service.startImport("daily/../../news.ndjson", null), "디렉터리 밖");
+        }
+
+        @Test
+        @DisplayName("절대 경로 - 거부")
+        void startImport_AbsolutePath_Rejected() {
+            assertInvalidInput(() -> service.startImport("/etc/passwd", "csv"), "디렉터리 밖");
+        }
+
+        @Test
+        @DisplayName("없는 파일 / 빈 경로 - 거부")
+        void startImport_MissingOrBlank_Rejected() {
+            assertInvalidInput(() -> service.startImport("missing.ndjson", null), "찾을 수 없습니다");
+            assertInvalidInput(() -> service.startImport("  ", null), "지정해주세요");
+        }
+
+        @Test
+        @DisplayName("디렉터리 자체 - 파일이 아니므로 거부")
+        void startImport_Directory_Rejected() throws IOException {
+            // given
+            Files.createDirectory(importDirectory.resolve("daily.ndjson"));
+
+            // when & then
+            assertInvalidInput(() -> service.startImport("daily.ndjson", null), "찾을 수 없습니다");
+        }
+
+        @Test
+        @DisplayName("확장자로 형식을 알 수 없음 - 거부")
+        void startImport_UnknownFormat_Rejected() throws IOException {
+            // given
+            Files.writeString(importDirectory.resolve("news.txt"), "");
+
+            // when & then
+            assertInvalidInput(() -> service.startImport("news.txt", null), "파일 형식");
+            then(newsCopyLoader).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("디렉터리 안의 하위 경로 - 허용, 형식은 확장자(.gz 제외)로 판단")
+        void startImport_NestedFile_Accepted() throws Exception {
+            // given
+            Files.createDirectory(importDirectory.resolve("daily"));
+            Files.writeString(importDirectory.resolve("daily/news.csv"), "url,title,source,content\n");
+
+            // when
+            BulkImportJob job = service.startImport("daily/./news.csv", null);
+
+            // then
+            assertThat(job.getFormat()).isEqualTo(NewsImportFormat.CSV);
+            await(job::isFinished);
+            then(newsCopyLoader).should().load(any(NewsRecordReader.class), eq(job));
+        }
+    }
+
+    // ========== 상태 전이 ==========
+
+    @Nested
+    @DisplayName("작업 상태 전이")
+    class StatusTests {
+
+        @Test
+        @DisplayName("정상 적재 - QUEUED → RUNNING → COMPLETED, 저장 행이 있으면 이벤트 발행")
+        void startImport_Success_CompletesAndPublishes() throws Exception {
+            // given: 적재가 끝나지 않게 붙잡아 RUNNING 상태 확인
+            Files.writeString(importDirectory.resolve("news.ndjson"), "");
+            CountDownLatch running = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            willAnswer(invocation -> {
+                BulkImportJob job = invocation.getArgument(1);
+                running.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                job.recordRead();
+                job.recordChunk(1, 1);
+                return null;
+            }).given(newsCopyLoader).load(any(NewsRecordReader.class), any(BulkImportJob.class));
+
+            // when
+            BulkImportJob job = service.startImport("news.ndjson", null);
+
+            // then
+            assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(job.getStatus()).isEqualTo(BulkImportJob.Status.RUNNING);
+            assertThat(job.getStartedAt()).isNotNull();
+
+            release.countDown();
+            await(job::isFinished);
+            assertThat(job.getStatus()).isEqualTo(BulkImportJob.Status.COMPLETED);
+            assertThat(job.getFinishedAt()).isNotNull();
+            assertThat(job.getErrorMessage()).isNull();
+            assertThat(service.getImport(job.getId())).isSameAs(job);
+            then(eventPublisher).should(timeout(1000)).publishEvent(new NewsBulkImportedEvent(job.getId(), 1));
+        }
+
+        @Test
+        @DisplayName("적재 실패 - FAILED와 오류 메시지 기록, 저장 행이 없으면 이벤트 없음")
+        void startImport_LoaderFails_MarksFailed() throws Exception {
+            // given
+            Files.writeString(importDirectory.resolve("news.ndjson"), "");
+            willThrow(new SQLException("connection reset"))
+                    .given(newsCopyLoader).load(any(NewsRecordReader.class), any(BulkImportJob.class));
+
+            // when
+            BulkImportJob job = service.startImport("news.ndjson", null);
+
+            // then
+            await(job::isFinished);
+            assertThat(job.getStatus()).isEqualTo(BulkImportJob.Status.FAILED);
+            assertThat(job.getErrorMessage()).isEqualTo("connection reset");
+            then(eventPublisher).should(never()).publishEvent(any(NewsBulkImportedEvent.class));
+        }
+
+        @Test
+        @DisplayName("앞 청크 저장 후 실패 - FAILED지만 저장된 행만큼 이벤트 발행")
+        void startImport_FailsAfterChunk_PublishesInserted() throws Exception {
+            // given
+            Files.writeString(importDirectory.resolve("news.ndjson"), "");
+            willAnswer(invocation -> {
+                BulkImportJob job = invocation.getArgument(1);
+                job.recordChunk(3, 2);
+                throw new SQLException("disk full");
+            }).given(newsCopyLoader).load(any(NewsRecordReader.class), any(BulkImportJob.class));
+
+            // when
+            BulkImportJob job = service.startImport("news.ndjson", null);
+
+            // then
+            await(job::isFinished);
+            assertThat(job.getStatus()).isEqualTo(BulkImportJob.Status.FAILED);
+            then(eventPublisher).should(timeout(1000)).publishEvent(new NewsBulkImportedEvent(job.getId(), 2));
+        }
+
+        @Test
+        @DisplayName("새 작업은 QUEUED")
+        void newJob_IsQueued() {
+            // when
+            BulkImportJob job = new BulkImportJob("news.ndjson", NewsImportFormat.NDJSON);
+
+            // then
+            assertThat(job.getStatus()).isEqualTo(BulkImportJob.Status.QUEUED);
+            assertThat(job.isFinished()).isFalse();
+            assertThat(job.getRowsPerSecond()).isZero();
+        }
+
+        @Test
+        @DisplayName("없는 작업 조회 - ResourceNotFoundException")
+        void getImport_Unknown_Throws() {
+            assertThatThrownBy(() -> service.getImport(UUID.randomUUID()))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+
+    // ========== Helper 메서드 ==========
+
+    private static void assertInvalidInput(ThrowingCallable call, String message) {
+        assertThatThrownBy(call)
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(message)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,131 @@
+package com.lucr.service;
+
+import com.lucr.config.NewsCacheProperties;
+import com.lucr.dto.response.NewsDetailResponse;
+import com.lucr.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * NewsDetailCache 단위 테스트
+ *
+ * - 같은 ID의 동시 미스는 로더 1회 (stampede 방지)
+ * - 없는 기사(예외)는 캐시하지 않음
+ * - 무효화 후 다시 로드
+ *
+ * @author kimdongjoo
+ * @since 2026-03-02
+ */
+@DisplayName("NewsDetailCache 테스트")
+class NewsDetailCacheTest {
+
+    private final NewsCacheProperties properties = new NewsCacheProperties();
+
+    private final NewsDetailCache cache = new NewsDetailCache(properties);
+
+    private final UUID newsId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("동시 미스 - 로더는 한 번만 실행되고 모두 같은 결과")
+    void get_ConcurrentMisses_LoadsOnce() throws Exception {
+        // given: 로더가 느림
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        NewsDetailResponse response = detail(newsId);
+
+        // when: 8개 스레드가 동시에 조회
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<NewsDetailResponse>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> cache.get(newsId, id -> {
+                loads.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return response;
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<NewsDetailResponse> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(response);
+        }
+        executor.shutdown();
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 기사 - 예외를 전파하고 캐시하지 않음")
+    void get_LoaderThrows_NotCached() {
+        // when & then
+        assertThatThrownBy(() -> cache.get(newsId, id -> {
+            throw ResourceNotFoundException.newsNotFound(id.toString());
+        })).isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("무효화 - 다음 조회에서 다시 로드")
+    void invalidateAfterCommit_OutsideTransaction_InvalidatesImmediately() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(newsId, id -> {
+            loads.incrementAndGet();
+            return detail(id);
+        });
+
+        // when
+        cache.invalidateAfterCommit(newsId);
+        cache.get(newsId, id -> {
+            loads.incrementAndGet();
+            return detail(id);
+        });
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비활성화 - 항상 로더 호출")
+    void get_Disabled_AlwaysLoads() {
+        // given
+        properties.setEnabled(false);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            cache.get(newsId, id -> {
+                loads.incrementAndGet();
+                return detail(id);
+            });
+        }
+
+        // then
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    private static NewsDetailResponse detail(UUID id) {
+        return NewsDetailResponse.builder()
+                .id(id)
+                .title("삼성전자 주가 상승")
+                .content("삼성전자의 주가가 오늘 5% 상승했습니다.")
+                .build();
+    }
+}
@@ -0,0 +1,197 @@
+package com.lucr.service;
+
+import com.lucr.dto.request.NewsCreateRequest;
+import com.lucr.entity.News;
+import com.lucr.event.NewsChangedEvent;
+import com.lucr.mapper.NewsMapper;
+import com.lucr.repository.NewsRepository;
+import com.lucr.service.NewsIngestService.IngestResult;
+import com.lucr.service.NewsIngestService.ItemResult;
+import com.lucr.service.NewsIngestService.ItemStatus;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.stubbing.Answer;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * NewsIngestService 단위 테스트
+ *
+ * - 배치 내 중복 / 기존 URL 제외
+ * - 중복 확인과 저장은 기사 수와 관계없이 insertIgnoringDuplicates 한 번으로 처리
+ *
+ * @author kimdongjoo
+ * @since 2026-02-17
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewsIngestService 테스트")
+class NewsIngestServiceTest {
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @Spy
+    private NewsMapper newsMapper = new NewsMapper();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @InjectMocks
+    private NewsIngestService newsIngestService;
+
+    @Captor
+    private ArgumentCaptor<List<News>> captor;
+
+    private NewsCreateRequest article(String url) {
+        return NewsCreateRequest.builder()
+                .title("삼성전자 주가 상승")
+                .content("삼성전자의 주가가 오늘 5% 상승했습니다.")
+                .source("NAVER_FINANCE")
+                .url(url)
+                .build();
+    }
+
+    /**
+     * insertIgnoringDuplicates 대역: existingUrls를 제외한 기사를 저장했다고 응답
+     */
+    private Answer<Set<UUID>> insertAllExcept(String... existingUrls) {
+        Set<String> existing = Set.of(existingUrls);
+        return invocation -> {
+            List<News> news = invocation.getArgument(0);
+            news.forEach(News::prepareForInsert);
+            return news.stream()
+                    .filter(n -> !existing.contains(n.getUrl()))
+                    .map(News::getId)
+                    .collect(Collectors.toSet());
+        };
+    }
+
+    @Test
+    @DisplayName("기존 URL / 배치 내 중복 / 필수값 누락 제외 - INSERT 한 번으로 처리")
+    void ingest_SkipsDuplicatesAndInvalid() {
+        // given: a(신규), b(기존), a(배치 내 중복), url 없음
+        List<NewsCreateRequest> articles = List.of(
+                article("https://example.com/a"),
+                article("https://example.com/b"),
+                article("https://example.com/a"),
+                article(null));
+        given(newsRepository.insertIgnoringDuplicates(anyList())).willAnswer(insertAllExcept("https://example.com/b"));
+
+        // when
+        IngestResult result = newsIngestService.ingest(articles);
+
+        // then
+        assertThat(result.received()).isEqualTo(4);
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.duplicates()).isEqualTo(2);
+        assertThat(result.invalid()).isEqualTo(1);
+        assertThat(result.items()).extracting(ItemResult::status).containsExactly(
+                ItemStatus.CREATED, ItemStatus.DUPLICATE, ItemStatus.DUPLICATE, ItemStatus.INVALID);
+        assertThat(result.items().get(0).id()).isNotNull();
+        assertThat(result.items().get(3).reason()).isEqualTo("뉴스 URL은 필수입니다.");
+
+        // 배치 내 중복 / 검증 실패를 뺀 기사만 한 번에 INSERT, 저장된 기사만 이벤트 발행
+        then(newsRepository).should(times(1)).insertIgnoringDuplicates(captor.capture());
+        assertThat(captor.getValue()).extracting(News::getUrl)
+                .containsExactly("https://example.com/a", "https://example.com/b");
+        then(newsRepository).should(never()).existsByUrl(anyString());
+        then(newsRepository).should(never()).saveAll(anyList());
+        then(eventPublisher).should(times(1)).publishEvent(any(NewsChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("제약 조건 위반 (제목 5자 미만) - INVALID, 저장 대상 제외")
+    void ingest_ConstraintViolation_Invalid() {
+        // given
+        NewsCreateRequest shortTitle = NewsCreateRequest.builder()
+                .title("짧음")
+                .content("삼성전자의 주가가 오늘 5% 상승했습니다.")
+                .source("NAVER_FINANCE")
+                .url("https://example.com/short")
+                .build();
+        List<NewsCreateRequest> articles = List.of(shortTitle, article("https://example.com/ok"));
+        given(newsRepository.insertIgnoringDuplicates(anyList())).willAnswer(insertAllExcept());
+
+        // when
+        IngestResult result = newsIngestService.ingest(articles);
+
+        // then
+        assertThat(result.items()).extracting(ItemResult::status)
+                .containsExactly(ItemStatus.INVALID, ItemStatus.CREATED);
+        assertThat(result.items().get(0).reason()).isEqualTo("뉴스 제목은 5자 이상 500자 이하여야 합니다.");
+        then(newsRepository).should().insertIgnoringDuplicates(argThat(news -> news.size() == 1));
+    }
+
+    @Test
+    @DisplayName("제약 조건 여러 개 위반 - 필드 경로 순으로 모든 메시지 표시")
+    void ingest_MultipleViolations_JoinedInPropertyOrder() {
+        // given: 본문(content)과 제목(title) 모두 위반
+        NewsCreateRequest invalid = NewsCreateRequest.builder()
+                .title("짧음")
+                .content("짧은 본문")
+                .source("NAVER_FINANCE")
+                .url("https://example.com/short")
+                .build();
+        List<NewsCreateRequest> articles = List.of(invalid, article("https://example.com/ok"));
+        given(newsRepository.insertIgnoringDuplicates(anyList())).willAnswer(insertAllExcept());
+
+        // when
+        IngestResult result = newsIngestService.ingest(articles);
+
+        // then
+        assertThat(result.items().get(0).status()).isEqualTo(ItemStatus.INVALID);
+        assertThat(result.items().get(0).reason())
+                .isEqualTo("뉴스 본문은 10자 이상이어야 합니다., 뉴스 제목은 5자 이상 500자 이하여야 합니다.");
+    }
+
+    @Test
+    @DisplayName("추적 파라미터만 다른 URL - 배치 내 중복")
+    void ingest_CanonicalVariant_Duplicate() {
+        // given
+        List<NewsCreateRequest> articles = List.of(
+                article("https://example.com/a"),
+                article("https://www.example.com/a?utm_source=rss"));
+        given(newsRepository.insertIgnoringDuplicates(anyList())).willAnswer(insertAllExcept());
+
+        // when
+        IngestResult result = newsIngestService.ingest(articles);
+
+        // then
+        assertThat(result.items()).extracting(ItemResult::status)
+                .containsExactly(ItemStatus.CREATED, ItemStatus.DUPLICATE);
+        then(newsRepository).should().insertIgnoringDuplicates(argThat(news -> news.size() == 1));
+    }
+
+    @Test
+    @DisplayName("빈 목록 - DB 조회 없음")
+    void ingest_Empty_NoQueries() {
+        // when
+        IngestResult result = newsIngestService.ingest(List.of());
+
+        // then
+        assertThat(result).isEqualTo(IngestResult.empty());
+        then(newsRepository).shouldHaveNoInteractions();
+    }
+}
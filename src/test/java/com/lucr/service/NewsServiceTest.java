@@ -1,34 +1,60 @@
 package com.lucr.service;
 
+import com.lucr.common.CountMode;
+import com.lucr.common.KeysetCursor;
+import com.lucr.config.NewsCacheProperties;
+import com.lucr.config.ViewCountProperties;
+import com.lucr.dto.projection.NewsSummary;
 import com.lucr.dto.request.NewsCreateRequest;
 import com.lucr.dto.request.NewsSearchRequest;
 import com.lucr.dto.request.NewsUpdateRequest;
+import com.lucr.dto.response.NewsBatchCreateResponse;
 import com.lucr.dto.response.NewsDetailResponse;
 import com.lucr.dto.response.NewsResponse;
 import com.lucr.dto.response.PageResponse;
 import com.lucr.entity.News;
+import com.lucr.event.NewsChangedEvent;
+import com.lucr.event.NewsViewedEvent;
+import com.lucr.exception.BusinessException;
 import com.lucr.exception.DuplicateResourceException;
+import com.lucr.exception.ErrorCode;
 import com.lucr.exception.ResourceNotFoundException;
 import com.lucr.mapper.NewsMapper;
+import com.lucr.messaging.ViewEventPublisher;
 import com.lucr.repository.NewsRepository;
+import com.lucr.search.NewsSearchEngine;
+import com.lucr.service.NewsIngestService.IngestResult;
+import com.lucr.service.NewsIngestService.ItemResult;
+import com.lucr.service.NewsIngestService.ItemStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -57,10 +83,46 @@ class NewsServiceTest {
     @Mock
     private NewsMapper newsMapper;
 
+    @Mock
+    private NewsSearchEngine newsSearchEngine;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private NewsCountEstimator newsCountEstimator;
+
+    @Mock
+    private ViewCountBuffer viewCountBuffer;
+
+    @Spy
+    private ViewCountProperties viewCountProperties = new ViewCountProperties();
+
+    @Mock
+    private NewsIngestService newsIngestService;
+
+    @Mock
+    private NewsUrlFilter newsUrlFilter;
+
+    @Mock
+    private NewsTrendingTracker newsTrendingTracker;
+
+    @Mock
+    private PopularNewsLeaderboard popularNewsLeaderboard;
+
+    @Mock
+    private ViewEventPublisher viewEventPublisher;
+
+    @Spy
+    private NewsDetailCache newsDetailCache = new NewsDetailCache(new NewsCacheProperties());
+
     @InjectMocks
     private NewsServiceImpl newsService;
 
+    private static final String VIEWER_KEY = "id:viewer-1";
+
     private News testNews;
+    private NewsSummary testSummary;
     private NewsCreateRequest createRequest;
     private NewsUpdateRequest updateRequest;
     private NewsDetailResponse detailResponse;
@@ -71,6 +133,11 @@ class NewsServiceTest {
     void setUp() {
         testId = UUID.randomUUID();
 
+        // URL 필터: 기본은 DB 확인으로 위임 (필터 구축 전과 같은 동작)
+        lenient().when(newsUrlFilter.exists(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Predicate<String>>getArgument(1)
+                        .test(invocation.getArgument(0)));
+
         // 테스트용 Entity
         testNews = News.builder()
                 .id(testId)
@@ -86,6 +153,21 @@ class NewsServiceTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
+        // 테스트용 목록 Projection
+        testSummary = new NewsSummary(
+                testId,
+                "삼성전자 주가 상승",
+                "삼성전자의 주가가 오늘 5% 상승했습니다.",
+                "NAVER_FINANCE",
+                "https://example.com/news1",
+                1500,
+                1200L,
+                true,
+                BigDecimal.valueOf(0.8),
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+
         // 테스트용 CreateRequest
         createRequest = NewsCreateRequest.builder()
                 .title("애플 신제품 출시")
@@ -144,9 +226,8 @@ class NewsServiceTest {
         @DisplayName("정상 생성 - 성공")
         void createNews_Success() {
             // given: URL이 중복되지 않고, 정상적인 생성 요청
-            given(newsRepository.existsByUrl(createRequest.getUrl())).willReturn(false);
             given(newsMapper.toEntity(createRequest)).willReturn(testNews);
-            given(newsRepository.save(testNews)).willReturn(testNews);
+            given(newsRepository.insertIgnoringDuplicate(testNews)).willReturn(true);
             given(newsMapper.toDetailResponse(testNews)).willReturn(detailResponse);
 
             // when: 뉴스 생성
@@ -157,73 +238,117 @@ class NewsServiceTest {
             assertThat(result.getTitle()).isEqualTo(detailResponse.getTitle());
 
             // Mock 호출 검증
-            then(newsRepository).should(times(1)).existsByUrl(createRequest.getUrl());
             then(newsMapper).should(times(1)).toEntity(createRequest);
-            then(newsRepository).should(times(1)).save(testNews);
+            then(newsRepository).should(times(1)).insertIgnoringDuplicate(testNews);
             then(newsMapper).should(times(1)).toDetailResponse(testNews);
         }
 
         @Test
         @DisplayName("URL 중복 - DuplicateResourceException")
         void createNews_DuplicateUrl_ThrowsException() {
-            // given: URL이 이미 존재함
-            given(newsRepository.existsByUrl(createRequest.getUrl())).willReturn(true);
+            // given: URL이 이미 존재함 (ON CONFLICT로 INSERT 건너뜀)
+            given(newsMapper.toEntity(createRequest)).willReturn(testNews);
+            given(newsRepository.insertIgnoringDuplicate(testNews)).willReturn(false);
 
             // when & then: DuplicateResourceException 발생
             assertThatThrownBy(() -> newsService.createNews(createRequest))
                     .isInstanceOf(DuplicateResourceException.class)
                     .hasMessageContaining("이미 존재하는 뉴스 URL입니다");
 
-            // save는 호출되지 않아야 함
-            then(newsRepository).should(never()).save(any());
+            // 이벤트 / 응답 변환은 하지 않아야 함
+            then(eventPublisher).should(never()).publishEvent(any(NewsChangedEvent.class));
+            then(newsMapper).should(never()).toDetailResponse(any(News.class));
         }
 
         @Test
-        @DisplayName("Mapper 호출 검증 - toEntity")
-        void createNews_CallsMapper_ToEntity() {
+        @DisplayName("중복 확인과 저장을 한 번에 - existsByUrl / save 호출 없음")
+        void createNews_SingleStatement() {
             // given
-            given(newsRepository.existsByUrl(anyString())).willReturn(false);
-            given(newsMapper.toEntity(createRequest)).willReturn(testNews);
-            given(newsRepository.save(any(News.class))).willReturn(testNews);
+            given(newsMapper.toEntity(any())).willReturn(testNews);
+            given(newsRepository.insertIgnoringDuplicate(any(News.class))).willReturn(true);
             given(newsMapper.toDetailResponse(any(News.class))).willReturn(detailResponse);
 
             // when
             newsService.createNews(createRequest);
 
-            // then: Mapper.toEntity()가 정확히 호출됨
-            then(newsMapper).should(times(1)).toEntity(createRequest);
+            // then: INSERT ... ON CONFLICT 한 번으로 처리
+            then(newsRepository).should(times(1)).insertIgnoringDuplicate(testNews);
+            then(newsRepository).should(never()).existsByUrl(anyString());
+            then(newsRepository).should(never()).save(any());
         }
 
         @Test
-        @DisplayName("Repository 저장 검증 - save")
-        void createNews_CallsRepository_Save() {
+        @DisplayName("저장 후 생성 이벤트 발행")
+        void createNews_PublishesCreatedEvent() {
             // given
-            given(newsRepository.existsByUrl(anyString())).willReturn(false);
             given(newsMapper.toEntity(any())).willReturn(testNews);
-            given(newsRepository.save(testNews)).willReturn(testNews);
-            given(newsMapper.toDetailResponse(any())).willReturn(detailResponse);
+            given(newsRepository.insertIgnoringDuplicate(any(News.class))).willReturn(true);
+            given(newsMapper.toDetailResponse(any(News.class))).willReturn(detailResponse);
 
             // when
             newsService.createNews(createRequest);
 
-            // then: Repository.save()가 정확히 호출됨
-            then(newsRepository).should(times(1)).save(testNews);
+            // then: 저장한 엔티티로 이벤트 발행
+            then(eventPublisher).should(times(1)).publishEvent(NewsChangedEvent.created(testNews));
         }
+    }
+
+    // ========== 뉴스 일괄 생성 (createNewsBatch) 테스트 ==========
+
+    @Nested
+    @DisplayName("createNewsBatch() - 뉴스 일괄 생성")
+    class CreateNewsBatchTests {
 
         @Test
-        @DisplayName("Mapper 호출 검증 - toDetailResponse")
-        void createNews_CallsMapper_ToDetailResponse() {
+        @DisplayName("성공 - 기사별 결과를 요청 순서대로 반환")
+        void createNewsBatch_Success() {
             // given
-            given(newsRepository.existsByUrl(anyString())).willReturn(false);
-            given(newsMapper.toEntity(any())).willReturn(testNews);
-            given(newsRepository.save(any())).willReturn(testNews);
-            given(newsMapper.toDetailResponse(testNews)).willReturn(detailResponse);
+            UUID savedId = UUID.randomUUID();
+            List<NewsCreateRequest> requests = List.of(createRequest, createRequest);
+            given(newsIngestService.ingest(requests)).willReturn(new IngestResult(2, 1, 1, 0, List.of(
+                    new ItemResult(createRequest.getUrl(), ItemStatus.CREATED, savedId, null),
+                    new ItemResult(createRequest.getUrl(), ItemStatus.DUPLICATE, null, null))));
 
             // when
-            newsService.createNews(createRequest);
+            NewsBatchCreateResponse result = newsService.createNewsBatch(requests);
+
+            // then
+            assertThat(result.getRequested()).isEqualTo(2);
+            assertThat(result.getCreated()).isEqualTo(1);
+            assertThat(result.getDuplicates()).isEqualTo(1);
+            assertThat(result.getItems()).extracting(NewsBatchCreateResponse.Item::index).containsExactly(0, 1);
+            assertThat(result.getItems()).extracting(NewsBatchCreateResponse.Item::status)
+                    .containsExactly("CREATED", "DUPLICATE");
+            assertThat(result.getItems().get(0).id()).isEqualTo(savedId);
+
+            // 단건 생성 경로(existsByUrl + save)는 사용하지 않음
+            then(newsRepository).should(never()).existsByUrl(anyString());
+            then(newsRepository).should(never()).save(any());
+        }
 
-            // then: Mapper.toDetailResponse()가 정확히 호출됨
-            then(newsMapper).should(times(1)).toDetailResponse(testNews);
+        @Test
+        @DisplayName("빈 목록 - BusinessException")
+        void createNewsBatch_Empty_ThrowsException() {
+            // when & then
+            assertThatThrownBy(() -> newsService.createNewsBatch(List.of()))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("일괄 생성은 1건 이상");
+
+            then(newsIngestService).should(never()).ingest(anyList());
+        }
+
+        @Test
+        @DisplayName("최대 건수 초과 - BusinessException")
+        void createNewsBatch_TooMany_ThrowsException() {
+            // given
+            List<NewsCreateRequest> requests = Collections.nCopies(501, createRequest);
+
+            // when & then
+            assertThatThrownBy(() -> newsService.createNewsBatch(requests))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("500건 이하");
+
+            then(newsIngestService).should(never()).ingest(anyList());
         }
     }
 
@@ -282,6 +407,29 @@ class NewsServiceTest {
             // then: Mapper.toDetailResponse()가 정확히 호출됨
             then(newsMapper).should(times(1)).toDetailResponse(testNews);
         }
+
+        @Test
+        @DisplayName("캐시 - 두 번째 조회는 DB를 거치지 않고, 수정 커밋 후에는 다시 조회")
+        void getNewsById_Cached_UntilChanged() {
+            // given
+            given(newsRepository.findById(testId)).willReturn(Optional.of(testNews));
+            given(newsMapper.toDetailResponse(testNews)).willReturn(detailResponse);
+
+            // when: 두 번 조회
+            newsService.getNewsById(testId);
+            NewsDetailResponse cached = newsService.getNewsById(testId);
+
+            // then: DB 조회 1회
+            assertThat(cached).isSameAs(detailResponse);
+            then(newsRepository).should(times(1)).findById(testId);
+
+            // when: 수정 커밋 후 조회
+            newsDetailCache.onNewsChanged(NewsChangedEvent.updated(testNews));
+            newsService.getNewsById(testId);
+
+            // then: 다시 DB 조회
+            then(newsRepository).should(times(2)).findById(testId);
+        }
     }
 
     // ========== 3. getAllNews() 테스트 ==========
@@ -294,11 +442,11 @@ class NewsServiceTest {
         @DisplayName("정상 조회 - 페이징 성공")
         void getAllNews_Success() {
             // given: 3개의 뉴스가 있음
-            List<News> newsList = List.of(testNews, testNews, testNews);
-            Page<News> newsPage = new PageImpl<>(newsList, PageRequest.of(0, 10), 3);
+            List<NewsSummary> newsList = List.of(testSummary, testSummary, testSummary);
+            Page<NewsSummary> newsPage = new PageImpl<>(newsList, PageRequest.of(0, 10), 3);
 
-            given(newsRepository.findAll(any(Pageable.class))).willReturn(newsPage);
-            given(newsMapper.toResponse(any(News.class))).willReturn(newsResponse);
+            given(newsRepository.findSummaries(any(Pageable.class))).willReturn(newsPage);
+            given(newsMapper.toResponse(any(NewsSummary.class))).willReturn(newsResponse);
 
             // when: 목록 조회
             Pageable pageable = PageRequest.of(0, 10);
@@ -312,16 +460,16 @@ class NewsServiceTest {
             assertThat(result.getPageSize()).isEqualTo(10);
 
             // Mock 호출 검증
-            then(newsRepository).should(times(1)).findAll(pageable);
-            then(newsMapper).should(times(3)).toResponse(any(News.class));
+            then(newsRepository).should(times(1)).findSummaries(pageable);
+            then(newsMapper).should(times(3)).toResponse(any(NewsSummary.class));
         }
 
         @Test
         @DisplayName("빈 목록 - 빈 PageResponse 반환")
         void getAllNews_EmptyList() {
             // given: 뉴스가 없음
-            Page<News> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
-            given(newsRepository.findAll(any(Pageable.class))).willReturn(emptyPage);
+            Page<NewsSummary> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
+            given(newsRepository.findSummaries(any(Pageable.class))).willReturn(emptyPage);
 
             // when: 목록 조회
             Pageable pageable = PageRequest.of(0, 10);
@@ -333,7 +481,7 @@ class NewsServiceTest {
             assertThat(result.getTotalElements()).isEqualTo(0);
 
             // Mapper는 호출되지 않음
-            then(newsMapper).should(never()).toResponse(any());
+            then(newsMapper).should(never()).toResponse(any(NewsSummary.class));
         }
     }
 
@@ -466,56 +614,164 @@ class NewsServiceTest {
     // ========== 6. incrementViewCount() 테스트 ==========
 
     @Nested
-    @DisplayName("incrementViewCount() - 조회수 증가")
+    @DisplayName("incrementViewCount() - 조회수 증가 (direct 모드)")
     class IncrementViewCountTests {
 
+        @BeforeEach
+        void setUpDirectMode() {
+            viewCountProperties.setMode("direct");
+        }
+
         @Test
-        @DisplayName("정상 증가 - 성공")
+        @DisplayName("정상 증가 - UPDATE ... RETURNING 결과로 응답")
         void incrementViewCount_Success() {
-            // given: 뉴스가 존재함
-            given(newsRepository.findById(testId)).willReturn(Optional.of(testNews));
+            // given: 증가 후 행이 반환됨
+            given(newsRepository.incrementViewCountReturning(testId)).willReturn(Optional.of(testNews));
             given(newsMapper.toDetailResponse(testNews)).willReturn(detailResponse);
 
             // when: 조회수 증가
-            NewsDetailResponse result = newsService.incrementViewCount(testId);
+            NewsDetailResponse result = newsService.incrementViewCount(testId, VIEWER_KEY);
 
             // then: DetailResponse 반환
             assertThat(result).isNotNull();
 
-            // Mock 호출 검증
-            then(newsRepository).should(times(1)).findById(testId);
+            // Mock 호출 검증: 엔티티 조회 없이 단일 UPDATE
+            then(newsRepository).should(times(1)).incrementViewCountReturning(testId);
+            then(newsRepository).should(never()).findById(any());
             then(newsMapper).should(times(1)).toDetailResponse(testNews);
+
+            // 급상승 집계용 조회 이벤트 발행
+            then(eventPublisher).should(times(1)).publishEvent(NewsViewedEvent.of(testId, VIEWER_KEY));
         }
 
         @Test
         @DisplayName("존재하지 않는 ID - ResourceNotFoundException")
         void incrementViewCount_NotFound_ThrowsException() {
-            // given: 뉴스가 존재하지 않음
+            // given: 변경된 행이 없음
             UUID nonExistentId = UUID.randomUUID();
-            given(newsRepository.findById(nonExistentId)).willReturn(Optional.empty());
+            given(newsRepository.incrementViewCountReturning(nonExistentId)).willReturn(Optional.empty());
 
             // when & then: ResourceNotFoundException 발생
-            assertThatThrownBy(() -> newsService.incrementViewCount(nonExistentId))
+            assertThatThrownBy(() -> newsService.incrementViewCount(nonExistentId, VIEWER_KEY))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("뉴스를 찾을 수 없습니다");
 
-            // Mapper는 호출되지 않아야 함
+            // Mapper / 조회 이벤트는 호출되지 않아야 함
             then(newsMapper).should(never()).toDetailResponse(any());
+            then(eventPublisher).should(never()).publishEvent(any(NewsViewedEvent.class));
         }
 
         @Test
-        @DisplayName("Entity.incrementViewCount() 호출 검증")
-        void incrementViewCount_CallsEntity_IncrementViewCount() {
+        @DisplayName("순 방문자 수 기준 - is_high_view를 바꾸지 않는 UPDATE 사용")
+        void incrementViewCount_UniqueViewerBasis_KeepsHighView() {
             // given
+            viewCountProperties.setHighViewBasis("unique-viewers");
+            given(newsRepository.incrementViewCountOnlyReturning(testId)).willReturn(Optional.of(testNews));
+            given(newsMapper.toDetailResponse(testNews)).willReturn(detailResponse);
+
+            // when
+            newsService.incrementViewCount(testId, VIEWER_KEY);
+
+            // then
+            then(newsRepository).should(times(1)).incrementViewCountOnlyReturning(testId);
+            then(newsRepository).should(never()).incrementViewCountReturning(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("incrementViewCount() - 조회수 증가 (buffered 모드)")
+    class BufferedIncrementViewCountTests {
+
+        @Test
+        @DisplayName("버퍼에 누적 - 엔티티를 수정하지 않고 미반영 증가분을 더해 응답")
+        void incrementViewCount_Buffered_DoesNotMutateEntity() {
+            // given: DB 조회수 1500, 미반영 증가분 3
             News spyNews = org.mockito.Mockito.spy(testNews);
             given(newsRepository.findById(testId)).willReturn(Optional.of(spyNews));
-            given(newsMapper.toDetailResponse(any())).willReturn(detailResponse);
+            given(viewCountBuffer.increment(testId)).willReturn(3L);
+            given(newsMapper.toDetailResponse(spyNews, 3L, true)).willReturn(detailResponse);
 
             // when
-            newsService.incrementViewCount(testId);
+            NewsDetailResponse result = newsService.incrementViewCount(testId, VIEWER_KEY);
 
-            // then: Entity의 incrementViewCount()가 호출됨
-            then(spyNews).should(times(1)).incrementViewCount();
+            // then
+            assertThat(result).isSameAs(detailResponse);
+            then(viewCountBuffer).should(times(1)).increment(testId);
+            then(spyNews).should(never()).incrementViewCount();
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 ID - 버퍼에 누적하지 않음")
+        void incrementViewCount_Buffered_NotFound() {
+            // given
+            UUID nonExistentId = UUID.randomUUID();
+            given(newsRepository.findById(nonExistentId)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> newsService.incrementViewCount(nonExistentId, VIEWER_KEY))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            then(viewCountBuffer).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("incrementViewCount() - 조회수 증가 (queued 모드)")
+    class QueuedIncrementViewCountTests {
+
+        @BeforeEach
+        void setUpQueuedMode() {
+            viewCountProperties.setMode("queued");
+        }
+
+        @Test
+        @DisplayName("조회 이벤트 발행 - DB에 쓰지 않고 이번 조회를 더해 응답")
+        void incrementViewCount_Queued_PublishesEvent() {
+            // given
+            NewsDetailResponse counted = NewsDetailResponse.builder().id(testId).viewCount(1).build();
+            given(newsRepository.findById(testId)).willReturn(Optional.of(testNews));
+            given(newsMapper.toDetailResponse(testNews)).willReturn(detailResponse);
+            given(viewEventPublisher.publish(testId)).willReturn(true);
+            given(newsMapper.withPendingViews(detailResponse, 1L, true)).willReturn(counted);
+
+            // when
+            NewsDetailResponse result = newsService.incrementViewCount(testId, VIEWER_KEY);
+
+            // then
+            assertThat(result).isSameAs(counted);
+            then(viewEventPublisher).should(times(1)).publish(testId);
+            then(viewCountBuffer).shouldHaveNoInteractions();
+            then(newsRepository).should(never()).incrementViewCountReturning(any());
+        }
+
+        @Test
+        @DisplayName("상세 캐시 적중 - DB 조회 없이 응답")
+        void incrementViewCount_Queued_ServesFromDetailCache() {
+            // given: 첫 조회로 캐시에 적재
+            given(newsRepository.findById(testId)).willReturn(Optional.of(testNews));
+            given(newsMapper.toDetailResponse(testNews)).willReturn(detailResponse);
+            given(viewEventPublisher.publish(testId)).willReturn(true);
+            newsService.incrementViewCount(testId, VIEWER_KEY);
+
+            // when
+            newsService.incrementViewCount(testId, VIEWER_KEY);
+
+            // then
+            then(newsRepository).should(times(1)).findById(testId);
+            then(viewEventPublisher).should(times(2)).publish(testId);
+        }
+
+        @Test
+        @DisplayName("발행 실패 - 메모리 버퍼에 누적")
+        void incrementViewCount_Queued_PublishFails_FallsBackToBuffer() {
+            // given
+            given(newsRepository.findById(testId)).willReturn(Optional.of(testNews));
+            given(viewEventPublisher.publish(testId)).willReturn(false);
+
+            // when
+            newsService.incrementViewCount(testId, VIEWER_KEY);
+
+            // then
+            then(viewCountBuffer).should(times(1)).increment(testId);
         }
     }
 
@@ -529,11 +785,11 @@ class NewsServiceTest {
         @DisplayName("정상 조회 - 조회수 높은 순")
         void getHighViewNews_Success() {
             // given: 인기 뉴스가 있음
-            List<News> newsList = List.of(testNews, testNews);
-            Page<News> newsPage = new PageImpl<>(newsList, PageRequest.of(0, 10), 2);
+            List<NewsSummary> newsList = List.of(testSummary, testSummary);
+            Page<NewsSummary> newsPage = new PageImpl<>(newsList, PageRequest.of(0, 10), 2);
 
-            given(newsRepository.findAllByOrderByViewCountDesc(any(Pageable.class))).willReturn(newsPage);
-            given(newsMapper.toResponse(any(News.class))).willReturn(newsResponse);
+            given(newsRepository.findSummaries(any(Pageable.class))).willReturn(newsPage);
+            given(newsMapper.toResponse(any(NewsSummary.class))).willReturn(newsResponse);
 
             // when: 인기 뉴스 조회
             Pageable pageable = PageRequest.of(0, 10);
@@ -544,16 +800,55 @@ class NewsServiceTest {
             assertThat(result.getContent()).hasSize(2);
 
             // Mock 호출 검증
-            then(newsRepository).should(times(1)).findAllByOrderByViewCountDesc(pageable);
-            then(newsMapper).should(times(2)).toResponse(any(News.class));
+            then(newsRepository).should(times(1)).findSummaries(
+                    PageRequest.of(0, 10, Sort.by(Sort.Order.desc("viewCount"), Sort.Order.desc("id"))));
+            then(newsMapper).should(times(2)).toResponse(any(NewsSummary.class));
+        }
+
+        @Test
+        @DisplayName("EXACT - 순위표 범위 안이면 DB 목록 조회 없이 캐시된 전체 개수 사용")
+        void getHighViewNews_Exact_ServedFromLeaderboard() {
+            // given: 순위표가 size + 1건을 채움
+            given(popularNewsLeaderboard.top(10, 3))
+                    .willReturn(Optional.of(List.of(testSummary, testSummary, testSummary)));
+            given(newsMapper.toResponse(any(NewsSummary.class))).willReturn(newsResponse);
+            given(newsCountEstimator.exactTotal()).willReturn(120L);
+
+            // when
+            PageResponse<NewsResponse> result = newsService.getHighViewNews(PageRequest.of(5, 2), CountMode.EXACT);
+
+            // then
+            assertThat(result.getContent()).hasSize(2);
+            assertThat(result.getTotalElements()).isEqualTo(120L);
+            assertThat(result.getTotalPages()).isEqualTo(60);
+            assertThat(result.getHasNext()).isTrue();
+            assertThat(result.getCountMode()).isEqualTo(CountMode.EXACT);
+            then(newsRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("EXACT - 캐시된 개수가 실제로 본 개수보다 작으면 보정")
+        void getHighViewNews_Exact_StaleCountCorrected() {
+            // given
+            given(popularNewsLeaderboard.top(0, 3))
+                    .willReturn(Optional.of(List.of(testSummary, testSummary, testSummary)));
+            given(newsMapper.toResponse(any(NewsSummary.class))).willReturn(newsResponse);
+            given(newsCountEstimator.exactTotal()).willReturn(1L);
+
+            // when
+            PageResponse<NewsResponse> result = newsService.getHighViewNews(PageRequest.of(0, 2), CountMode.EXACT);
+
+            // then: 2건 + 다음 페이지 1건 이상
+            assertThat(result.getTotalElements()).isEqualTo(3L);
+            assertThat(result.getIsLast()).isFalse();
         }
 
         @Test
         @DisplayName("빈 목록 - 빈 PageResponse 반환")
         void getHighViewNews_EmptyList() {
             // given: 인기 뉴스가 없음
-            Page<News> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
-            given(newsRepository.findAllByOrderByViewCountDesc(any(Pageable.class))).willReturn(emptyPage);
+            Page<NewsSummary> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
+            given(newsRepository.findSummaries(any(Pageable.class))).willReturn(emptyPage);
 
             // when: 인기 뉴스 조회
             Pageable pageable = PageRequest.of(0, 10);
@@ -575,11 +870,11 @@ class NewsServiceTest {
         @DisplayName("정상 조회 - 생성일 최신순")
         void getRecentNews_Success() {
             // given: 최신 뉴스가 있음
-            List<News> newsList = List.of(testNews, testNews);
-            Page<News> newsPage = new PageImpl<>(newsList, PageRequest.of(0, 10), 2);
+            List<NewsSummary> newsList = List.of(testSummary, testSummary);
+            Page<NewsSummary> newsPage = new PageImpl<>(newsList, PageRequest.of(0, 10), 2);
 
-            given(newsRepository.findAll(any(Pageable.class))).willReturn(newsPage);
-            given(newsMapper.toResponse(any(News.class))).willReturn(newsResponse);
+            given(newsRepository.findSummaries(any(Pageable.class))).willReturn(newsPage);
+            given(newsMapper.toResponse(any(NewsSummary.class))).willReturn(newsResponse);
 
             // when: 최신 뉴스 조회
             Pageable pageable = PageRequest.of(0, 10);
@@ -590,16 +885,16 @@ class NewsServiceTest {
             assertThat(result.getContent()).hasSize(2);
 
             // Mock 호출 검증 (createdAt DESC 정렬 Pageable로 호출됨)
-            then(newsRepository).should(times(1)).findAll(any(Pageable.class));
-            then(newsMapper).should(times(2)).toResponse(any(News.class));
+            then(newsRepository).should(times(1)).findSummaries(any(Pageable.class));
+            then(newsMapper).should(times(2)).toResponse(any(NewsSummary.class));
         }
 
         @Test
         @DisplayName("빈 목록 - 빈 PageResponse 반환")
         void getRecentNews_EmptyList() {
             // given: 최신 뉴스가 없음
-            Page<News> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
-            given(newsRepository.findAll(any(Pageable.class))).willReturn(emptyPage);
+            Page<NewsSummary> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
+            given(newsRepository.findSummaries(any(Pageable.class))).willReturn(emptyPage);
 
             // when: 최신 뉴스 조회
             Pageable pageable = PageRequest.of(0, 10);
@@ -611,6 +906,241 @@ class NewsServiceTest {
         }
     }
 
+    // ========== 전체 개수 계산 방식 (CountMode) 테스트 ==========
+
+    @Nested
+    @DisplayName("CountMode - EXACT / ESTIMATED / NONE")
+    class CountModeTests {
+
+        @Test
+        @DisplayName("NONE - COUNT 없이 Slice 조회, 전체 개수는 비움")
+        void getAllNews_CountNone_UsesSlice() {
+            // given
+            Pageable pageable = PageRequest.of(0, 2);
+            Slice<NewsSummary> slice = new SliceImpl<>(List.of(testSummary, testSummary), pageable, true);
+            given(newsRepository.findSummarySlice(pageable)).willReturn(slice);
+            given(newsMapper.toResponse(any(NewsSummary.class))).willReturn(newsResponse);
+
+            // when
+            PageResponse<NewsResponse> result = newsService.getAllNews(pageable, CountMode.NONE);
+
+            // then
+            assertThat(result.getContent()).hasSize(2);
+            assertThat(result.getHasNext()).isTrue();
+            assertThat(result.getTotalElements()).isNull();
+            assertThat(result.getTotalPages()).isNull();
+            assertThat(result.getCountMode()).isEqualTo(CountMode.NONE);
+            then(newsRepository).should(never()).findSummaries(any(Pageable.class));
+            then(newsCountEstimator).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("ESTIMATED - 추정 개수로 전체 페이지 계산")
+        void getHighViewNews_CountEstimated_UsesEstimator() {
+            // given
+            Pageable pageable = PageRequest.of(0, 10);
+            Slice<NewsSummary> slice = new SliceImpl<>(List.of(testSummary), pageable, true);
+            given(newsRepository.findSummarySlice(any(Pageable.class))).willReturn(slice);
+            given(newsMapper.toResponse(any(NewsSummary.class))).willReturn(newsResponse);
+            given(newsCountEstimator.estimateTotal()).willReturn(95L);
+
+            // when
+            PageResponse<NewsResponse> result = newsService.getHighViewNews(pageable, CountMode.ESTIMATED);
+
+            // then
+            assertThat(result.getTotalElements()).isEqualTo(95L);
+            assertThat(result.getTotalPages()).isEqualTo(10);
+            assertThat(result.getCountMode()).isEqualTo(CountMode.ESTIMATED);
+            then(newsRepository).should(never()).findSummaries(any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("ESTIMATED - 추정값이 실제로 본 개수보다 작으면 보정")
+        void getRecentNews_StaleEstimate_Corrected() {
+            // given: 3페이지(size 10)에 다음 페이지도 있는데 통계는 5건
+            Pageable pageable = PageRequest.of(2, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+            Slice<NewsSummary> slice = new SliceImpl<>(List.of(testSummary), pageable, true);
+            given(newsRepository.findSummarySlice(any(Pageable.class))).willReturn(slice);
+            given(newsMapper.toResponse(any(NewsSummary.class))).willReturn(newsResponse);
+            given(newsCountEstimator.estimateTotal()).willReturn(5L);
+
+            // when
+            PageResponse<NewsResponse> result = newsService.getRecentNews(pageable, CountMode.ESTIMATED);
+
+            // then: 최소 20 + 1 + 1 = 22건
+            assertThat(result.getTotalElements()).isEqualTo(22L);
+        }
+
+        @Test
+        @DisplayName("출처별 ESTIMATED - 조건이 있으므로 NONE으로 처리")
+        void getNewsBySource_CountEstimated_FallsBackToNone() {
+            // given
+            Pageable pageable = PageRequest.of(0, 10);
+            given(newsRepository.findSummarySliceBySource("NAVER_FINANCE", pageable))
+                    .willReturn(new SliceImpl<>(List.of(testSummary), pageable, false));
+            given(newsMapper.toResponse(any(NewsSummary.class))).willReturn(newsResponse);
+
+            // when
+            PageResponse<NewsResponse> result =
+                    newsService.getNewsBySource("NAVER_FINANCE", pageable, CountMode.ESTIMATED);
+
+            // then
+            assertThat(result.getCountMode()).isEqualTo(CountMode.NONE);
+            assertThat(result.getTotalElements()).isNull();
+            assertThat(result.getIsLast()).isTrue();
+            then(newsCountEstimator).shouldHaveNoInteractions();
+        }
+    }
+
+    // ========== 커서(keyset) 페이징 테스트 ==========
+
+    @Nested
+    @DisplayName("커서 페이징 - getRecentNews / getHighViewNews / getAllNews (cursor)")
+    class CursorPagingTests {
+
+        private NewsSummary newsWith(int viewCount) {
+            return new NewsSummary(UUID.randomUUID(), "뉴스", null, "NAVER_FINANCE",
+                    "https://example.com/" + UUID.randomUUID(), viewCount, 0L, false, null,
+                    LocalDateTime.now(), LocalDateTime.of(2026, 2, 13, 9, 30));
+        }
+
+        private NewsSummary undated() {
+            return new NewsSummary(UUID.randomUUID(), "뉴스", null, "NAVER_FINANCE",
+                    "https://example.com/" + UUID.randomUUID(), 0, 0L, false, null,
+                    null, LocalDateTime.of(2026, 2, 13, 9, 30));
+        }
+
+        @Test
+        @DisplayName("첫 페이지 - size + 1건 조회 후 초과분이 있으면 nextCursor 생성")
+        void firstPage_HasNext_ReturnsCursor() {
+            // given: size=2, 3건 조회됨
+            NewsSummary first = newsWith(300);
+            NewsSummary second = newsWith(200);
+            given(newsRepository.findPopular(Limit.of(3)))
+                    .willReturn(List.of(first, second, newsWith(100)));
+            given(newsMapper.toResponse(any(NewsSummary.class))).willReturn(newsResponse);
+
+            // when
+            PageResponse<NewsResponse> result = newsService.getHighViewNews(null, 2);
+
+            // then: 2건만 반환, 커서는 마지막 행 (200, second.id)
+            assertThat(result.getContent()).hasSize(2);
+            assertThat(result.getHasNext()).isTrue();
+            assertThat(result.getIsFirst()).isTrue();
+            assertThat(result.getTotalElements()).isNull();
+
+            KeysetCursor cursor = KeysetCursor.decode(result.getNextCursor(), "popular");
+            assertThat(cursor.keyAsInt()).isEqualTo(200);
+            assertThat(cursor.id()).isEqualTo(second.id());
+        }
+
+        @Test
+        @DisplayName("인기 뉴스 - 메모리 순위표 범위 안이면 DB 조회 없이 응답")
+        void popular_LeaderboardHit_SkipsRepository() {
+            // given: 순위표가 size + 1건을 채움
+            NewsSummary first = newsWith(300);
+            NewsSummary second = newsWith(200);
+            NewsSummary after = newsWith(400);
+            String token = KeysetCursor.of("popular", after.viewCount(), after.id()).encode();
+            given(popularNewsLeaderboard.after(400, after.id(), 3))
+                    .willReturn(Optional.of(List.of(first, second, newsWith(100))));
+            given(newsMapper.toResponse(any(NewsSummary.class))).willReturn(newsResponse);
+
+            // when
+            PageResponse<NewsResponse> result = newsService.getHighViewNews(token, 2);
+
+            // then: 순위표 결과로 같은 커서 생성
+            assertThat(result.getContent()).hasSize(2);
+            KeysetCursor cursor = KeysetCursor.decode(result.getNextCursor(), "popular");
+            assertThat(cursor.keyAsInt()).isEqualTo(200);
+            assertThat(cursor.id()).isEqualTo(second.id());
+            then(newsRepository).should(never()).findPopularAfter(anyInt(), any(UUID.class), any(Limit.class));
+        }
+
+        @Test
+        @DisplayName("다음 페이지 - 커서의 (정렬 키, id) 이후부터 조회")
+        void nextPage_SeeksAfterCursor() {
+            // given
+            NewsSummary last = newsWith(0);
+            String token = KeysetCursor.of("recent", last.createdAt(), last.id()).encode();
+            given(newsRepository.findRecentAfter(last.createdAt(), last.id(), Limit.of(21)))
+                    .willReturn(List.of(newsWith(0)));
+            given(newsMapper.toResponse(any(NewsSummary.class))).willReturn(newsResponse);
+
+            // when
+            PageResponse<NewsResponse> result = newsService.getRecentNews(token, 20);
+
+            // then: 마지막 페이지
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.getHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+            assertThat(result.getHasPrevious()).isTrue();
+            then(newsRepository).should(never()).findRecent(any(Limit.class));
+        }
+
+        @Test
+        @DisplayName("발행일순 - 발행일 있는 뉴스가 모자라면 발행일 없는 뉴스로 채우고 커서는 null 키")
+        void allNews_UnpublishedRowsFollowPublished() {
+            // given: 발행일 있는 1건 + 없는 2건 (size=2)
+            NewsSummary dated = newsWith(0);
+            NewsSummary undated1 = undated();
+            NewsSummary undated2 = undated();
+            given(newsRepository.findLatestPublished(Limit.of(3))).willReturn(List.of(dated));
+            given(newsRepository.findUnpublished(Limit.of(2))).willReturn(List.of(undated1, undated2));
+            given(newsMapper.toResponse(any(NewsSummary.class))).willReturn(newsResponse);
+
+            // when
+            PageResponse<NewsResponse> result = newsService.getAllNews("", 2);
+
+            // then: 마지막 행(발행일 없음) 기준 커서
+            assertThat(result.getContent()).hasSize(2);
+            assertThat(result.getHasNext()).isTrue();
+            KeysetCursor cursor = KeysetCursor.decode(result.getNextCursor(), "published");
+            assertThat(cursor.isNullKey()).isTrue();
+            assertThat(cursor.id()).isEqualTo(undated1.id());
+        }
+
+        @Test
+        @DisplayName("발행일순 - null 키 커서는 발행일 없는 구간에서 이어서 조회")
+        void allNews_NullKeyCursor_SeeksUnpublished() {
+            // given
+            UUID lastId = UUID.randomUUID();
+            String token = KeysetCursor.of("published", null, lastId).encode();
+            given(newsRepository.findUnpublishedAfter(lastId, Limit.of(3))).willReturn(List.of(undated()));
+            given(newsMapper.toResponse(any(NewsSummary.class))).willReturn(newsResponse);
+
+            // when
+            PageResponse<NewsResponse> result = newsService.getAllNews(token, 2);
+
+            // then
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.getHasNext()).isFalse();
+            then(newsRepository).should(never()).findLatestPublishedAfter(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("다른 목록의 커서 - 예외 발생")
+        void otherListCursor_ThrowsException() {
+            // given: 인기 뉴스 커서를 발행일순 목록에 사용
+            String popularCursor = KeysetCursor.of("popular", 100, UUID.randomUUID()).encode();
+
+            // when & then
+            assertThatThrownBy(() -> newsService.getAllNews(popularCursor, 20))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+
+            then(newsRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 커서 - 예외 발생")
+        void malformedCursor_ThrowsException() {
+            assertThatThrownBy(() -> newsService.getRecentNews("not-a-cursor", 20))
+                    .isInstanceOf(BusinessException.class);
+        }
+    }
+
     // ========== 9. existsByUrl() 테스트 ==========
 
     @Nested
@@ -646,6 +1176,21 @@ class NewsServiceTest {
             assertThat(result).isFalse();
             then(newsRepository).should(times(1)).existsByUrl(url);
         }
+
+        @Test
+        @DisplayName("URL 필터에서 확실히 없음 - DB 조회 없이 false")
+        void existsByUrl_FilterMiss_SkipsDatabase() {
+            // given: 필터가 없다고 판단
+            String url = "https://example.com/new";
+            given(newsUrlFilter.exists(eq(url), any())).willReturn(false);
+
+            // when
+            boolean result = newsService.existsByUrl(url);
+
+            // then
+            assertThat(result).isFalse();
+            then(newsRepository).should(never()).existsByUrl(anyString());
+        }
     }
 
     // ========== 10. getNewsBySource() 테스트 ==========
@@ -655,18 +1200,18 @@ class NewsServiceTest {
     class GetNewsBySourceTests {
 
         @Test
-        @DisplayName("정상 조회 - 수동 페이징")
+        @DisplayName("정상 조회 - DB 페이징")
         void getNewsBySource_Success() {
-            // given: 출처별 뉴스가 5개 있음
-            List<News> newsList = List.of(testNews, testNews, testNews, testNews, testNews);
-            given(newsRepository.findBySource("NAVER_FINANCE")).willReturn(newsList);
-            given(newsMapper.toResponse(any(News.class))).willReturn(newsResponse);
+            // given: 출처별 뉴스가 5개, 첫 페이지 3개 조회됨
+            Pageable pageable = PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "publishedAt"));
+            Page<NewsSummary> newsPage = new PageImpl<>(List.of(testSummary, testSummary, testSummary), pageable, 5);
+            given(newsRepository.findSummariesBySource("NAVER_FINANCE", pageable)).willReturn(newsPage);
+            given(newsMapper.toResponse(any(NewsSummary.class))).willReturn(newsResponse);
 
             // when: 첫 페이지 3개 조회
-            Pageable pageable = PageRequest.of(0, 3);
             PageResponse<NewsResponse> result = newsService.getNewsBySource("NAVER_FINANCE", pageable);
 
-            // then: 3개만 반환 (수동 페이징)
+            // then: 3개만 반환
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(3);
             assertThat(result.getTotalElements()).isEqualTo(5);
@@ -675,21 +1220,22 @@ class NewsServiceTest {
             assertThat(result.getIsLast()).isFalse();
             assertThat(result.getHasNext()).isTrue();
 
-            // Mock 호출 검증
-            then(newsRepository).should(times(1)).findBySource("NAVER_FINANCE");
-            then(newsMapper).should(times(3)).toResponse(any(News.class));
+            // Mock 호출 검증: 전체 목록 조회 없이 요청한 Pageable(정렬 포함) 그대로 전달
+            then(newsRepository).should(times(1)).findSummariesBySource("NAVER_FINANCE", pageable);
+            then(newsRepository).should(never()).findBySource("NAVER_FINANCE");
+            then(newsMapper).should(times(3)).toResponse(any(NewsSummary.class));
         }
 
         @Test
         @DisplayName("두 번째 페이지 조회")
         void getNewsBySource_SecondPage() {
-            // given: 출처별 뉴스가 5개 있음
-            List<News> newsList = List.of(testNews, testNews, testNews, testNews, testNews);
-            given(newsRepository.findBySource("NAVER_FINANCE")).willReturn(newsList);
-            given(newsMapper.toResponse(any(News.class))).willReturn(newsResponse);
+            // given: 출처별 뉴스가 5개, 두 번째 페이지 2개 조회됨
+            Pageable pageable = PageRequest.of(1, 3);
+            Page<NewsSummary> newsPage = new PageImpl<>(List.of(testSummary, testSummary), pageable, 5);
+            given(newsRepository.findSummariesBySource("NAVER_FINANCE", pageable)).willReturn(newsPage);
+            given(newsMapper.toResponse(any(NewsSummary.class))).willReturn(newsResponse);
 
             // when: 두 번째 페이지 3개 조회
-            Pageable pageable = PageRequest.of(1, 3);
             PageResponse<NewsResponse> result = newsService.getNewsBySource("NAVER_FINANCE", pageable);
 
             // then: 2개만 반환 (마지막 페이지)
@@ -706,10 +1252,10 @@ class NewsServiceTest {
         @DisplayName("빈 목록 - 빈 PageResponse 반환")
         void getNewsBySource_EmptyList() {
             // given: 해당 출처의 뉴스가 없음
-            given(newsRepository.findBySource("BLOOMBERG")).willReturn(List.of());
+            Pageable pageable = PageRequest.of(0, 10);
+            given(newsRepository.findSummariesBySource("BLOOMBERG", pageable)).willReturn(Page.empty(pageable));
 
             // when: 출처별 조회
-            Pageable pageable = PageRequest.of(0, 10);
             PageResponse<NewsResponse> result = newsService.getNewsBySource("BLOOMBERG", pageable);
 
             // then: 빈 목록 반환
@@ -721,12 +1267,12 @@ class NewsServiceTest {
         @Test
         @DisplayName("페이징 범위 초과 - 빈 목록 반환")
         void getNewsBySource_OutOfRange() {
-            // given: 뉴스가 3개만 있음
-            List<News> newsList = List.of(testNews, testNews, testNews);
-            given(newsRepository.findBySource("NAVER_FINANCE")).willReturn(newsList);
+            // given: 뉴스가 3개만 있음 (10번째 페이지는 비어 있음)
+            Pageable pageable = PageRequest.of(10, 10);
+            given(newsRepository.findSummariesBySource("NAVER_FINANCE", pageable))
+                    .willReturn(new PageImpl<>(List.of(), pageable, 3));
 
             // when: 10번째 페이지 조회 (범위 초과)
-            Pageable pageable = PageRequest.of(10, 10);
             PageResponse<NewsResponse> result = newsService.getNewsBySource("NAVER_FINANCE", pageable);
 
             // then: 빈 목록 반환
@@ -742,55 +1288,72 @@ class NewsServiceTest {
     @DisplayName("searchByKeyword() - 키워드 검색")
     class SearchByKeywordTests {
 
+        private NewsSummary summaryOf(UUID id) {
+            return new NewsSummary(id, null, null, null, null, 0, 0L, false, null, null, null);
+        }
+
         @Test
-        @DisplayName("정상 검색 - 수동 페이징")
+        @DisplayName("정상 검색 - 검색 엔진 ID 페이지만 조회")
         void searchByKeyword_Success() {
-            // given: 검색 결과가 4개 있음
-            List<News> newsList = List.of(testNews, testNews, testNews, testNews);
-            given(newsRepository.searchByKeyword("주가")).willReturn(newsList);
-            given(newsMapper.toResponse(any(News.class))).willReturn(newsResponse);
+            // given: 검색 결과가 4개, 첫 페이지 ID 3개
+            UUID id2 = UUID.randomUUID();
+            UUID id3 = UUID.randomUUID();
+            Pageable pageable = PageRequest.of(0, 3);
+            Page<UUID> idPage = new PageImpl<>(List.of(testId, id2, id3), pageable, 4);
+            given(newsSearchEngine.search("주가", pageable)).willReturn(idPage);
+            given(newsRepository.findSummariesByIdIn(idPage.getContent())).willReturn(List.of(
+                    summaryOf(id3),
+                    testSummary,
+                    summaryOf(id2)));
+            given(newsMapper.toResponse(any(NewsSummary.class))).willReturn(newsResponse);
 
             // when: 첫 페이지 3개 조회
-            Pageable pageable = PageRequest.of(0, 3);
             PageResponse<NewsResponse> result = newsService.searchByKeyword("주가", pageable);
 
-            // then: 3개만 반환 (수동 페이징)
+            // then: 3개만 반환, 전체 개수는 검색 엔진 기준
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(3);
             assertThat(result.getTotalElements()).isEqualTo(4);
             assertThat(result.getTotalPages()).isEqualTo(2);
 
-            // Mock 호출 검증
-            then(newsRepository).should(times(1)).searchByKeyword("주가");
-            then(newsMapper).should(times(3)).toResponse(any(News.class));
+            // Mock 호출 검증: 검색 순위 순서대로 변환
+            then(newsSearchEngine).should(times(1)).search("주가", pageable);
+            then(newsRepository).should(never()).searchByKeyword(anyString());
+            InOrder inOrder = inOrder(newsMapper);
+            inOrder.verify(newsMapper).toResponse(testSummary);
+            inOrder.verify(newsMapper).toResponse(argThat((NewsSummary news) -> id2.equals(news.id())));
+            inOrder.verify(newsMapper).toResponse(argThat((NewsSummary news) -> id3.equals(news.id())));
         }
 
         @Test
-        @DisplayName("검색 결과 없음 - 빈 PageResponse 반환")
+        @DisplayName("검색 결과 없음 - DB 조회 없이 빈 PageResponse 반환")
         void searchByKeyword_NoResults() {
             // given: 검색 결과가 없음
-            given(newsRepository.searchByKeyword("존재하지않는키워드")).willReturn(List.of());
+            Pageable pageable = PageRequest.of(0, 10);
+            given(newsSearchEngine.search("존재하지않는키워드", pageable))
+                    .willReturn(new PageImpl<>(List.of(), pageable, 0));
 
             // when: 검색
-            Pageable pageable = PageRequest.of(0, 10);
             PageResponse<NewsResponse> result = newsService.searchByKeyword("존재하지않는키워드", pageable);
 
             // then: 빈 목록 반환
             assertThat(result).isNotNull();
             assertThat(result.getContent()).isEmpty();
             assertThat(result.getTotalElements()).isEqualTo(0);
+            then(newsRepository).should(never()).findSummariesByIdIn(any());
         }
 
         @Test
         @DisplayName("두 번째 페이지 조회")
         void searchByKeyword_SecondPage() {
-            // given: 검색 결과가 4개 있음
-            List<News> newsList = List.of(testNews, testNews, testNews, testNews);
-            given(newsRepository.searchByKeyword("주가")).willReturn(newsList);
-            given(newsMapper.toResponse(any(News.class))).willReturn(newsResponse);
+            // given: 검색 결과가 4개, 두 번째 페이지에는 1개
+            Pageable pageable = PageRequest.of(1, 3);
+            given(newsSearchEngine.search("주가", pageable))
+                    .willReturn(new PageImpl<>(List.of(testId), pageable, 4));
+            given(newsRepository.findSummariesByIdIn(List.of(testId))).willReturn(List.of(testSummary));
+            given(newsMapper.toResponse(any(NewsSummary.class))).willReturn(newsResponse);
 
             // when: 두 번째 페이지 3개 조회
-            Pageable pageable = PageRequest.of(1, 3);
             PageResponse<NewsResponse> result = newsService.searchByKeyword("주가", pageable);
 
             // then: 1개만 반환 (마지막 페이지)
@@ -800,20 +1363,21 @@ class NewsServiceTest {
         }
 
         @Test
-        @DisplayName("페이징 범위 초과 - 빈 목록 반환")
-        void searchByKeyword_OutOfRange() {
-            // given: 검색 결과가 2개만 있음
-            List<News> newsList = List.of(testNews, testNews);
-            given(newsRepository.searchByKeyword("주가")).willReturn(newsList);
+        @DisplayName("검색 후 삭제된 뉴스 - 결과에서 제외")
+        void searchByKeyword_DeletedAfterSearch_Skipped() {
+            // given: 검색 엔진은 2개를 반환했지만 DB에는 1개만 남아있음
+            UUID deletedId = UUID.randomUUID();
+            Pageable pageable = PageRequest.of(0, 10);
+            given(newsSearchEngine.search("주가", pageable))
+                    .willReturn(new PageImpl<>(List.of(deletedId, testId), pageable, 2));
+            given(newsRepository.findSummariesByIdIn(List.of(deletedId, testId))).willReturn(List.of(testSummary));
+            given(newsMapper.toResponse(testSummary)).willReturn(newsResponse);
 
-            // when: 10번째 페이지 조회 (범위 초과)
-            Pageable pageable = PageRequest.of(10, 10);
+            // when: 검색
             PageResponse<NewsResponse> result = newsService.searchByKeyword("주가", pageable);
 
-            // then: 빈 목록 반환
-            assertThat(result).isNotNull();
-            assertThat(result.getContent()).isEmpty();
-            assertThat(result.getTotalElements()).isEqualTo(2);
+            // then: 남아있는 1개만 반환
+            assertThat(result.getContent()).containsExactly(newsResponse);
         }
     }
 
@@ -834,11 +1398,11 @@ class NewsServiceTest {
                     .size(10)
                     .build();
 
-            List<News> newsList = List.of(testNews, testNews);
-            Page<News> newsPage = new PageImpl<>(newsList, PageRequest.of(0, 10), 2);
+            List<NewsSummary> newsList = List.of(testSummary, testSummary);
+            Page<NewsSummary> newsPage = new PageImpl<>(newsList, PageRequest.of(0, 10), 2);
 
-            given(newsRepository.findAll(any(Pageable.class))).willReturn(newsPage);
-            given(newsMapper.toResponse(any(News.class))).willReturn(newsResponse);
+            given(newsRepository.searchSummaries(any(Specification.class), any(Pageable.class))).willReturn(newsPage);
+            given(newsMapper.toResponse(any(NewsSummary.class))).willReturn(newsResponse);
 
             // when: 검색
             PageResponse<NewsResponse> result = newsService.searchNews(searchRequest);
@@ -848,8 +1412,8 @@ class NewsServiceTest {
             assertThat(result.getContent()).hasSize(2);
 
             // Mock 호출 검증
-            then(newsRepository).should(times(1)).findAll(any(Pageable.class));
-            then(newsMapper).should(times(2)).toResponse(any(News.class));
+            then(newsRepository).should(times(1)).searchSummaries(any(Specification.class), any(Pageable.class));
+            then(newsMapper).should(times(2)).toResponse(any(NewsSummary.class));
         }
 
         @Test
@@ -862,11 +1426,11 @@ class NewsServiceTest {
                     .size(10)
                     .build();
 
-            List<News> newsList = List.of(testNews, testNews, testNews);
-            Page<News> newsPage = new PageImpl<>(newsList, PageRequest.of(0, 10), 3);
+            List<NewsSummary> newsList = List.of(testSummary, testSummary, testSummary);
+            Page<NewsSummary> newsPage = new PageImpl<>(newsList, PageRequest.of(0, 10), 3);
 
-            given(newsRepository.findAll(any(Pageable.class))).willReturn(newsPage);
-            given(newsMapper.toResponse(any(News.class))).willReturn(newsResponse);
+            given(newsRepository.searchSummaries(any(Specification.class), any(Pageable.class))).willReturn(newsPage);
+            given(newsMapper.toResponse(any(NewsSummary.class))).willReturn(newsResponse);
 
             // when: 검색
             PageResponse<NewsResponse> result = newsService.searchNews(searchRequest);
@@ -875,5 +1439,66 @@ class NewsServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(3);
         }
+
+        @Test
+        @DisplayName("정렬 문자열 반영 - DB 페이징 요청에 정렬과 id 보조 정렬 포함")
+        void searchNews_AppliesSortAndPaging() {
+            // given
+            NewsSearchRequest searchRequest = NewsSearchRequest.builder()
+                    .minViewCount(1000)
+                    .page(2)
+                    .size(5)
+                    .sort("viewCount,desc")
+                    .build();
+
+            given(newsRepository.searchSummaries(any(Specification.class), any(Pageable.class)))
+                    .willReturn(Page.empty());
+
+            // when
+            newsService.searchNews(searchRequest);
+
+            // then
+            ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+            then(newsRepository).should().searchSummaries(any(Specification.class), captor.capture());
+
+            Pageable pageable = captor.getValue();
+            assertThat(pageable.getPageNumber()).isEqualTo(2);
+            assertThat(pageable.getPageSize()).isEqualTo(5);
+            assertThat(pageable.getSort()).containsExactly(
+                    Sort.Order.desc("viewCount"), Sort.Order.desc("id"));
+        }
+
+        @Test
+        @DisplayName("허용되지 않은 정렬 필드 - 예외 발생")
+        void searchNews_InvalidSortField_ThrowsException() {
+            // given
+            NewsSearchRequest searchRequest = NewsSearchRequest.builder()
+                    .sort("content,desc")
+                    .build();
+
+            // when & then
+            assertThatThrownBy(() -> newsService.searchNews(searchRequest))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+
+            then(newsRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("시작 날짜가 종료 날짜 이후 - 예외 발생")
+        void searchNews_InvalidDateRange_ThrowsException() {
+            // given
+            NewsSearchRequest searchRequest = NewsSearchRequest.builder()
+                    .startDate(LocalDateTime.now())
+                    .endDate(LocalDateTime.now().minusDays(1))
+                    .build();
+
+            // when & then
+            assertThatThrownBy(() -> newsService.searchNews(searchRequest))
+                    .isInstanceOf(BusinessException.class);
+
+            then(newsRepository).shouldHaveNoInteractions();
+        }
     }
 }
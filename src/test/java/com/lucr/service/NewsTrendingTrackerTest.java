@@ -0,0 +1,146 @@
+package com.lucr.service;
+
+import com.lucr.common.TrendingWindow;
+import com.lucr.config.TrendingProperties;
+import com.lucr.event.NewsChangedEvent;
+import com.lucr.event.NewsViewedEvent;
+import com.lucr.sketch.TopK;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * NewsTrendingTracker 단위 테스트
+ *
+ * - 최근 조회에 가중치 (오래전 조회는 구간 길이에 따라 감쇠)
+ * - 상위 목록은 top-k개로 제한
+ * - 삭제된 뉴스는 상위 목록에서 제거
+ *
+ * @author kimdongjoo
+ * @since 2026-02-26
+ */
+@DisplayName("NewsTrendingTracker 테스트")
+class NewsTrendingTrackerTest {
+
+    private final TrendingProperties properties = new TrendingProperties();
+
+    private long now = 1_700_000_000_000L;
+
+    private NewsTrendingTracker tracker;
+
+    private final UUID oldHit = UUID.randomUUID();
+    private final UUID newHit = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        properties.setSketchWidth(1024);
+        tracker = new NewsTrendingTracker(properties) {
+            @Override
+            long currentTimeMillis() {
+                return now;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("조회 이벤트 - 조회 수 높은 순으로 반환, 점수는 조회 수")
+    void onNewsViewed_RanksByViews() {
+        // given
+        tracker.onNewsViewed(new NewsViewedEvent(oldHit, 3, null));
+        tracker.onNewsViewed(new NewsViewedEvent(newHit, 5, null));
+
+        // when
+        List<TopK.Entry<UUID>> trending = tracker.getTrending(TrendingWindow.HOUR, 10);
+
+        // then
+        assertThat(trending).extracting(TopK.Entry::key).containsExactly(newHit, oldHit);
+        assertThat(trending.get(0).score()).isCloseTo(5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("시간 경과 - 1시간 구간은 최근 조회가 앞서고, 24시간 구간은 누적이 앞섬")
+    void getTrending_DecaysOldViews() {
+        // given: 3시간 전 100회, 현재 30회
+        tracker.record(oldHit, 100);
+        now += Duration.ofHours(3).toMillis();
+        tracker.record(newHit, 30);
+
+        // when
+        List<TopK.Entry<UUID>> hour = tracker.getTrending(TrendingWindow.HOUR, 10);
+        List<TopK.Entry<UUID>> day = tracker.getTrending(TrendingWindow.DAY, 10);
+
+        // then: 100 * e^-3 ≈ 5 < 30, 100 * e^-(1/8) ≈ 88 > 30
+        assertThat(hour).extracting(TopK.Entry::key).containsExactly(newHit, oldHit);
+        assertThat(hour.get(1).score()).isCloseTo(100 * Math.exp(-3), within(1e-6));
+        assertThat(day).extracting(TopK.Entry::key).containsExactly(oldHit, newHit);
+    }
+
+    @Test
+    @DisplayName("기준 시각 이동 후에도 점수 유지")
+    void record_AfterRescale_KeepsScores() {
+        // given: 1시간 구간의 지수가 RESCALE_EXPONENT를 넘는 시간 경과
+        tracker.record(oldHit, 10);
+        now += Duration.ofHours(40).toMillis();
+        tracker.record(newHit, 10);
+
+        // when
+        List<TopK.Entry<UUID>> hour = tracker.getTrending(TrendingWindow.HOUR, 10);
+
+        // then
+        assertThat(hour.get(0).key()).isEqualTo(newHit);
+        assertThat(hour.get(0).score()).isCloseTo(10, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("상위 목록은 top-k개로 제한, size도 top-k 이하")
+    void getTrending_BoundedByTopK() {
+        // given
+        properties.setTopK(3);
+        tracker = new NewsTrendingTracker(properties);
+        for (int i = 1; i <= 10; i++) {
+            tracker.record(UUID.randomUUID(), i);
+        }
+
+        // when
+        List<TopK.Entry<UUID>> trending = tracker.getTrending(TrendingWindow.HOUR, 50);
+
+        // then
+        assertThat(trending).hasSize(3);
+        assertThat(trending).extracting(TopK.Entry::score)
+                .allSatisfy(score -> assertThat(score).isGreaterThan(7.5));
+    }
+
+    @Test
+    @DisplayName("삭제 이벤트 - 모든 구간의 상위 목록에서 제거")
+    void onNewsChanged_Deleted_Removes() {
+        // given
+        tracker.record(oldHit, 3);
+        tracker.record(newHit, 5);
+
+        // when
+        tracker.onNewsChanged(NewsChangedEvent.deleted(newHit));
+
+        // then
+        assertThat(tracker.getTrending(TrendingWindow.HOUR, 10)).extracting(TopK.Entry::key).containsExactly(oldHit);
+        assertThat(tracker.getTrending(TrendingWindow.DAY, 10)).extracting(TopK.Entry::key).containsExactly(oldHit);
+    }
+
+    @Test
+    @DisplayName("비활성화 - 집계하지 않음")
+    void record_Disabled() {
+        // given
+        properties.setEnabled(false);
+
+        // when
+        tracker.record(oldHit, 3);
+
+        // then
+        assertThat(tracker.getTrending(TrendingWindow.HOUR, 10)).isEmpty();
+    }
+}
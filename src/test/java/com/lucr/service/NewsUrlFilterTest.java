@@ -0,0 +1,169 @@
+package com.lucr.service;
+
+import com.lucr.config.UrlFilterProperties;
+import com.lucr.entity.News;
+import com.lucr.event.NewsChangedEvent;
+import com.lucr.repository.NewsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * NewsUrlFilter 단위 테스트
+ *
+ * - 필터에 없는 URL은 DB 확인 없이 false
+ * - 필터에 있는 URL만 DB로 확인, 오탐 집계
+ * - 구축 전 / 비활성화 시 항상 DB 확인
+ *
+ * @author kimdongjoo
+ * @since 2026-02-18
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewsUrlFilter 테스트")
+class NewsUrlFilterTest {
+
+    private static final String STORED_URL = "https://example.com/stored";
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Predicate<String> database;
+
+    private UrlFilterProperties properties;
+    private NewsUrlFilter urlFilter;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new UrlFilterProperties();
+        properties.setExpectedInsertions(1_000);
+        urlFilter = new NewsUrlFilter(newsRepository, properties, transactionManager);
+        registry = new SimpleMeterRegistry();
+        urlFilter.bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("구축 전 - 항상 DB 확인")
+    void exists_BeforeRebuild_QueriesDatabase() {
+        // given
+        given(database.test(STORED_URL)).willReturn(true);
+
+        // when
+        boolean result = urlFilter.exists(STORED_URL, database);
+
+        // then
+        assertThat(urlFilter.isReady()).isFalse();
+        assertThat(result).isTrue();
+        then(database).should().test(STORED_URL);
+    }
+
+    @Test
+    @DisplayName("필터에 없는 URL - DB 확인 없이 false, miss 집계")
+    void exists_Miss_SkipsDatabase() {
+        // given
+        given(newsRepository.streamAllUrls()).willReturn(Stream.of(STORED_URL));
+        urlFilter.rebuild();
+
+        // when
+        boolean result = urlFilter.exists("https://example.com/new", database);
+
+        // then
+        assertThat(result).isFalse();
+        then(database).shouldHaveNoInteractions();
+        assertThat(lookups("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("필터에 있는 URL - DB로 확인, hit / false_positive 집계")
+    void exists_PossibleHit_ConfirmedByDatabase() {
+        // given: 필터에는 있지만 DB에서는 삭제된 URL 포함
+        given(newsRepository.streamAllUrls()).willReturn(Stream.of(STORED_URL, "https://example.com/deleted"));
+        urlFilter.rebuild();
+        given(database.test(STORED_URL)).willReturn(true);
+        given(database.test("https://example.com/deleted")).willReturn(false);
+
+        // when
+        boolean stored = urlFilter.exists(STORED_URL, database);
+        boolean deleted = urlFilter.exists("https://example.com/deleted", database);
+
+        // then
+        assertThat(stored).isTrue();
+        assertThat(deleted).isFalse();
+        assertThat(lookups("hit")).isEqualTo(1);
+        assertThat(lookups("false_positive")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("생성 이벤트 - 새 URL을 필터에 추가")
+    void onNewsChanged_Created_AddsUrl() {
+        // given
+        given(newsRepository.streamAllUrls()).willReturn(Stream.empty());
+        urlFilter.rebuild();
+        News news = News.builder()
+                .id(UUID.randomUUID())
+                .title("삼성전자 주가 상승")
+                .content("삼성전자의 주가가 오늘 5% 상승했습니다.")
+                .source("NAVER_FINANCE")
+                .url("https://example.com/created")
+                .build();
+        given(database.test("https://example.com/created")).willReturn(true);
+
+        // when
+        urlFilter.onNewsChanged(NewsChangedEvent.created(news));
+
+        // then: 필터가 있을 수 있다고 판단하여 DB로 확인
+        assertThat(urlFilter.exists("https://example.com/created", database)).isTrue();
+        then(database).should().test("https://example.com/created");
+    }
+
+    @Test
+    @DisplayName("구축 실패 - 기존 필터 유지")
+    void rebuild_Failure_KeepsPreviousFilter() {
+        // given
+        given(newsRepository.streamAllUrls())
+                .willReturn(Stream.of(STORED_URL))
+                .willThrow(new IllegalStateException("connection lost"));
+        urlFilter.rebuild();
+
+        // when
+        urlFilter.rebuild();
+
+        // then
+        assertThat(urlFilter.isReady()).isTrue();
+        assertThat(urlFilter.exists("https://example.com/new", database)).isFalse();
+    }
+
+    @Test
+    @DisplayName("비활성화 - 구축하지 않고 항상 DB 확인")
+    void rebuild_Disabled_NoFilter() {
+        // given
+        properties.setEnabled(false);
+
+        // when
+        urlFilter.rebuild();
+
+        // then
+        assertThat(urlFilter.isReady()).isFalse();
+        then(newsRepository).shouldHaveNoInteractions();
+    }
+
+    private double lookups(String result) {
+        return registry.get("lucr.news.url_filter.lookups").tag("result", result).functionCounter().count();
+    }
+}
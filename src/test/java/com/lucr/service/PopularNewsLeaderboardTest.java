@@ -0,0 +1,241 @@
+package com.lucr.service;
+
+import com.lucr.config.PopularLeaderboardProperties;
+import com.lucr.dto.projection.NewsSummary;
+import com.lucr.event.NewsChangedEvent;
+import com.lucr.mapper.NewsMapper;
+import com.lucr.repository.NewsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * PopularNewsLeaderboard 단위 테스트
+ *
+ * - (viewCount DESC, id DESC) 순서, capacity 초과분 제거
+ * - 늦게 도착한 이전 조회수는 무시 (최댓값 병합)
+ * - 순위표 범위를 넘는 요청은 empty (DB 조회)
+ * - 보관 범위(floor)보다 뒤에 오는 새 뉴스는 보관하지 않음
+ *
+ * @author kimdongjoo
+ * @since 2026-02-28
+ */
+@DisplayName("PopularNewsLeaderboard 테스트")
+class PopularNewsLeaderboardTest {
+
+    private final NewsRepository newsRepository = mock(NewsRepository.class);
+    private final PopularLeaderboardProperties properties = new PopularLeaderboardProperties();
+
+    private PopularNewsLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        properties.setCapacity(3);
+        leaderboard = new PopularNewsLeaderboard(newsRepository, mock(NewsMapper.class), properties);
+        given(newsRepository.findPopular(Limit.of(3))).willReturn(List.of());
+        leaderboard.rebuild();
+    }
+
+    @Test
+    @DisplayName("rebuild 전에는 항상 DB 조회")
+    void notReady_ReturnsEmpty() {
+        // given
+        PopularNewsLeaderboard notReady =
+                new PopularNewsLeaderboard(newsRepository, mock(NewsMapper.class), properties);
+        notReady.offer(summary(UUID.randomUUID(), 10));
+
+        // when & then
+        assertThat(notReady.top(0, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회수 높은 순, 같으면 id 내림차순")
+    void top_OrdersByViewCountThenId() {
+        // given
+        UUID low = new UUID(0, 1);
+        UUID high = new UUID(0, 2);
+        leaderboard.offer(summary(low, 100));
+        leaderboard.offer(summary(high, 100));
+        leaderboard.offer(summary(UUID.randomUUID(), 500));
+
+        // when
+        List<NewsSummary> top = leaderboard.top(0, 3).orElseThrow();
+
+        // then
+        assertThat(top).extracting(NewsSummary::viewCount).containsExactly(500, 100, 100);
+        assertThat(top.get(1).id()).isEqualTo(high);
+        assertThat(top.get(2).id()).isEqualTo(low);
+    }
+
+    @Test
+    @DisplayName("capacity 초과 - 최하위 제거, 최하위보다 낮은 뉴스는 보관하지 않음")
+    void offer_EvictsLowestBeyondCapacity() {
+        // given
+        leaderboard.offer(summary(UUID.randomUUID(), 10));
+        leaderboard.offer(summary(UUID.randomUUID(), 20));
+        leaderboard.offer(summary(UUID.randomUUID(), 30));
+
+        // when
+        leaderboard.offer(summary(UUID.randomUUID(), 40));
+        leaderboard.offer(summary(UUID.randomUUID(), 5));
+
+        // then
+        assertThat(leaderboard.size()).isEqualTo(3);
+        assertThat(leaderboard.top(0, 3).orElseThrow())
+                .extracting(NewsSummary::viewCount).containsExactly(40, 30, 20);
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 이전 조회수는 무시")
+    void offer_IgnoresStaleViewCount() {
+        // given
+        UUID id = UUID.randomUUID();
+        leaderboard.offer(summary(id, 50));
+
+        // when
+        leaderboard.offer(summary(id, 40));
+
+        // then
+        assertThat(leaderboard.size()).isEqualTo(1);
+        assertThat(leaderboard.top(0, 1).orElseThrow().get(0).viewCount()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("범위를 넘거나 채울 수 없는 요청은 empty")
+    void top_BeyondBoard_ReturnsEmpty() {
+        // given
+        leaderboard.offer(summary(UUID.randomUUID(), 10));
+        leaderboard.offer(summary(UUID.randomUUID(), 20));
+
+        // when & then
+        assertThat(leaderboard.top(0, 2)).isPresent();
+        assertThat(leaderboard.top(0, 3)).isEmpty();
+        assertThat(leaderboard.top(2, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커서 다음부터 조회")
+    void after_ContinuesFromCursor() {
+        // given
+        UUID middle = UUID.randomUUID();
+        leaderboard.offer(summary(UUID.randomUUID(), 30));
+        leaderboard.offer(summary(middle, 20));
+        leaderboard.offer(summary(UUID.randomUUID(), 10));
+
+        // when
+        Optional<List<NewsSummary>> rows = leaderboard.after(20, middle, 1);
+
+        // then
+        assertThat(rows.orElseThrow()).extracting(NewsSummary::viewCount).containsExactly(10);
+    }
+
+    @Test
+    @DisplayName("삭제 이벤트 - 순위표에서 제거")
+    void onNewsChanged_Deleted_Removes() {
+        // given
+        UUID id = UUID.randomUUID();
+        leaderboard.offer(summary(id, 10));
+
+        // when
+        leaderboard.onNewsChanged(NewsChangedEvent.deleted(id));
+
+        // then
+        assertThat(leaderboard.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제 후 생성 - 보관 범위 밖의 새 뉴스는 보관하지 않고 범위 밖 요청은 DB 조회")
+    void onNewsChanged_DeleteThenCreate_KeepsCoveredPrefix() {
+        // given: DB에 4건 이상 (순위표는 상위 3건, 그 뒤 5회 뉴스는 보관하지 않음)
+        UUID deleted = UUID.randomUUID();
+        given(newsRepository.findPopular(Limit.of(3))).willReturn(List.of(
+                summary(UUID.randomUUID(), 100),
+                summary(deleted, 50),
+                summary(UUID.randomUUID(), 10)));
+        leaderboard.rebuild();
+
+        // when: 하나 삭제 후 조회수 0인 새 뉴스 생성
+        leaderboard.onNewsChanged(NewsChangedEvent.deleted(deleted));
+        leaderboard.offer(summary(UUID.randomUUID(), 0));
+
+        // then: 빈 자리를 새 뉴스가 차지하지 않음 (실제 3위는 DB의 5회 뉴스)
+        assertThat(leaderboard.size()).isEqualTo(2);
+        assertThat(leaderboard.top(0, 2).orElseThrow())
+                .extracting(NewsSummary::viewCount).containsExactly(100, 10);
+        assertThat(leaderboard.top(0, 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최하위 삭제 - 보관 범위를 올려 그 사이 값의 새 뉴스도 보관하지 않음")
+    void onNewsChanged_DeleteFloor_RaisesFloor() {
+        // given
+        UUID lowest = UUID.randomUUID();
+        given(newsRepository.findPopular(Limit.of(3))).willReturn(List.of(
+                summary(UUID.randomUUID(), 100),
+                summary(UUID.randomUUID(), 50),
+                summary(lowest, 10)));
+        leaderboard.rebuild();
+
+        // when: 최하위(10) 삭제 후 50과 10 사이의 새 뉴스, 50보다 높은 뉴스
+        leaderboard.onNewsChanged(NewsChangedEvent.deleted(lowest));
+        leaderboard.offer(summary(UUID.randomUUID(), 20));
+        leaderboard.offer(summary(UUID.randomUUID(), 70));
+
+        // then
+        assertThat(leaderboard.top(0, 3).orElseThrow())
+                .extracting(NewsSummary::viewCount).containsExactly(100, 70, 50);
+    }
+
+    @Test
+    @DisplayName("동시 갱신 - 도착 순서와 무관하게 뉴스별 최댓값으로 수렴")
+    void offer_Concurrent_ConvergesToMax() throws InterruptedException {
+        // given
+        properties.setCapacity(10);
+        given(newsRepository.findPopular(Limit.of(10))).willReturn(List.of());
+        leaderboard.rebuild();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ids.add(UUID.randomUUID());
+        }
+
+        // when: 뉴스마다 1 ~ 1000 조회수를 여러 스레드가 뒤섞어 반영
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            int offset = thread;
+            executor.submit(() -> {
+                for (int views = 1000 - offset; views > 0; views -= 8) {
+                    for (UUID id : ids) {
+                        leaderboard.offer(summary(id, views));
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        List<NewsSummary> top = leaderboard.top(0, 10).orElseThrow();
+        assertThat(top).extracting(NewsSummary::viewCount).containsOnly(1000);
+        assertThat(top).extracting(NewsSummary::id).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(leaderboard.size()).isEqualTo(10);
+    }
+
+    private static NewsSummary summary(UUID id, int viewCount) {
+        return new NewsSummary(id, "뉴스", "본문", "NAVER_FINANCE", "https://example.com/" + id,
+                viewCount, 0L, false, null, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
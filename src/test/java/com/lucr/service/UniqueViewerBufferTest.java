@@ -0,0 +1,77 @@
+package com.lucr.service;
+
+import com.lucr.config.UniqueViewerProperties;
+import com.lucr.event.NewsViewedEvent;
+import com.lucr.sketch.HyperLogLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * UniqueViewerBuffer 단위 테스트
+ *
+ * - 기사별 스케치에 방문자 누적 (반복 조회는 세지 않음)
+ * - drain은 스케치를 꺼내고 비움, restore는 다시 합침
+ *
+ * @author kimdongjoo
+ * @since 2026-02-27
+ */
+@DisplayName("UniqueViewerBuffer 테스트")
+class UniqueViewerBufferTest {
+
+    private final UniqueViewerProperties properties = new UniqueViewerProperties();
+
+    private final UniqueViewerBuffer buffer = new UniqueViewerBuffer(properties);
+
+    private final UUID newsId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("조회 이벤트 - 방문자별로 누적, 같은 방문자의 새로고침은 한 명")
+    void onNewsViewed_CountsDistinctViewers() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            buffer.onNewsViewed(NewsViewedEvent.of(newsId, "id:viewer-a"));
+        }
+        buffer.onNewsViewed(NewsViewedEvent.of(newsId, "id:viewer-b"));
+        buffer.onNewsViewed(NewsViewedEvent.of(newsId, null));
+
+        // when
+        Map<UUID, HyperLogLog> drained = buffer.drain();
+
+        // then
+        assertThat(drained.get(newsId).estimate()).isEqualTo(2);
+        assertThat(buffer.trackedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("restore - 꺼낸 스케치를 새로 모인 스케치와 합침")
+    void restore_MergesWithNewViews() {
+        // given
+        buffer.add(newsId, "id:viewer-a");
+        HyperLogLog failed = buffer.drain().get(newsId);
+        buffer.add(newsId, "id:viewer-b");
+
+        // when
+        buffer.restore(newsId, failed);
+
+        // then
+        assertThat(buffer.drain().get(newsId).estimate()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비활성화 - 집계하지 않음")
+    void add_Disabled() {
+        // given
+        properties.setEnabled(false);
+
+        // when
+        buffer.add(newsId, "id:viewer-a");
+
+        // then
+        assertThat(buffer.drain()).isEmpty();
+    }
+}
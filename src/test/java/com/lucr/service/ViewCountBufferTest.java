@@ -0,0 +1,118 @@
+package com.lucr.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ViewCountBuffer 단위 테스트
+ *
+ * - 증가분 누적 / drain 후 초기화
+ * - 동시 증가 + 동시 drain 시 유실/중복 없음
+ *
+ * @author kimdongjoo
+ * @since 2026-02-16
+ */
+@DisplayName("ViewCountBuffer 테스트")
+class ViewCountBufferTest {
+
+    private final ViewCountBuffer buffer = new ViewCountBuffer();
+
+    @Test
+    @DisplayName("누적 후 drain - 뉴스별 증가분 반환 후 0으로 초기화")
+    void drain_ReturnsDeltasAndResets() {
+        // given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        buffer.increment(first);
+        buffer.increment(first);
+        buffer.increment(second);
+
+        // when
+        Map<UUID, Long> deltas = buffer.drain();
+
+        // then
+        assertThat(deltas).containsOnly(entry(first, 2L), entry(second, 1L));
+        assertThat(buffer.pendingTotal()).isZero();
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("증가분 없는 뉴스 - 다음 drain에서 카운터 제거")
+    void drain_IdleCounterRemoved() {
+        // given
+        UUID id = UUID.randomUUID();
+        buffer.increment(id);
+        buffer.drain();
+
+        // when: 증가 없이 한 번 더 drain
+        buffer.drain();
+
+        // then
+        assertThat(buffer.trackedCount()).isZero();
+        assertThat(buffer.increment(id)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("반영 실패 후 되돌리기 - 새 증가분과 합산")
+    void add_RestoresFailedDelta() {
+        // given
+        UUID id = UUID.randomUUID();
+        buffer.add(id, 5);
+
+        // when
+        buffer.increment(id);
+
+        // then
+        assertThat(buffer.pending(id)).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("동시 증가 + 동시 drain - 합계 유실/중복 없음")
+    void concurrentIncrementAndDrain_NoLostUpdates() throws InterruptedException {
+        // given: 소수의 뉴스에 요청 집중
+        UUID[] ids = {UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()};
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicLong drained = new AtomicLong();
+
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        buffer.increment(ids[i % ids.length]);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when: 증가 중에 계속 drain
+        start.countDown();
+        while (done.getCount() > 0) {
+            buffer.drain().values().forEach(drained::addAndGet);
+        }
+        buffer.drain().values().forEach(drained::addAndGet);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(drained.get()).isEqualTo((long) threads * perThread);
+    }
+}
@@ -0,0 +1,103 @@
+package com.lucr.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CountMinSketch 단위 테스트
+ *
+ * - 추정값은 실제 값 이상 (과소 추정 없음)
+ * - 과대 추정은 epsilon * 전체 가중치 이하
+ * - scale()은 모든 추정값에 같은 비율을 곱함
+ *
+ * @author kimdongjoo
+ * @since 2026-02-26
+ */
+@DisplayName("CountMinSketch 테스트")
+class CountMinSketchTest {
+
+    @Test
+    @DisplayName("width는 2의 거듭제곱으로 올림")
+    void constructor_RoundsWidthUp() {
+        // when
+        CountMinSketch sketch = new CountMinSketch(5000, 4);
+
+        // then
+        assertThat(sketch.width()).isEqualTo(8192);
+        assertThat(sketch.depth()).isEqualTo(4);
+        assertThat(sketch.sizeInBytes()).isEqualTo(8192L * 4 * Double.BYTES);
+    }
+
+    @Test
+    @DisplayName("모든 키 - 실제 값 이상, 오차 한도 이하로 추정")
+    void estimate_WithinErrorBound() {
+        // given: 키 i를 (i % 10 + 1)번 추가
+        CountMinSketch sketch = CountMinSketch.withError(0.001, 0.01);
+        IntStream.range(0, 20_000).forEach(i -> sketch.add(key(i), i % 10 + 1));
+        double bound = Math.E / sketch.width() * sketch.totalWeight();
+
+        // when & then
+        long exceeded = IntStream.range(0, 20_000)
+                .filter(i -> {
+                    double estimate = sketch.estimate(key(i));
+                    assertThat(estimate).isGreaterThanOrEqualTo(i % 10 + 1);
+                    return estimate > i % 10 + 1 + bound;
+                })
+                .count();
+        assertThat(exceeded / 20_000.0).isLessThan(0.01);
+    }
+
+    @Test
+    @DisplayName("add - 추가 후 추정값 반환, 추가하지 않은 키는 작은 값")
+    void add_ReturnsEstimate() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+
+        // when
+        sketch.add(key(1), 3);
+        double estimate = sketch.add(key(1), 2);
+
+        // then
+        assertThat(estimate).isEqualTo(5);
+        assertThat(sketch.estimate(key(1))).isEqualTo(5);
+        assertThat(sketch.estimate(key(2))).isZero();
+        assertThat(sketch.totalWeight()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("scale / clear - 추정값과 전체 가중치에 반영")
+    void scale_AndClear() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+        sketch.add(key(1), 8);
+
+        // when
+        sketch.scale(0.25);
+
+        // then
+        assertThat(sketch.estimate(key(1))).isEqualTo(2);
+        assertThat(sketch.totalWeight()).isEqualTo(2);
+
+        sketch.clear();
+        assertThat(sketch.estimate(key(1))).isZero();
+        assertThat(sketch.totalWeight()).isZero();
+    }
+
+    @Test
+    @DisplayName("잘못된 인자 - IllegalArgumentException")
+    void invalidArguments_Throw() {
+        assertThatThrownBy(() -> new CountMinSketch(0, 4)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CountMinSketch.withError(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CountMinSketch(16, 2).add(key(1), -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] key(int i) {
+        return ("news-" + i).getBytes(StandardCharsets.UTF_8);
+    }
+}
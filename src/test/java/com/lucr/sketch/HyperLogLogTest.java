@@ -0,0 +1,126 @@
+package com.lucr.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * HyperLogLog 단위 테스트
+ *
+ * - 추정값이 오차 범위 안 (precision 12 → 표준 오차 약 1.6%)
+ * - 같은 값의 반복 추가는 추정값을 바꾸지 않음
+ * - merge()는 합집합, toBytes() / fromBytes()는 손실 없이 복원
+ *
+ * @author kimdongjoo
+ * @since 2026-02-27
+ */
+@DisplayName("HyperLogLog 테스트")
+class HyperLogLogTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 1_000, 10_000, 200_000})
+    @DisplayName("서로 다른 값 n개 - 추정값이 n의 5% 이내")
+    void estimate_WithinError(int n) {
+        // given
+        HyperLogLog sketch = new HyperLogLog(12);
+
+        // when
+        IntStream.range(0, n).forEach(i -> sketch.add(viewer(i)));
+
+        // then
+        assertThat(sketch.estimate()).isCloseTo(n, withinPercentage(5));
+    }
+
+    @Test
+    @DisplayName("같은 방문자 반복 - 추정값 그대로")
+    void add_Duplicates_DoNotCount() {
+        // given
+        HyperLogLog sketch = new HyperLogLog(12);
+        IntStream.range(0, 100).forEach(i -> sketch.add(viewer(i)));
+        long before = sketch.estimate();
+
+        // when: 같은 방문자 100명이 10번씩 새로고침
+        boolean changed = false;
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 100; i++) {
+                changed |= sketch.add(viewer(i));
+            }
+        }
+
+        // then
+        assertThat(changed).isFalse();
+        assertThat(sketch.estimate()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("merge - 겹치는 방문자는 한 번만 (합집합)")
+    void merge_IsUnion() {
+        // given: 인스턴스 A는 0~5999, 인스턴스 B는 3000~8999
+        HyperLogLog a = new HyperLogLog(12);
+        HyperLogLog b = new HyperLogLog(12);
+        IntStream.range(0, 6_000).forEach(i -> a.add(viewer(i)));
+        IntStream.range(3_000, 9_000).forEach(i -> b.add(viewer(i)));
+
+        // when
+        a.merge(b);
+
+        // then
+        assertThat(a.estimate()).isCloseTo(9_000, withinPercentage(5));
+    }
+
+    @Test
+    @DisplayName("merge - precision이 다르면 IllegalArgumentException")
+    void merge_DifferentPrecision_Throws() {
+        assertThatThrownBy(() -> new HyperLogLog(12).merge(new HyperLogLog(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 5, 500, 50_000})
+    @DisplayName("직렬화 - 복원한 스케치의 추정값이 같음, 크기는 밀집 형식 이하")
+    void toBytes_RoundTrip(int n) {
+        // given
+        HyperLogLog sketch = new HyperLogLog(12);
+        IntStream.range(0, n).forEach(i -> sketch.add(viewer(i)));
+
+        // when
+        byte[] bytes = sketch.toBytes();
+        HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+
+        // then: precision 12의 밀집 형식은 2 + 4096 * 6 / 8 = 3074바이트
+        assertThat(restored.estimate()).isEqualTo(sketch.estimate());
+        assertThat(restored.precision()).isEqualTo(12);
+        assertThat(bytes.length).isLessThanOrEqualTo(3074);
+    }
+
+    @Test
+    @DisplayName("방문자가 적으면 희소 형식 - 방문자당 3바이트")
+    void toBytes_Sparse_IsCompact() {
+        // given
+        HyperLogLog sketch = new HyperLogLog(12);
+        IntStream.range(0, 10).forEach(i -> sketch.add(viewer(i)));
+
+        // when & then
+        assertThat(sketch.toBytes().length).isLessThanOrEqualTo(2 + 10 * 3);
+    }
+
+    @Test
+    @DisplayName("잘못된 데이터 - IllegalArgumentException")
+    void fromBytes_Invalid_Throws() {
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[]{9, 12}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[]{2, 12, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HyperLogLog(20)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] viewer(int i) {
+        return ("ip:10.0." + (i >> 8) + "." + (i & 0xFF) + "|Mozilla/5.0").getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,122 @@
+package com.lucr.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ScalableBloomFilter 단위 테스트
+ *
+ * - 추가한 값은 항상 mightContain = true (false negative 없음)
+ * - 추가하지 않은 값의 오탐률이 목표 이하
+ * - 용량 초과 시 슬라이스를 추가해도 오탐률 유지
+ *
+ * @author kimdongjoo
+ * @since 2026-02-18
+ */
+@DisplayName("ScalableBloomFilter 테스트")
+class ScalableBloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 URL - 모두 존재 가능으로 판단")
+    void put_NoFalseNegatives() {
+        // given
+        ScalableBloomFilter filter = new ScalableBloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("https://example.com/news/" + i));
+
+        // when & then
+        assertThat(IntStream.range(0, 10_000))
+                .allMatch(i -> filter.mightContain("https://example.com/news/" + i));
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 URL - 오탐률이 목표 이하")
+    void mightContain_FalsePositiveRateWithinTarget() {
+        // given
+        ScalableBloomFilter filter = new ScalableBloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("https://example.com/news/" + i));
+
+        // when
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("https://other.com/article/" + i))
+                .count();
+
+        // then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.01);
+        assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.01);
+    }
+
+    @Test
+    @DisplayName("용량 초과 - 슬라이스 추가 후에도 false negative 없음, 오탐률 유지")
+    void put_BeyondCapacity_Grows() {
+        // given: 첫 슬라이스 용량의 10배 추가
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("https://example.com/news/" + i));
+
+        // when
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("https://other.com/article/" + i))
+                .count();
+
+        // then
+        assertThat(filter.sliceCount()).isGreaterThan(1);
+        assertThat(IntStream.range(0, 10_000))
+                .allMatch(i -> filter.mightContain("https://example.com/news/" + i));
+        assertThat(falsePositives / 100_000.0).isLessThan(0.01);
+    }
+
+    @Test
+    @DisplayName("같은 값 중복 추가 - 두 번째는 false, 원소 수 유지")
+    void put_Duplicate_ReturnsFalse() {
+        // given
+        ScalableBloomFilter filter = new ScalableBloomFilter(100, 0.01);
+
+        // when
+        boolean first = filter.put("https://example.com/a");
+        boolean second = filter.put("https://example.com/a");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(filter.approximateElementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 추가 - 유실 없음")
+    void put_Concurrent_NoFalseNegatives() throws InterruptedException {
+        // given
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when: 8개 스레드가 서로 다른 URL 추가 (슬라이스 확장 포함)
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            executor.submit(() -> IntStream.range(0, 5_000)
+                    .forEach(i -> filter.put("https://example.com/" + thread + "/" + i)));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            assertThat(IntStream.range(0, 5_000))
+                    .allMatch(i -> filter.mightContain("https://example.com/" + thread + "/" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 오탐률 - IllegalArgumentException")
+    void constructor_InvalidRate_Throws() {
+        assertThatThrownBy(() -> new ScalableBloomFilter(100, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ScalableBloomFilter(0, 0.01))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}